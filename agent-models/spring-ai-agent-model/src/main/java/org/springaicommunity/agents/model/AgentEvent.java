@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typed event emitted while an agent works on a task. Unlike the {@link AgentResponse}
+ * objects of {@link StreamingAgentModel#stream}, events are small immutable records that
+ * carry only what happened: a piece of text, a tool call and its result, the usage, and
+ * how the run ended.
+ *
+ * <p>
+ * A run emits any number of {@link TextDelta}, {@link ToolUse} and {@link ToolResult}
+ * events, then at most one {@link Usage}, and ends with exactly one {@link Completed} or
+ * {@link Error} event:
+ * </p>
+ * <pre>{@code
+ * model.streamEvents(request).subscribe(event -> {
+ *     if (event instanceof AgentEvent.ToolUse toolUse) {
+ *         log.info("Running {} {}", toolUse.name(), toolUse.input());
+ *     }
+ *     else if (event instanceof AgentEvent.TextDelta delta) {
+ *         ui.append(delta.text());
+ *     }
+ * });
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ * @see StreamingAgentModel#streamEvents(AgentTaskRequest)
+ */
+public sealed interface AgentEvent {
+
+	/**
+	 * Convert a response into events. This adapts models that only report whole
+	 * responses: each generation becomes a {@link TextDelta}, or an {@link Error} when it
+	 * failed, and a response that is not an intermediate {@code STREAMING} step is
+	 * followed by its {@link Usage} and a {@link Completed} event.
+	 * @param response the response
+	 * @return the events of the response
+	 */
+	static List<AgentEvent> of(AgentResponse response) {
+		List<AgentEvent> events = new ArrayList<>(response.getResults().size() + 2);
+		String finishReason = null;
+		for (AgentGeneration generation : response.getResults()) {
+			String reason = generation.getMetadata().getFinishReason();
+			if ("ERROR".equals(reason)) {
+				events.add(new Error(generation.getText(), null));
+				return events;
+			}
+			if (!generation.getText().isEmpty()) {
+				events.add(new TextDelta(generation.getText()));
+			}
+			if (reason != null && !"STREAMING".equals(reason)) {
+				finishReason = reason;
+			}
+		}
+		if (finishReason != null) {
+			AgentResponseMetadata metadata = response.getMetadata();
+			if (metadata.getUsage().hasTokens()) {
+				events.add(new Usage(metadata.getUsage()));
+			}
+			String sessionId = metadata.getSessionId();
+			events.add(new Completed(finishReason, sessionId != null && !sessionId.isEmpty() ? sessionId : null,
+					metadata.getDuration()));
+		}
+		return events;
+	}
+
+	/**
+	 * A piece of assistant text, in the order the agent produced it.
+	 *
+	 * @param text the text
+	 */
+	record TextDelta(String text) implements AgentEvent {
+
+	}
+
+	/**
+	 * The agent called a tool.
+	 *
+	 * @param id the id of the call, matched by the {@link ToolResult}
+	 * @param name the tool name
+	 * @param input the tool arguments
+	 */
+	record ToolUse(String id, String name, Map<String, Object> input) implements AgentEvent {
+
+		public ToolUse {
+			input = input != null ? input : Map.of();
+		}
+
+	}
+
+	/**
+	 * The result of a tool call.
+	 *
+	 * @param toolUseId the id of the {@link ToolUse} this result answers
+	 * @param content the tool output
+	 * @param error whether the tool failed
+	 */
+	record ToolResult(String toolUseId, String content, boolean error) implements AgentEvent {
+
+		public ToolResult {
+			content = content != null ? content : "";
+		}
+
+	}
+
+	/**
+	 * The token usage and cost of the run.
+	 *
+	 * @param usage the usage
+	 */
+	record Usage(AgentUsage usage) implements AgentEvent {
+
+	}
+
+	/**
+	 * The run finished. This is the last event of a successful run.
+	 *
+	 * @param finishReason the finish reason, such as {@code SUCCESS}
+	 * @param sessionId the session id, or {@code null} if the agent reported none
+	 * @param duration the duration of the run, or {@code null} if unknown
+	 */
+	record Completed(String finishReason, String sessionId, Duration duration) implements AgentEvent {
+
+	}
+
+	/**
+	 * The run failed. This is the last event of a failed run.
+	 *
+	 * @param message the error message
+	 * @param cause the exception, or {@code null} if the agent reported the failure
+	 */
+	record Error(String message, Throwable cause) implements AgentEvent {
+
+		/**
+		 * Create the error event of an exception.
+		 * @param cause the exception
+		 * @return the event
+		 */
+		public static Error of(Throwable cause) {
+			return new Error(cause.getMessage() != null ? cause.getMessage() : cause.toString(), cause);
+		}
+
+	}
+
+}
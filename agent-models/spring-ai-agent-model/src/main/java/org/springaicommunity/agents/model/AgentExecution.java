@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Handle to an agent run started with {@link AgentModel#submit(AgentTaskRequest)}.
+ *
+ * <p>
+ * The run executes in the background. Callers can wait for the response, attach
+ * callbacks to {@link #getResult()}, or stop the run with {@link #cancel()}. Cancelling
+ * terminates the agent CLI together with every process it started, so a cancelled run
+ * stops consuming CPU and memory as soon as {@code cancel()} returns.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * AgentExecution execution = agentModel.submit(request);
+ * try {
+ *     AgentResponse response = execution.await(Duration.ofMinutes(10));
+ * }
+ * catch (TimeoutException ex) {
+ *     execution.cancel();
+ * }
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public interface AgentExecution {
+
+	/**
+	 * Get the request this run executes.
+	 * @return the task request
+	 */
+	AgentTaskRequest getRequest();
+
+	/**
+	 * Get the future completed with the response of the run. It completes exceptionally
+	 * with a {@link CancellationException} when the run is cancelled. Cancelling the
+	 * returned future does not stop the run; use {@link #cancel()}.
+	 * @return the response future
+	 */
+	CompletableFuture<AgentResponse> getResult();
+
+	/**
+	 * Cancel the run and terminate its process tree. Returns once the processes have
+	 * exited or were killed. Has no effect if the run has already finished.
+	 * @return true if the run was cancelled by this call
+	 */
+	boolean cancel();
+
+	/**
+	 * Check whether the run was cancelled.
+	 * @return true if {@link #cancel()} stopped the run
+	 */
+	boolean isCancelled();
+
+	/**
+	 * Check whether the run has finished, successfully, with an error or by cancellation.
+	 * @return true if the run has finished
+	 */
+	default boolean isDone() {
+		return getResult().isDone();
+	}
+
+	/**
+	 * Wait for the response of the run.
+	 * @return the agent response
+	 * @throws CancellationException if the run was cancelled
+	 * @throws RuntimeException the exception the agent model failed with
+	 */
+	default AgentResponse await() {
+		return getResult().join();
+	}
+
+	/**
+	 * Wait for the response of the run for at most the given time. The run keeps going
+	 * when the wait times out.
+	 * @param timeout the maximum time to wait
+	 * @return the agent response
+	 * @throws TimeoutException if the run did not finish in time
+	 * @throws CancellationException if the run was cancelled
+	 * @throws RuntimeException the exception the agent model failed with
+	 */
+	AgentResponse await(Duration timeout) throws TimeoutException;
+
+}
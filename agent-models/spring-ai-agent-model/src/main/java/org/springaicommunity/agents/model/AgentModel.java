@@ -62,6 +62,18 @@ public interface AgentModel {
 	 */
 	AgentResponse call(AgentTaskRequest request);
 
+	/**
+	 * Start a development task in the background and return a handle to it. The handle
+	 * can be awaited or cancelled; cancelling terminates the agent process and every
+	 * process it started. The default implementation runs {@link #call} on a background
+	 * thread and cancels by interrupting it.
+	 * @param request the task request containing goal, workspace, and constraints
+	 * @return the handle of the running task
+	 */
+	default AgentExecution submit(AgentTaskRequest request) {
+		return DefaultAgentExecution.start(request, this::call);
+	}
+
 	/**
 	 * Check if the agent is available and ready to accept tasks. Implementations may
 	 * override this to perform actual availability checks.
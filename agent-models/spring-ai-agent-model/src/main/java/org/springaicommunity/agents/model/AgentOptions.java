@@ -16,6 +16,7 @@
 
 package org.springaicommunity.agents.model;
 
+import org.springaicommunity.agents.model.process.ResourcePolicy;
 import org.springframework.ai.model.ModelOptions;
 
 import java.time.Duration;
@@ -63,4 +64,24 @@ public interface AgentOptions extends ModelOptions {
 		return Map.of();
 	}
 
+	/**
+	 * Get the resource limits for the processes of a run. Only enforced by models that
+	 * execute on this host and where cgroup v2 is available.
+	 * @return the resource policy
+	 */
+	default ResourcePolicy getResourcePolicy() {
+		return ResourcePolicy.UNLIMITED;
+	}
+
+	/**
+	 * Get the key of the conversation a run continues. Models that can resume provider
+	 * sessions look the key up in their
+	 * {@link org.springaicommunity.agents.model.session.SessionStore} and continue the
+	 * session recorded for it.
+	 * @return the conversation key, or {@code null} to start a new session
+	 */
+	default String getConversationKey() {
+		return null;
+	}
+
 }
\ No newline at end of file
@@ -28,7 +28,7 @@ import org.springframework.ai.model.ResponseMetadata;
  *
  * <p>
  * Contains execution metadata for agent tasks including model information, duration,
- * session identifier, and provider-specific fields.
+ * session identifier, token usage and cost, and provider-specific fields.
  * </p>
  *
  * @author Mark Pollack
@@ -42,6 +42,8 @@ public class AgentResponseMetadata extends HashMap<String, Object> implements Re
 
 	private final String sessionId;
 
+	private final AgentUsage usage;
+
 	/**
 	 * Default constructor creating empty metadata.
 	 */
@@ -58,10 +60,24 @@ public class AgentResponseMetadata extends HashMap<String, Object> implements Re
 	 */
 	public AgentResponseMetadata(String model, Duration duration, String sessionId,
 			Map<String, Object> providerFields) {
+		this(model, duration, sessionId, AgentUsage.EMPTY, providerFields);
+	}
+
+	/**
+	 * Constructor with all metadata fields including usage.
+	 * @param model the model name used for execution
+	 * @param duration task execution duration
+	 * @param sessionId session identifier
+	 * @param usage token usage and cost reported by the provider
+	 * @param providerFields provider-specific metadata
+	 */
+	public AgentResponseMetadata(String model, Duration duration, String sessionId, AgentUsage usage,
+			Map<String, Object> providerFields) {
 		super(providerFields != null ? providerFields : Map.of());
 		this.model = model != null ? model : "";
 		this.duration = duration != null ? duration : Duration.ZERO;
 		this.sessionId = sessionId != null ? sessionId : "";
+		this.usage = usage != null ? usage : AgentUsage.EMPTY;
 	}
 
 	/**
@@ -88,6 +104,14 @@ public class AgentResponseMetadata extends HashMap<String, Object> implements Re
 		return this.sessionId;
 	}
 
+	/**
+	 * Get the token usage and cost reported by the provider.
+	 * @return the usage, {@link AgentUsage#EMPTY} if the provider reported nothing
+	 */
+	public AgentUsage getUsage() {
+		return this.usage;
+	}
+
 	/**
 	 * Get provider-specific metadata fields.
 	 * @return map of provider-specific fields
@@ -132,18 +156,19 @@ public class AgentResponseMetadata extends HashMap<String, Object> implements Re
 		if (!super.equals(o))
 			return false;
 		return Objects.equals(this.model, that.model) && Objects.equals(this.duration, that.duration)
-				&& Objects.equals(this.sessionId, that.sessionId);
+				&& Objects.equals(this.sessionId, that.sessionId) && Objects.equals(this.usage, that.usage);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(super.hashCode(), this.model, this.duration, this.sessionId);
+		return Objects.hash(super.hashCode(), this.model, this.duration, this.sessionId, this.usage);
 	}
 
 	@Override
 	public String toString() {
 		return "AgentResponseMetadata[" + "model='" + this.model + '\'' + ", duration=" + this.duration
-				+ ", sessionId='" + this.sessionId + '\'' + ", providerFields=" + super.toString() + ']';
+				+ ", sessionId='" + this.sessionId + '\'' + ", usage=" + this.usage + ", providerFields="
+				+ super.toString() + ']';
 	}
 
 	/**
@@ -157,6 +182,8 @@ public class AgentResponseMetadata extends HashMap<String, Object> implements Re
 
 		private String sessionId = "";
 
+		private AgentUsage usage = AgentUsage.EMPTY;
+
 		private Map<String, Object> providerFields = Map.of();
 
 		private Builder() {
@@ -192,6 +219,16 @@ public class AgentResponseMetadata extends HashMap<String, Object> implements Re
 			return this;
 		}
 
+		/**
+		 * Set the token usage and cost.
+		 * @param usage the usage reported by the provider
+		 * @return this builder for chaining
+		 */
+		public Builder usage(AgentUsage usage) {
+			this.usage = usage;
+			return this;
+		}
+
 		/**
 		 * Set the provider-specific fields.
 		 * @param providerFields the provider-specific metadata fields
@@ -212,6 +249,7 @@ public class AgentResponseMetadata extends HashMap<String, Object> implements Re
 				this.model = metadata.model;
 				this.duration = metadata.duration;
 				this.sessionId = metadata.sessionId;
+				this.usage = metadata.usage;
 				this.providerFields = Map.copyOf(metadata);
 			}
 			return this;
@@ -222,7 +260,8 @@ public class AgentResponseMetadata extends HashMap<String, Object> implements Re
 		 * @return a new AgentResponseMetadata instance
 		 */
 		public AgentResponseMetadata build() {
-			return new AgentResponseMetadata(this.model, this.duration, this.sessionId, this.providerFields);
+			return new AgentResponseMetadata(this.model, this.duration, this.sessionId, this.usage,
+					this.providerFields);
 		}
 
 	}
@@ -17,6 +17,7 @@
 package org.springaicommunity.agents.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 /**
  * Represents a task request for an autonomous agent. This is not chat-based but rather a
@@ -25,10 +26,23 @@ import java.nio.file.Path;
  * @param goal the clear task description for the agent
  * @param workingDirectory the workspace root directory
  * @param options agent execution configuration
+ * @param outputSchema JSON schema the final output must conform to, or {@code null} for
+ * free-form output. Models whose CLI supports structured output pass it on.
  * @author Mark Pollack
  * @since 0.1.0
  */
-public record AgentTaskRequest(String goal, Path workingDirectory, AgentOptions options) {
+public record AgentTaskRequest(String goal, Path workingDirectory, AgentOptions options,
+		Map<String, Object> outputSchema) {
+
+	/**
+	 * Create a request with free-form output.
+	 * @param goal the clear task description for the agent
+	 * @param workingDirectory the workspace root directory
+	 * @param options agent execution configuration
+	 */
+	public AgentTaskRequest(String goal, Path workingDirectory, AgentOptions options) {
+		this(goal, workingDirectory, options, null);
+	}
 
 	/**
 	 * Create a builder for AgentTaskRequest.
@@ -51,6 +65,8 @@ public record AgentTaskRequest(String goal, Path workingDirectory, AgentOptions
 
 		private AgentOptions options;
 
+		private Map<String, Object> outputSchema;
+
 		private Builder(String goal, Path workingDirectory) {
 			this.goal = goal;
 			this.workingDirectory = workingDirectory;
@@ -66,12 +82,22 @@ public record AgentTaskRequest(String goal, Path workingDirectory, AgentOptions
 			return this;
 		}
 
+		/**
+		 * Set the JSON schema the final output must conform to.
+		 * @param outputSchema the JSON schema
+		 * @return this builder
+		 */
+		public Builder outputSchema(Map<String, Object> outputSchema) {
+			this.outputSchema = outputSchema;
+			return this;
+		}
+
 		/**
 		 * Build the AgentTaskRequest.
 		 * @return the constructed request
 		 */
 		public AgentTaskRequest build() {
-			return new AgentTaskRequest(goal, workingDirectory, options);
+			return new AgentTaskRequest(goal, workingDirectory, options, outputSchema);
 		}
 
 	}
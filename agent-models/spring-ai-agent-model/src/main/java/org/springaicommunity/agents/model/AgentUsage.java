@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Token usage and cost reported by an agent CLI for a single task execution.
+ *
+ * <p>
+ * Providers fill in what their CLI reports. Token counts that are not reported are zero,
+ * and the cost is {@code null} when the CLI does not report one. The total token count
+ * defaults to the sum of input and output tokens when a provider only reports the split.
+ * </p>
+ *
+ * @param inputTokens input (prompt) tokens, excluding cached tokens
+ * @param outputTokens output (completion) tokens
+ * @param cacheCreationInputTokens input tokens written to the prompt cache
+ * @param cacheReadInputTokens input tokens read from the prompt cache
+ * @param totalTokens total tokens consumed
+ * @param costUsd total cost in US dollars, or {@code null} if not reported
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public record AgentUsage(long inputTokens, long outputTokens, long cacheCreationInputTokens,
+		long cacheReadInputTokens, long totalTokens, BigDecimal costUsd) {
+
+	/**
+	 * Usage of an execution for which the CLI reported nothing.
+	 */
+	public static final AgentUsage EMPTY = new AgentUsage(0, 0, 0, 0, 0, null);
+
+	public AgentUsage {
+		inputTokens = Math.max(0, inputTokens);
+		outputTokens = Math.max(0, outputTokens);
+		cacheCreationInputTokens = Math.max(0, cacheCreationInputTokens);
+		cacheReadInputTokens = Math.max(0, cacheReadInputTokens);
+		long sum = inputTokens + outputTokens + cacheCreationInputTokens + cacheReadInputTokens;
+		totalTokens = totalTokens > 0 ? totalTokens : sum;
+	}
+
+	/**
+	 * Create usage from input and output token counts.
+	 * @param inputTokens input tokens
+	 * @param outputTokens output tokens
+	 * @return the usage
+	 */
+	public static AgentUsage of(long inputTokens, long outputTokens) {
+		return new AgentUsage(inputTokens, outputTokens, 0, 0, 0, null);
+	}
+
+	/**
+	 * Create usage for a CLI that only reports the total token count.
+	 * @param totalTokens total tokens
+	 * @return the usage
+	 */
+	public static AgentUsage ofTotal(long totalTokens) {
+		return new AgentUsage(0, 0, 0, 0, totalTokens, null);
+	}
+
+	/**
+	 * Check whether the CLI reported any tokens.
+	 * @return true if the total token count is positive
+	 */
+	public boolean hasTokens() {
+		return this.totalTokens > 0;
+	}
+
+	/**
+	 * Check whether the CLI reported a cost.
+	 * @return true if the cost is known
+	 */
+	public boolean hasCost() {
+		return this.costUsd != null;
+	}
+
+	/**
+	 * Check whether the CLI reported neither tokens nor cost.
+	 * @return true if nothing was reported
+	 */
+	public boolean isEmpty() {
+		return !hasTokens() && !hasCost();
+	}
+
+	/**
+	 * Combine this usage with another, for example across the turns of a conversation.
+	 * @param other the usage to add, may be null
+	 * @return the combined usage
+	 */
+	public AgentUsage add(AgentUsage other) {
+		if (other == null || other.isEmpty()) {
+			return this;
+		}
+		BigDecimal cost = this.costUsd == null ? other.costUsd
+				: other.costUsd == null ? this.costUsd : this.costUsd.add(other.costUsd);
+		return new AgentUsage(this.inputTokens + other.inputTokens, this.outputTokens + other.outputTokens,
+				this.cacheCreationInputTokens + other.cacheCreationInputTokens,
+				this.cacheReadInputTokens + other.cacheReadInputTokens, this.totalTokens + other.totalTokens, cost);
+	}
+
+	/**
+	 * Return a copy of this usage with the given cost.
+	 * @param costUsd the cost in US dollars, or null if unknown
+	 * @return the usage with the cost
+	 */
+	public AgentUsage withCostUsd(BigDecimal costUsd) {
+		return new AgentUsage(this.inputTokens, this.outputTokens, this.cacheCreationInputTokens,
+				this.cacheReadInputTokens, this.totalTokens, costUsd);
+	}
+
+}
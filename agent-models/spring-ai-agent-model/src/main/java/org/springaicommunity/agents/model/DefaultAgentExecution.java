@@ -0,0 +1,266 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link AgentExecution} that runs a blocking agent call on an executor thread.
+ *
+ * <p>
+ * {@link #cancel()} interrupts the thread running the call. The CLI transports react to
+ * the interrupt by terminating the process tree of the CLI they wait on. Models that
+ * cannot be stopped by an interrupt alone register additional cleanup with
+ * {@link #onCancel(Runnable)}; callbacks run on the cancelling thread. {@code cancel()}
+ * returns once the callbacks are done and the interrupted call has returned, bounded by
+ * the cancel timeout.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class DefaultAgentExecution implements AgentExecution {
+
+	private static final Logger logger = LoggerFactory.getLogger(DefaultAgentExecution.class);
+
+	/**
+	 * How long {@link #cancel()} waits for the interrupted call to return.
+	 */
+	private static final Duration CANCEL_TIMEOUT = Duration.ofSeconds(10);
+
+	/**
+	 * Default executor using cached thread pool with daemon threads.
+	 */
+	private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+		private final AtomicInteger counter = new AtomicInteger(0);
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "agent-execution-" + counter.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	});
+
+	private final AgentTaskRequest request;
+
+	private final CompletableFuture<AgentResponse> result = new CompletableFuture<>();
+
+	private final List<Runnable> cancelCallbacks = new ArrayList<>();
+
+	private final CountDownLatch finished = new CountDownLatch(1);
+
+	private Thread runner;
+
+	private boolean cancelled;
+
+	private DefaultAgentExecution(AgentTaskRequest request) {
+		this.request = request;
+	}
+
+	/**
+	 * Start a run of the given call on the default executor.
+	 * @param request the task request
+	 * @param call the blocking agent call, for example {@code model::call}
+	 * @return the execution handle
+	 */
+	public static DefaultAgentExecution start(AgentTaskRequest request,
+			Function<AgentTaskRequest, AgentResponse> call) {
+		return start(request, call, DEFAULT_EXECUTOR);
+	}
+
+	/**
+	 * Start a run of the given call on the given executor.
+	 * @param request the task request
+	 * @param call the blocking agent call, for example {@code model::call}
+	 * @param executor the executor running the call
+	 * @return the execution handle
+	 */
+	public static DefaultAgentExecution start(AgentTaskRequest request, Function<AgentTaskRequest, AgentResponse> call,
+			Executor executor) {
+		return start(request, (req, execution) -> call.apply(req), executor);
+	}
+
+	/**
+	 * Start a run of a call that registers its own cleanup on the execution, for example
+	 * closing the client it opens, via {@link #onCancel(Runnable)}.
+	 * @param request the task request
+	 * @param call the blocking agent call
+	 * @param executor the executor running the call
+	 * @return the execution handle
+	 */
+	public static DefaultAgentExecution start(AgentTaskRequest request, CancellableCall call, Executor executor) {
+		DefaultAgentExecution execution = new DefaultAgentExecution(request);
+		executor.execute(() -> execution.run(call));
+		return execution;
+	}
+
+	private void run(CancellableCall call) {
+		synchronized (this) {
+			if (this.cancelled) {
+				this.finished.countDown();
+				return;
+			}
+			this.runner = Thread.currentThread();
+		}
+		try {
+			this.result.complete(call.call(this.request, this));
+		}
+		catch (Throwable ex) {
+			this.result.completeExceptionally(ex);
+		}
+		finally {
+			synchronized (this) {
+				this.runner = null;
+				// Do not leak the interrupt of a late cancel into the pooled thread
+				Thread.interrupted();
+			}
+			this.finished.countDown();
+		}
+	}
+
+	/**
+	 * Register cleanup to run when the execution is cancelled, for example closing a
+	 * client that does not react to interrupts. Runs immediately if the execution was
+	 * already cancelled.
+	 * @param callback the cleanup callback
+	 * @return this execution
+	 */
+	public DefaultAgentExecution onCancel(Runnable callback) {
+		synchronized (this) {
+			if (!this.cancelled) {
+				this.cancelCallbacks.add(callback);
+				return this;
+			}
+		}
+		runCallback(callback);
+		return this;
+	}
+
+	@Override
+	public AgentTaskRequest getRequest() {
+		return this.request;
+	}
+
+	@Override
+	public CompletableFuture<AgentResponse> getResult() {
+		return this.result;
+	}
+
+	@Override
+	public boolean cancel() {
+		List<Runnable> callbacks;
+		boolean running;
+		synchronized (this) {
+			if (this.cancelled || this.result.isDone()) {
+				return false;
+			}
+			this.cancelled = true;
+			// Complete first, so the interrupted call cannot complete the result instead
+			this.result.completeExceptionally(new CancellationException("Agent run was cancelled"));
+			running = this.runner != null;
+			if (running) {
+				this.runner.interrupt();
+			}
+			callbacks = new ArrayList<>(this.cancelCallbacks);
+			this.cancelCallbacks.clear();
+		}
+		logger.debug("Cancelling agent run for goal: {}", this.request.goal());
+		callbacks.forEach(DefaultAgentExecution::runCallback);
+		if (running) {
+			awaitFinished();
+		}
+		return true;
+	}
+
+	@Override
+	public synchronized boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	@Override
+	public AgentResponse await(Duration timeout) throws TimeoutException {
+		try {
+			return this.result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new CompletionException(ex.getCause());
+		}
+	}
+
+	private void awaitFinished() {
+		try {
+			if (!this.finished.await(CANCEL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+				logger.warn("Cancelled agent run did not return within {} ms", CANCEL_TIMEOUT.toMillis());
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void runCallback(Runnable callback) {
+		try {
+			callback.run();
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Cancel callback failed: {}", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Blocking agent call that has access to the execution it runs in.
+	 */
+	@FunctionalInterface
+	public interface CancellableCall {
+
+		/**
+		 * Execute the task.
+		 * @param request the task request
+		 * @param execution the execution to register cancel callbacks on
+		 * @return the agent response
+		 */
+		AgentResponse call(AgentTaskRequest request, DefaultAgentExecution execution);
+
+	}
+
+}
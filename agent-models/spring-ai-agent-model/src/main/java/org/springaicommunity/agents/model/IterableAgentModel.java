@@ -51,7 +51,11 @@ import java.util.Iterator;
  *     AgentResponse response = iterator.next();
  *     log.info("Step: {}", response.getText());
  *     if (response.getText().contains("error")) {
- *         break; // Early termination
+ *         // Early termination: stop the agent process
+ *         if (iterator instanceof AutoCloseable closeable) {
+ *             closeable.close();
+ *         }
+ *         break;
  *     }
  * }
  * }</pre>
@@ -66,7 +70,9 @@ public interface IterableAgentModel {
 	 * Execute a development task with iterator-based results. This method returns an
 	 * Iterator that yields responses as the agent progresses through execution.
 	 * @param request the task request containing goal, workspace, and constraints
-	 * @return an Iterator of agent responses representing intermediate execution states
+	 * @return an Iterator of agent responses representing intermediate execution states.
+	 * Implementations that hold a running process return an iterator that also implements
+	 * {@link AutoCloseable}, to be closed when iteration stops before the end.
 	 */
 	Iterator<AgentResponse> iterate(AgentTaskRequest request);
 
@@ -17,6 +17,8 @@
 package org.springaicommunity.agents.model;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Functional interface for reactive/streaming agent execution. Returns a Flux that emits
@@ -55,6 +57,11 @@ import reactor.core.publisher.Flux;
  * streamingAgent.stream(request)
  *     .takeUntil(response -> response.getText().contains("error"))
  *     .subscribe();
+ *
+ * // React to tool calls as they happen
+ * streamingAgent.streamEvents(request)
+ *     .ofType(AgentEvent.ToolUse.class)
+ *     .subscribe(toolUse -> log.info("Tool: {}", toolUse.name()));
  * }</pre>
  *
  * @author Mark Pollack
@@ -71,6 +78,22 @@ public interface StreamingAgentModel {
 	 */
 	Flux<AgentResponse> stream(AgentTaskRequest request);
 
+	/**
+	 * Execute a development task and emit what the agent does as typed events. The stream
+	 * ends with a {@link AgentEvent.Completed} or an {@link AgentEvent.Error} event; a
+	 * failure of the run is reported as an error event rather than an error signal. The
+	 * default implementation adapts {@link #stream} with {@link AgentEvent#of}, so it
+	 * reports text, usage and completion but no tool activity; implementations that see
+	 * the individual agent messages override it to emit tool calls and results too.
+	 * @param request the task request containing goal, workspace, and constraints
+	 * @return a Flux of the events of the run
+	 */
+	default Flux<AgentEvent> streamEvents(AgentTaskRequest request) {
+		return Flux.defer(() -> stream(request))
+			.concatMapIterable(AgentEvent::of)
+			.onErrorResume(ex -> Mono.just(AgentEvent.Error.of(ex)));
+	}
+
 	/**
 	 * Check if the agent is available and ready to accept tasks. Implementations may
 	 * override this to perform actual availability checks.
@@ -80,4 +103,30 @@ public interface StreamingAgentModel {
 		return true;
 	}
 
+	/**
+	 * Adapt a blocking model to the streaming programming model. The task runs on the
+	 * bounded elastic scheduler when subscribed, and its response is emitted once it
+	 * completes.
+	 * @param model the blocking model
+	 * @return the streaming model
+	 */
+	static StreamingAgentModel from(AgentModel model) {
+		if (model instanceof StreamingAgentModel streamingModel) {
+			return streamingModel;
+		}
+		return new StreamingAgentModel() {
+
+			@Override
+			public Flux<AgentResponse> stream(AgentTaskRequest request) {
+				return Mono.fromCallable(() -> model.call(request)).subscribeOn(Schedulers.boundedElastic()).flux();
+			}
+
+			@Override
+			public boolean isAvailable() {
+				return model.isAvailable();
+			}
+
+		};
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.aot;
+
+import java.util.List;
+
+import org.springaicommunity.agents.model.AgentGeneration;
+import org.springaicommunity.agents.model.AgentGenerationMetadata;
+import org.springaicommunity.agents.model.AgentOptions;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentResponseMetadata;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.agents.model.AgentUsage;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image runtime hints for the agent model request and response types.
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public class AgentModelRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final List<Class<?>> MODEL_TYPES = List.of(AgentTaskRequest.class, AgentOptions.class,
+			AgentResponse.class, AgentResponseMetadata.class, AgentUsage.class, AgentGeneration.class,
+			AgentGenerationMetadata.class);
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		for (Class<?> type : MODEL_TYPES) {
+			hints.reflection().registerType(type, MemberCategory.values());
+		}
+	}
+
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.hedging;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.model.AgentExecution;
+import org.springaicommunity.agents.model.AgentModel;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentResponseMetadata;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.agents.model.workspace.CopyOnWriteWorkspaceProvisioner;
+import org.springaicommunity.agents.model.workspace.Workspace;
+import org.springaicommunity.agents.model.workspace.WorkspaceProvisioner;
+import org.springaicommunity.agents.model.workspace.WorkspaceSnapshot;
+import org.springaicommunity.agents.model.workspace.WorkspaceStrategy;
+
+/**
+ * {@link AgentModel} decorator that hedges slow runs with a backup run.
+ *
+ * <p>
+ * The request starts on the primary model. If it has not finished after the hedge delay,
+ * the same request is started on the backup model, which defaults to the primary and
+ * therefore to a fresh CLI process. The first successful response wins and the other run
+ * is cancelled through its {@link AgentExecution}, which terminates its CLI process tree.
+ * The hedge delay is either fixed or learned as a percentile of recent request
+ * latencies, measured from the start of the primary run, so only the slowest runs are
+ * hedged.
+ * </p>
+ *
+ * <p>
+ * The two runs never share files. Before the primary starts, a
+ * {@link WorkspaceSnapshot snapshot} of the working directory is taken; the primary
+ * works in the original directory and the backup in a workspace created from the
+ * snapshot. If the backup wins, the original directory is updated with the backup's
+ * files after the primary has been cancelled. The workspace is disposed of in all cases.
+ * </p>
+ *
+ * <p>
+ * <strong>The snapshot is taken on every call, hedged or not, so its cost adds to the
+ * latency of every request.</strong> By default it is a reflink clone where the file
+ * system supports them, which is nearly free. Otherwise, in a git repository, the
+ * snapshot is a commit of the working tree that only becomes a worktree when the hedge
+ * fires; git does not record ignored files such as build output, so the backup starts
+ * without them. Anywhere else the working directory, including {@code target/} or
+ * {@code node_modules/}, is copied in full before each primary run. Disable workspaces
+ * with {@link Builder#copyWorkspace(boolean)} for tasks that do not write files, or see
+ * {@link Builder#workspaceProvisioner(WorkspaceProvisioner)}.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * AgentModel hedged = HedgingAgentModel.builder(claudeAgentModel)
+ *     .backup(geminiAgentModel)
+ *     .hedgeAtPercentile(0.95, Duration.ofMinutes(5))
+ *     .build();
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class HedgingAgentModel implements AgentModel {
+
+	private static final Logger logger = LoggerFactory.getLogger(HedgingAgentModel.class);
+
+	/**
+	 * Response metadata key holding which run won, "primary" or "backup".
+	 */
+	public static final String WINNER_KEY = "hedge.winner";
+
+	/**
+	 * Response metadata key holding whether a backup run was started.
+	 */
+	public static final String HEDGED_KEY = "hedge.launched";
+
+	private static final String PRIMARY = "primary";
+
+	private static final String BACKUP = "backup";
+
+	private final AgentModel primary;
+
+	private final AgentModel backup;
+
+	private final Duration hedgeDelay;
+
+	private final double percentile;
+
+	private final int minSamples;
+
+	private final LatencyWindow latencies;
+
+	private final boolean copyWorkspace;
+
+	private final WorkspaceProvisioner workspaceProvisioner;
+
+	private HedgingAgentModel(Builder builder) {
+		this.primary = builder.primary;
+		this.backup = builder.backup != null ? builder.backup : builder.primary;
+		this.hedgeDelay = builder.hedgeDelay;
+		this.percentile = builder.percentile;
+		this.minSamples = builder.minSamples;
+		this.latencies = new LatencyWindow(builder.windowSize);
+		this.copyWorkspace = builder.copyWorkspace;
+		this.workspaceProvisioner = builder.workspaceProvisioner;
+	}
+
+	/**
+	 * Create a new builder hedging the given model.
+	 * @param primary the model each request starts on
+	 * @return a new builder
+	 */
+	public static Builder builder(AgentModel primary) {
+		return new Builder(primary);
+	}
+
+	/**
+	 * Get the delay after which a backup run is started. Learned from recent latencies
+	 * once enough runs completed, otherwise the configured delay.
+	 * @return the current hedge delay
+	 */
+	public Duration getHedgeDelay() {
+		if (this.percentile > 0 && this.latencies.size() >= this.minSamples) {
+			return this.latencies.percentile(this.percentile);
+		}
+		return this.hedgeDelay;
+	}
+
+	@Override
+	public AgentResponse call(AgentTaskRequest request) {
+		WorkspaceSnapshot snapshot = null;
+		if (this.copyWorkspace && request.workingDirectory() != null
+				&& Files.isDirectory(request.workingDirectory())) {
+			snapshot = snapshot(request);
+		}
+		try {
+			return hedge(request, snapshot);
+		}
+		finally {
+			if (snapshot != null) {
+				snapshot.close();
+			}
+		}
+	}
+
+	private AgentResponse hedge(AgentTaskRequest request, WorkspaceSnapshot snapshot) {
+		long startNanos = System.nanoTime();
+		Map<String, Run> running = new LinkedHashMap<>();
+		running.put(PRIMARY, Run.start(PRIMARY, this.primary, request));
+		Duration delay = getHedgeDelay();
+		Workspace workspace = null;
+
+		try {
+			boolean hedged = false;
+			if (!awaitAny(running, delay)) {
+				logger.debug("Agent run exceeded hedge delay of {} ms, starting backup run", delay.toMillis());
+				workspace = snapshot != null ? provision(snapshot) : null;
+				AgentTaskRequest backupRequest = workspace != null ? workspace.forRequest(request) : request;
+				running.put(BACKUP, Run.start(BACKUP, this.backup, backupRequest));
+				hedged = true;
+			}
+
+			Run winner = null;
+			Run failed = null;
+			while (winner == null) {
+				awaitAny(running, null);
+				Run done = running.values().stream().filter(Run::isDone).findFirst().orElseThrow();
+				running.remove(done.name());
+				if (done.isSuccessful()) {
+					winner = done;
+				}
+				else {
+					// Prefer a successful run over the first one to finish
+					if (failed == null || failed.error() != null) {
+						failed = done;
+					}
+					if (running.isEmpty()) {
+						winner = failed;
+					}
+				}
+			}
+			cancel(running);
+
+			if (winner.error() != null) {
+				throw winner.error();
+			}
+			// End-to-end latency: a winning backup's own latency would skew the learned
+			// delay towards the fast runs and hedge ever more requests
+			this.latencies.record(Duration.ofNanos(System.nanoTime() - startNanos));
+			if (BACKUP.equals(winner.name()) && workspace != null) {
+				copyBack(workspace);
+			}
+			return withHedgeMetadata(winner.response(), winner.name(), hedged);
+		}
+		catch (InterruptedException ex) {
+			cancel(running);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for hedged agent run", ex);
+		}
+		catch (RuntimeException ex) {
+			cancel(running);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Wait until any of the runs has finished.
+	 * @return false if the timeout passed first
+	 */
+	private static boolean awaitAny(Map<String, Run> running, Duration timeout) throws InterruptedException {
+		CompletableFuture<?>[] results = running.values()
+			.stream()
+			.map(run -> run.execution().getResult())
+			.toArray(CompletableFuture[]::new);
+		try {
+			if (timeout == null) {
+				CompletableFuture.anyOf(results).get();
+			}
+			else {
+				CompletableFuture.anyOf(results).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+			}
+		}
+		catch (ExecutionException ex) {
+			// A failed run has finished as well
+		}
+		catch (TimeoutException ex) {
+			return false;
+		}
+		return true;
+	}
+
+	private static void cancel(Map<String, Run> running) {
+		running.values().forEach(run -> {
+			logger.debug("Cancelling {} agent run", run.name());
+			// Returns once the CLI process tree of the run is gone
+			run.execution().cancel();
+		});
+		running.clear();
+	}
+
+	private WorkspaceSnapshot snapshot(AgentTaskRequest request) {
+		try {
+			return this.workspaceProvisioner.snapshot(request.workingDirectory());
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to snapshot working directory " + request.workingDirectory(), ex);
+		}
+	}
+
+	private static Workspace provision(WorkspaceSnapshot snapshot) {
+		try {
+			return snapshot.provision();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to create backup workspace from " + snapshot.base(), ex);
+		}
+	}
+
+	private static void copyBack(Workspace workspace) {
+		try {
+			workspace.copyBack();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to copy backup run results to " + workspace.base(), ex);
+		}
+	}
+
+	private static AgentResponse withHedgeMetadata(AgentResponse response, String winner, boolean hedged) {
+		if (response == null) {
+			return null;
+		}
+		Map<String, Object> providerFields = new HashMap<>(response.getMetadata());
+		providerFields.put(WINNER_KEY, winner);
+		providerFields.put(HEDGED_KEY, hedged);
+		AgentResponseMetadata metadata = AgentResponseMetadata.builder()
+			.from(response.getMetadata())
+			.providerFields(providerFields)
+			.build();
+		return new AgentResponse(response.getResults(), metadata);
+	}
+
+	@Override
+	public boolean isAvailable() {
+		return this.primary.isAvailable() || (this.backup != this.primary && this.backup.isAvailable());
+	}
+
+	private record Run(String name, AgentExecution execution) {
+
+		static Run start(String name, AgentModel model, AgentTaskRequest request) {
+			return new Run(name, model.submit(request));
+		}
+
+		boolean isDone() {
+			return this.execution.isDone();
+		}
+
+		AgentResponse response() {
+			return this.execution.getResult().isCompletedExceptionally() ? null : this.execution.getResult().join();
+		}
+
+		RuntimeException error() {
+			if (!this.execution.getResult().isCompletedExceptionally()) {
+				return null;
+			}
+			try {
+				this.execution.getResult().join();
+				return null;
+			}
+			catch (CompletionException ex) {
+				return ex.getCause() instanceof RuntimeException runtime ? runtime
+						: new IllegalStateException(ex.getCause());
+			}
+			catch (RuntimeException ex) {
+				return ex;
+			}
+		}
+
+		boolean isSuccessful() {
+			AgentResponse response = response();
+			return response != null && response.isSuccessful();
+		}
+
+	}
+
+	/**
+	 * Builder for {@link HedgingAgentModel}.
+	 */
+	public static final class Builder {
+
+		private final AgentModel primary;
+
+		private AgentModel backup;
+
+		private Duration hedgeDelay = Duration.ofMinutes(5);
+
+		private double percentile;
+
+		private int minSamples = 20;
+
+		private int windowSize = 200;
+
+		private boolean copyWorkspace = true;
+
+		private WorkspaceProvisioner workspaceProvisioner = CopyOnWriteWorkspaceProvisioner.builder()
+			.strategies(WorkspaceStrategy.REFLINK, WorkspaceStrategy.GIT_WORKTREE, WorkspaceStrategy.COPY)
+			.build();
+
+		private Builder(AgentModel primary) {
+			this.primary = primary;
+		}
+
+		/**
+		 * Set the model backup runs are started on. Defaults to the primary model, so the
+		 * backup is a fresh CLI process of the same provider.
+		 * @param backup the backup model
+		 * @return this builder
+		 */
+		public Builder backup(AgentModel backup) {
+			this.backup = backup;
+			return this;
+		}
+
+		/**
+		 * Start the backup run after a fixed delay (default: 5 minutes).
+		 * @param hedgeDelay the hedge delay
+		 * @return this builder
+		 */
+		public Builder hedgeDelay(Duration hedgeDelay) {
+			this.hedgeDelay = hedgeDelay;
+			this.percentile = 0;
+			return this;
+		}
+
+		/**
+		 * Start the backup run once the primary has run longer than the given percentile
+		 * of recent run latencies, for example 0.95. Until enough runs have completed,
+		 * the initial delay is used.
+		 * @param percentile the latency percentile, between 0 and 1
+		 * @param initialDelay the delay used until enough latencies are known
+		 * @return this builder
+		 */
+		public Builder hedgeAtPercentile(double percentile, Duration initialDelay) {
+			this.percentile = percentile;
+			this.hedgeDelay = initialDelay;
+			return this;
+		}
+
+		/**
+		 * Set how many recent latencies the learned delay is based on (default: 200) and
+		 * how many are needed before it is used (default: 20).
+		 * @param windowSize the number of latencies kept
+		 * @param minSamples the number of latencies required
+		 * @return this builder
+		 */
+		public Builder latencyWindow(int windowSize, int minSamples) {
+			this.windowSize = windowSize;
+			this.minSamples = minSamples;
+			return this;
+		}
+
+		/**
+		 * Set whether the backup run gets its own copy of the working directory (default:
+		 * true). Only disable this for tasks that do not write files. When enabled, every
+		 * call snapshots the working directory before the primary starts; see the class
+		 * documentation for what that costs.
+		 * @param copyWorkspace whether to copy the working directory
+		 * @return this builder
+		 */
+		public Builder copyWorkspace(boolean copyWorkspace) {
+			this.copyWorkspace = copyWorkspace;
+			return this;
+		}
+
+		/**
+		 * Set how the backup run's workspace is created (default: a reflink clone of the
+		 * working directory, else a git snapshot that is only checked out when the hedge
+		 * fires, else a full copy). Reflink clones and copies include ignored files such
+		 * as build output; git snapshots leave them out. Use
+		 * {@link WorkspaceStrategy#GIT_WORKTREE} alone to avoid copying on file systems
+		 * without reflinks.
+		 * @param workspaceProvisioner the workspace provisioner
+		 * @return this builder
+		 */
+		public Builder workspaceProvisioner(WorkspaceProvisioner workspaceProvisioner) {
+			this.workspaceProvisioner = workspaceProvisioner;
+			return this;
+		}
+
+		/**
+		 * Build the HedgingAgentModel.
+		 * @return a new HedgingAgentModel
+		 * @throws IllegalStateException if the primary model or the delay is missing or a
+		 * setting is out of range
+		 */
+		public HedgingAgentModel build() {
+			if (this.primary == null || this.hedgeDelay == null || this.hedgeDelay.isNegative()
+					|| this.workspaceProvisioner == null) {
+				throw new IllegalStateException(
+						"primary model, workspaceProvisioner and a non-negative hedgeDelay must be set");
+			}
+			if (this.percentile < 0 || this.percentile > 1 || this.windowSize < 1 || this.minSamples < 1) {
+				throw new IllegalStateException("percentile must be in [0, 1] and the latency window positive");
+			}
+			return new HedgingAgentModel(this);
+		}
+
+	}
+
+}
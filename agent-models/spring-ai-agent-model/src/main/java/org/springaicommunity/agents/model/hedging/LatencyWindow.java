@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.hedging;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Fixed-size window of the most recent run latencies.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+final class LatencyWindow {
+
+	private final long[] samples;
+
+	private int next;
+
+	private int size;
+
+	LatencyWindow(int capacity) {
+		this.samples = new long[capacity];
+	}
+
+	synchronized void record(Duration latency) {
+		this.samples[this.next] = latency.toNanos();
+		this.next = (this.next + 1) % this.samples.length;
+		this.size = Math.min(this.size + 1, this.samples.length);
+	}
+
+	synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Get a percentile of the recorded latencies using the nearest-rank method.
+	 * @param percentile the percentile, between 0 and 1
+	 * @return the latency, or null if nothing was recorded
+	 */
+	synchronized Duration percentile(double percentile) {
+		if (this.size == 0) {
+			return null;
+		}
+		long[] sorted = Arrays.copyOf(this.samples, this.size);
+		Arrays.sort(sorted);
+		int rank = (int) Math.ceil(percentile * sorted.length);
+		return Duration.ofNanos(sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))]);
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.observation;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.micrometer.observation.Observation;
+
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springframework.util.Assert;
+
+/**
+ * Context used to observe a single {@code AgentModel.call}.
+ *
+ * <p>
+ * Besides the request and response, the context records when the agent CLI process was
+ * spawned and when it produced its first output, relative to the start of the call.
+ * Agent models mark these phases as they happen; {@link AgentModelPhaseObservationHandler}
+ * turns them into timers.
+ * </p>
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public class AgentModelObservationContext extends Observation.Context {
+
+	private static final long NOT_RECORDED = -1;
+
+	private final AgentTaskRequest request;
+
+	private final String provider;
+
+	private final long startNanos = System.nanoTime();
+
+	private volatile long cliSpawnNanos = NOT_RECORDED;
+
+	private volatile long firstOutputNanos = NOT_RECORDED;
+
+	private AgentResponse response;
+
+	/**
+	 * Create a context for a call to an agent model.
+	 * @param request the task request
+	 * @param provider the agent provider, e.g. {@code claude} or {@code gemini}
+	 */
+	public AgentModelObservationContext(AgentTaskRequest request, String provider) {
+		Assert.notNull(request, "request cannot be null");
+		Assert.hasText(provider, "provider cannot be null or empty");
+		this.request = request;
+		this.provider = provider;
+	}
+
+	/**
+	 * Get the task request.
+	 * @return the task request
+	 */
+	public AgentTaskRequest getRequest() {
+		return this.request;
+	}
+
+	/**
+	 * Get the agent provider.
+	 * @return the provider name
+	 */
+	public String getProvider() {
+		return this.provider;
+	}
+
+	/**
+	 * Get the response, once the call has completed.
+	 * @return the response, or null
+	 */
+	public AgentResponse getResponse() {
+		return this.response;
+	}
+
+	/**
+	 * Set the response of the call.
+	 * @param response the response
+	 */
+	public void setResponse(AgentResponse response) {
+		this.response = response;
+	}
+
+	/**
+	 * Mark that the agent CLI process has been spawned and is ready to receive input.
+	 * Only the first mark is recorded.
+	 */
+	public void markCliSpawned() {
+		if (this.cliSpawnNanos == NOT_RECORDED) {
+			this.cliSpawnNanos = System.nanoTime() - this.startNanos;
+		}
+	}
+
+	/**
+	 * Mark that the agent produced its first output. Only the first mark is recorded.
+	 */
+	public void markFirstOutput() {
+		if (this.firstOutputNanos == NOT_RECORDED) {
+			this.firstOutputNanos = System.nanoTime() - this.startNanos;
+		}
+	}
+
+	/**
+	 * Get the time from the start of the call until the CLI process was spawned.
+	 * @return the spawn time, if recorded
+	 */
+	public Optional<Duration> getCliSpawnTime() {
+		return toDuration(this.cliSpawnNanos);
+	}
+
+	/**
+	 * Get the time from the start of the call until the first output was received.
+	 * @return the time to first output, if recorded
+	 */
+	public Optional<Duration> getTimeToFirstOutput() {
+		return toDuration(this.firstOutputNanos);
+	}
+
+	private static Optional<Duration> toDuration(long nanos) {
+		return nanos == NOT_RECORDED ? Optional.empty() : Optional.of(Duration.ofNanos(nanos));
+	}
+
+}
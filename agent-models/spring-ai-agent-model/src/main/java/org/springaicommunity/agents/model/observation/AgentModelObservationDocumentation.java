@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented conventions for agent model observations.
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public enum AgentModelObservationDocumentation implements ObservationDocumentation {
+
+	/**
+	 * A single blocking call to an agent model.
+	 */
+	AGENT_MODEL_CALL {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultAgentModelObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+	};
+
+	/**
+	 * Low cardinality key names.
+	 */
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The agent provider, e.g. {@code claude}.
+		 */
+		PROVIDER {
+			@Override
+			public String asString() {
+				return "agent.provider";
+			}
+		},
+
+		/**
+		 * The model reported by the agent, or requested by the caller.
+		 */
+		MODEL {
+			@Override
+			public String asString() {
+				return "agent.model";
+			}
+		},
+
+		/**
+		 * Outcome of the call: {@code success}, {@code failure} or {@code error}.
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "agent.outcome";
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.observation;
+
+import java.util.function.Function;
+
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+
+/**
+ * Observes agent model calls as
+ * {@link AgentModelObservationDocumentation#AGENT_MODEL_CALL} observations, so each
+ * provider model does not repeat the wrapping.
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * public AgentResponse call(AgentTaskRequest request) {
+ *     return AgentModelObservations.observe(this.observationRegistry,
+ *             this.observationConvention, request, "claude",
+ *             observationContext -> doCall(request, observationContext));
+ * }
+ * }</pre>
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public final class AgentModelObservations {
+
+	private static final AgentModelObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultAgentModelObservationConvention();
+
+	private AgentModelObservations() {
+	}
+
+	/**
+	 * Run one agent model call inside an observation. The call marks the CLI spawn and
+	 * first output on the given context; its response is recorded on the context.
+	 * @param registry the observation registry, {@link ObservationRegistry#NOOP} to
+	 * disable observations
+	 * @param convention a custom convention, or {@code null} for the default
+	 * @param request the request being executed
+	 * @param provider the agent provider, for example {@code claude}
+	 * @param call the call to observe
+	 * @return the response of the call
+	 */
+	public static AgentResponse observe(ObservationRegistry registry, AgentModelObservationConvention convention,
+			AgentTaskRequest request, String provider, Function<AgentModelObservationContext, AgentResponse> call) {
+		AgentModelObservationContext observationContext = new AgentModelObservationContext(request, provider);
+		return AgentModelObservationDocumentation.AGENT_MODEL_CALL
+			.observation(convention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext, registry)
+			.observe(() -> {
+				AgentResponse response = call.apply(observationContext);
+				observationContext.setResponse(response);
+				return response;
+			});
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.observation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ObservationHandler} that records the CLI spawn time and the time to first output
+ * of agent model calls as timers, tagged with the low cardinality key values of the call.
+ *
+ * <p>
+ * The total duration of the call is recorded by the regular meter observation handler
+ * under {@value DefaultAgentModelObservationConvention#DEFAULT_NAME}.
+ * </p>
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public class AgentModelPhaseObservationHandler implements ObservationHandler<AgentModelObservationContext> {
+
+	/**
+	 * Timer for the time from the start of a call until the CLI process was spawned.
+	 */
+	public static final String CLI_SPAWN_TIMER = "agent.model.cli.spawn";
+
+	/**
+	 * Timer for the time from the start of a call until the agent produced output.
+	 */
+	public static final String FIRST_OUTPUT_TIMER = "agent.model.first.output";
+
+	private final MeterRegistry meterRegistry;
+
+	public AgentModelPhaseObservationHandler(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "meterRegistry cannot be null");
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void onStop(AgentModelObservationContext context) {
+		List<Tag> tags = new ArrayList<>();
+		for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+			tags.add(Tag.of(keyValue.getKey(), keyValue.getValue()));
+		}
+		context.getCliSpawnTime()
+			.ifPresent(time -> record(CLI_SPAWN_TIMER, "Time until the agent CLI process was spawned", tags, time));
+		context.getTimeToFirstOutput()
+			.ifPresent(time -> record(FIRST_OUTPUT_TIMER, "Time until the agent produced its first output", tags,
+					time));
+	}
+
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof AgentModelObservationContext;
+	}
+
+	private void record(String name, String description, List<Tag> tags, Duration time) {
+		Timer.builder(name).description(description).tags(tags).register(this.meterRegistry).record(time);
+	}
+
+}
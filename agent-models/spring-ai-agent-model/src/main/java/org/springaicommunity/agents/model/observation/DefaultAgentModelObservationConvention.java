@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.observation;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.observation.AgentModelObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.util.StringUtils;
+
+/**
+ * Default {@link AgentModelObservationConvention}.
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public class DefaultAgentModelObservationConvention implements AgentModelObservationConvention {
+
+	/**
+	 * Name of the observation and of the resulting duration timer.
+	 */
+	public static final String DEFAULT_NAME = "agent.model.call";
+
+	@Override
+	public String getName() {
+		return DEFAULT_NAME;
+	}
+
+	@Override
+	public String getContextualName(AgentModelObservationContext context) {
+		return "agent " + context.getProvider();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(AgentModelObservationContext context) {
+		return KeyValues.of(provider(context), model(context), outcome(context));
+	}
+
+	protected KeyValue provider(AgentModelObservationContext context) {
+		return KeyValue.of(LowCardinalityKeyNames.PROVIDER, context.getProvider());
+	}
+
+	protected KeyValue model(AgentModelObservationContext context) {
+		AgentResponse response = context.getResponse();
+		if (response != null && response.getMetadata() != null
+				&& StringUtils.hasText(response.getMetadata().getModel())) {
+			return KeyValue.of(LowCardinalityKeyNames.MODEL, response.getMetadata().getModel());
+		}
+		if (context.getRequest().options() != null && StringUtils.hasText(context.getRequest().options().getModel())) {
+			return KeyValue.of(LowCardinalityKeyNames.MODEL, context.getRequest().options().getModel());
+		}
+		return KeyValue.of(LowCardinalityKeyNames.MODEL, KeyValue.NONE_VALUE);
+	}
+
+	protected KeyValue outcome(AgentModelObservationContext context) {
+		if (context.getError() != null) {
+			return KeyValue.of(LowCardinalityKeyNames.OUTCOME, "error");
+		}
+		AgentResponse response = context.getResponse();
+		if (response == null) {
+			return KeyValue.of(LowCardinalityKeyNames.OUTCOME, KeyValue.NONE_VALUE);
+		}
+		return KeyValue.of(LowCardinalityKeyNames.OUTCOME, response.isSuccessful() ? "success" : "failure");
+	}
+
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.process;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Enforces a {@link ResourcePolicy} on agent runs and accounts for the resources they
+ * use, through cgroup v2.
+ *
+ * <p>
+ * Each run gets its own child cgroup below a delegated parent cgroup. The run's command
+ * is wrapped so that the shell moves itself into the child cgroup before it executes the
+ * command, so the CLI and everything it starts are limited and accounted from the first
+ * instruction on. This works for any sandbox that executes commands on this host, and
+ * does not need the sandbox to expose the process it starts.
+ * </p>
+ *
+ * <p>
+ * The parent cgroup is taken from the {@value #PARENT_PROPERTY} JVM system property, for
+ * example {@code -D}{@value #PARENT_PROPERTY}{@code =/sys/fs/cgroup/agents.slice};
+ * without it runs are neither limited nor accounted and {@link Group#usage()} returns
+ * {@code null}. Because cgroup v2 does not allow processes in a cgroup that distributes
+ * controllers to its children, the parent must be writable and must not contain the JVM
+ * itself, for example a cgroup delegated by systemd with {@code Delegate=yes}. With a
+ * parent, every run is placed in a child cgroup and accounted; limits are only written
+ * for what its policy sets. Runs whose limits need a controller the parent cannot enable
+ * are accounted but not limited.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class CgroupResourceLimiter {
+
+	private static final Logger logger = LoggerFactory.getLogger(CgroupResourceLimiter.class);
+
+	/**
+	 * JVM system property naming the parent cgroup directory of agent runs. It is not
+	 * read from the Spring environment.
+	 */
+	public static final String PARENT_PROPERTY = "org.springaicommunity.agents.cgroup.parent";
+
+	private static final List<String> CONTROLLERS = List.of("cpu", "memory", "pids", "io");
+
+	private static final long CPU_PERIOD_MICROS = 100_000;
+
+	private static final Duration KILL_TIMEOUT = Duration.ofSeconds(2);
+
+	private final Path parent;
+
+	private final boolean available;
+
+	private Set<String> enabledControllers;
+
+	/**
+	 * Create a limiter placing runs below the given parent cgroup directory.
+	 * @param parent the parent cgroup directory
+	 */
+	public CgroupResourceLimiter(Path parent) {
+		this.parent = parent;
+		this.available = parent != null && Files.isRegularFile(parent.resolve("cgroup.controllers"))
+				&& Files.isWritable(parent);
+	}
+
+	/**
+	 * Create a limiter for the parent cgroup configured through the
+	 * {@value #PARENT_PROPERTY} system property. The JVM's own cgroup is never used,
+	 * since it contains the JVM and so cannot distribute controllers to run cgroups.
+	 * @return the limiter, which is not {@link #isAvailable() available} if no parent is
+	 * configured
+	 */
+	public static CgroupResourceLimiter detect() {
+		String configured = System.getProperty(PARENT_PROPERTY);
+		return new CgroupResourceLimiter(configured != null && !configured.isBlank() ? Path.of(configured) : null);
+	}
+
+	/**
+	 * Check whether runs can be limited and accounted.
+	 * @return true if the parent is a writable cgroup v2 directory
+	 */
+	public boolean isAvailable() {
+		return this.available;
+	}
+
+	/**
+	 * Create the cgroup for one run, which accounts for the run, and apply the limits the
+	 * policy sets. Runs whose limits need a controller the parent cannot enable are only
+	 * accounted, logging a warning. Falls back to an unconstrained group if no parent is
+	 * available or the cgroup cannot be set up.
+	 * @param policy the resource policy of the run, or {@code null} for no limits
+	 * @return the group, to be closed once the run has finished
+	 */
+	public Group open(ResourcePolicy policy) {
+		boolean limited = policy != null && !policy.isUnlimited();
+		if (!this.available) {
+			if (limited) {
+				logger.warn("cgroup v2 is not available below {}, running without resource limits {}", this.parent,
+						policy);
+			}
+			return Group.unconstrained();
+		}
+		Path path = this.parent.resolve("agent-run-" + UUID.randomUUID());
+		try {
+			Set<String> enabled = enableControllers();
+			Files.createDirectory(path);
+			if (limited) {
+				Set<String> missing = new HashSet<>(requiredControllers(policy));
+				missing.removeAll(enabled);
+				if (missing.isEmpty()) {
+					applyPolicy(path, policy);
+				}
+				else {
+					logger.warn("Controllers {} are not enabled in {}, running without resource limits {}", missing,
+							this.parent, policy);
+				}
+			}
+			return new Group(path);
+		}
+		catch (IOException | RuntimeException ex) {
+			logger.warn("Could not set up cgroup {}, running without resource limits: {}", path, ex.toString());
+			removeQuietly(path);
+			return Group.unconstrained();
+		}
+	}
+
+	/**
+	 * Enable the controllers of runs in the parent once.
+	 * @return the controllers enabled for child cgroups
+	 */
+	private synchronized Set<String> enableControllers() throws IOException {
+		if (this.enabledControllers != null) {
+			return this.enabledControllers;
+		}
+		Set<String> available = readWords(this.parent.resolve("cgroup.controllers"));
+		Path subtreeControl = this.parent.resolve("cgroup.subtree_control");
+		Set<String> enabled = readWords(subtreeControl);
+		for (String controller : CONTROLLERS) {
+			if (available.contains(controller) && !enabled.contains(controller)) {
+				try {
+					Files.writeString(subtreeControl, "+" + controller);
+					enabled.add(controller);
+				}
+				catch (IOException ex) {
+					// Typically EBUSY because processes live in the parent itself
+					logger.warn("Could not enable the {} controller in {}: {}", controller, this.parent, ex.toString());
+				}
+			}
+		}
+		this.enabledControllers = Set.copyOf(enabled);
+		return this.enabledControllers;
+	}
+
+	private static Set<String> requiredControllers(ResourcePolicy policy) {
+		Set<String> required = new HashSet<>();
+		if (policy.cpus() != null) {
+			required.add("cpu");
+		}
+		if (policy.memoryBytes() != null) {
+			required.add("memory");
+		}
+		if (policy.maxProcesses() != null) {
+			required.add("pids");
+		}
+		return required;
+	}
+
+	private static void applyPolicy(Path path, ResourcePolicy policy) throws IOException {
+		if (policy.cpus() != null) {
+			long quota = Math.max(1000, Math.round(policy.cpus() * CPU_PERIOD_MICROS));
+			Files.writeString(path.resolve("cpu.max"), quota + " " + CPU_PERIOD_MICROS);
+		}
+		if (policy.memoryBytes() != null) {
+			Files.writeString(path.resolve("memory.max"), String.valueOf(policy.memoryBytes()));
+			// Keep the limit meaningful on hosts with swap
+			Path swapMax = path.resolve("memory.swap.max");
+			if (Files.exists(swapMax)) {
+				Files.writeString(swapMax, "0");
+			}
+		}
+		if (policy.maxProcesses() != null) {
+			Files.writeString(path.resolve("pids.max"), String.valueOf(policy.maxProcesses()));
+		}
+	}
+
+	/**
+	 * Read the resources used by the processes of a cgroup. The peak memory is absent
+	 * when the memory controller is not enabled for the cgroup.
+	 */
+	static ResourceUsage readUsage(Path path) {
+		List<String> memoryPeak = readLines(path.resolve("memory.peak"));
+		Long peakMemory = memoryPeak.isEmpty() ? null : parseLong(memoryPeak.get(0));
+		long cpuMicros = 0;
+		for (String line : readLines(path.resolve("cpu.stat"))) {
+			if (line.startsWith("usage_usec ")) {
+				cpuMicros = parseLong(line.substring("usage_usec ".length()));
+			}
+		}
+		long readBytes = 0;
+		long writeBytes = 0;
+		for (String line : readLines(path.resolve("io.stat"))) {
+			// One line per device: "8:0 rbytes=1 wbytes=2 rios=3 wios=4 ..."
+			for (String field : line.trim().split("\\s+")) {
+				if (field.startsWith("rbytes=")) {
+					readBytes += parseLong(field.substring("rbytes=".length()));
+				}
+				else if (field.startsWith("wbytes=")) {
+					writeBytes += parseLong(field.substring("wbytes=".length()));
+				}
+			}
+		}
+		return new ResourceUsage(peakMemory, Duration.ofNanos(cpuMicros * 1000), readBytes, writeBytes);
+	}
+
+	private static Set<String> readWords(Path file) throws IOException {
+		return new HashSet<>(Arrays.asList(Files.readString(file).trim().split("\\s+")));
+	}
+
+	private static List<String> readLines(Path file) {
+		try {
+			return Files.readAllLines(file);
+		}
+		catch (IOException ex) {
+			return List.of();
+		}
+	}
+
+	private static long parseLong(String value) {
+		try {
+			return Long.parseLong(value.trim());
+		}
+		catch (NumberFormatException ex) {
+			// "max" and malformed values
+			return 0;
+		}
+	}
+
+	private static void removeQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		}
+		catch (IOException ex) {
+			logger.debug("Could not remove cgroup {}: {}", path, ex.toString());
+		}
+	}
+
+	/**
+	 * The cgroup of a single run.
+	 */
+	public static final class Group implements AutoCloseable {
+
+		private final Path path;
+
+		private static final Group UNCONSTRAINED = new Group(null);
+
+		private Group(Path path) {
+			this.path = path;
+		}
+
+		/**
+		 * Return a group that neither limits nor accounts, for runs that do not execute on
+		 * this host.
+		 * @return the unconstrained group
+		 */
+		public static Group unconstrained() {
+			return UNCONSTRAINED;
+		}
+
+		/**
+		 * Check whether the run is placed in a cgroup, which accounts for it and applies
+		 * the limits its policy sets.
+		 * @return true if the group is backed by a cgroup
+		 */
+		public boolean isEnforced() {
+			return this.path != null;
+		}
+
+		/**
+		 * Wrap a command so that it runs inside this group. Returns the command unchanged
+		 * if the group is not enforced.
+		 * @param command the command to run
+		 * @return the wrapped command
+		 */
+		public List<String> wrap(List<String> command) {
+			if (this.path == null) {
+				return command;
+			}
+			List<String> wrapped = new ArrayList<>();
+			wrapped.add("/bin/sh");
+			wrapped.add("-c");
+			// $0 is the procs file, so no path needs quoting inside the script
+			wrapped.add("echo $$ > \"$0\" && exec \"$@\"");
+			wrapped.add(this.path.resolve("cgroup.procs").toString());
+			wrapped.addAll(command);
+			return wrapped;
+		}
+
+		/**
+		 * Read the resources used by the run so far.
+		 * @return the usage, or {@code null} if the group is not enforced
+		 */
+		public ResourceUsage usage() {
+			return this.path != null ? readUsage(this.path) : null;
+		}
+
+		/**
+		 * Kill processes left in the group and remove it.
+		 */
+		@Override
+		public void close() {
+			if (this.path == null) {
+				return;
+			}
+			Path kill = this.path.resolve("cgroup.kill");
+			try {
+				if (Files.exists(kill) && !readLines(this.path.resolve("cgroup.procs")).isEmpty()) {
+					Files.writeString(kill, "1");
+					awaitEmpty();
+				}
+			}
+			catch (IOException ex) {
+				logger.debug("Could not kill processes of cgroup {}: {}", this.path, ex.toString());
+			}
+			removeQuietly(this.path);
+		}
+
+		private void awaitEmpty() {
+			long deadline = System.nanoTime() + KILL_TIMEOUT.toNanos();
+			while (!readLines(this.path.resolve("cgroup.procs")).isEmpty() && System.nanoTime() < deadline) {
+				try {
+					Thread.sleep(10);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+
+	}
+
+}
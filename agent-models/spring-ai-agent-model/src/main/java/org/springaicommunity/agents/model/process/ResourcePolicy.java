@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.process;
+
+/**
+ * Resource limits for the process tree of a single agent run, enforced by
+ * {@link CgroupResourceLimiter}. Limits that are {@code null} are not enforced.
+ *
+ * @param cpus CPU quota in cores, for example {@code 1.5} for one and a half cores
+ * @param memoryBytes memory limit in bytes; the tree is OOM-killed when it exceeds it
+ * @param maxProcesses maximum number of processes and threads in the tree
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public record ResourcePolicy(Double cpus, Long memoryBytes, Long maxProcesses) {
+
+	/**
+	 * Policy that enforces no limits. Runs are still accounted for.
+	 */
+	public static final ResourcePolicy UNLIMITED = new ResourcePolicy(null, null, null);
+
+	public ResourcePolicy {
+		if (cpus != null && cpus <= 0) {
+			throw new IllegalArgumentException("cpus must be positive");
+		}
+		if (memoryBytes != null && memoryBytes <= 0) {
+			throw new IllegalArgumentException("memoryBytes must be positive");
+		}
+		if (maxProcesses != null && maxProcesses <= 0) {
+			throw new IllegalArgumentException("maxProcesses must be positive");
+		}
+	}
+
+	/**
+	 * Create a builder for a resource policy.
+	 * @return a new builder instance
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Check whether this policy enforces any limit.
+	 * @return true if no limit is set
+	 */
+	public boolean isUnlimited() {
+		return this.cpus == null && this.memoryBytes == null && this.maxProcesses == null;
+	}
+
+	/**
+	 * Builder for ResourcePolicy.
+	 */
+	public static final class Builder {
+
+		private Double cpus;
+
+		private Long memoryBytes;
+
+		private Long maxProcesses;
+
+		private Builder() {
+		}
+
+		/**
+		 * Set the CPU quota.
+		 * @param cpus the quota in cores
+		 * @return this builder
+		 */
+		public Builder cpus(double cpus) {
+			this.cpus = cpus;
+			return this;
+		}
+
+		/**
+		 * Set the memory limit.
+		 * @param memoryBytes the limit in bytes
+		 * @return this builder
+		 */
+		public Builder memoryBytes(long memoryBytes) {
+			this.memoryBytes = memoryBytes;
+			return this;
+		}
+
+		/**
+		 * Set the memory limit in mebibytes.
+		 * @param memoryMegabytes the limit in MiB
+		 * @return this builder
+		 */
+		public Builder memoryMegabytes(long memoryMegabytes) {
+			return memoryBytes(memoryMegabytes * 1024 * 1024);
+		}
+
+		/**
+		 * Set the maximum number of processes.
+		 * @param maxProcesses the pids limit
+		 * @return this builder
+		 */
+		public Builder maxProcesses(long maxProcesses) {
+			this.maxProcesses = maxProcesses;
+			return this;
+		}
+
+		/**
+		 * Build the ResourcePolicy.
+		 * @return the constructed policy
+		 */
+		public ResourcePolicy build() {
+			return new ResourcePolicy(this.cpus, this.memoryBytes, this.maxProcesses);
+		}
+
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.process;
+
+import java.time.Duration;
+
+/**
+ * Host resources consumed by the process tree of a single agent run, as accounted by
+ * {@link CgroupResourceLimiter}. Models that account for their runs add it to the
+ * response metadata under {@link #METADATA_KEY}.
+ *
+ * @param peakMemoryBytes peak memory of the tree, or {@code null} if the memory
+ * controller is not enabled for its cgroup; includes page cache charged to it, so it is
+ * an upper bound of the combined peak RSS
+ * @param cpuTime user and system CPU time of the tree
+ * @param readBytes bytes read from block devices
+ * @param writeBytes bytes written to block devices
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public record ResourceUsage(Long peakMemoryBytes, Duration cpuTime, long readBytes, long writeBytes) {
+
+	/**
+	 * Response metadata key of the resource usage of a run.
+	 */
+	public static final String METADATA_KEY = "resource_usage";
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.routing;
+
+/**
+ * State of the circuit breaker of a model in a {@link RoutingAgentModel}.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public enum CircuitState {
+
+	/**
+	 * Requests are routed to the model.
+	 */
+	CLOSED,
+
+	/**
+	 * The model failed repeatedly or is unavailable; no requests are routed to it until
+	 * the open duration has passed.
+	 */
+	OPEN,
+
+	/**
+	 * The open duration has passed; a single probe request decides whether the breaker
+	 * closes or opens again.
+	 */
+	HALF_OPEN
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.routing;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Latency and error statistics and circuit breaker of one model of a
+ * {@link RoutingAgentModel}.
+ *
+ * <p>
+ * Latency and error rate are exponentially weighted moving averages, so recent runs
+ * dominate. The breaker opens after a number of consecutive failures or when the model
+ * reports itself unavailable. Once the open duration has passed, a single probe request
+ * is let through; its outcome closes or reopens the breaker.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+final class ModelHealth {
+
+	private final String name;
+
+	private final double alpha;
+
+	private final int failureThreshold;
+
+	private final Duration openDuration;
+
+	private final Clock clock;
+
+	private CircuitState state = CircuitState.CLOSED;
+
+	private double latencyNanos = Double.NaN;
+
+	private double errorRate;
+
+	private int consecutiveFailures;
+
+	private long calls;
+
+	private Instant openUntil;
+
+	private boolean probeInFlight;
+
+	ModelHealth(String name, double alpha, int failureThreshold, Duration openDuration, Clock clock) {
+		this.name = name;
+		this.alpha = alpha;
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+		this.clock = clock;
+	}
+
+	/**
+	 * Check whether a request may be sent now without reserving a probe.
+	 */
+	synchronized boolean isEligible() {
+		return switch (this.state) {
+			case CLOSED -> true;
+			case OPEN -> !this.clock.instant().isBefore(this.openUntil);
+			case HALF_OPEN -> !this.probeInFlight;
+		};
+	}
+
+	/**
+	 * Reserve the right to send a request. In the half-open state only one probe is
+	 * admitted at a time.
+	 * @return true if the request may be sent
+	 */
+	synchronized boolean tryAcquire() {
+		if (this.state == CircuitState.OPEN && !this.clock.instant().isBefore(this.openUntil)) {
+			this.state = CircuitState.HALF_OPEN;
+			this.probeInFlight = false;
+		}
+		if (this.state == CircuitState.CLOSED) {
+			return true;
+		}
+		if (this.state == CircuitState.HALF_OPEN && !this.probeInFlight) {
+			this.probeInFlight = true;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Check whether the availability of the model should be verified before sending.
+	 */
+	synchronized boolean needsAvailabilityCheck() {
+		return this.calls == 0 || this.state == CircuitState.HALF_OPEN;
+	}
+
+	synchronized void recordSuccess(long nanos) {
+		this.calls++;
+		this.latencyNanos = Double.isNaN(this.latencyNanos) ? nanos
+				: this.alpha * nanos + (1 - this.alpha) * this.latencyNanos;
+		this.errorRate = (1 - this.alpha) * this.errorRate;
+		this.consecutiveFailures = 0;
+		this.probeInFlight = false;
+		this.state = CircuitState.CLOSED;
+	}
+
+	synchronized void recordFailure(long nanos) {
+		this.calls++;
+		this.latencyNanos = Double.isNaN(this.latencyNanos) ? nanos
+				: this.alpha * nanos + (1 - this.alpha) * this.latencyNanos;
+		this.errorRate = this.alpha + (1 - this.alpha) * this.errorRate;
+		this.consecutiveFailures++;
+		if (this.state == CircuitState.HALF_OPEN || this.consecutiveFailures >= this.failureThreshold) {
+			open();
+		}
+	}
+
+	synchronized void recordUnavailable() {
+		this.errorRate = this.alpha + (1 - this.alpha) * this.errorRate;
+		open();
+	}
+
+	/**
+	 * Routing score, lower is better. Latency is inflated by the error rate so that a
+	 * fast but failing model loses to a slower healthy one. A model without latency
+	 * samples scores zero so that it is tried.
+	 */
+	synchronized double score() {
+		if (Double.isNaN(this.latencyNanos)) {
+			return 0;
+		}
+		return this.latencyNanos / Math.max(0.05, 1 - this.errorRate);
+	}
+
+	synchronized ModelStats snapshot() {
+		return new ModelStats(this.name, this.state,
+				Double.isNaN(this.latencyNanos) ? null : Duration.ofNanos((long) this.latencyNanos), this.errorRate,
+				this.consecutiveFailures, this.calls, this.state == CircuitState.CLOSED ? null : this.openUntil);
+	}
+
+	private void open() {
+		this.state = CircuitState.OPEN;
+		this.probeInFlight = false;
+		this.openUntil = this.clock.instant().plus(this.openDuration);
+	}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.routing;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Snapshot of the routing statistics of one model of a {@link RoutingAgentModel}.
+ *
+ * @param name the model name in the routing registry
+ * @param state the circuit breaker state
+ * @param latency moving average latency, or null before the first completed run
+ * @param errorRate moving average error rate between 0 and 1
+ * @param consecutiveFailures failures since the last success
+ * @param calls completed runs
+ * @param openUntil when an open breaker admits a probe, or null if closed
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public record ModelStats(String name, CircuitState state, Duration latency, double errorRate,
+		int consecutiveFailures, long calls, Instant openUntil) {
+
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.routing;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.model.AgentModel;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentResponseMetadata;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+
+/**
+ * {@link AgentModel} that routes each request to the healthiest, fastest of a named set
+ * of agent models.
+ *
+ * <p>
+ * For every model the router keeps a moving average of latency and error rate and a
+ * circuit breaker. A request goes to the eligible model with the lowest latency, inflated
+ * by its error rate; models that have not completed a run yet are tried first. The
+ * breaker of a model opens after consecutive failures or when the model reports itself
+ * unavailable, and lets a single probe request through after the open duration. An
+ * outage or slowdown of one CLI therefore shifts traffic to the others instead of
+ * stalling the caller.
+ * </p>
+ *
+ * <p>
+ * A run counts as failed when the model throws or when the failure predicate matches the
+ * response, by default when no generation finished successfully. With
+ * {@link Builder#maxAttempts(int)} greater than one, a failed run is retried on the next
+ * best model; note that the retry runs in the same working directory. The name of the
+ * model that produced the response is added to the response metadata under
+ * {@link #ROUTED_MODEL_KEY}.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * RoutingAgentModel router = RoutingAgentModel.builder()
+ *     .model("claude", claudeAgentModel)
+ *     .model("gemini", geminiAgentModel)
+ *     .model("codex", codexAgentModel)
+ *     .failureThreshold(3)
+ *     .openDuration(Duration.ofMinutes(1))
+ *     .build();
+ *
+ * AgentClient client = AgentClient.create(router);
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class RoutingAgentModel implements AgentModel {
+
+	private static final Logger logger = LoggerFactory.getLogger(RoutingAgentModel.class);
+
+	/**
+	 * Response metadata key holding the name of the model the request was routed to.
+	 */
+	public static final String ROUTED_MODEL_KEY = "routing.model";
+
+	private final Map<String, AgentModel> models;
+
+	private final Map<String, ModelHealth> health;
+
+	private final int maxAttempts;
+
+	private final Predicate<AgentResponse> failurePredicate;
+
+	private RoutingAgentModel(Builder builder) {
+		this.models = Collections.unmodifiableMap(new LinkedHashMap<>(builder.models));
+		Map<String, ModelHealth> health = new LinkedHashMap<>();
+		builder.models.keySet()
+			.forEach(name -> health.put(name, new ModelHealth(name, builder.latencySmoothing,
+					builder.failureThreshold, builder.openDuration, builder.clock)));
+		this.health = Collections.unmodifiableMap(health);
+		this.maxAttempts = builder.maxAttempts;
+		this.failurePredicate = builder.failurePredicate;
+	}
+
+	/**
+	 * Create a new builder for RoutingAgentModel.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public AgentResponse call(AgentTaskRequest request) {
+		int attempts = 0;
+		RuntimeException lastError = null;
+		AgentResponse lastResponse = null;
+		String lastModel = null;
+
+		for (String name : rank()) {
+			if (attempts >= this.maxAttempts) {
+				break;
+			}
+			ModelHealth modelHealth = this.health.get(name);
+			if (!modelHealth.tryAcquire()) {
+				continue;
+			}
+			AgentModel model = this.models.get(name);
+			if (modelHealth.needsAvailabilityCheck() && !checkAvailable(name, model)) {
+				modelHealth.recordUnavailable();
+				continue;
+			}
+
+			attempts++;
+			long start = System.nanoTime();
+			try {
+				AgentResponse response = model.call(request);
+				long nanos = System.nanoTime() - start;
+				if (response == null || this.failurePredicate.test(response)) {
+					modelHealth.recordFailure(nanos);
+					logger.debug("Agent model '{}' failed after {} ms", name, nanos / 1_000_000);
+					lastResponse = response;
+					lastModel = name;
+					continue;
+				}
+				modelHealth.recordSuccess(nanos);
+				return withRoutedModel(response, name);
+			}
+			catch (RuntimeException ex) {
+				modelHealth.recordFailure(System.nanoTime() - start);
+				logger.warn("Agent model '{}' threw: {}", name, ex.getMessage());
+				lastError = ex;
+			}
+		}
+
+		if (lastResponse != null) {
+			return withRoutedModel(lastResponse, lastModel);
+		}
+		if (lastError != null) {
+			throw lastError;
+		}
+		throw new IllegalStateException("No agent model available, all circuit breakers are open: " + getStats());
+	}
+
+	/**
+	 * Check whether any model can currently accept requests.
+	 * @return true if at least one breaker admits requests and its model is available
+	 */
+	@Override
+	public boolean isAvailable() {
+		for (Map.Entry<String, AgentModel> entry : this.models.entrySet()) {
+			if (this.health.get(entry.getKey()).isEligible() && checkAvailable(entry.getKey(), entry.getValue())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the routed models.
+	 * @return models by name, in registration order
+	 */
+	public Map<String, AgentModel> getModels() {
+		return this.models;
+	}
+
+	/**
+	 * Get a snapshot of the routing statistics.
+	 * @return statistics by model name, in registration order
+	 */
+	public Map<String, ModelStats> getStats() {
+		Map<String, ModelStats> stats = new LinkedHashMap<>();
+		this.health.forEach((name, modelHealth) -> stats.put(name, modelHealth.snapshot()));
+		return stats;
+	}
+
+	private List<String> rank() {
+		Map<String, Double> scores = new HashMap<>();
+		List<String> eligible = new ArrayList<>();
+		this.health.forEach((name, modelHealth) -> {
+			if (modelHealth.isEligible()) {
+				scores.put(name, modelHealth.score());
+				eligible.add(name);
+			}
+		});
+		// Stable sort keeps registration order between equal scores
+		eligible.sort(Comparator.comparingDouble(scores::get));
+		return eligible;
+	}
+
+	private static boolean checkAvailable(String name, AgentModel model) {
+		try {
+			return model.isAvailable();
+		}
+		catch (RuntimeException ex) {
+			logger.debug("Availability check of agent model '{}' failed: {}", name, ex.getMessage());
+			return false;
+		}
+	}
+
+	private static AgentResponse withRoutedModel(AgentResponse response, String name) {
+		if (response == null) {
+			return null;
+		}
+		Map<String, Object> providerFields = new HashMap<>(response.getMetadata());
+		providerFields.put(ROUTED_MODEL_KEY, name);
+		AgentResponseMetadata metadata = AgentResponseMetadata.builder()
+			.from(response.getMetadata())
+			.providerFields(providerFields)
+			.build();
+		return new AgentResponse(response.getResults(), metadata);
+	}
+
+	/**
+	 * Builder for {@link RoutingAgentModel}.
+	 */
+	public static final class Builder {
+
+		private final Map<String, AgentModel> models = new LinkedHashMap<>();
+
+		private double latencySmoothing = 0.2;
+
+		private int failureThreshold = 3;
+
+		private Duration openDuration = Duration.ofSeconds(30);
+
+		private int maxAttempts = 1;
+
+		private Predicate<AgentResponse> failurePredicate = response -> !response.isSuccessful();
+
+		private Clock clock = Clock.systemUTC();
+
+		private Builder() {
+		}
+
+		/**
+		 * Add a model to route to. Between models with equal scores, the first added
+		 * wins.
+		 * @param name the model name, for example "claude"
+		 * @param model the agent model
+		 * @return this builder
+		 */
+		public Builder model(String name, AgentModel model) {
+			this.models.put(name, model);
+			return this;
+		}
+
+		/**
+		 * Add models to route to, for example all {@code AgentModel} beans by bean name.
+		 * @param models agent models by name
+		 * @return this builder
+		 */
+		public Builder models(Map<String, ? extends AgentModel> models) {
+			this.models.putAll(models);
+			return this;
+		}
+
+		/**
+		 * Set the weight of the latest run in the moving averages, between 0 and 1
+		 * (default: 0.2).
+		 * @param latencySmoothing the smoothing factor
+		 * @return this builder
+		 */
+		public Builder latencySmoothing(double latencySmoothing) {
+			this.latencySmoothing = latencySmoothing;
+			return this;
+		}
+
+		/**
+		 * Set the number of consecutive failures that opens the breaker of a model
+		 * (default: 3).
+		 * @param failureThreshold the failure threshold
+		 * @return this builder
+		 */
+		public Builder failureThreshold(int failureThreshold) {
+			this.failureThreshold = failureThreshold;
+			return this;
+		}
+
+		/**
+		 * Set how long an open breaker rejects requests before admitting a probe
+		 * (default: 30 seconds).
+		 * @param openDuration the open duration
+		 * @return this builder
+		 */
+		public Builder openDuration(Duration openDuration) {
+			this.openDuration = openDuration;
+			return this;
+		}
+
+		/**
+		 * Set the number of models a request is tried on before giving up (default: 1,
+		 * no failover).
+		 * @param maxAttempts the maximum attempts
+		 * @return this builder
+		 */
+		public Builder maxAttempts(int maxAttempts) {
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * Set the predicate deciding whether a response counts as a failure. Defaults to
+		 * responses without a successful generation.
+		 * @param failurePredicate the failure predicate
+		 * @return this builder
+		 */
+		public Builder failurePredicate(Predicate<AgentResponse> failurePredicate) {
+			this.failurePredicate = failurePredicate;
+			return this;
+		}
+
+		/**
+		 * Set the clock used for breaker timing.
+		 * @param clock the clock
+		 * @return this builder
+		 */
+		public Builder clock(Clock clock) {
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Build the RoutingAgentModel.
+		 * @return a new RoutingAgentModel
+		 * @throws IllegalStateException if no model was added or a setting is out of range
+		 */
+		public RoutingAgentModel build() {
+			if (this.models.isEmpty()) {
+				throw new IllegalStateException("At least one model must be added");
+			}
+			if (this.latencySmoothing <= 0 || this.latencySmoothing > 1) {
+				throw new IllegalStateException("latencySmoothing must be in (0, 1]");
+			}
+			if (this.failureThreshold < 1 || this.maxAttempts < 1) {
+				throw new IllegalStateException("failureThreshold and maxAttempts must be at least 1");
+			}
+			return new RoutingAgentModel(this);
+		}
+
+	}
+
+}
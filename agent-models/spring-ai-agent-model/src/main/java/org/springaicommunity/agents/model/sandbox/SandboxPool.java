@@ -0,0 +1,556 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.sandbox;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.sandbox.ExecResult;
+import org.springaicommunity.sandbox.ExecSpec;
+import org.springaicommunity.sandbox.Sandbox;
+
+/**
+ * Pool of warm sandboxes that agent models borrow one at a time per request.
+ *
+ * <p>
+ * Creating a sandbox can be expensive, starting a container for a
+ * {@link org.springaicommunity.sandbox.DockerSandbox}. The pool creates sandboxes ahead
+ * of time on a background thread and keeps at least {@link Builder#minIdle(int)} of them
+ * ready, so the startup latency stays off the request path. Every request gets a sandbox
+ * of its own, up to {@link Builder#maxSize(int)} at a time; further requests wait up to
+ * the {@link Builder#borrowTimeout(Duration) borrow timeout}.
+ * </p>
+ *
+ * <p>
+ * A sandbox is checked with the {@link Builder#healthCheck(Predicate) health check}
+ * before it is handed out and is {@link Builder#reset(SandboxReset) reset} when it comes
+ * back. Sandboxes that fail either step are closed and replaced.
+ * </p>
+ *
+ * <pre>{@code
+ * SandboxPool pool = SandboxPool.builder(() -> new DockerSandbox(image, List.of()))
+ *     .minIdle(2)
+ *     .maxSize(8)
+ *     .healthCheck(SandboxPool.execProbe("true"))
+ *     .build();
+ *
+ * try (SandboxPool.Lease lease = pool.borrow()) {
+ *     ExecResult result = lease.sandbox().exec(spec);
+ * }
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class SandboxPool implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(SandboxPool.class);
+
+	/**
+	 * Executor creating sandboxes ahead of time using cached thread pool with daemon
+	 * threads.
+	 */
+	private static final ExecutorService WARMER = Executors.newCachedThreadPool(new ThreadFactory() {
+		private final AtomicInteger counter = new AtomicInteger(0);
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "sandbox-pool-warmer-" + counter.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	});
+
+	private final Supplier<? extends Sandbox> factory;
+
+	private final int minIdle;
+
+	private final int maxSize;
+
+	private final Duration borrowTimeout;
+
+	private final Predicate<Sandbox> healthCheck;
+
+	private final SandboxReset reset;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition available = this.lock.newCondition();
+
+	/**
+	 * Idle sandboxes, most recently returned first.
+	 */
+	private final Deque<Sandbox> idle = new ArrayDeque<>();
+
+	/**
+	 * Idle, leased and warming sandboxes.
+	 */
+	private int total;
+
+	private int warming;
+
+	private boolean closed;
+
+	private SandboxPool(Builder builder) {
+		this.factory = builder.factory;
+		this.minIdle = builder.minIdle;
+		this.maxSize = builder.maxSize;
+		this.borrowTimeout = builder.borrowTimeout;
+		this.healthCheck = builder.healthCheck;
+		this.reset = builder.reset;
+		replenish();
+	}
+
+	/**
+	 * Create a builder for a pool of the sandboxes created by the given factory.
+	 * @param factory creates a new sandbox; called on a background thread when warming
+	 * @return a new builder instance
+	 */
+	public static Builder builder(Supplier<? extends Sandbox> factory) {
+		return new Builder(factory);
+	}
+
+	/**
+	 * Health check that runs a command in the sandbox and expects it to succeed within
+	 * five seconds.
+	 * @param command the probe command, for example {@code true}
+	 * @return the health check
+	 */
+	public static Predicate<Sandbox> execProbe(String... command) {
+		ExecSpec probe = ExecSpec.builder().command(List.of(command)).timeout(Duration.ofSeconds(5)).build();
+		return sandbox -> {
+			try {
+				ExecResult result = sandbox.exec(probe);
+				return result.exitCode() == 0;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			catch (Exception ex) {
+				logger.debug("Sandbox probe failed: {}", ex.getMessage());
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Borrow a sandbox for one request. An idle sandbox is handed out right away; when
+	 * none is idle and the pool is not full, one is created on the calling thread.
+	 * @return the lease, to be closed to return the sandbox
+	 * @throws InterruptedException if interrupted while waiting for a sandbox
+	 * @throws TimeoutException if no sandbox became available within the borrow timeout
+	 * @throws IllegalStateException if the pool has been closed
+	 */
+	public Lease borrow() throws InterruptedException, TimeoutException {
+		long deadline = System.nanoTime() + this.borrowTimeout.toNanos();
+		while (true) {
+			Sandbox candidate = null;
+			this.lock.lockInterruptibly();
+			try {
+				while (candidate == null) {
+					if (this.closed) {
+						throw new IllegalStateException("Sandbox pool has been closed");
+					}
+					candidate = this.idle.pollFirst();
+					if (candidate == null) {
+						if (this.total < this.maxSize) {
+							this.total++;
+							break;
+						}
+						long remaining = deadline - System.nanoTime();
+						if (remaining <= 0) {
+							throw new TimeoutException("No sandbox available within " + this.borrowTimeout.toMillis()
+									+ " ms, all " + this.maxSize + " are in use");
+						}
+						this.available.awaitNanos(remaining);
+					}
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+
+			if (candidate == null) {
+				// Cold path: the pool had room but nothing warm
+				candidate = create();
+			}
+			else if (!isHealthy(candidate)) {
+				logger.debug("Discarding unhealthy sandbox {}", candidate);
+				discard(candidate);
+				continue;
+			}
+			replenish();
+			return new Lease(candidate);
+		}
+	}
+
+	/**
+	 * Get the number of idle sandboxes ready to be borrowed.
+	 * @return the number of idle sandboxes
+	 */
+	public int getIdleCount() {
+		this.lock.lock();
+		try {
+			return this.idle.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Get the number of sandboxes held by the pool, whether idle, leased or being created.
+	 * @return the number of sandboxes
+	 */
+	public int getSize() {
+		this.lock.lock();
+		try {
+			return this.total;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Close the pool and all idle sandboxes. Leased sandboxes are closed when they are
+	 * returned.
+	 */
+	@Override
+	public void close() {
+		List<Sandbox> toClose;
+		this.lock.lock();
+		try {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			toClose = new ArrayList<>(this.idle);
+			this.idle.clear();
+			this.available.signalAll();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		toClose.forEach(this::discard);
+	}
+
+	private Sandbox create() {
+		try {
+			return this.factory.get();
+		}
+		catch (RuntimeException ex) {
+			released();
+			throw ex;
+		}
+	}
+
+	private boolean isHealthy(Sandbox sandbox) {
+		try {
+			return !sandbox.isClosed() && this.healthCheck.test(sandbox);
+		}
+		catch (RuntimeException ex) {
+			logger.debug("Sandbox health check failed: {}", ex.getMessage());
+			return false;
+		}
+	}
+
+	private void giveBack(Sandbox sandbox, boolean broken) {
+		if (broken || sandbox.isClosed()) {
+			discard(sandbox);
+			replenish();
+			return;
+		}
+		try {
+			this.reset.reset(sandbox);
+		}
+		catch (Exception ex) {
+			logger.warn("Failed to reset sandbox, replacing it: {}", ex.getMessage());
+			discard(sandbox);
+			replenish();
+			return;
+		}
+		this.lock.lock();
+		try {
+			if (!this.closed) {
+				this.idle.offerFirst(sandbox);
+				this.available.signal();
+				return;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		discard(sandbox);
+	}
+
+	private void discard(Sandbox sandbox) {
+		try {
+			sandbox.close();
+		}
+		catch (Exception ex) {
+			logger.debug("Failed to close sandbox: {}", ex.getMessage());
+		}
+		released();
+	}
+
+	private void released() {
+		this.lock.lock();
+		try {
+			this.total--;
+			this.available.signal();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Start creating sandboxes in the background until {@link #minIdle} are idle or
+	 * warming, as far as the maximum size allows.
+	 */
+	private void replenish() {
+		int toCreate;
+		this.lock.lock();
+		try {
+			if (this.closed) {
+				return;
+			}
+			toCreate = Math.min(this.minIdle - this.idle.size() - this.warming, this.maxSize - this.total);
+			if (toCreate <= 0) {
+				return;
+			}
+			this.total += toCreate;
+			this.warming += toCreate;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		for (int i = 0; i < toCreate; i++) {
+			WARMER.execute(this::warmOne);
+		}
+	}
+
+	private void warmOne() {
+		Sandbox sandbox;
+		try {
+			sandbox = this.factory.get();
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Failed to pre-warm sandbox: {}", ex.getMessage());
+			this.lock.lock();
+			try {
+				this.warming--;
+				this.total--;
+				this.available.signal();
+			}
+			finally {
+				this.lock.unlock();
+			}
+			return;
+		}
+		this.lock.lock();
+		try {
+			this.warming--;
+			if (!this.closed) {
+				this.idle.offerLast(sandbox);
+				this.available.signal();
+				return;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		discard(sandbox);
+	}
+
+	/**
+	 * Resets a returned sandbox before it is handed out again, for example by removing
+	 * the files a run left behind.
+	 */
+	@FunctionalInterface
+	public interface SandboxReset {
+
+		/**
+		 * Reset the sandbox. Throwing discards the sandbox.
+		 * @param sandbox the returned sandbox
+		 * @throws Exception if the sandbox cannot be reused
+		 */
+		void reset(Sandbox sandbox) throws Exception;
+
+	}
+
+	/**
+	 * A sandbox borrowed from the pool. Closing the lease returns the sandbox.
+	 */
+	public final class Lease implements AutoCloseable {
+
+		private final Sandbox sandbox;
+
+		private boolean broken;
+
+		private boolean returned;
+
+		private Lease(Sandbox sandbox) {
+			this.sandbox = sandbox;
+		}
+
+		/**
+		 * Get the borrowed sandbox.
+		 * @return the sandbox
+		 */
+		public Sandbox sandbox() {
+			return this.sandbox;
+		}
+
+		/**
+		 * Mark the sandbox as unusable, so that it is closed instead of returned.
+		 */
+		public void invalidate() {
+			this.broken = true;
+		}
+
+		/**
+		 * Return the sandbox to the pool.
+		 */
+		@Override
+		public void close() {
+			if (!this.returned) {
+				this.returned = true;
+				giveBack(this.sandbox, this.broken);
+			}
+		}
+
+	}
+
+	/**
+	 * Builder for SandboxPool.
+	 */
+	public static final class Builder {
+
+		private final Supplier<? extends Sandbox> factory;
+
+		private int minIdle = 1;
+
+		private int maxSize = 4;
+
+		private Duration borrowTimeout = Duration.ofSeconds(30);
+
+		private Predicate<Sandbox> healthCheck = sandbox -> true;
+
+		private SandboxReset reset = sandbox -> {
+		};
+
+		private Builder(Supplier<? extends Sandbox> factory) {
+			if (factory == null) {
+				throw new IllegalArgumentException("factory must not be null");
+			}
+			this.factory = factory;
+		}
+
+		/**
+		 * Set how many idle sandboxes are kept ready. Defaults to 1.
+		 * @param minIdle the minimum number of idle sandboxes, zero to create on demand
+		 * @return this builder
+		 */
+		public Builder minIdle(int minIdle) {
+			this.minIdle = minIdle;
+			return this;
+		}
+
+		/**
+		 * Set how many sandboxes exist at most, which bounds the concurrent requests.
+		 * Defaults to 4.
+		 * @param maxSize the maximum number of sandboxes
+		 * @return this builder
+		 */
+		public Builder maxSize(int maxSize) {
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		/**
+		 * Set how long {@link SandboxPool#borrow()} waits when all sandboxes are in use.
+		 * Defaults to 30 seconds.
+		 * @param borrowTimeout the borrow timeout
+		 * @return this builder
+		 */
+		public Builder borrowTimeout(Duration borrowTimeout) {
+			this.borrowTimeout = borrowTimeout;
+			return this;
+		}
+
+		/**
+		 * Set the check an idle sandbox must pass before it is handed out. Closed
+		 * sandboxes are always discarded.
+		 * @param healthCheck the health check
+		 * @return this builder
+		 * @see SandboxPool#execProbe(String...)
+		 */
+		public Builder healthCheck(Predicate<Sandbox> healthCheck) {
+			this.healthCheck = healthCheck;
+			return this;
+		}
+
+		/**
+		 * Set the step that prepares a returned sandbox for the next request.
+		 * @param reset the reset step
+		 * @return this builder
+		 */
+		public Builder reset(SandboxReset reset) {
+			this.reset = reset;
+			return this;
+		}
+
+		/**
+		 * Build the pool and start pre-warming.
+		 * @return the pool
+		 */
+		public SandboxPool build() {
+			if (this.maxSize < 1) {
+				throw new IllegalArgumentException("maxSize must be positive");
+			}
+			if (this.minIdle < 0 || this.minIdle > this.maxSize) {
+				throw new IllegalArgumentException("minIdle must be between 0 and maxSize");
+			}
+			if (this.borrowTimeout == null || this.borrowTimeout.isNegative()) {
+				throw new IllegalArgumentException("borrowTimeout must not be negative");
+			}
+			if (this.healthCheck == null || this.reset == null) {
+				throw new IllegalArgumentException("healthCheck and reset must not be null");
+			}
+			return new SandboxPool(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.session;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * {@link SessionStore} backed by a properties file, so conversations can be resumed
+ * after a restart of the application.
+ *
+ * <p>
+ * The file is read once when the store is created and rewritten on every change. Writes
+ * go to a temporary file that atomically replaces the store file, so a crash never
+ * leaves a partially written store behind. The store is meant for one process; processes
+ * sharing a file overwrite each other's changes.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class FileSessionStore implements SessionStore {
+
+	private final Path file;
+
+	private final Properties sessions = new Properties();
+
+	/**
+	 * Create a store backed by the given file, loading the sessions it already contains.
+	 * @param file the store file; created on the first change if it does not exist
+	 * @throws UncheckedIOException if the existing file cannot be read
+	 */
+	public FileSessionStore(Path file) {
+		this.file = file;
+		if (Files.exists(file)) {
+			try (InputStream in = Files.newInputStream(file)) {
+				this.sessions.load(in);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to read session store " + file, ex);
+			}
+		}
+	}
+
+	@Override
+	public synchronized Optional<String> find(String provider, String conversationKey) {
+		return Optional.ofNullable(this.sessions.getProperty(InMemorySessionStore.key(provider, conversationKey)));
+	}
+
+	@Override
+	public synchronized void save(String provider, String conversationKey, String sessionId) {
+		String key = InMemorySessionStore.key(provider, conversationKey);
+		if (!sessionId.equals(this.sessions.setProperty(key, sessionId))) {
+			write();
+		}
+	}
+
+	@Override
+	public synchronized void remove(String provider, String conversationKey) {
+		if (this.sessions.remove(InMemorySessionStore.key(provider, conversationKey)) != null) {
+			write();
+		}
+	}
+
+	/**
+	 * Get the file backing this store.
+	 * @return the store file
+	 */
+	public Path getFile() {
+		return this.file;
+	}
+
+	private void write() {
+		try {
+			Path directory = this.file.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			Path temp = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+			try {
+				try (OutputStream out = Files.newOutputStream(temp)) {
+					this.sessions.store(out, "Agent sessions by provider:conversation key");
+				}
+				Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write session store " + this.file, ex);
+		}
+	}
+
+}
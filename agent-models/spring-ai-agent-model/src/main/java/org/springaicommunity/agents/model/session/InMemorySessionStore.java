@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.session;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link SessionStore} that keeps the most recently used sessions in memory. When the
+ * store is full, the least recently used conversation is forgotten.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class InMemorySessionStore implements SessionStore {
+
+	/**
+	 * Default maximum number of conversations.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	private final Map<String, String> sessions;
+
+	/**
+	 * Create a store for at most {@link #DEFAULT_MAX_ENTRIES} conversations.
+	 */
+	public InMemorySessionStore() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Create a store for at most the given number of conversations.
+	 * @param maxEntries the maximum number of conversations
+	 */
+	public InMemorySessionStore(int maxEntries) {
+		if (maxEntries < 1) {
+			throw new IllegalArgumentException("maxEntries must be positive");
+		}
+		this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	@Override
+	public synchronized Optional<String> find(String provider, String conversationKey) {
+		return Optional.ofNullable(this.sessions.get(key(provider, conversationKey)));
+	}
+
+	@Override
+	public synchronized void save(String provider, String conversationKey, String sessionId) {
+		this.sessions.put(key(provider, conversationKey), sessionId);
+	}
+
+	@Override
+	public synchronized void remove(String provider, String conversationKey) {
+		this.sessions.remove(key(provider, conversationKey));
+	}
+
+	/**
+	 * Get the number of conversations in the store.
+	 * @return the number of conversations
+	 */
+	public synchronized int size() {
+		return this.sessions.size();
+	}
+
+	static String key(String provider, String conversationKey) {
+		return provider + ":" + conversationKey;
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.session;
+
+import java.util.Optional;
+
+/**
+ * Maps caller-supplied conversation keys to provider session ids, so that follow-up
+ * goals can resume the provider session of an earlier run instead of rebuilding its
+ * context.
+ *
+ * <p>
+ * Models that support resuming look up the
+ * {@link org.springaicommunity.agents.model.AgentOptions#getConversationKey()
+ * conversation key} of a request before running it and save the session id the provider
+ * reports afterwards. Entries are scoped by provider, so one store can be shared by
+ * several models. Implementations must be thread-safe.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ * @see InMemorySessionStore
+ * @see FileSessionStore
+ */
+public interface SessionStore {
+
+	/**
+	 * Find the session recorded for a conversation.
+	 * @param provider the provider id, for example {@code codex}
+	 * @param conversationKey the conversation key
+	 * @return the session id, or empty if the conversation has no session yet
+	 */
+	Optional<String> find(String provider, String conversationKey);
+
+	/**
+	 * Record the session of a conversation, replacing an earlier one.
+	 * @param provider the provider id
+	 * @param conversationKey the conversation key
+	 * @param sessionId the provider session id
+	 */
+	void save(String provider, String conversationKey, String sessionId);
+
+	/**
+	 * Forget the session of a conversation, for example because it can no longer be
+	 * resumed.
+	 * @param provider the provider id
+	 * @param conversationKey the conversation key
+	 */
+	void remove(String provider, String conversationKey);
+
+}
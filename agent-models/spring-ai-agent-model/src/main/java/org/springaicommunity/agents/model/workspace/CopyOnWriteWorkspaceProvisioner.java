@@ -0,0 +1,389 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.workspace;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.process.ProcessRunResult;
+import org.springaicommunity.agents.process.ProcessRunner;
+import org.springaicommunity.agents.process.ProcessSpec;
+
+/**
+ * {@link WorkspaceProvisioner} that creates workspaces as cheaply as the base directory
+ * and file system allow.
+ *
+ * <p>
+ * The configured {@link WorkspaceStrategy strategies} are tried in order and the first
+ * one that succeeds creates the workspace, so a reflink clone falls back to a plain copy
+ * on file systems without reflink support. The default order is
+ * {@link WorkspaceStrategy#REFLINK}, {@link WorkspaceStrategy#GIT_WORKTREE},
+ * {@link WorkspaceStrategy#COPY}. {@link WorkspaceStrategy#HARD_LINKS} is only used when
+ * configured explicitly.
+ * </p>
+ *
+ * <p>
+ * Reflinks and hard links only work within one file system. Set the
+ * {@link Builder#workspaceRoot(Path) workspace root} to a directory next to the base
+ * directories when the system temporary directory is on another file system.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * WorkspaceProvisioner provisioner = CopyOnWriteWorkspaceProvisioner.builder()
+ *     .workspaceRoot(Path.of("/data/workspaces"))
+ *     .strategies(WorkspaceStrategy.GIT_WORKTREE, WorkspaceStrategy.COPY)
+ *     .build();
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class CopyOnWriteWorkspaceProvisioner implements WorkspaceProvisioner {
+
+	private static final Logger logger = LoggerFactory.getLogger(CopyOnWriteWorkspaceProvisioner.class);
+
+	private final Path workspaceRoot;
+
+	private final List<WorkspaceStrategy> strategies;
+
+	private final Duration commandTimeout;
+
+	private final ProcessRunner processRunner = new ProcessRunner();
+
+	private CopyOnWriteWorkspaceProvisioner(Builder builder) {
+		this.workspaceRoot = builder.workspaceRoot;
+		this.strategies = List.copyOf(builder.strategies);
+		this.commandTimeout = builder.commandTimeout;
+	}
+
+	/**
+	 * Create a new builder.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public Workspace provision(Path base) throws IOException {
+		return provision(directory(base), this.strategies);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * {@link WorkspaceStrategy#GIT_WORKTREE} records the base directory as a commit,
+	 * including uncommitted and untracked changes, and only adds the worktree when the
+	 * workspace is needed. The other strategies create the workspace right away.
+	 * </p>
+	 */
+	@Override
+	public WorkspaceSnapshot snapshot(Path base) throws IOException {
+		Path source = directory(base);
+		List<IOException> failures = new ArrayList<>();
+		for (WorkspaceStrategy strategy : this.strategies) {
+			try {
+				if (strategy == WorkspaceStrategy.GIT_WORKTREE) {
+					String commit = commitSnapshot(source);
+					logger.debug("Recorded snapshot {} of {}", commit, source);
+					return new WorkspaceSnapshot(source, () -> provisionWorktree(source, commit));
+				}
+				return new WorkspaceSnapshot(provision(source, List.of(strategy)));
+			}
+			catch (IOException ex) {
+				logger.debug("Could not snapshot {} by {}: {}", source, strategy, ex.getMessage());
+				failures.add(ex);
+				if (ex instanceof InterruptedIOException) {
+					break;
+				}
+			}
+		}
+		IOException failure = new IOException("Failed to snapshot " + source);
+		failures.forEach(failure::addSuppressed);
+		throw failure;
+	}
+
+	private static Path directory(Path base) throws IOException {
+		Path source = base.toAbsolutePath().normalize();
+		if (!Files.isDirectory(source)) {
+			throw new IOException("Workspace base is not a directory: " + source);
+		}
+		return source;
+	}
+
+	private Workspace provision(Path source, List<WorkspaceStrategy> strategies) throws IOException {
+		Files.createDirectories(this.workspaceRoot);
+		Path path = Files.createTempDirectory(this.workspaceRoot, "agent-workspace-");
+
+		List<IOException> failures = new ArrayList<>();
+		for (WorkspaceStrategy strategy : strategies) {
+			try {
+				Workspace workspace = create(strategy, source, path);
+				logger.debug("Provisioned workspace {} from {} by {}", path, source, strategy);
+				return workspace;
+			}
+			catch (IOException ex) {
+				logger.debug("Could not provision workspace from {} by {}: {}", source, strategy, ex.getMessage());
+				failures.add(ex);
+				if (ex instanceof InterruptedIOException) {
+					break;
+				}
+				// Start the next strategy from an empty directory
+				WorkspaceCopies.delete(path);
+				Files.createDirectory(path);
+			}
+		}
+		WorkspaceCopies.delete(path);
+		IOException failure = new IOException("Failed to provision a workspace from " + source);
+		failures.forEach(failure::addSuppressed);
+		throw failure;
+	}
+
+	private Workspace create(WorkspaceStrategy strategy, Path base, Path path) throws IOException {
+		switch (strategy) {
+			case GIT_WORKTREE -> {
+				addWorktree(base, path);
+				return new Workspace(base, path, strategy, this::syncWorktree,
+						workspace -> removeWorktree(base, workspace));
+			}
+			case REFLINK -> run(base, "cp", "-a", "--reflink=always", base + "/.", path.toString());
+			case HARD_LINKS -> WorkspaceCopies.link(base, path);
+			case COPY -> WorkspaceCopies.copy(base, path);
+		}
+		return new Workspace(base, path, strategy, WorkspaceCopies::sync, WorkspaceCopies::delete);
+	}
+
+	private void addWorktree(Path base, Path path) throws IOException {
+		if (!Files.exists(base.resolve(".git"))) {
+			throw new IOException(base + " is not the top of a git repository");
+		}
+		// A stash commit captures uncommitted changes without touching the base
+		String stash = run(base, "git", "stash", "create").trim();
+		String revision = stash.isEmpty() ? "HEAD" : stash;
+		run(base, "git", "worktree", "add", "--detach", path.toString(), revision);
+
+		String untracked = run(base, "git", "ls-files", "--others", "--exclude-standard", "-z");
+		for (String name : untracked.split("\0")) {
+			if (name.isEmpty()) {
+				continue;
+			}
+			Path copy = path.resolve(name);
+			Files.createDirectories(copy.getParent());
+			Files.copy(base.resolve(name), copy, StandardCopyOption.COPY_ATTRIBUTES, LinkOption.NOFOLLOW_LINKS);
+		}
+	}
+
+	private String commitSnapshot(Path base) throws IOException {
+		if (!Files.exists(base.resolve(".git"))) {
+			throw new IOException(base + " is not the top of a git repository");
+		}
+		// Stage everything into a copy of the index, leaving the base index untouched
+		Path index = base.resolve(run(base, "git", "rev-parse", "--git-path", "index").trim());
+		Files.createDirectories(this.workspaceRoot);
+		Path snapshotIndex = Files.createTempFile(this.workspaceRoot, "agent-snapshot-", ".index");
+		try {
+			if (Files.exists(index)) {
+				Files.copy(index, snapshotIndex, StandardCopyOption.REPLACE_EXISTING);
+			}
+			else {
+				Files.delete(snapshotIndex);
+			}
+			Map<String, String> env = Map.of("GIT_INDEX_FILE", snapshotIndex.toString(), "GIT_AUTHOR_NAME", "agent",
+					"GIT_AUTHOR_EMAIL", "agent@localhost", "GIT_COMMITTER_NAME", "agent", "GIT_COMMITTER_EMAIL",
+					"agent@localhost");
+			run(base, env, "git", "add", "--all");
+			String tree = run(base, env, "git", "write-tree").trim();
+			List<String> command = new ArrayList<>(
+					List.of("git", "commit-tree", tree, "-m", "Agent workspace snapshot"));
+			if (hasHead(base)) {
+				command.addAll(List.of("-p", "HEAD"));
+			}
+			return run(base, env, command.toArray(String[]::new)).trim();
+		}
+		finally {
+			Files.deleteIfExists(snapshotIndex);
+			Files.deleteIfExists(Path.of(snapshotIndex + ".lock"));
+		}
+	}
+
+	private boolean hasHead(Path base) throws IOException {
+		try {
+			run(base, "git", "rev-parse", "--verify", "--quiet", "HEAD");
+			return true;
+		}
+		catch (InterruptedIOException ex) {
+			throw ex;
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	private Workspace provisionWorktree(Path base, String commit) throws IOException {
+		Files.createDirectories(this.workspaceRoot);
+		Path path = Files.createTempDirectory(this.workspaceRoot, "agent-workspace-");
+		try {
+			run(base, "git", "worktree", "add", "--detach", path.toString(), commit);
+		}
+		catch (IOException ex) {
+			WorkspaceCopies.delete(path);
+			throw ex;
+		}
+		logger.debug("Provisioned workspace {} from snapshot {} of {}", path, commit, base);
+		return new Workspace(base, path, WorkspaceStrategy.GIT_WORKTREE, this::syncWorktree,
+				workspace -> removeWorktree(base, workspace));
+	}
+
+	private void syncWorktree(Path path, Path base) throws IOException {
+		// Ignored files never reach the worktree, so they must not be removed from the base
+		Set<String> ignored = new HashSet<>(ignoredFiles(base));
+		ignored.addAll(ignoredFiles(path));
+		WorkspaceCopies.sync(path, base, ignored);
+	}
+
+	private List<String> ignoredFiles(Path directory) throws IOException {
+		String output = run(directory, "git", "ls-files", "--others", "--ignored", "--exclude-standard", "--directory",
+				"-z");
+		List<String> names = new ArrayList<>();
+		for (String name : output.split("\0")) {
+			if (!name.isEmpty()) {
+				// Wholly ignored directories are listed once, with a trailing slash
+				names.add(name.endsWith("/") ? name.substring(0, name.length() - 1) : name);
+			}
+		}
+		return names;
+	}
+
+	private void removeWorktree(Path base, Path path) throws IOException {
+		try {
+			run(base, "git", "worktree", "remove", "--force", path.toString());
+		}
+		catch (IOException ex) {
+			logger.debug("git worktree remove failed for {}, deleting it: {}", path, ex.getMessage());
+			WorkspaceCopies.delete(path);
+			run(base, "git", "worktree", "prune");
+		}
+	}
+
+	private String run(Path directory, String... command) throws IOException {
+		return run(directory, Map.of(), command);
+	}
+
+	private String run(Path directory, Map<String, String> env, String... command) throws IOException {
+		ProcessSpec spec = ProcessSpec.builder()
+			.command(command)
+			.directory(directory)
+			.env(env)
+			.timeout(this.commandTimeout)
+			.build();
+		try (ProcessRunResult result = this.processRunner.run(spec)) {
+			if (!result.isSuccess()) {
+				throw new IOException(String.join(" ", command) + " exited with code " + result.exitCode() + ": "
+						+ result.stderr().tail());
+			}
+			return result.stdout().asString();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while running " + command[0]);
+		}
+		catch (TimeoutException ex) {
+			throw new IOException(String.join(" ", command) + " timed out after " + this.commandTimeout, ex);
+		}
+	}
+
+	/**
+	 * Builder for {@link CopyOnWriteWorkspaceProvisioner}.
+	 */
+	public static final class Builder {
+
+		private Path workspaceRoot = Path.of(System.getProperty("java.io.tmpdir"));
+
+		private List<WorkspaceStrategy> strategies = List.of(WorkspaceStrategy.REFLINK,
+				WorkspaceStrategy.GIT_WORKTREE, WorkspaceStrategy.COPY);
+
+		private Duration commandTimeout = Duration.ofMinutes(2);
+
+		private Builder() {
+		}
+
+		/**
+		 * Set the directory workspaces are created in (default: the system temporary
+		 * directory).
+		 * @param workspaceRoot the directory for workspaces
+		 * @return this builder
+		 */
+		public Builder workspaceRoot(Path workspaceRoot) {
+			this.workspaceRoot = workspaceRoot;
+			return this;
+		}
+
+		/**
+		 * Set the strategies to try, in order (default: reflink, git worktree, copy).
+		 * @param strategies the strategies to try
+		 * @return this builder
+		 */
+		public Builder strategies(WorkspaceStrategy... strategies) {
+			this.strategies = List.of(strategies);
+			return this;
+		}
+
+		/**
+		 * Set how long a git or cp command may run (default: 2 minutes).
+		 * @param commandTimeout the command timeout
+		 * @return this builder
+		 */
+		public Builder commandTimeout(Duration commandTimeout) {
+			this.commandTimeout = commandTimeout;
+			return this;
+		}
+
+		/**
+		 * Build the CopyOnWriteWorkspaceProvisioner.
+		 * @return a new CopyOnWriteWorkspaceProvisioner
+		 * @throws IllegalStateException if no strategy, workspace root or positive timeout
+		 * is set
+		 */
+		public CopyOnWriteWorkspaceProvisioner build() {
+			if (this.workspaceRoot == null || this.strategies.isEmpty()) {
+				throw new IllegalStateException("workspaceRoot and at least one strategy must be set");
+			}
+			if (this.commandTimeout == null || this.commandTimeout.isZero() || this.commandTimeout.isNegative()) {
+				throw new IllegalStateException("commandTimeout must be positive");
+			}
+			return new CopyOnWriteWorkspaceProvisioner(this);
+		}
+
+	}
+
+}
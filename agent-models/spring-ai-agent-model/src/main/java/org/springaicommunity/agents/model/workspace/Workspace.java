@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.workspace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+
+/**
+ * An isolated copy of a base directory created by a {@link WorkspaceProvisioner}.
+ * Closing the workspace disposes of it; the base directory is only changed by
+ * {@link #copyBack()}.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class Workspace implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(Workspace.class);
+
+	private final Path base;
+
+	private final Path path;
+
+	private final WorkspaceStrategy strategy;
+
+	private final Synchronizer synchronizer;
+
+	private final Disposal disposal;
+
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	Workspace(Path base, Path path, WorkspaceStrategy strategy, Synchronizer synchronizer, Disposal disposal) {
+		this.base = base;
+		this.path = path;
+		this.strategy = strategy;
+		this.synchronizer = synchronizer;
+		this.disposal = disposal;
+	}
+
+	/**
+	 * Get the directory of this workspace.
+	 * @return the workspace directory
+	 */
+	public Path path() {
+		return this.path;
+	}
+
+	/**
+	 * Get the directory this workspace was created from.
+	 * @return the base directory
+	 */
+	public Path base() {
+		return this.base;
+	}
+
+	/**
+	 * Get how this workspace was created.
+	 * @return the strategy that created the workspace
+	 */
+	public WorkspaceStrategy strategy() {
+		return this.strategy;
+	}
+
+	/**
+	 * Create a copy of the request that runs in this workspace.
+	 * @param request the request to run
+	 * @return the request with this workspace as its working directory
+	 */
+	public AgentTaskRequest forRequest(AgentTaskRequest request) {
+		return new AgentTaskRequest(request.goal(), this.path, request.options(), request.outputSchema());
+	}
+
+	/**
+	 * Make the base directory match this workspace. Only files that differ are copied,
+	 * and files removed in the workspace are removed from the base. The {@code .git}
+	 * entry at the top of both directories is left alone, so commits made in a git
+	 * worktree stay on its detached HEAD rather than moving the base branch. A git
+	 * worktree never contains the files git ignores, so for
+	 * {@link WorkspaceStrategy#GIT_WORKTREE} workspaces ignored files are neither copied
+	 * nor removed.
+	 * @throws IOException if updating the base directory fails
+	 * @throws IllegalStateException if the workspace has been closed
+	 */
+	public void copyBack() throws IOException {
+		if (this.closed.get()) {
+			throw new IllegalStateException("Workspace " + this.path + " has been closed");
+		}
+		this.synchronizer.sync(this.path, this.base);
+	}
+
+	/**
+	 * Dispose of this workspace. Failures are logged, since a leftover workspace does not
+	 * affect the base directory.
+	 */
+	@Override
+	public void close() {
+		if (!this.closed.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			this.disposal.dispose(this.path);
+		}
+		catch (IOException ex) {
+			logger.warn("Failed to dispose of workspace {}", this.path, ex);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Workspace[" + this.path + " from " + this.base + " by " + this.strategy + "]";
+	}
+
+	/**
+	 * Makes a base directory match a workspace directory.
+	 */
+	@FunctionalInterface
+	interface Synchronizer {
+
+		void sync(Path path, Path base) throws IOException;
+
+	}
+
+	/**
+	 * Removes a workspace directory and whatever refers to it.
+	 */
+	@FunctionalInterface
+	interface Disposal {
+
+		void dispose(Path path) throws IOException;
+
+	}
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.workspace;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * File operations for giving runs their own copy of a working directory.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+final class WorkspaceCopies {
+
+	private static final String GIT_DIR = ".git";
+
+	private WorkspaceCopies() {
+		// Utility class - prevent instantiation
+	}
+
+	/**
+	 * Recursively copy a directory. Symbolic links are copied as links.
+	 * @param source the directory to copy
+	 * @param target the directory to create
+	 * @throws IOException if copying fails
+	 */
+	static void copy(Path source, Path target) throws IOException {
+		replicate(source, target, false);
+	}
+
+	/**
+	 * Recreate the directory tree of a directory with hard links to its files. Symbolic
+	 * links are copied as links.
+	 * @param source the directory to link
+	 * @param target the directory to create, on the same file system
+	 * @throws IOException if linking fails, for example across file systems
+	 */
+	static void link(Path source, Path target) throws IOException {
+		replicate(source, target, true);
+	}
+
+	private static void replicate(Path source, Path target, boolean link) throws IOException {
+		Files.walkFileTree(source, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Path copy = target.resolve(source.relativize(file).toString());
+				if (link && attrs.isRegularFile()) {
+					Files.createLink(copy, file);
+				}
+				else {
+					Files.copy(file, copy, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING,
+							LinkOption.NOFOLLOW_LINKS);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+	}
+
+	/**
+	 * Make a directory match another one, copying only files that differ and deleting
+	 * files that no longer exist. The {@code .git} entry at the top of either directory
+	 * is left alone, so a workspace never overwrites the repository of its base.
+	 * @param source the directory whose contents to take
+	 * @param target the directory to update
+	 * @throws IOException if deleting or copying fails
+	 */
+	static void sync(Path source, Path target) throws IOException {
+		sync(source, target, Set.of());
+	}
+
+	/**
+	 * Make a directory match another one like {@link #sync(Path, Path)}, leaving the
+	 * given paths alone on both sides: they are neither copied nor deleted.
+	 * @param source the directory whose contents to take
+	 * @param target the directory to update
+	 * @param excluded paths relative to either directory, separated by {@code /}; an
+	 * excluded directory excludes everything below it
+	 * @throws IOException if deleting or copying fails
+	 */
+	static void sync(Path source, Path target, Set<String> excluded) throws IOException {
+		Files.walkFileTree(source, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				if (isRootGit(source, dir) || isExcluded(source, dir, excluded)) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				Path copy = target.resolve(source.relativize(dir).toString());
+				if (!Files.isDirectory(copy, LinkOption.NOFOLLOW_LINKS)) {
+					delete(copy);
+					Files.createDirectories(copy);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				if (isRootGit(source, file) || isExcluded(source, file, excluded)) {
+					return FileVisitResult.CONTINUE;
+				}
+				Path copy = target.resolve(source.relativize(file).toString());
+				if (!isUnchanged(file, attrs, copy)) {
+					if (Files.isDirectory(copy, LinkOption.NOFOLLOW_LINKS)) {
+						delete(copy);
+					}
+					Files.copy(file, copy, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING,
+							LinkOption.NOFOLLOW_LINKS);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+
+		List<Path> removed = new ArrayList<>();
+		Files.walkFileTree(target, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+				if (isRootGit(target, dir) || isExcluded(target, dir, excluded)) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				if (!dir.equals(target) && !exists(source.resolve(target.relativize(dir).toString()))) {
+					removed.add(dir);
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+				if (!isRootGit(target, file) && !isExcluded(target, file, excluded)
+						&& !exists(source.resolve(target.relativize(file).toString()))) {
+					removed.add(file);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+		for (Path path : removed) {
+			delete(path);
+		}
+	}
+
+	private static boolean isUnchanged(Path file, BasicFileAttributes attrs, Path copy) throws IOException {
+		if (!attrs.isRegularFile() || !Files.isRegularFile(copy, LinkOption.NOFOLLOW_LINKS)) {
+			return false;
+		}
+		// Hard-linked files that were not replaced are the same file
+		return Files.isSameFile(file, copy) || (attrs.size() == Files.size(copy) && Files.mismatch(file, copy) == -1);
+	}
+
+	private static boolean isRootGit(Path root, Path path) {
+		return path.getParent() != null && path.getParent().equals(root)
+				&& path.getFileName().toString().equals(GIT_DIR);
+	}
+
+	private static boolean isExcluded(Path root, Path path, Set<String> excluded) {
+		if (excluded.isEmpty()) {
+			return false;
+		}
+		return excluded.contains(root.relativize(path).toString().replace(File.separatorChar, '/'));
+	}
+
+	private static boolean exists(Path path) {
+		return Files.exists(path, LinkOption.NOFOLLOW_LINKS);
+	}
+
+	/**
+	 * Recursively delete a file or directory without following symbolic links.
+	 * @param path the path to delete
+	 * @throws IOException if deleting fails
+	 */
+	static void delete(Path path) throws IOException {
+		if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+			return;
+		}
+		Files.walkFileTree(path, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+				if (exc != null) {
+					throw exc;
+				}
+				Files.delete(dir);
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.workspace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Creates isolated workspaces from a base directory, so several agent runs can work on
+ * the same repository at the same time without seeing each other's changes.
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * try (Workspace workspace = provisioner.provision(repository)) {
+ *     AgentResponse response = agentModel.call(workspace.forRequest(request));
+ *     if (response.isSuccessful()) {
+ *         workspace.copyBack();
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ * @see CopyOnWriteWorkspaceProvisioner
+ */
+public interface WorkspaceProvisioner {
+
+	/**
+	 * Create a workspace holding the current contents of the base directory.
+	 * @param base the directory to start from
+	 * @return the new workspace, which must be closed to dispose of it
+	 * @throws IOException if the workspace cannot be created
+	 */
+	Workspace provision(Path base) throws IOException;
+
+	/**
+	 * Record the current contents of the base directory, to create a workspace from
+	 * later only if one is needed. The default implementation creates the workspace
+	 * right away.
+	 * @param base the directory to record
+	 * @return the snapshot, which must be closed to dispose of its workspace
+	 * @throws IOException if the snapshot cannot be taken
+	 */
+	default WorkspaceSnapshot snapshot(Path base) throws IOException {
+		return new WorkspaceSnapshot(provision(base));
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.workspace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The state of a base directory at one point in time, from which a {@link Workspace}
+ * can be created later, after the base directory has changed. Created by
+ * {@link WorkspaceProvisioner#snapshot(Path)}.
+ *
+ * <p>
+ * Depending on how it was taken, a snapshot either already holds its workspace or only
+ * records the state, for example as a git commit, and creates the workspace on
+ * {@link #provision()}. Closing the snapshot disposes of its workspace.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class WorkspaceSnapshot implements AutoCloseable {
+
+	private final Path base;
+
+	private final Materializer materializer;
+
+	private Workspace workspace;
+
+	private boolean closed;
+
+	/**
+	 * Create a snapshot whose workspace already exists.
+	 * @param workspace the workspace holding the snapshot
+	 */
+	WorkspaceSnapshot(Workspace workspace) {
+		this.base = workspace.base();
+		this.materializer = () -> workspace;
+		this.workspace = workspace;
+	}
+
+	/**
+	 * Create a snapshot whose workspace is created on first use.
+	 * @param base the directory the snapshot was taken of
+	 * @param materializer creates the workspace
+	 */
+	WorkspaceSnapshot(Path base, Materializer materializer) {
+		this.base = base;
+		this.materializer = materializer;
+	}
+
+	/**
+	 * Get the directory this snapshot was taken of.
+	 * @return the base directory
+	 */
+	public Path base() {
+		return this.base;
+	}
+
+	/**
+	 * Get the workspace holding the contents of the base directory at the time of the
+	 * snapshot, creating it on first use. The workspace is disposed of together with
+	 * the snapshot.
+	 * @return the workspace
+	 * @throws IOException if the workspace cannot be created
+	 * @throws IllegalStateException if the snapshot has been closed
+	 */
+	public synchronized Workspace provision() throws IOException {
+		if (this.closed) {
+			throw new IllegalStateException("Snapshot of " + this.base + " has been closed");
+		}
+		if (this.workspace == null) {
+			this.workspace = this.materializer.materialize();
+		}
+		return this.workspace;
+	}
+
+	/**
+	 * Check whether the workspace of this snapshot exists.
+	 * @return true if the workspace has been created
+	 */
+	public synchronized boolean isProvisioned() {
+		return this.workspace != null;
+	}
+
+	/**
+	 * Dispose of the workspace of this snapshot, if it was created.
+	 */
+	@Override
+	public synchronized void close() {
+		this.closed = true;
+		if (this.workspace != null) {
+			this.workspace.close();
+		}
+	}
+
+	/**
+	 * Creates the workspace of a snapshot.
+	 */
+	@FunctionalInterface
+	interface Materializer {
+
+		Workspace materialize() throws IOException;
+
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.workspace;
+
+/**
+ * How {@link CopyOnWriteWorkspaceProvisioner} creates a workspace from a base directory.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public enum WorkspaceStrategy {
+
+	/**
+	 * Check out a detached {@code git worktree} of the base repository at its current
+	 * state, including uncommitted changes and untracked files. Ignored files, such as
+	 * build output, are not carried over. Only applies when the base directory is the top
+	 * of a git repository.
+	 */
+	GIT_WORKTREE,
+
+	/**
+	 * Clone the base directory with {@code cp --reflink=always}. Files share storage until
+	 * either side writes to them. Requires GNU cp and a file system with reflink support
+	 * such as Btrfs or XFS, with the workspace on the same file system as the base.
+	 */
+	REFLINK,
+
+	/**
+	 * Recreate the directory tree and hard-link every file. Creating the workspace only
+	 * costs metadata, but a tool that writes a file in place rather than replacing it
+	 * also changes the file in the base directory. Only use this when the agent's tools
+	 * write files by replacing them. Requires the workspace to be on the same file system
+	 * as the base.
+	 */
+	HARD_LINKS,
+
+	/**
+	 * Copy every file. Works everywhere and costs time and space proportional to the size
+	 * of the base directory.
+	 */
+	COPY
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.model;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AgentEvent} and the event stream of {@link StreamingAgentModel}.
+ *
+ * @author Spring AI Community
+ */
+class AgentEventTest {
+
+	@Test
+	void finalResponseBecomesTextUsageAndCompletion() {
+		AgentResponse response = new AgentResponse(
+				List.of(new AgentGeneration("Fixed it", new AgentGenerationMetadata("SUCCESS", Map.of()))),
+				AgentResponseMetadata.builder()
+					.sessionId("session-1")
+					.duration(Duration.ofSeconds(3))
+					.usage(AgentUsage.of(100, 20))
+					.build());
+
+		assertThat(AgentEvent.of(response)).containsExactly(new AgentEvent.TextDelta("Fixed it"),
+				new AgentEvent.Usage(AgentUsage.of(100, 20)),
+				new AgentEvent.Completed("SUCCESS", "session-1", Duration.ofSeconds(3)));
+	}
+
+	@Test
+	void streamingStepBecomesTextOnly() {
+		AgentResponse response = new AgentResponse(
+				List.of(new AgentGeneration("Looking", new AgentGenerationMetadata("STREAMING", Map.of()))),
+				new AgentResponseMetadata());
+
+		assertThat(AgentEvent.of(response)).containsExactly(new AgentEvent.TextDelta("Looking"));
+	}
+
+	@Test
+	void failedResponseBecomesError() {
+		AgentResponse response = new AgentResponse(
+				List.of(new AgentGeneration("CLI not found", new AgentGenerationMetadata("ERROR", Map.of()))),
+				new AgentResponseMetadata());
+
+		assertThat(AgentEvent.of(response)).containsExactly(new AgentEvent.Error("CLI not found", null));
+	}
+
+	@Test
+	void defaultEventStreamReportsFailureAsLastEvent() {
+		IllegalStateException failure = new IllegalStateException("boom");
+		StreamingAgentModel model = request -> Flux.concat(
+				Flux.just(new AgentResponse(
+						List.of(new AgentGeneration("step", new AgentGenerationMetadata("STREAMING", Map.of()))))),
+				Flux.error(failure));
+
+		List<AgentEvent> events = model.streamEvents(new AgentTaskRequest("goal", null, null)).collectList().block();
+
+		assertThat(events).containsExactly(new AgentEvent.TextDelta("step"), new AgentEvent.Error("boom", failure));
+	}
+
+	@Test
+	void blockingModelAdaptsToEventStream() {
+		AgentModel blocking = request -> new AgentResponse(
+				List.of(new AgentGeneration(request.goal(), new AgentGenerationMetadata("SUCCESS", Map.of()))));
+
+		List<AgentEvent> events = StreamingAgentModel.from(blocking)
+			.streamEvents(new AgentTaskRequest("done", null, null))
+			.collectList()
+			.block();
+
+		assertThat(events).containsExactly(new AgentEvent.TextDelta("done"),
+				new AgentEvent.Completed("SUCCESS", null, Duration.ZERO));
+	}
+
+}
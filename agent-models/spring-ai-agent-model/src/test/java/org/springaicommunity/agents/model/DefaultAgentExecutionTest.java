@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link DefaultAgentExecution} and {@link AgentModel#submit}.
+ *
+ * @author Spring AI Community
+ */
+class DefaultAgentExecutionTest {
+
+	private final AgentTaskRequest request = AgentTaskRequest.builder("Fix the build", Path.of(".")).build();
+
+	@Test
+	void submitCompletesWithResponse() throws TimeoutException {
+		AgentModel model = request -> new AgentResponse(
+				List.of(new AgentGeneration("done", new AgentGenerationMetadata("SUCCESS", Map.of()))));
+
+		AgentExecution execution = model.submit(this.request);
+
+		assertThat(execution.await(Duration.ofSeconds(5)).getResult().getOutput()).isEqualTo("done");
+		assertThat(execution.isDone()).isTrue();
+		assertThat(execution.cancel()).isFalse();
+		assertThat(execution.isCancelled()).isFalse();
+	}
+
+	@Test
+	void cancelInterruptsRunAndWaitsForIt() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean interrupted = new AtomicBoolean();
+		AgentModel model = request -> {
+			started.countDown();
+			try {
+				Thread.sleep(60_000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.set(true);
+			}
+			return null;
+		};
+
+		AgentExecution execution = model.submit(this.request);
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(execution.cancel()).isTrue();
+		assertThat(interrupted).isTrue();
+		assertThat(execution.isCancelled()).isTrue();
+		assertThatThrownBy(execution::await).isInstanceOf(CancellationException.class);
+	}
+
+	@Test
+	void cancelRunsRegisteredCallbacks() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean closed = new AtomicBoolean();
+		DefaultAgentExecution execution = DefaultAgentExecution.start(this.request, (req, exec) -> {
+			exec.onCancel(() -> closed.set(true));
+			started.countDown();
+			// Simulate a client that ignores interrupts until it is closed
+			while (!closed.get()) {
+				Thread.onSpinWait();
+			}
+			return null;
+		}, command -> new Thread(command).start());
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(execution.cancel()).isTrue();
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void awaitTimesOutWithoutCancelling() {
+		AgentModel model = request -> {
+			try {
+				Thread.sleep(60_000);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		};
+
+		AgentExecution execution = model.submit(this.request);
+
+		assertThatThrownBy(() -> execution.await(Duration.ofMillis(50))).isInstanceOf(TimeoutException.class);
+		assertThat(execution.isDone()).isFalse();
+		execution.cancel();
+	}
+
+	@Test
+	void failureCompletesExceptionally() {
+		AgentModel model = request -> {
+			throw new IllegalStateException("CLI crashed");
+		};
+
+		AgentExecution execution = model.submit(this.request);
+
+		assertThatThrownBy(() -> execution.await(Duration.ofSeconds(5))).isInstanceOf(IllegalStateException.class)
+			.hasMessage("CLI crashed");
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.hedging;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.agents.model.AgentGeneration;
+import org.springaicommunity.agents.model.AgentGenerationMetadata;
+import org.springaicommunity.agents.model.AgentModel;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link HedgingAgentModel}.
+ *
+ * @author Spring AI Community
+ */
+class HedgingAgentModelTest {
+
+	@TempDir
+	Path workspace;
+
+	@Test
+	void fastPrimaryIsNotHedged() {
+		AgentModel backup = request -> {
+			throw new AssertionError("backup must not run");
+		};
+		HedgingAgentModel model = HedgingAgentModel.builder(request -> response("SUCCESS", "primary"))
+			.backup(backup)
+			.hedgeDelay(Duration.ofSeconds(5))
+			.build();
+
+		AgentResponse response = model.call(AgentTaskRequest.builder("Fix the build", this.workspace).build());
+
+		assertThat(response.getResult().getOutput()).isEqualTo("primary");
+		assertThat((String) response.getMetadata().get(HedgingAgentModel.WINNER_KEY)).isEqualTo("primary");
+		assertThat((Boolean) response.getMetadata().get(HedgingAgentModel.HEDGED_KEY)).isFalse();
+	}
+
+	@Test
+	void slowPrimaryIsCancelledAndBackupWorkspaceIsCopiedBack() throws Exception {
+		Files.writeString(this.workspace.resolve("input.txt"), "original");
+		CountDownLatch primaryInterrupted = new CountDownLatch(1);
+		AgentModel slow = request -> {
+			write(request.workingDirectory().resolve("primary.txt"), "partial");
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				primaryInterrupted.countDown();
+			}
+			return response("SUCCESS", "primary");
+		};
+		AgentModel fast = request -> {
+			assertThat(request.workingDirectory()).isNotEqualTo(this.workspace);
+			assertThat(request.workingDirectory().resolve("input.txt")).hasContent("original");
+			write(request.workingDirectory().resolve("backup.txt"), "done");
+			return response("SUCCESS", "backup");
+		};
+		HedgingAgentModel model = HedgingAgentModel.builder(slow)
+			.backup(fast)
+			.hedgeDelay(Duration.ofMillis(50))
+			.build();
+
+		AgentResponse response = model.call(AgentTaskRequest.builder("Fix the build", this.workspace).build());
+
+		assertThat(response.getResult().getOutput()).isEqualTo("backup");
+		assertThat((Boolean) response.getMetadata().get(HedgingAgentModel.HEDGED_KEY)).isTrue();
+		assertThat(primaryInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.workspace.resolve("backup.txt")).hasContent("done");
+		assertThat(this.workspace.resolve("input.txt")).hasContent("original");
+		assertThat(this.workspace.resolve("primary.txt")).doesNotExist();
+	}
+
+	@Test
+	void failedFirstRunWaitsForTheOther() {
+		AgentModel slowButWorking = request -> {
+			sleep(200);
+			return response("SUCCESS", "primary");
+		};
+		AgentModel failing = request -> response("ERROR", "backup");
+		HedgingAgentModel model = HedgingAgentModel.builder(slowButWorking)
+			.backup(failing)
+			.hedgeDelay(Duration.ofMillis(20))
+			.copyWorkspace(false)
+			.build();
+
+		AgentResponse response = model.call(AgentTaskRequest.builder("Fix the build", this.workspace).build());
+
+		assertThat(response.getResult().getOutput()).isEqualTo("primary");
+		assertThat((Boolean) response.getMetadata().get(HedgingAgentModel.HEDGED_KEY)).isTrue();
+	}
+
+	@Test
+	void errorIsRethrownWhenBothRunsFail() {
+		AgentModel broken = request -> {
+			sleep(50);
+			throw new IllegalStateException("CLI crashed");
+		};
+		HedgingAgentModel model = HedgingAgentModel.builder(broken)
+			.hedgeDelay(Duration.ofMillis(10))
+			.copyWorkspace(false)
+			.build();
+
+		assertThatThrownBy(() -> model.call(AgentTaskRequest.builder("Fix the build", this.workspace).build()))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("CLI crashed");
+	}
+
+	@Test
+	void hedgeDelayIsLearnedFromRecentLatencies() {
+		HedgingAgentModel model = HedgingAgentModel.builder(request -> {
+			sleep(20);
+			return response("SUCCESS", "primary");
+		})
+			.hedgeAtPercentile(0.9, Duration.ofSeconds(10))
+			.latencyWindow(10, 3)
+			.copyWorkspace(false)
+			.build();
+		AgentTaskRequest request = AgentTaskRequest.builder("Fix the build", this.workspace).build();
+
+		assertThat(model.getHedgeDelay()).isEqualTo(Duration.ofSeconds(10));
+		for (int i = 0; i < 3; i++) {
+			model.call(request);
+		}
+
+		assertThat(model.getHedgeDelay()).isBetween(Duration.ofMillis(20), Duration.ofSeconds(5));
+	}
+
+	@Test
+	void learnedHedgeDelayCountsFromThePrimaryStart() {
+		AgentModel slow = request -> {
+			sleep(10_000);
+			return response("SUCCESS", "primary");
+		};
+		HedgingAgentModel model = HedgingAgentModel.builder(slow)
+			.backup(request -> response("SUCCESS", "backup"))
+			.hedgeAtPercentile(0.5, Duration.ofMillis(100))
+			.latencyWindow(10, 3)
+			.copyWorkspace(false)
+			.build();
+		AgentTaskRequest request = AgentTaskRequest.builder("Fix the build", this.workspace).build();
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(model.call(request).getResult().getOutput()).isEqualTo("backup");
+		}
+
+		assertThat(model.getHedgeDelay()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+	}
+
+	@Test
+	void builderRejectsInvalidPercentile() {
+		assertThatThrownBy(() -> HedgingAgentModel.builder(request -> null)
+			.hedgeAtPercentile(1.5, Duration.ofSeconds(1))
+			.build()).isInstanceOf(IllegalStateException.class);
+	}
+
+	private static AgentResponse response(String finishReason, String output) {
+		return new AgentResponse(
+				List.of(new AgentGeneration(output, new AgentGenerationMetadata(finishReason, Map.of()))));
+	}
+
+	private static void write(Path file, String content) {
+		try {
+			Files.writeString(file, content);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.observation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springaicommunity.agents.model.AgentGeneration;
+import org.springaicommunity.agents.model.AgentGenerationMetadata;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentResponseMetadata;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for agent model observations.
+ *
+ * @author Mark Pollack
+ */
+class AgentModelObservationTests {
+
+	private final DefaultAgentModelObservationConvention convention = new DefaultAgentModelObservationConvention();
+
+	private final AgentTaskRequest request = AgentTaskRequest.builder("Fix the build", Path.of("/tmp")).build();
+
+	@Test
+	void lowCardinalityKeyValuesForSuccessfulCall() {
+		AgentModelObservationContext context = new AgentModelObservationContext(this.request, "claude");
+		context.setResponse(response("SUCCESS", "claude-sonnet"));
+
+		assertThat(this.convention.getName()).isEqualTo("agent.model.call");
+		assertThat(this.convention.getContextualName(context)).isEqualTo("agent claude");
+		assertThat(this.convention.getLowCardinalityKeyValues(context)).containsExactlyInAnyOrder(
+				KeyValue.of("agent.provider", "claude"), KeyValue.of("agent.model", "claude-sonnet"),
+				KeyValue.of("agent.outcome", "success"));
+	}
+
+	@Test
+	void lowCardinalityKeyValuesForFailedCall() {
+		AgentModelObservationContext context = new AgentModelObservationContext(this.request, "gemini");
+		context.setResponse(response("ERROR", ""));
+
+		assertThat(this.convention.getLowCardinalityKeyValues(context)).contains(
+				KeyValue.of("agent.model", KeyValue.NONE_VALUE), KeyValue.of("agent.outcome", "failure"));
+	}
+
+	@Test
+	void lowCardinalityKeyValuesForException() {
+		AgentModelObservationContext context = new AgentModelObservationContext(this.request, "codex");
+		context.setError(new IllegalStateException("CLI not found"));
+
+		assertThat(this.convention.getLowCardinalityKeyValues(context))
+			.contains(KeyValue.of("agent.outcome", "error"));
+	}
+
+	@Test
+	void phasesAreRecordedOnce() {
+		AgentModelObservationContext context = new AgentModelObservationContext(this.request, "claude");
+		assertThat(context.getCliSpawnTime()).isEmpty();
+		assertThat(context.getTimeToFirstOutput()).isEmpty();
+
+		context.markCliSpawned();
+		Duration spawn = context.getCliSpawnTime().orElseThrow();
+		context.markCliSpawned();
+
+		assertThat(context.getCliSpawnTime()).contains(spawn);
+	}
+
+	@Test
+	void phaseHandlerRecordsTimersWithCallTags() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig()
+			.observationHandler(new DefaultMeterObservationHandler(meterRegistry))
+			.observationHandler(new AgentModelPhaseObservationHandler(meterRegistry));
+
+		AgentResponse response = AgentModelObservations.observe(observationRegistry, null, this.request, "claude",
+				context -> {
+					context.markCliSpawned();
+					context.markFirstOutput();
+					return response("SUCCESS", "claude-sonnet");
+				});
+
+		assertThat(response.isSuccessful()).isTrue();
+		assertThat(meterRegistry.get("agent.model.call").tag("agent.outcome", "success").timer().count())
+			.isEqualTo(1);
+		Timer spawn = meterRegistry.get(AgentModelPhaseObservationHandler.CLI_SPAWN_TIMER)
+			.tag("agent.provider", "claude")
+			.tag("agent.model", "claude-sonnet")
+			.timer();
+		assertThat(spawn.count()).isEqualTo(1);
+		assertThat(meterRegistry.get(AgentModelPhaseObservationHandler.FIRST_OUTPUT_TIMER).timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	void phaseHandlerSkipsPhasesThatWereNotMarked() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig()
+			.observationHandler(new AgentModelPhaseObservationHandler(meterRegistry));
+
+		AgentModelObservationContext context = new AgentModelObservationContext(this.request, "amp");
+		Observation.createNotStarted(this.convention, () -> context, observationRegistry).start().stop();
+
+		assertThat(meterRegistry.find(AgentModelPhaseObservationHandler.CLI_SPAWN_TIMER).timer()).isNull();
+		assertThat(meterRegistry.find(AgentModelPhaseObservationHandler.FIRST_OUTPUT_TIMER).timer()).isNull();
+	}
+
+	private static AgentResponse response(String finishReason, String model) {
+		AgentGeneration generation = new AgentGeneration("done", new AgentGenerationMetadata(finishReason, Map.of()));
+		return new AgentResponse(List.of(generation),
+				new AgentResponseMetadata(model, Duration.ofSeconds(1), "session-1", Map.of()));
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.process;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CgroupResourceLimiter}, using a directory that mimics a cgroup v2
+ * parent.
+ *
+ * @author Spring AI Community
+ */
+class CgroupResourceLimiterTest {
+
+	@TempDir
+	Path parent;
+
+	@Test
+	void openAppliesPolicyAndEnablesControllers() throws IOException {
+		Files.writeString(this.parent.resolve("cgroup.controllers"), "cpuset cpu io memory pids\n");
+		Files.writeString(this.parent.resolve("cgroup.subtree_control"), "");
+		CgroupResourceLimiter limiter = new CgroupResourceLimiter(this.parent);
+
+		CgroupResourceLimiter.Group group = limiter
+			.open(ResourcePolicy.builder().cpus(1.5).memoryMegabytes(512).maxProcesses(64).build());
+
+		assertThat(group.isEnforced()).isTrue();
+		Path path = groupDirectory();
+		assertThat(path.resolve("cpu.max")).hasContent("150000 100000");
+		assertThat(path.resolve("memory.max")).hasContent(String.valueOf(512L * 1024 * 1024));
+		assertThat(path.resolve("pids.max")).hasContent("64");
+		// A regular file keeps only the last write, a cgroup file accumulates them
+		assertThat(this.parent.resolve("cgroup.subtree_control")).hasContent("+io");
+	}
+
+	@Test
+	void wrapMovesShellIntoGroupBeforeExecutingCommand() throws IOException {
+		Files.writeString(this.parent.resolve("cgroup.controllers"), "cpu memory pids\n");
+		Files.writeString(this.parent.resolve("cgroup.subtree_control"), "cpu memory pids\n");
+		CgroupResourceLimiter.Group group = new CgroupResourceLimiter(this.parent)
+			.open(ResourcePolicy.builder().maxProcesses(64).build());
+
+		List<String> wrapped = group.wrap(List.of("gemini", "--prompt", "it's done"));
+
+		assertThat(wrapped).containsExactly("/bin/sh", "-c", "echo $$ > \"$0\" && exec \"$@\"",
+				groupDirectory().resolve("cgroup.procs").toString(), "gemini", "--prompt", "it's done");
+	}
+
+	@Test
+	void usageIsReadFromGroupStatistics() throws IOException {
+		Files.writeString(this.parent.resolve("memory.peak"), "73400320\n");
+		Files.writeString(this.parent.resolve("cpu.stat"),
+				"usage_usec 2500000\nuser_usec 2000000\nsystem_usec 500000\n");
+		Files.writeString(this.parent.resolve("io.stat"),
+				"8:0 rbytes=1024 wbytes=4096 rios=1 wios=2 dbytes=0 dios=0\n"
+						+ "8:16 rbytes=1000 wbytes=0 rios=3 wios=0 dbytes=0 dios=0\n");
+
+		ResourceUsage usage = CgroupResourceLimiter.readUsage(this.parent);
+
+		assertThat(usage).isEqualTo(new ResourceUsage(73400320L, Duration.ofMillis(2500), 2024, 4096));
+	}
+
+	@Test
+	void peakMemoryIsAbsentWithoutMemoryController() {
+		assertThat(CgroupResourceLimiter.readUsage(this.parent))
+			.isEqualTo(new ResourceUsage(null, Duration.ZERO, 0, 0));
+	}
+
+	@Test
+	void runsWithoutLimitsAreAccountedButNotLimited() throws IOException {
+		Files.writeString(this.parent.resolve("cgroup.controllers"), "cpu memory pids\n");
+		Files.writeString(this.parent.resolve("cgroup.subtree_control"), "cpu memory pids\n");
+		CgroupResourceLimiter limiter = new CgroupResourceLimiter(this.parent);
+
+		CgroupResourceLimiter.Group group = limiter.open(ResourcePolicy.UNLIMITED);
+
+		assertThat(group.isEnforced()).isTrue();
+		assertThat(group.wrap(List.of("mini", "task"))).startsWith("/bin/sh").endsWith("mini", "task");
+		assertThat(group.usage()).isNotNull();
+		try (Stream<Path> files = Files.list(groupDirectory())) {
+			assertThat(files).isEmpty();
+		}
+		group.close();
+		assertThat(limiter.open(null).isEnforced()).isTrue();
+	}
+
+	@Test
+	void runsAreOnlyAccountedWhenNeededControllerIsNotEnabled() throws IOException {
+		// As in the JVM's own cgroup, where enabling controllers fails with EBUSY
+		Files.writeString(this.parent.resolve("cgroup.controllers"), "cpu pids\n");
+		Files.writeString(this.parent.resolve("cgroup.subtree_control"), "cpu pids\n");
+		CgroupResourceLimiter limiter = new CgroupResourceLimiter(this.parent);
+
+		CgroupResourceLimiter.Group group = limiter.open(ResourcePolicy.builder().memoryMegabytes(256).build());
+
+		assertThat(limiter.isAvailable()).isTrue();
+		assertThat(group.isEnforced()).isTrue();
+		assertThat(groupDirectory().resolve("memory.max")).doesNotExist();
+		assertThat(group.usage()).isNotNull();
+	}
+
+	@Test
+	void detectRequiresConfiguredParent() {
+		String configured = System.getProperty(CgroupResourceLimiter.PARENT_PROPERTY);
+		System.clearProperty(CgroupResourceLimiter.PARENT_PROPERTY);
+		try {
+			assertThat(CgroupResourceLimiter.detect().isAvailable()).isFalse();
+		}
+		finally {
+			if (configured != null) {
+				System.setProperty(CgroupResourceLimiter.PARENT_PROPERTY, configured);
+			}
+		}
+	}
+
+	@Test
+	void runsAreUnconstrainedWithoutCgroupV2() {
+		CgroupResourceLimiter limiter = new CgroupResourceLimiter(this.parent);
+
+		CgroupResourceLimiter.Group group = limiter.open(ResourcePolicy.builder().memoryMegabytes(256).build());
+
+		assertThat(limiter.isAvailable()).isFalse();
+		assertThat(group.isEnforced()).isFalse();
+		assertThat(group.wrap(List.of("mini", "task"))).containsExactly("mini", "task");
+		assertThat(group.usage()).isNull();
+		group.close();
+	}
+
+	@Test
+	void policyRejectsNonPositiveLimits() {
+		assertThatThrownBy(() -> ResourcePolicy.builder().cpus(0).build())
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(ResourcePolicy.UNLIMITED.isUnlimited()).isTrue();
+	}
+
+	private Path groupDirectory() throws IOException {
+		try (Stream<Path> children = Files.list(this.parent)) {
+			return children.filter(Files::isDirectory).findFirst().orElseThrow();
+		}
+	}
+
+}
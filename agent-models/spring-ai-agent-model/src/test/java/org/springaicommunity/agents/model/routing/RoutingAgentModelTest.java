@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.routing;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springaicommunity.agents.model.AgentGeneration;
+import org.springaicommunity.agents.model.AgentGenerationMetadata;
+import org.springaicommunity.agents.model.AgentModel;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link RoutingAgentModel}.
+ *
+ * @author Spring AI Community
+ */
+class RoutingAgentModelTest {
+
+	private final AgentTaskRequest request = AgentTaskRequest.builder("Fix the build", Path.of(".")).build();
+
+	@Test
+	void routesToFastestModelOnceSampled() {
+		StubModel slow = new StubModel("SUCCESS", Duration.ofMillis(30));
+		StubModel fast = new StubModel("SUCCESS", Duration.ZERO);
+		RoutingAgentModel router = RoutingAgentModel.builder().model("slow", slow).model("fast", fast).build();
+
+		assertThat(routedModel(router.call(this.request))).isEqualTo("slow");
+		assertThat(routedModel(router.call(this.request))).isEqualTo("fast");
+		assertThat(routedModel(router.call(this.request))).isEqualTo("fast");
+
+		assertThat(slow.calls).isEqualTo(1);
+		assertThat(router.getStats().get("fast").latency()).isLessThan(router.getStats().get("slow").latency());
+	}
+
+	@Test
+	void breakerOpensAfterRepeatedFailuresAndClosesAfterProbe() {
+		MutableClock clock = new MutableClock();
+		StubModel flaky = new StubModel("ERROR", Duration.ZERO);
+		StubModel backup = new StubModel("SUCCESS", Duration.ofMillis(5));
+		RoutingAgentModel router = RoutingAgentModel.builder()
+			.model("flaky", flaky)
+			.model("backup", backup)
+			.failureThreshold(2)
+			.openDuration(Duration.ofSeconds(30))
+			.clock(clock)
+			.build();
+
+		// Sample both models, then flaky is the faster one until its breaker opens
+		router.call(this.request);
+		router.call(this.request);
+		router.call(this.request);
+		assertThat(router.getStats().get("flaky").state()).isEqualTo(CircuitState.OPEN);
+
+		router.call(this.request);
+		router.call(this.request);
+		assertThat(flaky.calls).isEqualTo(2);
+
+		clock.advance(Duration.ofSeconds(31));
+		flaky.finishReason = "SUCCESS";
+		assertThat(routedModel(router.call(this.request))).isEqualTo("flaky");
+		assertThat(router.getStats().get("flaky").state()).isEqualTo(CircuitState.CLOSED);
+		assertThat(router.getStats().get("flaky").consecutiveFailures()).isZero();
+	}
+
+	@Test
+	void unavailableModelIsSkippedAndOpened() {
+		StubModel offline = new StubModel("SUCCESS", Duration.ZERO);
+		offline.available = false;
+		StubModel online = new StubModel("SUCCESS", Duration.ZERO);
+		RoutingAgentModel router = RoutingAgentModel.builder()
+			.model("offline", offline)
+			.model("online", online)
+			.build();
+
+		assertThat(routedModel(router.call(this.request))).isEqualTo("online");
+		assertThat(offline.calls).isZero();
+		assertThat(router.getStats().get("offline").state()).isEqualTo(CircuitState.OPEN);
+	}
+
+	@Test
+	void failsOverToNextModelWhenAllowed() {
+		AgentModel broken = request -> {
+			throw new IllegalStateException("CLI crashed");
+		};
+		StubModel healthy = new StubModel("SUCCESS", Duration.ZERO);
+		RoutingAgentModel router = RoutingAgentModel.builder()
+			.model("broken", broken)
+			.model("healthy", healthy)
+			.maxAttempts(2)
+			.build();
+
+		assertThat(routedModel(router.call(this.request))).isEqualTo("healthy");
+		assertThat(router.getStats().get("broken").errorRate()).isGreaterThan(0);
+	}
+
+	@Test
+	void failsWhenEveryBreakerIsOpen() {
+		AgentModel broken = request -> {
+			throw new IllegalStateException("CLI crashed");
+		};
+		RoutingAgentModel router = RoutingAgentModel.builder().model("broken", broken).failureThreshold(1).build();
+
+		assertThatThrownBy(() -> router.call(this.request)).hasMessage("CLI crashed");
+		assertThatThrownBy(() -> router.call(this.request)).isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("all circuit breakers are open");
+		assertThat(router.isAvailable()).isFalse();
+	}
+
+	private static String routedModel(AgentResponse response) {
+		return response.getMetadata().get(RoutingAgentModel.ROUTED_MODEL_KEY);
+	}
+
+	private static final class StubModel implements AgentModel {
+
+		private final Duration latency;
+
+		private volatile String finishReason;
+
+		private volatile boolean available = true;
+
+		private int calls;
+
+		StubModel(String finishReason, Duration latency) {
+			this.finishReason = finishReason;
+			this.latency = latency;
+		}
+
+		@Override
+		public AgentResponse call(AgentTaskRequest request) {
+			this.calls++;
+			try {
+				Thread.sleep(this.latency.toMillis());
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return new AgentResponse(
+					List.of(new AgentGeneration("done", new AgentGenerationMetadata(this.finishReason, Map.of()))));
+		}
+
+		@Override
+		public boolean isAvailable() {
+			return this.available;
+		}
+
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("UTC");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.sandbox;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.sandbox.LocalSandbox;
+import org.springaicommunity.sandbox.Sandbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SandboxPool}.
+ *
+ * @author Spring AI Community
+ */
+class SandboxPoolTest {
+
+	@TempDir
+	Path tempDir;
+
+	private final List<Sandbox> created = new CopyOnWriteArrayList<>();
+
+	private SandboxPool pool;
+
+	@AfterEach
+	void tearDown() {
+		if (this.pool != null) {
+			this.pool.close();
+		}
+	}
+
+	@Test
+	void prewarmsIdleSandboxes() {
+		this.pool = SandboxPool.builder(this::newSandbox).minIdle(2).maxSize(4).build();
+
+		awaitTrue(() -> this.pool.getIdleCount() == 2);
+		assertThat(this.created).hasSize(2);
+	}
+
+	@Test
+	void concurrentLeasesGetSeparateSandboxesUpToMaxSize() throws Exception {
+		this.pool = SandboxPool.builder(this::newSandbox)
+			.minIdle(0)
+			.maxSize(2)
+			.borrowTimeout(Duration.ofMillis(100))
+			.build();
+
+		try (SandboxPool.Lease first = this.pool.borrow(); SandboxPool.Lease second = this.pool.borrow()) {
+			assertThat(first.sandbox()).isNotSameAs(second.sandbox());
+			assertThatThrownBy(this.pool::borrow).isInstanceOf(TimeoutException.class);
+		}
+		assertThat(this.pool.getIdleCount()).isEqualTo(2);
+	}
+
+	@Test
+	void returnedSandboxIsResetAndReused() throws Exception {
+		AtomicInteger resets = new AtomicInteger();
+		this.pool = SandboxPool.builder(this::newSandbox)
+			.minIdle(0)
+			.maxSize(1)
+			.reset(sandbox -> resets.incrementAndGet())
+			.build();
+
+		Sandbox first;
+		try (SandboxPool.Lease lease = this.pool.borrow()) {
+			first = lease.sandbox();
+		}
+		try (SandboxPool.Lease lease = this.pool.borrow()) {
+			assertThat(lease.sandbox()).isSameAs(first);
+		}
+		assertThat(resets).hasValue(2);
+		assertThat(this.created).hasSize(1);
+	}
+
+	@Test
+	void sandboxesFailingHealthCheckOrResetAreReplaced() throws Exception {
+		this.pool = SandboxPool.builder(this::newSandbox)
+			.minIdle(0)
+			.maxSize(1)
+			.healthCheck(SandboxPool.execProbe("true"))
+			.build();
+
+		Sandbox first;
+		try (SandboxPool.Lease lease = this.pool.borrow()) {
+			first = lease.sandbox();
+			lease.invalidate();
+		}
+		assertThat(first.isClosed()).isTrue();
+
+		try (SandboxPool.Lease lease = this.pool.borrow()) {
+			assertThat(lease.sandbox()).isNotSameAs(first);
+			lease.sandbox().close();
+		}
+		try (SandboxPool.Lease lease = this.pool.borrow()) {
+			assertThat(lease.sandbox().isClosed()).isFalse();
+		}
+		assertThat(this.created).hasSize(3);
+		assertThat(this.pool.getSize()).isEqualTo(1);
+	}
+
+	@Test
+	void closeClosesIdleSandboxes() throws Exception {
+		this.pool = SandboxPool.builder(this::newSandbox).minIdle(2).maxSize(2).build();
+		awaitTrue(() -> this.pool.getIdleCount() == 2);
+
+		this.pool.close();
+
+		assertThat(this.created).allMatch(Sandbox::isClosed);
+		assertThatThrownBy(this.pool::borrow).isInstanceOf(IllegalStateException.class);
+	}
+
+	private Sandbox newSandbox() {
+		Sandbox sandbox = new LocalSandbox(this.tempDir);
+		this.created.add(sandbox);
+		return sandbox;
+	}
+
+	private static void awaitTrue(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.session;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link InMemorySessionStore} and {@link FileSessionStore}.
+ *
+ * @author Spring AI Community
+ */
+class SessionStoreTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void sessionsAreScopedByProvider() {
+		SessionStore store = new InMemorySessionStore();
+		store.save("codex", "fix-build", "session-1");
+		store.save("amazon-q", "fix-build", "session-2");
+
+		assertThat(store.find("codex", "fix-build")).contains("session-1");
+		assertThat(store.find("amazon-q", "fix-build")).contains("session-2");
+		assertThat(store.find("claude", "fix-build")).isEmpty();
+
+		store.remove("codex", "fix-build");
+		assertThat(store.find("codex", "fix-build")).isEmpty();
+		assertThat(store.find("amazon-q", "fix-build")).contains("session-2");
+	}
+
+	@Test
+	void inMemoryStoreEvictsLeastRecentlyUsed() {
+		InMemorySessionStore store = new InMemorySessionStore(2);
+		store.save("codex", "a", "session-a");
+		store.save("codex", "b", "session-b");
+		store.find("codex", "a");
+		store.save("codex", "c", "session-c");
+
+		assertThat(store.size()).isEqualTo(2);
+		assertThat(store.find("codex", "a")).contains("session-a");
+		assertThat(store.find("codex", "b")).isEmpty();
+		assertThat(store.find("codex", "c")).contains("session-c");
+	}
+
+	@Test
+	void fileStoreSurvivesRestart() {
+		Path file = this.tempDir.resolve("state/sessions.properties");
+		FileSessionStore store = new FileSessionStore(file);
+		store.save("codex", "issue:42", "session-1");
+		store.save("codex", "issue:43", "session-2");
+		store.remove("codex", "issue:43");
+
+		FileSessionStore reopened = new FileSessionStore(file);
+
+		assertThat(reopened.find("codex", "issue:42")).contains("session-1");
+		assertThat(reopened.find("codex", "issue:43")).isEmpty();
+		assertThat(this.tempDir.resolve("state")).isDirectoryContaining(path -> path.equals(file))
+			.isDirectoryNotContaining("glob:**.tmp");
+	}
+
+}
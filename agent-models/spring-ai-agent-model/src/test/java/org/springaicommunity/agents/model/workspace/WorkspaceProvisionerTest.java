@@ -0,0 +1,255 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.model.workspace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.agents.process.ProcessRunResult;
+import org.springaicommunity.agents.process.ProcessRunner;
+import org.springaicommunity.agents.process.ProcessSpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CopyOnWriteWorkspaceProvisioner} and {@link Workspace}.
+ *
+ * @author Spring AI Community
+ */
+class WorkspaceProvisionerTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void copiedWorkspaceIsIsolatedFromBase() throws Exception {
+		Path base = directory("base");
+		write(base.resolve("src/Main.java"), "original");
+		WorkspaceProvisioner provisioner = provisioner(WorkspaceStrategy.COPY);
+
+		try (Workspace workspace = provisioner.provision(base)) {
+			assertThat(workspace.strategy()).isEqualTo(WorkspaceStrategy.COPY);
+			assertThat(workspace.path().resolve("src/Main.java")).hasContent("original");
+			write(workspace.path().resolve("src/Main.java"), "changed");
+			assertThat(base.resolve("src/Main.java")).hasContent("original");
+
+			AgentTaskRequest request = workspace.forRequest(new AgentTaskRequest("fix", base, null));
+			assertThat(request.workingDirectory()).isEqualTo(workspace.path());
+			assertThat(request.goal()).isEqualTo("fix");
+		}
+	}
+
+	@Test
+	void hardLinkedWorkspaceSharesFilesUntilReplaced() throws Exception {
+		Path base = directory("base");
+		write(base.resolve("README.md"), "readme");
+		WorkspaceProvisioner provisioner = provisioner(WorkspaceStrategy.HARD_LINKS);
+
+		try (Workspace workspace = provisioner.provision(base)) {
+			Path linked = workspace.path().resolve("README.md");
+			assertThat(Files.isSameFile(linked, base.resolve("README.md"))).isTrue();
+
+			Path replacement = workspace.path().resolve("README.md.tmp");
+			write(replacement, "edited");
+			Files.move(replacement, linked, StandardCopyOption.REPLACE_EXISTING);
+			assertThat(base.resolve("README.md")).hasContent("readme");
+		}
+	}
+
+	@Test
+	void unavailableStrategyFallsBackToNext() throws Exception {
+		Path base = directory("plain");
+		write(base.resolve("file.txt"), "content");
+		WorkspaceProvisioner provisioner = provisioner(WorkspaceStrategy.GIT_WORKTREE, WorkspaceStrategy.COPY);
+
+		try (Workspace workspace = provisioner.provision(base)) {
+			assertThat(workspace.strategy()).isEqualTo(WorkspaceStrategy.COPY);
+			assertThat(workspace.path().resolve("file.txt")).hasContent("content");
+		}
+	}
+
+	@Test
+	void gitWorktreeCarriesUncommittedAndUntrackedChanges() throws Exception {
+		Path base = directory("repo");
+		write(base.resolve("tracked.txt"), "committed");
+		write(base.resolve(".gitignore"), "build/\n");
+		git(base, "init", "-q");
+		git(base, "add", ".");
+		git(base, "-c", "user.name=test", "-c", "user.email=test@example.com", "commit", "-q", "-m", "initial");
+		write(base.resolve("tracked.txt"), "modified");
+		write(base.resolve("notes/untracked.txt"), "untracked");
+		write(base.resolve("build/output.txt"), "ignored");
+		WorkspaceProvisioner provisioner = provisioner(WorkspaceStrategy.GIT_WORKTREE);
+
+		Path path;
+		try (Workspace workspace = provisioner.provision(base)) {
+			path = workspace.path();
+			assertThat(workspace.strategy()).isEqualTo(WorkspaceStrategy.GIT_WORKTREE);
+			assertThat(path.resolve("tracked.txt")).hasContent("modified");
+			assertThat(path.resolve("notes/untracked.txt")).hasContent("untracked");
+			assertThat(path.resolve("build")).doesNotExist();
+
+			write(path.resolve("tracked.txt"), "agent");
+			assertThat(base.resolve("tracked.txt")).hasContent("modified");
+		}
+		assertThat(path).doesNotExist();
+		assertThat(git(base, "worktree", "list")).doesNotContain(path.getFileName().toString());
+		assertThat(git(base, "status", "--porcelain")).contains("tracked.txt");
+	}
+
+	@Test
+	void copyBackSyncsChangesExceptGitDirectory() throws Exception {
+		Path base = directory("base");
+		write(base.resolve(".git/HEAD"), "base-head");
+		write(base.resolve("kept.txt"), "kept");
+		write(base.resolve("changed.txt"), "before");
+		write(base.resolve("removed/file.txt"), "removed");
+		WorkspaceProvisioner provisioner = provisioner(WorkspaceStrategy.COPY);
+
+		Workspace workspace = provisioner.provision(base);
+		write(workspace.path().resolve(".git/HEAD"), "workspace-head");
+		write(workspace.path().resolve("changed.txt"), "after");
+		write(workspace.path().resolve("added/new.txt"), "new");
+		WorkspaceCopies.delete(workspace.path().resolve("removed"));
+
+		workspace.copyBack();
+		workspace.close();
+
+		assertThat(base.resolve(".git/HEAD")).hasContent("base-head");
+		assertThat(base.resolve("kept.txt")).hasContent("kept");
+		assertThat(base.resolve("changed.txt")).hasContent("after");
+		assertThat(base.resolve("added/new.txt")).hasContent("new");
+		assertThat(base.resolve("removed")).doesNotExist();
+		assertThat(workspace.path()).doesNotExist();
+		assertThatThrownBy(workspace::copyBack).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void copyBackOfGitWorktreeKeepsIgnoredFiles() throws Exception {
+		Path base = directory("repo");
+		write(base.resolve("tracked.txt"), "committed");
+		write(base.resolve("removed.txt"), "removed");
+		write(base.resolve(".gitignore"), "build/\n.env\n");
+		git(base, "init", "-q");
+		git(base, "add", ".");
+		git(base, "-c", "user.name=test", "-c", "user.email=test@example.com", "commit", "-q", "-m", "initial");
+		write(base.resolve("build/output.txt"), "ignored");
+		write(base.resolve(".env"), "secret");
+		WorkspaceProvisioner provisioner = provisioner(WorkspaceStrategy.GIT_WORKTREE);
+
+		try (Workspace workspace = provisioner.provision(base)) {
+			write(workspace.path().resolve("tracked.txt"), "agent");
+			write(workspace.path().resolve("added.txt"), "new");
+			write(workspace.path().resolve("build/agent.txt"), "agent build");
+			Files.delete(workspace.path().resolve("removed.txt"));
+
+			workspace.copyBack();
+		}
+
+		assertThat(base.resolve("tracked.txt")).hasContent("agent");
+		assertThat(base.resolve("added.txt")).hasContent("new");
+		assertThat(base.resolve("removed.txt")).doesNotExist();
+		assertThat(base.resolve("build/output.txt")).hasContent("ignored");
+		assertThat(base.resolve("build/agent.txt")).doesNotExist();
+		assertThat(base.resolve(".env")).hasContent("secret");
+	}
+
+	@Test
+	void gitSnapshotIsOnlyCheckedOutWhenProvisioned() throws Exception {
+		Path base = directory("repo");
+		write(base.resolve("tracked.txt"), "committed");
+		git(base, "init", "-q");
+		git(base, "add", ".");
+		git(base, "-c", "user.name=test", "-c", "user.email=test@example.com", "commit", "-q", "-m", "initial");
+		write(base.resolve("tracked.txt"), "modified");
+		write(base.resolve("untracked.txt"), "untracked");
+		String status = git(base, "status", "--porcelain");
+		WorkspaceProvisioner provisioner = provisioner(WorkspaceStrategy.GIT_WORKTREE);
+
+		Path path;
+		try (WorkspaceSnapshot snapshot = provisioner.snapshot(base)) {
+			assertThat(snapshot.isProvisioned()).isFalse();
+			assertThat(git(base, "worktree", "list").lines()).hasSize(1);
+			assertThat(git(base, "status", "--porcelain")).isEqualTo(status);
+			write(base.resolve("tracked.txt"), "changed after snapshot");
+
+			Workspace workspace = snapshot.provision();
+			path = workspace.path();
+			assertThat(snapshot.provision()).isSameAs(workspace);
+			assertThat(workspace.strategy()).isEqualTo(WorkspaceStrategy.GIT_WORKTREE);
+			assertThat(path.resolve("tracked.txt")).hasContent("modified");
+			assertThat(path.resolve("untracked.txt")).hasContent("untracked");
+		}
+		assertThat(path).doesNotExist();
+		assertThat(git(base, "worktree", "list").lines()).hasSize(1);
+	}
+
+	@Test
+	void copySnapshotIsProvisionedRightAway() throws Exception {
+		Path base = directory("base");
+		write(base.resolve("file.txt"), "content");
+		WorkspaceProvisioner provisioner = provisioner(WorkspaceStrategy.GIT_WORKTREE, WorkspaceStrategy.COPY);
+
+		WorkspaceSnapshot snapshot = provisioner.snapshot(base);
+		assertThat(snapshot.isProvisioned()).isTrue();
+		Path path = snapshot.provision().path();
+		assertThat(path.resolve("file.txt")).hasContent("content");
+		snapshot.close();
+
+		assertThat(path).doesNotExist();
+		assertThatThrownBy(snapshot::provision).isInstanceOf(IllegalStateException.class);
+	}
+
+	private CopyOnWriteWorkspaceProvisioner provisioner(WorkspaceStrategy... strategies) throws IOException {
+		return CopyOnWriteWorkspaceProvisioner.builder()
+			.workspaceRoot(directory("workspaces"))
+			.strategies(strategies)
+			.build();
+	}
+
+	private Path directory(String name) throws IOException {
+		return Files.createDirectories(this.tempDir.resolve(name));
+	}
+
+	private static void write(Path file, String content) throws IOException {
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+	private static String git(Path directory, String... args) throws Exception {
+		String[] command = new String[args.length + 1];
+		command[0] = "git";
+		System.arraycopy(args, 0, command, 1, args.length);
+		ProcessSpec spec = ProcessSpec.builder()
+			.command(command)
+			.directory(directory)
+			.timeout(Duration.ofSeconds(30))
+			.build();
+		try (ProcessRunResult result = new ProcessRunner().run(spec)) {
+			assertThat(result.isSuccess()).as(result.combinedOutput()).isTrue();
+			return result.stdout().asString();
+		}
+	}
+
+}
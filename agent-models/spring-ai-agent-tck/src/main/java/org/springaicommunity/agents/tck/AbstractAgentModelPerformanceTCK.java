@@ -0,0 +1,467 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.tck;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.agents.fakecli.CliProtocol;
+import org.springaicommunity.agents.fakecli.FakeCliInstallation;
+import org.springaicommunity.agents.fakecli.FakeCliScenario;
+import org.springaicommunity.agents.model.AgentModel;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Performance and concurrency Test Compatibility Kit (TCK) for AgentModel
+ * implementations.
+ *
+ * <p>
+ * Where {@link AbstractAgentModelTCK} checks what an agent model does against the real
+ * CLI, this TCK checks how it behaves under load against a {@link FakeCliInstallation}
+ * of the provider's CLI, so it runs offline and fast enough for every build. Concrete test
+ * classes name the provider's {@link #cliProtocol() protocol} and create the model for
+ * the fake CLI in {@link #createAgentModel(FakeCliInstallation, Path)}. The fake CLI
+ * echoes the prompt, so every response carries the {@link #token(int) request token} of
+ * its call.
+ * </p>
+ *
+ * <p>
+ * The TCK checks that:
+ * </p>
+ * <ul>
+ * <li>the overhead a model adds to a CLI invocation stays within
+ * {@link #maxCallOverhead()}</li>
+ * <li>{@link #concurrency()} concurrent calls each get their own response</li>
+ * <li>no CLI processes outlive their calls and repeated bursts of calls do not leave
+ * threads behind</li>
+ * <li>heap use while handling {@link #largeOutputBytes()} of output stays within
+ * {@link #maxHeapGrowth(long)}</li>
+ * </ul>
+ *
+ * <p>
+ * Measurements are written as JSON to {@code <model>.json} in the directory named by the
+ * {@value #REPORT_DIR_PROPERTY} system property, {@code target/tck-performance} by
+ * default. See {@link PerformanceReport}.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public abstract class AbstractAgentModelPerformanceTCK {
+
+	/**
+	 * System property naming the directory performance reports are written to.
+	 */
+	public static final String REPORT_DIR_PROPERTY = "spring.ai.agents.tck.reportDir";
+
+	/**
+	 * System property overriding the number of concurrent calls.
+	 */
+	public static final String CONCURRENCY_PROPERTY = "spring.ai.agents.tck.concurrency";
+
+	private static final Map<String, PerformanceReport> REPORTS = new ConcurrentHashMap<>();
+
+	private static final Duration SETTLE_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final String TOKEN_PREFIX = "tck-token-";
+
+	private static final Pattern TOKEN_PATTERN = Pattern.compile(TOKEN_PREFIX + "[0-9]+");
+
+	/**
+	 * Working directory for tests. Provided by JUnit's @TempDir.
+	 */
+	@TempDir
+	protected Path tempDir;
+
+	/**
+	 * The fake CLI the model under test runs.
+	 */
+	protected FakeCliInstallation cli;
+
+	/**
+	 * The agent model implementation under test.
+	 */
+	protected AgentModel agentModel;
+
+	private String testName;
+
+	@BeforeEach
+	void setUpPerformanceTck(TestInfo testInfo) throws Exception {
+		assumeFalse(System.getProperty("os.name").startsWith("Windows"), "Fake CLI launcher requires a POSIX shell");
+		this.testName = testInfo.getTestMethod().map(method -> method.getName()).orElse(testInfo.getDisplayName());
+		this.cli = FakeCliInstallation.install(cliProtocol(), this.tempDir.resolve("cli"));
+		this.cli.scenario(scenario().build());
+		this.agentModel = createAgentModel(this.cli, this.tempDir);
+	}
+
+	@AfterEach
+	void writePerformanceReport() {
+		PerformanceReport report = report();
+		Path directory = Path.of(System.getProperty(REPORT_DIR_PROPERTY, "target/tck-performance"));
+		report.writeTo(directory.resolve(modelName().replaceAll("[^A-Za-z0-9._-]", "_") + ".json"));
+	}
+
+	/**
+	 * Get the protocol of the provider's CLI, which the fake CLI answers in.
+	 * @return the CLI protocol
+	 */
+	protected abstract CliProtocol cliProtocol();
+
+	/**
+	 * Create the model under test, configured to run the given fake CLI.
+	 * @param cli the fake CLI installation
+	 * @param workingDirectory the working directory of all requests
+	 * @return the agent model
+	 * @throws Exception if the model cannot be created
+	 */
+	protected abstract AgentModel createAgentModel(FakeCliInstallation cli, Path workingDirectory) throws Exception;
+
+	/**
+	 * Describe the scenario the fake CLI plays (default: an answer echoing the prompt).
+	 * Tests adjust the returned builder for delays and large outputs, so the answer must
+	 * keep echoing {@link FakeCliScenario#PROMPT}.
+	 * @return the scenario builder
+	 */
+	protected FakeCliScenario.Builder scenario() {
+		return FakeCliScenario.builder().responses("Done: " + FakeCliScenario.PROMPT);
+	}
+
+	/**
+	 * Get the arguments that make the CLI answer a prompt when run directly, the
+	 * baseline the call overhead is measured against (default: the provider's
+	 * non-interactive prompt option).
+	 * @param prompt the prompt
+	 * @return the CLI arguments
+	 */
+	protected List<String> directArguments(String prompt) {
+		return switch (cliProtocol()) {
+			case CLAUDE, GEMINI -> List.of("-p", prompt);
+			case CODEX -> List.of("exec", prompt);
+			case AMP -> List.of("-x", prompt);
+			case AMAZON_Q -> List.of("chat", "--no-interactive", prompt);
+			case MINI_SWE -> List.of("-t", prompt);
+		};
+	}
+
+	/**
+	 * Get how much a model may add to the 95th percentile latency of running the CLI
+	 * directly (default: 1 second).
+	 * @return the allowed overhead
+	 */
+	protected Duration maxCallOverhead() {
+		return Duration.ofSeconds(1);
+	}
+
+	/**
+	 * Get the number of concurrent calls (default: the {@value #CONCURRENCY_PROPERTY}
+	 * system property, or 16). Values between 16 and 64 are typical.
+	 * @return the number of concurrent calls
+	 */
+	protected int concurrency() {
+		return Integer.getInteger(CONCURRENCY_PROPERTY, 16);
+	}
+
+	/**
+	 * Get how many more live threads than after a first burst of calls are tolerated
+	 * after later bursts (default: 2).
+	 * @return the allowed number of extra threads
+	 */
+	protected int threadSlack() {
+		return 2;
+	}
+
+	/**
+	 * Get the size of the output used to check memory use (default: 16 MB).
+	 * @return the output size in bytes
+	 */
+	protected long largeOutputBytes() {
+		return 16L * 1024 * 1024;
+	}
+
+	/**
+	 * Get how much the heap may grow while handling output of the given size (default:
+	 * eight times the output plus 64 MB, allowing for a few copies of the output as bytes
+	 * and text).
+	 * @param outputBytes the output size in bytes
+	 * @return the allowed heap growth in bytes
+	 */
+	protected long maxHeapGrowth(long outputBytes) {
+		return 8 * outputBytes + 64L * 1024 * 1024;
+	}
+
+	/**
+	 * Get the name of the model in the report (default: the simple class name of the
+	 * model).
+	 * @return the model name
+	 */
+	protected String modelName() {
+		return this.agentModel != null ? this.agentModel.getClass().getSimpleName() : getClass().getSimpleName();
+	}
+
+	/**
+	 * Get the report this test class records its measurements in.
+	 * @return the performance report
+	 */
+	protected PerformanceReport report() {
+		return REPORTS.computeIfAbsent(modelName(), PerformanceReport::new);
+	}
+
+	@Test
+	void singleCallOverheadIsBounded() throws Exception {
+		int calls = 10;
+		call(1);
+		List<Long> modelNanos = new ArrayList<>();
+		for (int i = 0; i < calls; i++) {
+			long start = System.nanoTime();
+			AgentResponse response = call(i);
+			modelNanos.add(System.nanoTime() - start);
+			assertThat(tokens(response)).containsExactly(token(i));
+		}
+		List<Long> directNanos = new ArrayList<>();
+		for (int i = 0; i < calls; i++) {
+			directNanos.add(runDirectly(i));
+		}
+
+		double modelP95 = percentileMillis(modelNanos, 0.95);
+		double directP95 = percentileMillis(directNanos, 0.95);
+		record("calls", calls);
+		record("modelP50Millis", percentileMillis(modelNanos, 0.5));
+		record("modelP95Millis", modelP95);
+		record("cliP50Millis", percentileMillis(directNanos, 0.5));
+		record("cliP95Millis", directP95);
+		record("overheadP50Millis", percentileMillis(modelNanos, 0.5) - percentileMillis(directNanos, 0.5));
+		assertThat(modelP95 - directP95).as("p95 overhead over running the CLI directly in ms")
+			.isLessThanOrEqualTo((double) maxCallOverhead().toMillis());
+	}
+
+	@Test
+	void concurrentCallsDoNotCrossTalk() throws Exception {
+		int concurrency = concurrency();
+		this.cli.scenario(scenario().startupDelay(Duration.ofMillis(200)).build());
+
+		long start = System.nanoTime();
+		List<Long> latencies = burst(concurrency);
+		long wallNanos = System.nanoTime() - start;
+
+		record("concurrency", concurrency);
+		record("wallMillis", wallNanos / 1_000_000.0);
+		record("callsPerSecond", concurrency / (wallNanos / 1_000_000_000.0));
+		record("p50Millis", percentileMillis(latencies, 0.5));
+		record("p95Millis", percentileMillis(latencies, 0.95));
+		record("maxMillis", percentileMillis(latencies, 1.0));
+		assertThat(this.cli.invocationCount()).isGreaterThanOrEqualTo(concurrency);
+	}
+
+	@Test
+	void processesAndThreadsReturnToBaseline() throws Exception {
+		int concurrency = concurrency();
+		this.cli.scenario(scenario().startupDelay(Duration.ofMillis(50)).build());
+		long processBaseline = liveDescendants();
+
+		// The first burst starts the threads pools keep for later calls
+		burst(concurrency);
+		long threadBaseline = liveThreads();
+		for (int i = 0; i < 2; i++) {
+			burst(concurrency);
+		}
+		long processes = settle(AbstractAgentModelPerformanceTCK::liveDescendants, processBaseline);
+		long threads = settle(AbstractAgentModelPerformanceTCK::liveThreads, threadBaseline + threadSlack());
+
+		record("processBaseline", processBaseline);
+		record("processesAfter", processes);
+		record("threadBaseline", threadBaseline);
+		record("threadsAfter", threads);
+		assertThat(processes).as("live child processes").isLessThanOrEqualTo(processBaseline);
+		assertThat(threads).as("live threads").isLessThanOrEqualTo(threadBaseline + threadSlack());
+	}
+
+	@Test
+	void memoryStaysBoundedOnLargeOutput() throws Exception {
+		long outputBytes = largeOutputBytes();
+		this.cli.scenario(scenario().payloadBytes(outputBytes).build());
+		List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans()
+			.stream()
+			.filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+			.toList();
+
+		System.gc();
+		long before = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+		heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+		long start = System.nanoTime();
+		AgentResponse response = call(1);
+		long elapsed = System.nanoTime() - start;
+		long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+		long responseChars = response.getResult().getOutput().length();
+		assertThat(tokens(response)).contains(token(1));
+		response = null;
+		System.gc();
+		long after = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+
+		record("outputBytes", outputBytes);
+		record("responseChars", responseChars);
+		record("elapsedMillis", elapsed / 1_000_000.0);
+		record("peakHeapGrowthBytes", peak - before);
+		record("retainedHeapGrowthBytes", after - before);
+		assertThat(peak - before).as("peak heap growth in bytes").isLessThanOrEqualTo(maxHeapGrowth(outputBytes));
+	}
+
+	/**
+	 * Run one call whose goal carries the given request token.
+	 * @param number the token number
+	 * @return the response
+	 */
+	protected AgentResponse call(int number) {
+		AgentTaskRequest request = AgentTaskRequest.builder(goal(number), this.tempDir).build();
+		return this.agentModel.call(request);
+	}
+
+	/**
+	 * Get the goal of the call with the given token number.
+	 * @param number the token number
+	 * @return the goal
+	 */
+	protected String goal(int number) {
+		return "Reply with " + token(number);
+	}
+
+	/**
+	 * Get the request token with the given number. A goal containing the token gets it
+	 * back in the response.
+	 * @param number the token number
+	 * @return the token
+	 */
+	protected static String token(int number) {
+		return TOKEN_PREFIX + number;
+	}
+
+	/**
+	 * Start the given number of calls at once and check that each gets its own token
+	 * back.
+	 * @return the latency of each call in nanoseconds
+	 */
+	private List<Long> burst(int concurrency) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Long>> results = new ArrayList<>();
+			for (int i = 0; i < concurrency; i++) {
+				int number = i;
+				results.add(executor.submit(() -> {
+					start.await();
+					long begin = System.nanoTime();
+					AgentResponse response = call(number);
+					long latency = System.nanoTime() - begin;
+					assertThat(tokens(response)).as("tokens in response to call " + number)
+						.containsExactly(token(number));
+					return latency;
+				}));
+			}
+			start.countDown();
+			List<Long> latencies = new ArrayList<>();
+			for (Future<Long> result : results) {
+				latencies.add(result.get(5, TimeUnit.MINUTES));
+			}
+			return latencies;
+		}
+		finally {
+			executor.shutdownNow();
+			executor.awaitTermination(30, TimeUnit.SECONDS);
+		}
+	}
+
+	private long runDirectly(int number) throws Exception {
+		long start = System.nanoTime();
+		List<String> command = new ArrayList<>();
+		command.add(this.cli.path().toString());
+		command.addAll(directArguments(goal(number)));
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		process.getOutputStream().close();
+		process.getInputStream().readAllBytes();
+		process.waitFor();
+		return System.nanoTime() - start;
+	}
+
+	private void record(String metric, Object value) {
+		report().record(this.testName, metric, value);
+	}
+
+	private static Set<String> tokens(AgentResponse response) {
+		Set<String> tokens = new HashSet<>();
+		Matcher matcher = TOKEN_PATTERN.matcher(response.getResult().getOutput());
+		while (matcher.find()) {
+			tokens.add(matcher.group());
+		}
+		return tokens;
+	}
+
+	/**
+	 * Wait until the measured value is at most the target or the settle timeout passes.
+	 * @return the last measured value
+	 */
+	private static long settle(LongSupplier measure, long target) throws InterruptedException {
+		long deadline = System.nanoTime() + SETTLE_TIMEOUT.toNanos();
+		long value = measure.getAsLong();
+		while (value > target && System.nanoTime() < deadline) {
+			Thread.sleep(50);
+			value = measure.getAsLong();
+		}
+		return value;
+	}
+
+	private static long liveDescendants() {
+		return ProcessHandle.current().descendants().filter(ProcessHandle::isAlive).count();
+	}
+
+	private static long liveThreads() {
+		return ManagementFactory.getThreadMXBean().getThreadCount();
+	}
+
+	private static double percentileMillis(List<Long> nanos, double percentile) {
+		List<Long> sorted = new ArrayList<>(nanos);
+		Collections.sort(sorted);
+		int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+		return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1))) / 1_000_000.0;
+	}
+
+}
@@ -19,6 +19,7 @@ package org.springaicommunity.agents.tck;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.agents.model.AgentExecution;
 import org.springaicommunity.agents.model.AgentModel;
 import org.springaicommunity.agents.model.AgentOptions;
 import org.springaicommunity.agents.model.AgentResponse;
@@ -31,8 +32,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -49,7 +55,8 @@ import static org.junit.jupiter.api.Assertions.fail;
  * <p>
  * The TCK ensures consistent behavior across all agent×sandbox combinations including: -
  * Basic file operations - Directory listing and reading - Code fixing tasks - Agent
- * availability checking - Timeout handling - Complex multi-step operations
+ * availability checking - Timeout handling - Cancellation - Complex multi-step
+ * operations
  * </p>
  */
 public abstract class AbstractAgentModelTCK {
@@ -211,6 +218,42 @@ public abstract class AbstractAgentModelTCK {
 		// - The key is that a response is always returned
 	}
 
+	/**
+	 * Test cancellation functionality. Verifies that cancelling a submitted run
+	 * terminates the agent CLI and every process it started within the cancellation
+	 * deadline.
+	 */
+	@Test
+	void testCancellationFreesProcesses() throws InterruptedException {
+		// Arrange: A task that keeps the agent and a child shell busy
+		Set<Long> before = ProcessHandle.current()
+			.descendants()
+			.map(ProcessHandle::pid)
+			.collect(Collectors.toSet());
+		AgentTaskRequest request = AgentTaskRequest
+			.builder("Run the shell command 'sleep 600' and report when it has finished", tempDir)
+			.build();
+
+		// Act
+		AgentExecution execution = agentModel.submit(request);
+		List<ProcessHandle> started = awaitStartedProcesses(before, Duration.ofSeconds(30));
+		boolean cancelled = execution.cancel();
+
+		// Assert
+		assertThat(cancelled).isTrue();
+		assertThat(execution.isCancelled()).isTrue();
+		assertThat(execution.isDone()).isTrue();
+		assertThatThrownBy(execution::await).isInstanceOf(CancellationException.class);
+
+		long deadline = System.nanoTime() + cancellationDeadline().toNanos();
+		while (started.stream().anyMatch(ProcessHandle::isAlive) && System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+		assertThat(started.stream().filter(ProcessHandle::isAlive).map(ProcessHandle::pid).toList())
+			.withFailMessage("Processes still running %s after cancellation", cancellationDeadline())
+			.isEmpty();
+	}
+
 	/**
 	 * Test complex multi-step task functionality. Verifies that the agent can handle
 	 * tasks requiring multiple operations.
@@ -318,6 +361,37 @@ public abstract class AbstractAgentModelTCK {
 			.isTrue();
 	}
 
+	/**
+	 * Wait until the agent has started child processes of this JVM, or until the timeout
+	 * has passed. Sandboxes that run the agent outside this JVM's process tree yield no
+	 * processes.
+	 */
+	private static List<ProcessHandle> awaitStartedProcesses(Set<Long> before, Duration timeout)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		List<ProcessHandle> started = List.of();
+		while (System.nanoTime() < deadline) {
+			started = ProcessHandle.current()
+				.descendants()
+				.filter(handle -> !before.contains(handle.pid()))
+				.toList();
+			// Wait for the CLI to spawn a child of its own, e.g. the sleep shell
+			if (started.size() > 1) {
+				break;
+			}
+			Thread.sleep(200);
+		}
+		return started;
+	}
+
+	/**
+	 * How long processes may keep running after a run was cancelled. Subclasses may
+	 * override this for slow sandboxes.
+	 */
+	protected Duration cancellationDeadline() {
+		return Duration.ofSeconds(10);
+	}
+
 	/**
 	 * Create agent options with a short timeout for timeout testing. Subclasses should
 	 * override this to provide agent-specific timeout options.
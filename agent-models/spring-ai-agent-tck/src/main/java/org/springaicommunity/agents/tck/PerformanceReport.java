@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.tck;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measurements of one agent model collected by
+ * {@link AbstractAgentModelPerformanceTCK}, written as JSON so results can be tracked
+ * across builds.
+ *
+ * <p>
+ * The document holds the model name, when and where it was measured, and the metrics of
+ * each test:
+ * </p>
+ * <pre>{@code
+ * {
+ *   "model": "AmpAgentModel",
+ *   "timestamp": "2025-10-01T12:00:00Z",
+ *   "javaVersion": "17.0.12",
+ *   "availableProcessors": 8,
+ *   "tests": {
+ *     "concurrentCallsDoNotCrossTalk": { "concurrency": 16, "p95Millis": 412.0 }
+ *   }
+ * }
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class PerformanceReport {
+
+	private final String model;
+
+	private final Map<String, Map<String, Object>> tests = new LinkedHashMap<>();
+
+	/**
+	 * Create an empty report.
+	 * @param model the name of the model under test
+	 */
+	public PerformanceReport(String model) {
+		this.model = model;
+	}
+
+	/**
+	 * Record a metric of a test, replacing an earlier value.
+	 * @param test the test name
+	 * @param metric the metric name
+	 * @param value the value, a number, boolean or string
+	 */
+	public synchronized void record(String test, String metric, Object value) {
+		this.tests.computeIfAbsent(test, key -> new LinkedHashMap<>()).put(metric, value);
+	}
+
+	/**
+	 * Get the metrics recorded for a test.
+	 * @param test the test name
+	 * @return the metrics by name, empty if none were recorded
+	 */
+	public synchronized Map<String, Object> metrics(String test) {
+		return Map.copyOf(this.tests.getOrDefault(test, Map.of()));
+	}
+
+	/**
+	 * Write the report as JSON, replacing the file atomically.
+	 * @param file the file to write
+	 * @throws UncheckedIOException if the file cannot be written
+	 */
+	public synchronized void writeTo(Path file) {
+		try {
+			Path directory = file.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+			try {
+				Files.writeString(temp, toJson());
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write performance report " + file, ex);
+		}
+	}
+
+	/**
+	 * Render the report as JSON.
+	 * @return the JSON document
+	 */
+	public synchronized String toJson() {
+		StringBuilder json = new StringBuilder("{\n");
+		json.append("  \"model\": ").append(value(this.model)).append(",\n");
+		json.append("  \"timestamp\": ").append(value(Instant.now().toString())).append(",\n");
+		json.append("  \"javaVersion\": ").append(value(System.getProperty("java.version"))).append(",\n");
+		json.append("  \"availableProcessors\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+		json.append("  \"tests\": {");
+		String testSeparator = "\n";
+		for (Map.Entry<String, Map<String, Object>> test : this.tests.entrySet()) {
+			json.append(testSeparator).append("    ").append(value(test.getKey())).append(": {");
+			String metricSeparator = " ";
+			for (Map.Entry<String, Object> metric : test.getValue().entrySet()) {
+				json.append(metricSeparator)
+					.append(value(metric.getKey()))
+					.append(": ")
+					.append(value(metric.getValue()));
+				metricSeparator = ", ";
+			}
+			json.append(" }");
+			testSeparator = ",\n";
+		}
+		json.append(this.tests.isEmpty() ? "}\n" : "\n  }\n");
+		return json.append("}\n").toString();
+	}
+
+	private static String value(Object value) {
+		if (value == null) {
+			return "null";
+		}
+		if (value instanceof Double number && !Double.isFinite(number)) {
+			return "null";
+		}
+		if (value instanceof Number || value instanceof Boolean) {
+			return value.toString();
+		}
+		StringBuilder quoted = new StringBuilder("\"");
+		for (char c : value.toString().toCharArray()) {
+			switch (c) {
+				case '"' -> quoted.append("\\\"");
+				case '\\' -> quoted.append("\\\\");
+				case '\n' -> quoted.append("\\n");
+				case '\r' -> quoted.append("\\r");
+				case '\t' -> quoted.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						quoted.append(String.format("\\u%04x", (int) c));
+					}
+					else {
+						quoted.append(c);
+					}
+				}
+			}
+		}
+		return quoted.append('"').toString();
+	}
+
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.judge.bestofn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.model.AgentExecution;
+import org.springaicommunity.agents.model.AgentModel;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentResponseMetadata;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.agents.model.workspace.CopyOnWriteWorkspaceProvisioner;
+import org.springaicommunity.agents.model.workspace.Workspace;
+import org.springaicommunity.agents.model.workspace.WorkspaceProvisioner;
+import org.springaicommunity.agents.model.workspace.WorkspaceStrategy;
+import org.springaicommunity.judge.Judge;
+import org.springaicommunity.judge.context.ExecutionStatus;
+import org.springaicommunity.judge.context.JudgmentContext;
+import org.springaicommunity.judge.result.Judgment;
+import org.springaicommunity.judge.score.BooleanScore;
+import org.springaicommunity.judge.score.NumericalScore;
+
+/**
+ * {@link AgentModel} that runs several attempts at a task at once and keeps the best one
+ * according to a {@link Judge}.
+ *
+ * <p>
+ * Attempts can differ in model, prompt or options, or simply be repeated runs of the
+ * same model. Each attempt runs in its own workspace provisioned from the working
+ * directory, so attempts never see each other's files. Every attempt is judged as soon as
+ * it finishes. Once an attempt passes with at least the target score, the remaining
+ * attempts are cancelled through their {@link AgentExecution}, which terminates their
+ * CLI process trees. Otherwise all attempts are judged, or as many as finish before the
+ * timeout, and the highest-ranked one wins: passing judgments rank above failing ones,
+ * then higher scores above lower ones.
+ * </p>
+ *
+ * <p>
+ * When the winning judgment passes, the winner's workspace is copied back into the
+ * working directory. A winner that did not pass is still returned, so the caller can
+ * inspect it, but leaves the working directory untouched. All workspaces are disposed of
+ * afterwards. Numerical scores are normalized to the range 0 to 1 before they are
+ * compared; boolean scores count as 0 or 1.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * AgentModel bestOfThree = BestOfNAgentModel.builder(new BuildSuccessJudge())
+ *     .attempt("claude", claudeAgentModel)
+ *     .attempt("gemini", geminiAgentModel)
+ *     .attempt("claude-tests-first", claudeAgentModel,
+ *         request -> new AgentTaskRequest("Write the tests first. " + request.goal(),
+ *             request.workingDirectory(), request.options()))
+ *     .timeout(Duration.ofMinutes(20))
+ *     .build();
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class BestOfNAgentModel implements AgentModel {
+
+	private static final Logger logger = LoggerFactory.getLogger(BestOfNAgentModel.class);
+
+	/**
+	 * Response metadata key holding the name of the winning attempt.
+	 */
+	public static final String WINNER_KEY = "bestOfN.winner";
+
+	/**
+	 * Response metadata key holding the normalized score of the winning attempt.
+	 */
+	public static final String SCORE_KEY = "bestOfN.score";
+
+	/**
+	 * Response metadata key holding the {@link Judgment} of the winning attempt.
+	 */
+	public static final String JUDGMENT_KEY = "bestOfN.judgment";
+
+	/**
+	 * Response metadata key holding how many attempts finished before a winner was
+	 * chosen.
+	 */
+	public static final String FINISHED_KEY = "bestOfN.finished";
+
+	/**
+	 * Executor judging attempts as they finish using cached thread pool with daemon
+	 * threads.
+	 */
+	private static final ExecutorService JUDGES = Executors.newCachedThreadPool(new ThreadFactory() {
+		private final AtomicInteger counter = new AtomicInteger(0);
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "best-of-n-judge-" + counter.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	});
+
+	private final Judge judge;
+
+	private final List<Attempt> attempts;
+
+	private final double targetScore;
+
+	private final Duration timeout;
+
+	private final WorkspaceProvisioner workspaceProvisioner;
+
+	private BestOfNAgentModel(Builder builder) {
+		this.judge = builder.judge;
+		this.attempts = List.copyOf(builder.attempts);
+		this.targetScore = builder.targetScore;
+		this.timeout = builder.timeout;
+		this.workspaceProvisioner = builder.workspaceProvisioner;
+	}
+
+	/**
+	 * Create a new builder selecting attempts with the given judge.
+	 * @param judge the judge scoring each attempt
+	 * @return a new builder
+	 */
+	public static Builder builder(Judge judge) {
+		return new Builder(judge);
+	}
+
+	@Override
+	public AgentResponse call(AgentTaskRequest request) {
+		List<Workspace> workspaces = new ArrayList<>();
+		List<Run> runs = new ArrayList<>();
+		BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+		AtomicBoolean settled = new AtomicBoolean();
+		try {
+			for (Attempt attempt : this.attempts) {
+				Workspace workspace = provision(request);
+				if (workspace != null) {
+					workspaces.add(workspace);
+				}
+				AgentTaskRequest attemptRequest = attempt.customizer()
+					.apply(workspace != null ? workspace.forRequest(request) : request);
+				runs.add(start(attempt, attemptRequest, workspace, outcomes, settled));
+			}
+
+			Outcome best = null;
+			int finished = 0;
+			long deadline = System.nanoTime() + this.timeout.toNanos();
+			while (finished < runs.size()) {
+				Outcome outcome = outcomes.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+				if (outcome == null) {
+					logger.debug("Best-of-{} timed out after {} ms with {} attempts finished", runs.size(),
+							this.timeout.toMillis(), finished);
+					break;
+				}
+				finished++;
+				if (outcome.ranksAbove(best)) {
+					best = outcome;
+				}
+				if (outcome.meets(this.targetScore)) {
+					logger.debug("Attempt {} reached the target score, cancelling the others", outcome.attempt());
+					break;
+				}
+			}
+			settled.set(true);
+			cancel(runs);
+
+			if (best == null) {
+				throw new IllegalStateException("No attempt finished within " + this.timeout);
+			}
+			if (best.judgment() == null) {
+				throw best.error();
+			}
+			if (best.judgment().pass() && best.workspace() != null) {
+				copyBack(best.workspace());
+			}
+			return withMetadata(best, finished);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for best-of-n agent runs", ex);
+		}
+		finally {
+			settled.set(true);
+			cancel(runs);
+			workspaces.forEach(Workspace::close);
+		}
+	}
+
+	private Run start(Attempt attempt, AgentTaskRequest request, Workspace workspace, BlockingQueue<Outcome> outcomes,
+			AtomicBoolean settled) {
+		Instant startedAt = Instant.now();
+		AgentExecution execution = attempt.model().submit(request);
+		execution.getResult().whenCompleteAsync((response, error) -> {
+			// Cancelled and late attempts are not worth a judge run
+			if (!settled.get()) {
+				outcomes.add(judge(attempt, request, workspace, startedAt, response, error));
+			}
+		}, JUDGES);
+		return new Run(attempt.name(), execution);
+	}
+
+	private Outcome judge(Attempt attempt, AgentTaskRequest request, Workspace workspace, Instant startedAt,
+			AgentResponse response, Throwable error) {
+		if (error != null) {
+			logger.debug("Attempt {} failed", attempt.name(), error);
+			return Outcome.failed(attempt.name(), workspace, unwrap(error));
+		}
+		try {
+			JudgmentContext context = JudgmentContext.builder()
+				.goal(request.goal())
+				.workspace(request.workingDirectory())
+				.agentOutput(response.getText())
+				.executionTime(Duration.between(startedAt, Instant.now()))
+				.startedAt(startedAt)
+				.status(response.isSuccessful() ? ExecutionStatus.SUCCESS : ExecutionStatus.FAILED)
+				.build();
+			Judgment judgment = this.judge.judge(context);
+			double score = normalizedScore(judgment);
+			logger.debug("Attempt {} judged {} with score {}", attempt.name(), judgment.pass() ? "pass" : "fail",
+					score);
+			return new Outcome(attempt.name(), workspace, response, judgment, score, null);
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Failed to judge attempt {}", attempt.name(), ex);
+			return Outcome.failed(attempt.name(), workspace, ex);
+		}
+	}
+
+	/**
+	 * Get a score between 0 and 1 for a judgment.
+	 * @param judgment the judgment
+	 * @return the normalized score
+	 */
+	static double normalizedScore(Judgment judgment) {
+		if (judgment.score() instanceof NumericalScore numerical) {
+			double range = numerical.max() - numerical.min();
+			if (range <= 0) {
+				return judgment.pass() ? 1.0 : 0.0;
+			}
+			return Math.max(0.0, Math.min(1.0, (numerical.value() - numerical.min()) / range));
+		}
+		if (judgment.score() instanceof BooleanScore bool) {
+			return bool.value() ? 1.0 : 0.0;
+		}
+		return judgment.pass() ? 1.0 : 0.0;
+	}
+
+	private Workspace provision(AgentTaskRequest request) {
+		if (request.workingDirectory() == null || !Files.isDirectory(request.workingDirectory())) {
+			return null;
+		}
+		try {
+			return this.workspaceProvisioner.provision(request.workingDirectory());
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to copy working directory " + request.workingDirectory(), ex);
+		}
+	}
+
+	private static void cancel(List<Run> runs) {
+		for (Run run : runs) {
+			if (!run.execution().isDone()) {
+				logger.debug("Cancelling attempt {}", run.name());
+				// Returns once the CLI process tree of the attempt is gone
+				run.execution().cancel();
+			}
+		}
+	}
+
+	private static void copyBack(Workspace workspace) {
+		try {
+			workspace.copyBack();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to copy winning attempt results to " + workspace.base(), ex);
+		}
+	}
+
+	private static RuntimeException unwrap(Throwable error) {
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+	}
+
+	private static AgentResponse withMetadata(Outcome winner, int finished) {
+		AgentResponse response = winner.response();
+		Map<String, Object> providerFields = new HashMap<>(response.getMetadata());
+		providerFields.put(WINNER_KEY, winner.attempt());
+		providerFields.put(SCORE_KEY, winner.score());
+		providerFields.put(JUDGMENT_KEY, winner.judgment());
+		providerFields.put(FINISHED_KEY, finished);
+		AgentResponseMetadata metadata = AgentResponseMetadata.builder()
+			.from(response.getMetadata())
+			.providerFields(providerFields)
+			.build();
+		return new AgentResponse(response.getResults(), metadata);
+	}
+
+	@Override
+	public boolean isAvailable() {
+		return this.attempts.stream().anyMatch(attempt -> attempt.model().isAvailable());
+	}
+
+	private record Attempt(String name, AgentModel model, UnaryOperator<AgentTaskRequest> customizer) {
+	}
+
+	private record Run(String name, AgentExecution execution) {
+	}
+
+	private record Outcome(String attempt, Workspace workspace, AgentResponse response, Judgment judgment,
+			double score, RuntimeException error) {
+
+		static Outcome failed(String attempt, Workspace workspace, RuntimeException error) {
+			return new Outcome(attempt, workspace, null, null, -1, error);
+		}
+
+		boolean meets(double targetScore) {
+			return this.judgment != null && this.judgment.pass() && this.score >= targetScore;
+		}
+
+		boolean ranksAbove(Outcome other) {
+			if (other == null) {
+				return true;
+			}
+			if (this.judgment == null || other.judgment == null) {
+				return this.judgment != null;
+			}
+			if (this.judgment.pass() != other.judgment.pass()) {
+				return this.judgment.pass();
+			}
+			return this.score > other.score;
+		}
+
+	}
+
+	/**
+	 * Builder for {@link BestOfNAgentModel}.
+	 */
+	public static final class Builder {
+
+		private final Judge judge;
+
+		private final List<Attempt> attempts = new ArrayList<>();
+
+		private double targetScore = 1.0;
+
+		private Duration timeout = Duration.ofMinutes(30);
+
+		private WorkspaceProvisioner workspaceProvisioner = CopyOnWriteWorkspaceProvisioner.builder()
+			.strategies(WorkspaceStrategy.REFLINK, WorkspaceStrategy.COPY)
+			.build();
+
+		private Builder(Judge judge) {
+			this.judge = judge;
+		}
+
+		/**
+		 * Add an attempt running the request unchanged on the given model.
+		 * @param name the name of the attempt, reported for the winner
+		 * @param model the model to run the attempt on
+		 * @return this builder
+		 */
+		public Builder attempt(String name, AgentModel model) {
+			return attempt(name, model, UnaryOperator.identity());
+		}
+
+		/**
+		 * Add an attempt running a variant of the request on the given model, for example
+		 * with a different prompt or options. The customizer receives the request with
+		 * the attempt's workspace as its working directory.
+		 * @param name the name of the attempt, reported for the winner
+		 * @param model the model to run the attempt on
+		 * @param customizer derives the attempt's request from the original one
+		 * @return this builder
+		 */
+		public Builder attempt(String name, AgentModel model, UnaryOperator<AgentTaskRequest> customizer) {
+			this.attempts.add(new Attempt(name, model, customizer));
+			return this;
+		}
+
+		/**
+		 * Add the given number of attempts running the request unchanged on the same
+		 * model, named after their position.
+		 * @param model the model to run the attempts on
+		 * @param count the number of attempts
+		 * @return this builder
+		 */
+		public Builder attempts(AgentModel model, int count) {
+			for (int i = 0; i < count; i++) {
+				attempt("attempt-" + (this.attempts.size() + 1), model);
+			}
+			return this;
+		}
+
+		/**
+		 * Set the normalized score, between 0 and 1, at which a passing attempt wins
+		 * right away and the other attempts are cancelled (default: 1.0).
+		 * @param targetScore the target score
+		 * @return this builder
+		 */
+		public Builder targetScore(double targetScore) {
+			this.targetScore = targetScore;
+			return this;
+		}
+
+		/**
+		 * Set how long to wait for attempts before choosing among those that finished
+		 * (default: 30 minutes).
+		 * @param timeout the timeout
+		 * @return this builder
+		 */
+		public Builder timeout(Duration timeout) {
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Set how the attempts' workspaces are created (default: a reflink clone of the
+		 * working directory, or a copy where reflinks are not supported).
+		 * @param workspaceProvisioner the workspace provisioner
+		 * @return this builder
+		 */
+		public Builder workspaceProvisioner(WorkspaceProvisioner workspaceProvisioner) {
+			this.workspaceProvisioner = workspaceProvisioner;
+			return this;
+		}
+
+		/**
+		 * Build the BestOfNAgentModel.
+		 * @return a new BestOfNAgentModel
+		 * @throws IllegalStateException if the judge, an attempt or the workspace
+		 * provisioner is missing or a setting is out of range
+		 */
+		public BestOfNAgentModel build() {
+			if (this.judge == null || this.attempts.isEmpty() || this.workspaceProvisioner == null) {
+				throw new IllegalStateException("judge, workspaceProvisioner and at least one attempt must be set");
+			}
+			if (this.targetScore < 0 || this.targetScore > 1 || this.timeout == null || this.timeout.isZero()
+					|| this.timeout.isNegative()) {
+				throw new IllegalStateException("targetScore must be in [0, 1] and the timeout positive");
+			}
+			return new BestOfNAgentModel(this);
+		}
+
+	}
+
+}
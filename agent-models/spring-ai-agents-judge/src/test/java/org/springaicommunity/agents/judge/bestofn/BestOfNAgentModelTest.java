@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.judge.bestofn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.agents.model.AgentGeneration;
+import org.springaicommunity.agents.model.AgentGenerationMetadata;
+import org.springaicommunity.agents.model.AgentModel;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.judge.Judge;
+import org.springaicommunity.judge.result.Judgment;
+import org.springaicommunity.judge.result.JudgmentStatus;
+import org.springaicommunity.judge.score.NumericalScore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link BestOfNAgentModel}.
+ *
+ * @author Spring AI Community
+ */
+class BestOfNAgentModelTest {
+
+	/**
+	 * Scores an attempt by the number in the score.txt file it wrote, out of 10. Scores
+	 * of 5 and above pass.
+	 */
+	private static final Judge SCORE_FILE_JUDGE = context -> {
+		try {
+			double score = Double.parseDouble(Files.readString(context.workspace().resolve("score.txt")));
+			return Judgment.builder()
+				.status(score >= 5 ? JudgmentStatus.PASS : JudgmentStatus.FAIL)
+				.score(new NumericalScore(score, 0.0, 10.0))
+				.reasoning("score.txt")
+				.build();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	};
+
+	@TempDir
+	Path workspace;
+
+	@Test
+	void attemptReachingTargetWinsAndOthersAreCancelled() throws Exception {
+		CountDownLatch slowInterrupted = new CountDownLatch(1);
+		AgentModel slow = request -> {
+			write(request.workingDirectory().resolve("score.txt"), "3");
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				slowInterrupted.countDown();
+			}
+			return response("slow");
+		};
+		BestOfNAgentModel model = BestOfNAgentModel.builder(SCORE_FILE_JUDGE)
+			.attempt("slow", slow)
+			.attempt("perfect", scoring("10", "perfect"))
+			.build();
+
+		AgentResponse response = model.call(AgentTaskRequest.builder("Fix the build", this.workspace).build());
+
+		assertThat(response.getResult().getOutput()).isEqualTo("perfect");
+		assertThat((String) response.getMetadata().get(BestOfNAgentModel.WINNER_KEY)).isEqualTo("perfect");
+		assertThat((Integer) response.getMetadata().get(BestOfNAgentModel.FINISHED_KEY)).isEqualTo(1);
+		assertThat(slowInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.workspace.resolve("score.txt")).hasContent("10");
+		assertThat(this.workspace.resolve("perfect.txt")).exists();
+	}
+
+	@Test
+	void highestScoreWinsWhenNoAttemptReachesTarget() throws Exception {
+		Files.writeString(this.workspace.resolve("input.txt"), "original");
+		BestOfNAgentModel model = BestOfNAgentModel.builder(SCORE_FILE_JUDGE)
+			.attempt("low", scoring("6", "low"))
+			.attempt("high", scoring("8", "high"))
+			.attempt("failing", scoring("2", "failing"))
+			.build();
+
+		AgentResponse response = model.call(AgentTaskRequest.builder("Fix the build", this.workspace).build());
+
+		assertThat((String) response.getMetadata().get(BestOfNAgentModel.WINNER_KEY)).isEqualTo("high");
+		assertThat((Double) response.getMetadata().get(BestOfNAgentModel.SCORE_KEY)).isEqualTo(0.8);
+		assertThat((Integer) response.getMetadata().get(BestOfNAgentModel.FINISHED_KEY)).isEqualTo(3);
+		assertThat(this.workspace.resolve("score.txt")).hasContent("8");
+		assertThat(this.workspace.resolve("high.txt")).exists();
+		assertThat(this.workspace.resolve("low.txt")).doesNotExist();
+		assertThat(this.workspace.resolve("input.txt")).hasContent("original");
+	}
+
+	@Test
+	void failingWinnerLeavesWorkingDirectoryUntouched() {
+		BestOfNAgentModel model = BestOfNAgentModel.builder(SCORE_FILE_JUDGE)
+			.attempt("first", scoring("1", "first"))
+			.attempt("second", scoring("4", "second"))
+			.build();
+
+		AgentResponse response = model.call(AgentTaskRequest.builder("Fix the build", this.workspace).build());
+
+		assertThat(response.getResult().getOutput()).isEqualTo("second");
+		assertThat(((Judgment) response.getMetadata().get(BestOfNAgentModel.JUDGMENT_KEY)).pass()).isFalse();
+		assertThat(this.workspace.resolve("score.txt")).doesNotExist();
+	}
+
+	@Test
+	void customizedAttemptsRunVariantsOfTheRequest() {
+		AgentModel echo = request -> {
+			write(request.workingDirectory().resolve("score.txt"), request.goal().startsWith("Carefully") ? "9" : "5");
+			return response(request.goal());
+		};
+		BestOfNAgentModel model = BestOfNAgentModel.builder(SCORE_FILE_JUDGE)
+			.attempt("plain", echo)
+			.attempt("careful", echo,
+					request -> new AgentTaskRequest("Carefully " + request.goal(), request.workingDirectory(),
+							request.options()))
+			.targetScore(0.95)
+			.build();
+
+		AgentResponse response = model.call(AgentTaskRequest.builder("fix the build", this.workspace).build());
+
+		assertThat(response.getResult().getOutput()).isEqualTo("Carefully fix the build");
+	}
+
+	@Test
+	void errorIsRethrownWhenAllAttemptsFail() {
+		AgentModel broken = request -> {
+			throw new IllegalStateException("CLI crashed");
+		};
+		BestOfNAgentModel model = BestOfNAgentModel.builder(SCORE_FILE_JUDGE).attempts(broken, 3).build();
+
+		assertThatThrownBy(() -> model.call(AgentTaskRequest.builder("Fix the build", this.workspace).build()))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("CLI crashed");
+	}
+
+	@Test
+	void builderRequiresAnAttempt() {
+		assertThatThrownBy(() -> BestOfNAgentModel.builder(SCORE_FILE_JUDGE).build())
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	private static AgentModel scoring(String score, String name) {
+		return request -> {
+			write(request.workingDirectory().resolve("score.txt"), score);
+			write(request.workingDirectory().resolve(name + ".txt"), name);
+			return response(name);
+		};
+	}
+
+	private static AgentResponse response(String output) {
+		return new AgentResponse(
+				List.of(new AgentGeneration(output, new AgentGenerationMetadata("SUCCESS", Map.of()))));
+	}
+
+	private static void write(Path file, String content) {
+		try {
+			Files.writeString(file, content);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+}
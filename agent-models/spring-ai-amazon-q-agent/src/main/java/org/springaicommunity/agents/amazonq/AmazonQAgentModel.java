@@ -16,12 +16,17 @@
 
 package org.springaicommunity.agents.amazonq;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springaicommunity.agents.amazonqsdk.AmazonQClient;
 import org.springaicommunity.agents.amazonqsdk.types.ExecuteOptions;
 import org.springaicommunity.agents.amazonqsdk.types.ExecuteResult;
 import org.springaicommunity.agents.model.*;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
+import org.springaicommunity.agents.model.observation.AgentModelObservations;
+import org.springaicommunity.agents.model.session.InMemorySessionStore;
+import org.springaicommunity.agents.model.session.SessionStore;
 import org.springaicommunity.sandbox.Sandbox;
 
 import java.util.List;
@@ -42,12 +47,25 @@ public class AmazonQAgentModel implements AgentModel {
 
 	private static final Logger logger = LoggerFactory.getLogger(AmazonQAgentModel.class);
 
+	private static final String PROVIDER = "amazon-q";
+
+	/**
+	 * Session store entry for conversations whose output did not reveal an id.
+	 */
+	private static final String RESUMABLE = "resumable";
+
 	private final AmazonQClient amazonQClient;
 
 	private final AmazonQAgentOptions defaultOptions;
 
 	private final Sandbox sandbox;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private AgentModelObservationConvention observationConvention;
+
+	private SessionStore sessionStore = new InMemorySessionStore();
+
 	/**
 	 * Create a new AmazonQAgentModel with the given client, options, and sandbox.
 	 * @param amazonQClient the Amazon Q CLI client
@@ -65,8 +83,39 @@ public class AmazonQAgentModel implements AgentModel {
 		}
 	}
 
+	/**
+	 * Set the registry used to observe {@link #call} invocations.
+	 * @param observationRegistry the observation registry
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
+	}
+
+	/**
+	 * Set a custom convention for call observations.
+	 * @param observationConvention the observation convention
+	 */
+	public void setObservationConvention(AgentModelObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Set the store that maps conversation keys to Amazon Q sessions. Requests whose options
+	 * carry a {@link AgentOptions#getConversationKey() conversation key} resume the
+	 * session recorded for it. Defaults to an {@link InMemorySessionStore}.
+	 * @param sessionStore the session store
+	 */
+	public void setSessionStore(SessionStore sessionStore) {
+		this.sessionStore = sessionStore != null ? sessionStore : new InMemorySessionStore();
+	}
+
 	@Override
 	public AgentResponse call(AgentTaskRequest request) {
+		return AgentModelObservations.observe(this.observationRegistry, this.observationConvention, request, PROVIDER,
+				observationContext -> doCall(request));
+	}
+
+	private AgentResponse doCall(AgentTaskRequest request) {
 		// Extract goal/prompt from request
 		String goal = request.goal();
 		logger.info("Executing Amazon Q agent with goal: {}", goal);
@@ -74,16 +123,40 @@ public class AmazonQAgentModel implements AgentModel {
 		// Merge options
 		AmazonQAgentOptions options = mergeOptions(request);
 
+		// Resume the conversation if it already ran. Amazon Q resumes the last
+		// conversation of the working directory, the stored id is recorded for reference.
+		String conversationKey = options.getConversationKey();
+		boolean resume = conversationKey != null && sessionStore.find(PROVIDER, conversationKey).isPresent();
+		if (resume) {
+			logger.debug("Resuming Amazon Q conversation {}", conversationKey);
+		}
+
 		// Convert to ExecuteOptions
-		ExecuteOptions executeOptions = toExecuteOptions(options);
+		ExecuteOptions executeOptions = toExecuteOptions(options, resume);
 
 		// Execute via SDK
 		ExecuteResult result = amazonQClient.execute(goal, executeOptions);
+		recordSession(conversationKey, result);
 
 		// Convert to AgentResponse
 		return toAgentResponse(result);
 	}
 
+	private void recordSession(String conversationKey, ExecuteResult result) {
+		if (conversationKey == null) {
+			return;
+		}
+		if (result.isSuccessful()) {
+			String conversationId = result.getConversationId();
+			sessionStore.save(PROVIDER, conversationKey,
+					conversationId != null && !conversationId.isEmpty() ? conversationId : RESUMABLE);
+		}
+		else {
+			// The conversation may be gone or broken, start the next goal afresh
+			sessionStore.remove(PROVIDER, conversationKey);
+		}
+	}
+
 	@Override
 	public boolean isAvailable() {
 		try {
@@ -104,7 +177,13 @@ public class AmazonQAgentModel implements AgentModel {
 			.trustTools(defaultOptions.getTrustTools())
 			.agent(defaultOptions.getAgent())
 			.verbose(defaultOptions.isVerbose())
-			.executablePath(defaultOptions.getExecutablePath());
+			.executablePath(defaultOptions.getExecutablePath())
+			.conversationKey(defaultOptions.getConversationKey());
+
+		// The conversation key may come with any agent options
+		if (request.options() != null && request.options().getConversationKey() != null) {
+			builder.conversationKey(request.options().getConversationKey());
+		}
 
 		// Override with request-specific options if present
 		if (request.options() != null && request.options() instanceof AmazonQAgentOptions requestOptions) {
@@ -127,7 +206,7 @@ public class AmazonQAgentModel implements AgentModel {
 		return builder.build();
 	}
 
-	private ExecuteOptions toExecuteOptions(AmazonQAgentOptions options) {
+	private ExecuteOptions toExecuteOptions(AmazonQAgentOptions options, boolean resume) {
 		return ExecuteOptions.builder()
 			.model(options.getModel())
 			.timeout(options.getTimeout())
@@ -136,6 +215,7 @@ public class AmazonQAgentModel implements AgentModel {
 			.agent(options.getAgent())
 			.verbose(options.isVerbose())
 			.noInteractive(true) // Always non-interactive for programmatic use
+			.resume(resume)
 			.build();
 	}
 
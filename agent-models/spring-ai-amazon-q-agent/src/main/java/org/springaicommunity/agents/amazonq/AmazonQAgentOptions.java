@@ -51,6 +51,8 @@ public class AmazonQAgentOptions implements AgentOptions {
 
 	private Map<String, Object> extras = Map.of();
 
+	private String conversationKey;
+
 	private AmazonQAgentOptions() {
 	}
 
@@ -97,6 +99,11 @@ public class AmazonQAgentOptions implements AgentOptions {
 		return extras;
 	}
 
+	@Override
+	public String getConversationKey() {
+		return conversationKey;
+	}
+
 	public static Builder builder() {
 		return new Builder();
 	}
@@ -164,6 +171,11 @@ public class AmazonQAgentOptions implements AgentOptions {
 			return this;
 		}
 
+		public Builder conversationKey(String conversationKey) {
+			options.conversationKey = conversationKey;
+			return this;
+		}
+
 		public AmazonQAgentOptions build() {
 			return options;
 		}
@@ -16,10 +16,14 @@
 
 package org.springaicommunity.agents.amazonq.autoconfigure;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springaicommunity.agents.amazonq.AmazonQAgentModel;
 import org.springaicommunity.agents.amazonq.AmazonQAgentOptions;
 import org.springaicommunity.agents.amazonqsdk.AmazonQClient;
 import org.springaicommunity.sandbox.Sandbox;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
+import org.springaicommunity.agents.model.session.SessionStore;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -65,8 +69,15 @@ public class AmazonQAgentAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	public AmazonQAgentModel amazonQAgentModel(AmazonQClient amazonQClient, AmazonQAgentOptions amazonQAgentOptions,
-			Sandbox sandbox) {
-		return new AmazonQAgentModel(amazonQClient, amazonQAgentOptions, sandbox);
+			Sandbox sandbox, ObjectProvider<ObservationRegistry> observationRegistry,
+			ObjectProvider<AgentModelObservationConvention> observationConvention,
+			ObjectProvider<SessionStore> sessionStore) {
+		AmazonQAgentModel agentModel = new AmazonQAgentModel(amazonQClient, amazonQAgentOptions, sandbox);
+		// Observe calls when an observation registry is available (e.g. from Actuator)
+		observationRegistry.ifUnique(agentModel::setObservationRegistry);
+		observationConvention.ifAvailable(agentModel::setObservationConvention);
+		sessionStore.ifUnique(agentModel::setSessionStore);
+		return agentModel;
 	}
 
 }
@@ -16,6 +16,7 @@
 
 package org.springaicommunity.agents.amp;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springaicommunity.agents.amp.AmpAgentOptions;
@@ -23,6 +24,8 @@ import org.springaicommunity.agents.ampsdk.AmpClient;
 import org.springaicommunity.agents.ampsdk.types.ExecuteOptions;
 import org.springaicommunity.agents.ampsdk.types.ExecuteResult;
 import org.springaicommunity.agents.model.*;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
+import org.springaicommunity.agents.model.observation.AgentModelObservations;
 import org.springaicommunity.sandbox.Sandbox;
 
 import java.time.Duration;
@@ -44,12 +47,18 @@ public class AmpAgentModel implements AgentModel {
 
 	private static final Logger logger = LoggerFactory.getLogger(AmpAgentModel.class);
 
+	private static final String PROVIDER = "amp";
+
 	private final AmpClient ampClient;
 
 	private final AmpAgentOptions defaultOptions;
 
 	private final Sandbox sandbox;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private AgentModelObservationConvention observationConvention;
+
 	/**
 	 * Create a new AmpAgentModel with the given client, options, and sandbox.
 	 * @param ampClient the Amp CLI client
@@ -67,8 +76,29 @@ public class AmpAgentModel implements AgentModel {
 		}
 	}
 
+	/**
+	 * Set the registry used to observe {@link #call} invocations.
+	 * @param observationRegistry the observation registry
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
+	}
+
+	/**
+	 * Set a custom convention for call observations.
+	 * @param observationConvention the observation convention
+	 */
+	public void setObservationConvention(AgentModelObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
 	@Override
 	public AgentResponse call(AgentTaskRequest request) {
+		return AgentModelObservations.observe(this.observationRegistry, this.observationConvention, request, PROVIDER,
+				observationContext -> doCall(request));
+	}
+
+	private AgentResponse doCall(AgentTaskRequest request) {
 		// Extract goal/prompt from request
 		String goal = request.goal();
 		logger.info("Executing Amp agent with goal: {}", goal);
@@ -16,12 +16,14 @@
 
 package org.springaicommunity.agents.amp.autoconfigure;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springaicommunity.agents.amp.AmpAgentModel;
 import org.springaicommunity.agents.amp.AmpAgentOptions;
 import org.springaicommunity.agents.ampsdk.AmpClient;
 import org.springaicommunity.agents.ampsdk.types.ExecuteOptions;
 import org.springaicommunity.agents.model.AgentModel;
 import org.springaicommunity.sandbox.Sandbox;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -66,7 +68,8 @@ public class AmpAgentAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	public AgentModel agentModel(AmpClient ampClient, AmpAgentProperties properties,
-			ObjectProvider<Sandbox> sandboxProvider) {
+			ObjectProvider<Sandbox> sandboxProvider, ObjectProvider<ObservationRegistry> observationRegistry,
+			ObjectProvider<AgentModelObservationConvention> observationConvention) {
 
 		AmpAgentOptions options = AmpAgentOptions.builder()
 			.model(properties.getModel())
@@ -75,7 +78,11 @@ public class AmpAgentAutoConfiguration {
 			.executablePath(properties.getExecutablePath())
 			.build();
 
-		return new AmpAgentModel(ampClient, options, sandboxProvider.getIfAvailable());
+		AmpAgentModel agentModel = new AmpAgentModel(ampClient, options, sandboxProvider.getIfAvailable());
+		// Observe calls when an observation registry is available (e.g. from Actuator)
+		observationRegistry.ifUnique(agentModel::setObservationRegistry);
+		observationConvention.ifAvailable(agentModel::setObservationConvention);
+		return agentModel;
 	}
 
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.amp;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springaicommunity.agents.ampsdk.AmpClient;
+import org.springaicommunity.agents.ampsdk.types.ExecuteOptions;
+import org.springaicommunity.agents.fakecli.CliProtocol;
+import org.springaicommunity.agents.fakecli.FakeCliInstallation;
+import org.springaicommunity.agents.model.AgentModel;
+import org.springaicommunity.agents.tck.AbstractAgentModelPerformanceTCK;
+
+/**
+ * Performance TCK for AmpAgentModel against the fake Amp CLI, which reads the prompt from
+ * standard input and prints the answer as plain text.
+ *
+ * @author Spring AI Community
+ */
+class AmpAgentPerformanceTest extends AbstractAgentModelPerformanceTCK {
+
+	@Override
+	protected CliProtocol cliProtocol() {
+		return CliProtocol.AMP;
+	}
+
+	@Override
+	protected AgentModel createAgentModel(FakeCliInstallation cli, Path workingDirectory) {
+		ExecuteOptions executeOptions = ExecuteOptions.builder().timeout(Duration.ofMinutes(1)).build();
+		AmpClient ampClient = AmpClient.create(executeOptions, workingDirectory, cli.path().toString());
+		AmpAgentOptions options = AmpAgentOptions.builder().timeout(Duration.ofMinutes(1)).build();
+		return new AmpAgentModel(ampClient, options, null);
+	}
+
+}
@@ -16,39 +16,61 @@
 
 package org.springaicommunity.agents.claude;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springaicommunity.claude.agent.sdk.ClaudeClient;
 import org.springaicommunity.claude.agent.sdk.ClaudeSyncClient;
+import org.springaicommunity.agents.claude.hook.GuardedHookRegistry;
+import org.springaicommunity.agents.claude.hook.HookExecutor;
 import org.springaicommunity.claude.agent.sdk.hooks.HookCallback;
 import org.springaicommunity.claude.agent.sdk.hooks.HookRegistry;
 import org.springaicommunity.claude.agent.sdk.parsing.ParsedMessage;
 import org.springaicommunity.claude.agent.sdk.transport.CLIOptions;
 import org.springaicommunity.claude.agent.sdk.types.AssistantMessage;
+import org.springaicommunity.claude.agent.sdk.types.ContentBlock;
 import org.springaicommunity.claude.agent.sdk.types.Message;
 import org.springaicommunity.claude.agent.sdk.types.ResultMessage;
+import org.springaicommunity.claude.agent.sdk.types.TextBlock;
+import org.springaicommunity.claude.agent.sdk.types.ToolResultBlock;
+import org.springaicommunity.claude.agent.sdk.types.ToolUseBlock;
+import org.springaicommunity.claude.agent.sdk.types.UserMessage;
+import org.springaicommunity.agents.model.AgentEvent;
+import org.springaicommunity.agents.model.AgentExecution;
 import org.springaicommunity.agents.model.AgentGeneration;
 import org.springaicommunity.agents.model.AgentGenerationMetadata;
 import org.springaicommunity.agents.model.AgentModel;
 import org.springaicommunity.agents.model.AgentResponse;
 import org.springaicommunity.agents.model.AgentResponseMetadata;
 import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.agents.model.AgentUsage;
+import org.springaicommunity.agents.model.DefaultAgentExecution;
 import org.springaicommunity.agents.model.IterableAgentModel;
 import org.springaicommunity.agents.model.StreamingAgentModel;
+import org.springaicommunity.agents.model.observation.AgentModelObservationContext;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
+import org.springaicommunity.agents.model.observation.AgentModelObservations;
+import org.springaicommunity.agents.process.ProcessTrees;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 
+import java.lang.ref.Cleaner;
+import java.math.BigDecimal;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Claude Code CLI agent model implementing all three programming models:
@@ -60,6 +82,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <ul>
  * <li>{@link AgentModel#call} - Blocking execution</li>
  * <li>{@link StreamingAgentModel#stream} - Reactive Flux-based streaming</li>
+ * <li>{@link StreamingAgentModel#streamEvents} - Typed events, including tool calls</li>
  * <li>{@link IterableAgentModel#iterate} - Iterator-based consumption</li>
  * </ul>
  *
@@ -86,8 +109,14 @@ import java.util.concurrent.atomic.AtomicInteger;
  * AgentResponse response = model.call(request);           // Blocking
  * Flux<AgentResponse> flux = model.stream(request);       // Reactive
  * Iterator<AgentResponse> iter = model.iterate(request);  // Iterator
+ * Flux<AgentEvent> events = model.streamEvents(request);  // Typed events
  * }</pre>
  *
+ * <p>
+ * Iterative workflows can keep one CLI session across several goals with
+ * {@link #openConversation(Path)}.
+ * </p>
+ *
  * @author Spring AI Community
  * @since 0.1.0
  */
@@ -95,6 +124,8 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 
 	private static final Logger logger = LoggerFactory.getLogger(ClaudeAgentModel.class);
 
+	private static final String PROVIDER = "claude";
+
 	/**
 	 * Default executor using cached thread pool with daemon threads. Java 21 users can
 	 * provide {@code Executors.newVirtualThreadPerTaskExecutor()} via the builder.
@@ -110,6 +141,12 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 		}
 	});
 
+	/**
+	 * Closes the clients of iterators that were abandoned without being exhausted or
+	 * closed.
+	 */
+	private static final Cleaner ITERATOR_CLEANER = Cleaner.create();
+
 	private final Path workingDirectory;
 
 	private final Duration timeout;
@@ -118,17 +155,32 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 
 	private final HookRegistry hookRegistry;
 
+	private final GuardedHookRegistry guardedHooks;
+
 	private final ClaudeAgentOptions defaultOptions;
 
 	private final Executor asyncExecutor;
 
+	private final ObservationRegistry observationRegistry;
+
+	private final AgentModelObservationConvention observationConvention;
+
+	private final Duration conversationIdleTimeout;
+
+	private final Set<ClaudeConversation> conversations = ConcurrentHashMap.newKeySet();
+
 	private ClaudeAgentModel(Builder builder) {
 		this.workingDirectory = builder.workingDirectory;
 		this.timeout = builder.timeout;
 		this.claudePath = builder.claudePath;
 		this.hookRegistry = builder.hookRegistry != null ? builder.hookRegistry : new HookRegistry();
+		this.guardedHooks = new GuardedHookRegistry(this.hookRegistry,
+				builder.hookExecutor != null ? builder.hookExecutor : HookExecutor.builder().build());
 		this.defaultOptions = builder.defaultOptions != null ? builder.defaultOptions : new ClaudeAgentOptions();
 		this.asyncExecutor = builder.asyncExecutor != null ? builder.asyncExecutor : DEFAULT_EXECUTOR;
+		this.observationRegistry = builder.observationRegistry;
+		this.observationConvention = builder.observationConvention;
+		this.conversationIdleTimeout = builder.conversationIdleTimeout;
 	}
 
 	/**
@@ -148,7 +200,7 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 	 * @return the generated hook ID
 	 */
 	public String registerPreToolUse(String toolPattern, HookCallback callback) {
-		return hookRegistry.registerPreToolUse(toolPattern, callback);
+		return guardedHooks.registerPreToolUse(toolPattern, callback);
 	}
 
 	/**
@@ -157,7 +209,7 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 	 * @return the generated hook ID
 	 */
 	public String registerPreToolUse(HookCallback callback) {
-		return hookRegistry.registerPreToolUse(callback);
+		return guardedHooks.registerPreToolUse(callback);
 	}
 
 	/**
@@ -167,7 +219,7 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 	 * @return the generated hook ID
 	 */
 	public String registerPostToolUse(String toolPattern, HookCallback callback) {
-		return hookRegistry.registerPostToolUse(toolPattern, callback);
+		return guardedHooks.registerPostToolUse(toolPattern, callback);
 	}
 
 	/**
@@ -176,7 +228,7 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 	 * @return the generated hook ID
 	 */
 	public String registerPostToolUse(HookCallback callback) {
-		return hookRegistry.registerPostToolUse(callback);
+		return guardedHooks.registerPostToolUse(callback);
 	}
 
 	/**
@@ -185,7 +237,7 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 	 * @return the generated hook ID
 	 */
 	public String registerUserPromptSubmit(HookCallback callback) {
-		return hookRegistry.registerUserPromptSubmit(callback);
+		return guardedHooks.registerUserPromptSubmit(callback);
 	}
 
 	/**
@@ -194,7 +246,7 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 	 * @return the generated hook ID
 	 */
 	public String registerStop(HookCallback callback) {
-		return hookRegistry.registerStop(callback);
+		return guardedHooks.registerStop(callback);
 	}
 
 	/**
@@ -203,7 +255,7 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 	 * @return true if removed, false if not found
 	 */
 	public boolean unregisterHook(String hookId) {
-		return hookRegistry.unregister(hookId);
+		return guardedHooks.unregister(hookId);
 	}
 
 	/**
@@ -214,49 +266,55 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 		return hookRegistry;
 	}
 
+	/**
+	 * Gets the executor that runs hooks registered through this model.
+	 * @return the hook executor
+	 */
+	public HookExecutor getHookExecutor() {
+		return guardedHooks.getHookExecutor();
+	}
+
 	// ========== AgentModel (Blocking) ==========
 
 	@Override
 	public AgentResponse call(AgentTaskRequest request) {
+		return observe(request, observationContext -> doCall(request, observationContext, null));
+	}
+
+	/**
+	 * Start a task in the background. Cancelling the returned execution terminates the
+	 * Claude CLI together with every process it started and closes the client.
+	 * @param request the task request
+	 * @return the handle of the running task
+	 */
+	@Override
+	public AgentExecution submit(AgentTaskRequest request) {
+		return DefaultAgentExecution.start(request,
+				(req, execution) -> observe(req, observationContext -> doCall(req, observationContext, execution)),
+				this.asyncExecutor);
+	}
+
+	private AgentResponse doCall(AgentTaskRequest request, AgentModelObservationContext observationContext,
+			DefaultAgentExecution execution) {
 		logger.info("Executing blocking call for goal: {}", request.goal());
 
 		Instant startTime = Instant.now();
-		StringBuilder fullText = new StringBuilder();
 
-		Path effectiveWorkingDir = request.workingDirectory() != null ? request.workingDirectory() : workingDirectory;
-		CLIOptions options = buildCLIOptions(request);
-
-		try (ClaudeSyncClient client = ClaudeClient.sync(options)
-			.workingDirectory(effectiveWorkingDir)
-			.timeout(timeout)
-			.claudePath(claudePath)
-			.hookRegistry(hookRegistry)
-			.build()) {
+		String processMarker = execution != null ? ProcessTrees.newMarker() : null;
+		try (ClaudeSyncClient client = createClient(request, processMarker)) {
 
 			String prompt = formatPrompt(request);
 			client.connect(prompt);
-
-			Iterator<ParsedMessage> response = client.receiveResponse();
-			while (response.hasNext()) {
-				ParsedMessage parsed = response.next();
-				if (parsed.isRegularMessage()) {
-					Message message = parsed.asMessage();
-					if (message instanceof AssistantMessage assistantMessage) {
-						assistantMessage.getTextContent().ifPresent(fullText::append);
-					}
-				}
+			if (execution != null) {
+				execution.onCancel(() -> {
+					// Kill the tree before closing, closing loses the descendants
+					ProcessTrees.destroyMarked(processMarker, ProcessTrees.DEFAULT_GRACE);
+					client.close();
+				});
 			}
+			observationContext.markCliSpawned();
 
-			Duration duration = Duration.between(startTime, Instant.now());
-			AgentGenerationMetadata generationMetadata = new AgentGenerationMetadata("SUCCESS", Map.of());
-			List<AgentGeneration> generations = List.of(new AgentGeneration(fullText.toString(), generationMetadata));
-
-			AgentResponseMetadata responseMetadata = AgentResponseMetadata.builder()
-				.model(getEffectiveModel())
-				.duration(duration)
-				.build();
-
-			return new AgentResponse(generations, responseMetadata);
+			return collectResponse(client.receiveResponse(), startTime, observationContext);
 
 		}
 		catch (Exception e) {
@@ -285,65 +343,67 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 		return sink.asFlux();
 	}
 
+	/**
+	 * Stream the run as typed events, including the tool calls the agent makes and their
+	 * results. Events are created straight from the CLI messages, without building a
+	 * response per message.
+	 */
+	@Override
+	public Flux<AgentEvent> streamEvents(AgentTaskRequest request) {
+		Sinks.Many<AgentEvent> sink = Sinks.many().multicast().onBackpressureBuffer();
+
+		asyncExecutor.execute(() -> streamEventsInternal(request, sink));
+
+		return sink.asFlux();
+	}
+
 	// ========== IterableAgentModel (Iterator) ==========
 
 	@Override
 	public Iterator<AgentResponse> iterate(AgentTaskRequest request) {
-		Path effectiveWorkingDir = request.workingDirectory() != null ? request.workingDirectory() : workingDirectory;
-		CLIOptions options = buildCLIOptions(request);
-
-		ClaudeSyncClient client = ClaudeClient.sync(options)
-			.workingDirectory(effectiveWorkingDir)
-			.timeout(timeout)
-			.claudePath(claudePath)
-			.hookRegistry(hookRegistry)
-			.build();
+		ClaudeSyncClient client = createClient(request);
 
 		String prompt = formatPrompt(request);
-		client.connect(prompt);
-		Iterator<ParsedMessage> messageIterator = client.receiveResponse();
+		try {
+			client.connect(prompt);
+		}
+		catch (RuntimeException ex) {
+			client.close();
+			throw ex;
+		}
+		return new ResponseIterator(client, client.receiveResponse());
+	}
 
-		return new Iterator<>() {
-			private AgentResponse next = null;
+	// ========== Conversations ==========
 
-			private boolean closed = false;
+	/**
+	 * Open a conversation in the default working directory of this model.
+	 * @return the open conversation
+	 * @see #openConversation(Path)
+	 */
+	public ClaudeConversation openConversation() {
+		return openConversation(workingDirectory);
+	}
 
-			@Override
-			public boolean hasNext() {
-				if (closed) {
-					return false;
-				}
-				if (next != null) {
-					return true;
-				}
-				while (messageIterator.hasNext()) {
-					ParsedMessage parsed = messageIterator.next();
-					if (parsed.isRegularMessage()) {
-						AgentResponse response = convertMessageToResponse(parsed.asMessage());
-						if (response != null) {
-							next = response;
-							return true;
-						}
-					}
-				}
-				// Close the client when iteration is complete
-				if (!closed) {
-					closed = true;
-					client.close();
-				}
-				return false;
-			}
+	/**
+	 * Open a conversation that keeps one Claude CLI session alive across several goals.
+	 * Follow-up goals are sent into the same session, so the agent keeps the context it
+	 * built and does not pay the CLI startup cost again. The session is closed when the
+	 * conversation is closed, when it stays idle for the
+	 * {@link Builder#conversationIdleTimeout(Duration) idle timeout}, or when this model
+	 * is closed.
+	 * @param workingDirectory the working directory of the session
+	 * @return the open conversation
+	 */
+	public ClaudeConversation openConversation(Path workingDirectory) {
+		ClaudeConversation conversation = new ClaudeConversation(this,
+				workingDirectory != null ? workingDirectory : this.workingDirectory, conversationIdleTimeout);
+		conversations.add(conversation);
+		return conversation;
+	}
 
-			@Override
-			public AgentResponse next() {
-				if (!hasNext()) {
-					throw new java.util.NoSuchElementException();
-				}
-				AgentResponse result = next;
-				next = null;
-				return result;
-			}
-		};
+	void conversationClosed(ClaudeConversation conversation) {
+		conversations.remove(conversation);
 	}
 
 	// ========== Availability Check ==========
@@ -370,21 +430,78 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 
 	@Override
 	public void close() {
+		for (ClaudeConversation conversation : List.copyOf(conversations)) {
+			conversation.close();
+		}
 		hookRegistry.clear();
 	}
 
 	// ========== Internal Implementation ==========
 
-	private void streamInternal(AgentTaskRequest request, Sinks.Many<AgentResponse> sink) {
-		Path effectiveWorkingDir = request.workingDirectory() != null ? request.workingDirectory() : workingDirectory;
-		CLIOptions options = buildCLIOptions(request);
+	/**
+	 * Observe one run as an {@link AgentModel#call} invocation.
+	 */
+	AgentResponse observe(AgentTaskRequest request, Function<AgentModelObservationContext, AgentResponse> run) {
+		return AgentModelObservations.observe(this.observationRegistry, this.observationConvention, request, PROVIDER,
+				run);
+	}
+
+	ClaudeSyncClient createClient(AgentTaskRequest request) {
+		return createClient(request, null);
+	}
 
-		try (ClaudeSyncClient client = ClaudeClient.sync(options)
+	/**
+	 * Create a client whose CLI process carries the given marker in its environment, so
+	 * that a cancelled execution can find and terminate it with its descendants; the
+	 * client does not expose its process itself.
+	 */
+	private ClaudeSyncClient createClient(AgentTaskRequest request, String processMarker) {
+		Path effectiveWorkingDir = request.workingDirectory() != null ? request.workingDirectory() : workingDirectory;
+		return ClaudeClient.sync(buildCLIOptions(request, processMarker))
 			.workingDirectory(effectiveWorkingDir)
 			.timeout(timeout)
 			.claudePath(claudePath)
 			.hookRegistry(hookRegistry)
-			.build()) {
+			.build();
+	}
+
+	/**
+	 * Collect the messages of one response into an agent response.
+	 */
+	AgentResponse collectResponse(Iterator<ParsedMessage> response, Instant startTime,
+			AgentModelObservationContext observationContext) {
+		StringBuilder fullText = new StringBuilder();
+		ResultMessage result = null;
+		while (response.hasNext()) {
+			ParsedMessage parsed = response.next();
+			observationContext.markFirstOutput();
+			if (parsed.isRegularMessage()) {
+				Message message = parsed.asMessage();
+				if (message instanceof AssistantMessage assistantMessage) {
+					assistantMessage.getTextContent().ifPresent(fullText::append);
+				}
+				else if (message instanceof ResultMessage resultMessage) {
+					result = resultMessage;
+				}
+			}
+		}
+
+		Duration duration = Duration.between(startTime, Instant.now());
+		AgentGenerationMetadata generationMetadata = new AgentGenerationMetadata("SUCCESS", Map.of());
+		List<AgentGeneration> generations = List.of(new AgentGeneration(fullText.toString(), generationMetadata));
+
+		AgentResponseMetadata responseMetadata = AgentResponseMetadata.builder()
+			.model(getEffectiveModel())
+			.duration(duration)
+			.sessionId(result != null ? result.sessionId() : "")
+			.usage(result != null ? toUsage(result) : AgentUsage.EMPTY)
+			.build();
+
+		return new AgentResponse(generations, responseMetadata);
+	}
+
+	private void streamInternal(AgentTaskRequest request, Sinks.Many<AgentResponse> sink) {
+		try (ClaudeSyncClient client = createClient(request)) {
 
 			String prompt = formatPrompt(request);
 			client.connect(prompt);
@@ -408,7 +525,111 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 		}
 	}
 
-	private AgentResponse convertMessageToResponse(Message message) {
+	private void streamEventsInternal(AgentTaskRequest request, Sinks.Many<AgentEvent> sink) {
+		boolean[] finished = new boolean[1];
+		Consumer<AgentEvent> events = event -> {
+			finished[0] |= event instanceof AgentEvent.Completed || event instanceof AgentEvent.Error;
+			sink.tryEmitNext(event);
+		};
+		try (ClaudeSyncClient client = createClient(request)) {
+
+			String prompt = formatPrompt(request);
+			client.connect(prompt);
+
+			Iterator<ParsedMessage> response = client.receiveResponse();
+			while (response.hasNext()) {
+				ParsedMessage parsed = response.next();
+				if (parsed.isRegularMessage()) {
+					convertMessageToEvents(parsed.asMessage(), events);
+				}
+			}
+			if (!finished[0]) {
+				events.accept(new AgentEvent.Error("Claude CLI ended without a result", null));
+			}
+
+		}
+		catch (Exception e) {
+			logger.error("Streaming failed", e);
+			if (!finished[0]) {
+				events.accept(AgentEvent.Error.of(e));
+			}
+		}
+		sink.tryEmitComplete();
+	}
+
+	/**
+	 * Convert a streamed message into events: text and tool calls of assistant messages,
+	 * tool results sent back to the agent, and the usage and outcome of the final result.
+	 * @param message the message
+	 * @param events the consumer of the events
+	 */
+	void convertMessageToEvents(Message message, Consumer<AgentEvent> events) {
+		if (message instanceof AssistantMessage assistantMessage) {
+			for (ContentBlock block : assistantMessage.content()) {
+				if (block instanceof TextBlock textBlock) {
+					if (textBlock.text() != null && !textBlock.text().isEmpty()) {
+						events.accept(new AgentEvent.TextDelta(textBlock.text()));
+					}
+				}
+				else if (block instanceof ToolUseBlock toolUse) {
+					events.accept(new AgentEvent.ToolUse(toolUse.id(), toolUse.name(), toolUse.input()));
+				}
+			}
+		}
+		else if (message instanceof UserMessage userMessage) {
+			if (userMessage.content() instanceof List<?> blocks) {
+				for (Object block : blocks) {
+					if (block instanceof ToolResultBlock toolResult) {
+						events.accept(new AgentEvent.ToolResult(toolResult.toolUseId(),
+								toolResultText(toolResult.content()), Boolean.TRUE.equals(toolResult.isError())));
+					}
+				}
+			}
+		}
+		else if (message instanceof ResultMessage resultMessage) {
+			AgentUsage usage = toUsage(resultMessage);
+			if (usage.hasTokens()) {
+				events.accept(new AgentEvent.Usage(usage));
+			}
+			if (resultMessage.isError()) {
+				String text = resultMessage.result() != null ? resultMessage.result() : "Claude run failed";
+				events.accept(new AgentEvent.Error(text, null));
+			}
+			else {
+				events.accept(new AgentEvent.Completed("SUCCESS", resultMessage.sessionId(),
+						Duration.ofMillis(resultMessage.durationMs())));
+			}
+		}
+	}
+
+	/**
+	 * Flatten tool result content, which is either text or a list of content blocks.
+	 */
+	private static String toolResultText(Object content) {
+		if (content == null || content instanceof String) {
+			return (String) content;
+		}
+		if (content instanceof List<?> parts) {
+			StringBuilder text = new StringBuilder();
+			for (Object part : parts) {
+				if (part instanceof Map<?, ?> map && map.get("text") != null) {
+					text.append(map.get("text"));
+				}
+				else if (part instanceof TextBlock textBlock) {
+					text.append(textBlock.text());
+				}
+			}
+			return text.toString();
+		}
+		return content.toString();
+	}
+
+	/**
+	 * Convert a streamed message into a response.
+	 * @param message the message
+	 * @return the response, or {@code null} for messages without output
+	 */
+	AgentResponse convertMessageToResponse(Message message) {
 		if (message instanceof AssistantMessage assistantMessage) {
 			String text = assistantMessage.getTextContent().orElse("");
 			if (!text.isEmpty()) {
@@ -422,12 +643,35 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 			String finishReason = resultMessage.isError() ? "ERROR" : "SUCCESS";
 			AgentGenerationMetadata metadata = new AgentGenerationMetadata(finishReason, Map.of());
 			List<AgentGeneration> generations = List.of(new AgentGeneration(text, metadata));
-			return new AgentResponse(generations, new AgentResponseMetadata());
+			AgentResponseMetadata responseMetadata = AgentResponseMetadata.builder()
+				.model(getEffectiveModel())
+				.duration(Duration.ofMillis(resultMessage.durationMs()))
+				.sessionId(resultMessage.sessionId())
+				.usage(toUsage(resultMessage))
+				.build();
+			return new AgentResponse(generations, responseMetadata);
 		}
 		return null;
 	}
 
-	private CLIOptions buildCLIOptions(AgentTaskRequest request) {
+	/**
+	 * Extract token usage and cost from the CLI result message.
+	 * @param resultMessage the final message of a run
+	 * @return the usage
+	 */
+	static AgentUsage toUsage(ResultMessage resultMessage) {
+		Map<String, ?> usage = resultMessage.usage() != null ? resultMessage.usage() : Map.of();
+		Double costUsd = resultMessage.totalCostUsd();
+		return new AgentUsage(tokens(usage, "input_tokens"), tokens(usage, "output_tokens"),
+				tokens(usage, "cache_creation_input_tokens"), tokens(usage, "cache_read_input_tokens"), 0,
+				costUsd != null ? BigDecimal.valueOf(costUsd) : null);
+	}
+
+	private static long tokens(Map<String, ?> usage, String key) {
+		return usage.get(key) instanceof Number number ? number.longValue() : 0;
+	}
+
+	private CLIOptions buildCLIOptions(AgentTaskRequest request, String processMarker) {
 		ClaudeAgentOptions options = getEffectiveOptions(request);
 		CLIOptions.Builder builder = CLIOptions.builder();
 
@@ -483,8 +727,11 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 			builder.disallowedTools(options.getDisallowedTools());
 		}
 
-		// Structured output
-		if (options.getJsonSchema() != null && !options.getJsonSchema().isEmpty()) {
+		// Structured output, the schema of the request wins over the configured one
+		if (request.outputSchema() != null && !request.outputSchema().isEmpty()) {
+			builder.jsonSchema(request.outputSchema());
+		}
+		else if (options.getJsonSchema() != null && !options.getJsonSchema().isEmpty()) {
 			builder.jsonSchema(options.getJsonSchema());
 		}
 
@@ -511,6 +758,10 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 			builder.appendSystemPrompt(options.getAppendSystemPrompt());
 		}
 
+		if (processMarker != null) {
+			builder.env(Map.of(ProcessTrees.MARKER_VARIABLE, processMarker));
+		}
+
 		return builder.build();
 	}
 
@@ -525,7 +776,7 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 		return defaultOptions.getModel() != null ? defaultOptions.getModel() : "claude-sonnet-4-20250514";
 	}
 
-	private String formatPrompt(AgentTaskRequest request) {
+	String formatPrompt(AgentTaskRequest request) {
 		StringBuilder prompt = new StringBuilder();
 		if (request.workingDirectory() != null) {
 			prompt.append("You are working in directory: ")
@@ -540,7 +791,7 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 		return prompt.toString();
 	}
 
-	private AgentResponse createErrorResponse(String errorMessage, Duration duration) {
+	AgentResponse createErrorResponse(String errorMessage, Duration duration) {
 		AgentGenerationMetadata generationMetadata = new AgentGenerationMetadata("ERROR", Map.of());
 		List<AgentGeneration> generations = List.of(new AgentGeneration(errorMessage, generationMetadata));
 
@@ -552,6 +803,74 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 		return new AgentResponse(generations, responseMetadata);
 	}
 
+	/**
+	 * Iterator over the responses of one CLI run. The client is closed when the messages
+	 * are exhausted, when the iterator is closed, or at the latest when an abandoned
+	 * iterator is garbage collected.
+	 */
+	private final class ResponseIterator implements Iterator<AgentResponse>, AutoCloseable {
+
+		private final Iterator<ParsedMessage> messageIterator;
+
+		private final Cleaner.Cleanable cleanable;
+
+		private AgentResponse next;
+
+		private boolean closed;
+
+		ResponseIterator(ClaudeSyncClient client, Iterator<ParsedMessage> messageIterator) {
+			this.messageIterator = messageIterator;
+			// The cleaning action must not reference this iterator
+			this.cleanable = ITERATOR_CLEANER.register(this, client::close);
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.closed) {
+				return false;
+			}
+			if (this.next != null) {
+				return true;
+			}
+			while (this.messageIterator.hasNext()) {
+				ParsedMessage parsed = this.messageIterator.next();
+				if (parsed.isRegularMessage()) {
+					AgentResponse response = convertMessageToResponse(parsed.asMessage());
+					if (response != null) {
+						this.next = response;
+						return true;
+					}
+				}
+			}
+			// Close the client when iteration is complete
+			close();
+			return false;
+		}
+
+		@Override
+		public AgentResponse next() {
+			if (!hasNext()) {
+				throw new java.util.NoSuchElementException();
+			}
+			AgentResponse result = this.next;
+			this.next = null;
+			return result;
+		}
+
+		/**
+		 * Stop the run and close the client. Call this when stopping the iteration early.
+		 */
+		@Override
+		public void close() {
+			if (!this.closed) {
+				this.closed = true;
+				this.next = null;
+				this.cleanable.clean();
+			}
+		}
+
+	}
+
 	// ========== Builder ==========
 
 	/**
@@ -571,6 +890,14 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 
 		private Executor asyncExecutor;
 
+		private HookExecutor hookExecutor;
+
+		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		private AgentModelObservationConvention observationConvention;
+
+		private Duration conversationIdleTimeout = Duration.ofMinutes(5);
+
 		private Builder() {
 		}
 
@@ -645,6 +972,56 @@ public class ClaudeAgentModel implements AgentModel, StreamingAgentModel, Iterab
 			return this;
 		}
 
+		/**
+		 * Sets the executor that runs hook callbacks and enforces their timeouts.
+		 * <p>
+		 * Applies to the hook registry of this model. By default, hooks run on a cached
+		 * thread pool with daemon threads, a 60 second timeout and a blocking fallback.
+		 * </p>
+		 * @param hookExecutor the hook executor
+		 * @return this builder
+		 */
+		public Builder hookExecutor(HookExecutor hookExecutor) {
+			this.hookExecutor = hookExecutor;
+			return this;
+		}
+
+		/**
+		 * Sets the registry used to observe {@link AgentModel#call} invocations.
+		 * @param observationRegistry the observation registry
+		 * @return this builder
+		 */
+		public Builder observationRegistry(ObservationRegistry observationRegistry) {
+			this.observationRegistry = observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
+			return this;
+		}
+
+		/**
+		 * Sets a custom convention for call observations.
+		 * @param observationConvention the observation convention
+		 * @return this builder
+		 */
+		public Builder observationConvention(AgentModelObservationConvention observationConvention) {
+			this.observationConvention = observationConvention;
+			return this;
+		}
+
+		/**
+		 * Sets how long a conversation may stay idle between goals before its CLI session
+		 * is closed. Defaults to five minutes.
+		 * @param conversationIdleTimeout the idle timeout
+		 * @return this builder
+		 * @see ClaudeAgentModel#openConversation(Path)
+		 */
+		public Builder conversationIdleTimeout(Duration conversationIdleTimeout) {
+			if (conversationIdleTimeout == null || conversationIdleTimeout.isNegative()
+					|| conversationIdleTimeout.isZero()) {
+				throw new IllegalArgumentException("conversationIdleTimeout must be positive");
+			}
+			this.conversationIdleTimeout = conversationIdleTimeout;
+			return this;
+		}
+
 		/**
 		 * Builds the ClaudeAgentModel.
 		 * @return the configured model
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.agents.model.observation.AgentModelObservationContext;
+import org.springaicommunity.claude.agent.sdk.ClaudeSyncClient;
+
+/**
+ * A multi-turn conversation with Claude that keeps one CLI session alive across several
+ * goals.
+ *
+ * <p>
+ * The first goal starts the CLI with the same task framing as
+ * {@link ClaudeAgentModel#call}. Follow-up goals are sent into the running session as
+ * they are, so the agent keeps the repository context it already built and the CLI
+ * startup cost is paid once:
+ * </p>
+ * <pre>{@code
+ * try (ClaudeConversation conversation = model.openConversation(projectDir)) {
+ *     AgentResponse fix = conversation.send("Fix the failing test in OrderServiceTest");
+ *     AgentResponse verify = conversation.send("Run the tests again and fix what still fails");
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Each turn is observed like an {@link ClaudeAgentModel#call} invocation and reports the
+ * CLI session id in its {@link org.springaicommunity.agents.model.AgentResponseMetadata}.
+ * The session is closed when the conversation stays idle longer than the idle timeout of
+ * the model or when a turn fails; later calls to {@link #send(String)} are rejected.
+ * Turns are serialized, a conversation is a single session.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ * @see ClaudeAgentModel#openConversation(Path)
+ */
+public final class ClaudeConversation implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClaudeConversation.class);
+
+	private static final ScheduledThreadPoolExecutor IDLE_SCHEDULER = new ScheduledThreadPoolExecutor(1, r -> {
+		Thread t = new Thread(r, "claude-conversation-idle");
+		t.setDaemon(true);
+		return t;
+	});
+
+	static {
+		IDLE_SCHEDULER.setRemoveOnCancelPolicy(true);
+	}
+
+	private final ClaudeAgentModel model;
+
+	private final Path workingDirectory;
+
+	private final Duration idleTimeout;
+
+	private ClaudeSyncClient client;
+
+	private String sessionId;
+
+	private int turns;
+
+	private boolean closed;
+
+	private long lastActivityNanos;
+
+	private ScheduledFuture<?> idleClose;
+
+	ClaudeConversation(ClaudeAgentModel model, Path workingDirectory, Duration idleTimeout) {
+		this.model = model;
+		this.workingDirectory = workingDirectory;
+		this.idleTimeout = idleTimeout;
+		this.lastActivityNanos = System.nanoTime();
+		scheduleIdleClose();
+	}
+
+	/**
+	 * Send the next goal of the conversation and wait for the agent to finish it.
+	 * @param goal the goal
+	 * @return the response to the goal
+	 * @throws IllegalStateException if the conversation has been closed
+	 */
+	public AgentResponse send(String goal) {
+		return send(goal, null);
+	}
+
+	/**
+	 * Send the next goal of the conversation and wait for the agent to finish it.
+	 * @param goal the goal
+	 * @param options the options used when this goal starts the session, or {@code null}
+	 * for the default options of the model; ignored for follow-up goals
+	 * @return the response to the goal
+	 * @throws IllegalStateException if the conversation has been closed
+	 */
+	public synchronized AgentResponse send(String goal, ClaudeAgentOptions options) {
+		if (this.closed) {
+			throw new IllegalStateException("Conversation has been closed");
+		}
+		cancelIdleClose();
+		AgentTaskRequest request = AgentTaskRequest.builder(goal, this.workingDirectory).options(options).build();
+		try {
+			return this.model.observe(request, observationContext -> turn(request, observationContext));
+		}
+		finally {
+			this.lastActivityNanos = System.nanoTime();
+			if (!this.closed) {
+				scheduleIdleClose();
+			}
+		}
+	}
+
+	private AgentResponse turn(AgentTaskRequest request, AgentModelObservationContext observationContext) {
+		Instant startTime = Instant.now();
+		try {
+			if (this.client == null) {
+				this.client = this.model.createClient(request);
+				this.client.connect(this.model.formatPrompt(request));
+			}
+			else {
+				this.client.query(request.goal());
+			}
+			observationContext.markCliSpawned();
+
+			AgentResponse response = this.model.collectResponse(this.client.receiveResponse(), startTime,
+					observationContext);
+			String responseSessionId = response.getMetadata().getSessionId();
+			if (responseSessionId != null && !responseSessionId.isEmpty()) {
+				this.sessionId = responseSessionId;
+			}
+			this.turns++;
+			return response;
+		}
+		catch (Exception e) {
+			// The session is in an unknown state, do not send further goals into it
+			logger.error("Conversation turn failed, closing session {}", this.sessionId, e);
+			close();
+			return this.model.createErrorResponse(e.getMessage(), Duration.between(startTime, Instant.now()));
+		}
+	}
+
+	/**
+	 * Get the id of the CLI session.
+	 * @return the session id, or {@code null} before the first turn completed
+	 */
+	public synchronized String getSessionId() {
+		return this.sessionId;
+	}
+
+	/**
+	 * Get the number of completed turns.
+	 * @return the number of turns
+	 */
+	public synchronized int getTurnCount() {
+		return this.turns;
+	}
+
+	/**
+	 * Get the working directory of the session.
+	 * @return the working directory
+	 */
+	public Path getWorkingDirectory() {
+		return this.workingDirectory;
+	}
+
+	/**
+	 * Whether goals can still be sent.
+	 * @return {@code true} until the conversation is closed explicitly, after failing or
+	 * after being idle
+	 */
+	public synchronized boolean isOpen() {
+		return !this.closed;
+	}
+
+	/**
+	 * Close the conversation and its CLI session.
+	 */
+	@Override
+	public synchronized void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		cancelIdleClose();
+		if (this.client != null) {
+			try {
+				this.client.close();
+			}
+			catch (Exception e) {
+				logger.debug("Failed to close conversation session {}: {}", this.sessionId, e.getMessage());
+			}
+			this.client = null;
+		}
+		this.model.conversationClosed(this);
+	}
+
+	private synchronized void closeIfIdle() {
+		// A turn that ended while this task waited for the lock counts as activity
+		if (!this.closed && System.nanoTime() - this.lastActivityNanos >= this.idleTimeout.toNanos()) {
+			logger.debug("Closing conversation session {} after {} idle", this.sessionId, this.idleTimeout);
+			close();
+		}
+	}
+
+	private void scheduleIdleClose() {
+		this.idleClose = IDLE_SCHEDULER.schedule(this::closeIfIdle, this.idleTimeout.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	private void cancelIdleClose() {
+		if (this.idleClose != null) {
+			this.idleClose.cancel(false);
+			this.idleClose = null;
+		}
+	}
+
+}
@@ -18,6 +18,8 @@ package org.springaicommunity.agents.claude.annotation;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.claude.hook.GuardedHookRegistry;
+import org.springaicommunity.agents.claude.hook.HookExecutor;
 import org.springaicommunity.claude.agent.sdk.hooks.HookCallback;
 import org.springaicommunity.claude.agent.sdk.hooks.HookRegistration;
 import org.springaicommunity.claude.agent.sdk.hooks.HookRegistry;
@@ -25,6 +27,7 @@ import org.springaicommunity.claude.agent.sdk.types.control.HookEvent;
 import org.springaicommunity.claude.agent.sdk.types.control.HookInput;
 import org.springaicommunity.claude.agent.sdk.types.control.HookOutput;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.aot.AotDetector;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.core.Ordered;
@@ -33,6 +36,9 @@ import org.springframework.util.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -51,8 +57,16 @@ import java.util.regex.Pattern;
  *
  * <p>
  * Each annotated method is wrapped in a {@link HookCallback} and registered with the
- * {@link HookRegistry}. This allows annotation-based hook definition while using the same
- * underlying infrastructure as programmatic registration.
+ * {@link HookRegistry}. Callbacks invoke the method through a generated lambda or a bound
+ * method handle rather than reflection, and run on the {@link HookExecutor} with the
+ * annotation's {@code timeout()} enforced. This allows annotation-based hook definition
+ * while using the same underlying infrastructure as programmatic registration.
+ * </p>
+ *
+ * <p>
+ * When running with AOT-generated artifacts, hook methods are discovered at build time by
+ * {@link ClaudeHookBeanRegistrationAotProcessor} and this processor skips the runtime
+ * method scan.
  * </p>
  *
  * @author Spring AI Community
@@ -62,26 +76,84 @@ public class ClaudeHookBeanPostProcessor implements BeanPostProcessor, Ordered {
 
 	private static final Logger logger = LoggerFactory.getLogger(ClaudeHookBeanPostProcessor.class);
 
-	private final HookRegistry hookRegistry;
+	private static final List<Class<? extends Annotation>> HOOK_ANNOTATIONS = List.of(PreToolUse.class,
+			PostToolUse.class, UserPromptSubmit.class, Stop.class);
+
+	private final GuardedHookRegistry guardedHooks;
+
+	private final boolean aotMode;
 
 	public ClaudeHookBeanPostProcessor(HookRegistry hookRegistry) {
-		this.hookRegistry = hookRegistry;
+		this(hookRegistry, AotDetector.useGeneratedArtifacts());
+	}
+
+	/**
+	 * Create a processor whose hooks run on the given executor.
+	 * @param hookRegistry the registry to add discovered hooks to
+	 * @param hookExecutor the executor enforcing hook timeouts
+	 */
+	public ClaudeHookBeanPostProcessor(HookRegistry hookRegistry, HookExecutor hookExecutor) {
+		this(hookRegistry, hookExecutor, AotDetector.useGeneratedArtifacts());
+	}
+
+	ClaudeHookBeanPostProcessor(HookRegistry hookRegistry, boolean aotMode) {
+		this(hookRegistry, HookExecutor.builder().build(), aotMode);
+	}
+
+	ClaudeHookBeanPostProcessor(HookRegistry hookRegistry, HookExecutor hookExecutor, boolean aotMode) {
+		this.guardedHooks = new GuardedHookRegistry(hookRegistry, hookExecutor);
+		this.aotMode = aotMode;
 	}
 
 	@Override
 	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
-		Class<?> targetClass = AopUtils.getTargetClass(bean);
+		if (this.aotMode) {
+			// Hook methods were discovered at build time and registered by
+			// ClaudeHookBeanRegistrationAotProcessor-generated code
+			return bean;
+		}
 
-		ReflectionUtils.doWithMethods(targetClass, method -> {
-			processPreToolUse(bean, beanName, method);
-			processPostToolUse(bean, beanName, method);
-			processUserPromptSubmit(bean, beanName, method);
-			processStop(bean, beanName, method);
-		});
+		Class<?> targetClass = AopUtils.getTargetClass(bean);
+		for (Method method : findHookMethods(targetClass)) {
+			registerHookMethod(bean, beanName, method);
+		}
 
 		return bean;
 	}
 
+	/**
+	 * Register a single hook method of a bean.
+	 * @param bean the bean instance
+	 * @param beanName the bean name, used as hook id prefix
+	 * @param method a method annotated with one of the hook annotations
+	 */
+	void registerHookMethod(Object bean, String beanName, Method method) {
+		processPreToolUse(bean, beanName, method);
+		processPostToolUse(bean, beanName, method);
+		processUserPromptSubmit(bean, beanName, method);
+		processStop(bean, beanName, method);
+	}
+
+	/**
+	 * Find all methods of a class annotated with a hook annotation.
+	 * @param targetClass the class to inspect
+	 * @return hook methods, empty if none
+	 */
+	static List<Method> findHookMethods(Class<?> targetClass) {
+		List<Method> methods = new ArrayList<>();
+		ReflectionUtils.doWithMethods(targetClass, methods::add, ClaudeHookBeanPostProcessor::isHookMethod);
+		return methods;
+	}
+
+	private static boolean isHookMethod(Method method) {
+		for (Class<? extends Annotation> annotationType : HOOK_ANNOTATIONS) {
+			if (AnnotationUtils.findAnnotation(method, annotationType) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private void processPreToolUse(Object bean, String beanName, Method method) {
 		PreToolUse annotation = AnnotationUtils.findAnnotation(method, PreToolUse.class);
 		if (annotation == null) {
@@ -93,11 +165,11 @@ public class ClaudeHookBeanPostProcessor implements BeanPostProcessor, Ordered {
 		String hookId = generateHookId(beanName, method);
 		Pattern pattern = parsePattern(annotation.pattern());
 
-		HookCallback callback = createCallback(bean, method);
+		HookCallback callback = createCallback(hookId, bean, method, annotation.timeout());
 		HookRegistration registration = new HookRegistration(hookId, HookEvent.PRE_TOOL_USE, pattern, callback,
 				annotation.timeout());
 
-		hookRegistry.register(registration);
+		guardedHooks.register(registration);
 		logger.info("Registered @PreToolUse hook: {} (pattern: {})", hookId, pattern != null ? pattern.pattern() : "*");
 	}
 
@@ -112,11 +184,11 @@ public class ClaudeHookBeanPostProcessor implements BeanPostProcessor, Ordered {
 		String hookId = generateHookId(beanName, method);
 		Pattern pattern = parsePattern(annotation.pattern());
 
-		HookCallback callback = createCallback(bean, method);
+		HookCallback callback = createCallback(hookId, bean, method, annotation.timeout());
 		HookRegistration registration = new HookRegistration(hookId, HookEvent.POST_TOOL_USE, pattern, callback,
 				annotation.timeout());
 
-		hookRegistry.register(registration);
+		guardedHooks.register(registration);
 		logger.info("Registered @PostToolUse hook: {} (pattern: {})", hookId,
 				pattern != null ? pattern.pattern() : "*");
 	}
@@ -131,11 +203,11 @@ public class ClaudeHookBeanPostProcessor implements BeanPostProcessor, Ordered {
 
 		String hookId = generateHookId(beanName, method);
 
-		HookCallback callback = createCallback(bean, method);
+		HookCallback callback = createCallback(hookId, bean, method, annotation.timeout());
 		HookRegistration registration = new HookRegistration(hookId, HookEvent.USER_PROMPT_SUBMIT, null, callback,
 				annotation.timeout());
 
-		hookRegistry.register(registration);
+		guardedHooks.register(registration);
 		logger.info("Registered @UserPromptSubmit hook: {}", hookId);
 	}
 
@@ -149,11 +221,11 @@ public class ClaudeHookBeanPostProcessor implements BeanPostProcessor, Ordered {
 
 		String hookId = generateHookId(beanName, method);
 
-		HookCallback callback = createCallback(bean, method);
+		HookCallback callback = createCallback(hookId, bean, method, annotation.timeout());
 		HookRegistration registration = new HookRegistration(hookId, HookEvent.STOP, null, callback,
 				annotation.timeout());
 
-		hookRegistry.register(registration);
+		guardedHooks.register(registration);
 		logger.info("Registered @Stop hook: {}", hookId);
 	}
 
@@ -168,25 +240,9 @@ public class ClaudeHookBeanPostProcessor implements BeanPostProcessor, Ordered {
 		return Pattern.compile(patternString);
 	}
 
-	private HookCallback createCallback(Object bean, Method method) {
-		ReflectionUtils.makeAccessible(method);
-		Class<?> returnType = method.getReturnType();
-		boolean voidReturn = void.class.equals(returnType) || Void.class.equals(returnType);
-
-		return input -> {
-			try {
-				Object result = method.invoke(bean, input);
-				if (voidReturn || result == null) {
-					return HookOutput.allow();
-				}
-				return (HookOutput) result;
-			}
-			catch (Exception e) {
-				logger.error("Hook execution failed: {}.{}", bean.getClass().getSimpleName(), method.getName(), e);
-				Throwable cause = e.getCause() != null ? e.getCause() : e;
-				return HookOutput.block("Hook execution failed: " + cause.getMessage());
-			}
-		};
+	private HookCallback createCallback(String hookId, Object bean, Method method, int timeoutSeconds) {
+		return guardedHooks.guard(hookId, HookMethodCallbacks.create(bean, method),
+				Duration.ofSeconds(timeoutSeconds));
 	}
 
 	private void validateMethodSignature(Method method, Class<? extends Annotation> annotationType) {
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.annotation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.claude.hook.HookExecutor;
+import org.springaicommunity.claude.agent.sdk.hooks.HookRegistry;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import javax.lang.model.element.Modifier;
+
+/**
+ * {@link BeanRegistrationAotProcessor} that discovers Claude hook methods at build time.
+ *
+ * <p>
+ * For every bean declaring {@link PreToolUse}, {@link PostToolUse},
+ * {@link UserPromptSubmit} or {@link Stop} methods, the generated bean registration code
+ * gets an instance post processor that registers exactly those methods with the
+ * {@link HookRegistry}. At runtime, {@link ClaudeHookBeanPostProcessor} then skips its
+ * per-bean method scan. The hook methods are also registered for reflection so they can
+ * be invoked in a native image.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class ClaudeHookBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClaudeHookBeanRegistrationAotProcessor.class);
+
+	@Override
+	public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+		if (!isHookProcessingEnabled(registeredBean.getBeanFactory())) {
+			return null;
+		}
+		Class<?> beanClass = registeredBean.getBeanClass();
+		List<Method> hookMethods = ClaudeHookBeanPostProcessor.findHookMethods(beanClass);
+		if (hookMethods.isEmpty()) {
+			return null;
+		}
+		return new HookMethodsContribution(registeredBean, hookMethods);
+	}
+
+	/**
+	 * Register hook methods discovered at build time. Invoked from generated code. The
+	 * hooks run on the application's {@link HookExecutor} bean, like those registered by
+	 * the runtime scan.
+	 * @param registeredBean the bean being created
+	 * @param instance the bean instance
+	 * @param methodNames names of the hook methods declared by the bean class
+	 */
+	public static void registerHooks(RegisteredBean registeredBean, Object instance, String... methodNames) {
+		HookRegistry hookRegistry = registeredBean.getBeanFactory().getBeanProvider(HookRegistry.class).getIfUnique();
+		if (hookRegistry == null) {
+			logger.warn("No unique HookRegistry available, skipping hooks of bean '{}'", registeredBean.getBeanName());
+			return;
+		}
+		HookExecutor hookExecutor = registeredBean.getBeanFactory()
+			.getBeanProvider(HookExecutor.class)
+			.getIfUnique(() -> HookExecutor.builder().build());
+		ClaudeHookBeanPostProcessor processor = new ClaudeHookBeanPostProcessor(hookRegistry, hookExecutor, false);
+		Class<?> beanClass = registeredBean.getBeanClass();
+		for (String methodName : methodNames) {
+			Method method = ReflectionUtils.findMethod(beanClass, methodName, (Class<?>[]) null);
+			if (method == null) {
+				throw new IllegalStateException("Hook method '" + methodName + "' not found on " + beanClass.getName()
+						+ "; rerun AOT processing");
+			}
+			processor.registerHookMethod(instance, registeredBean.getBeanName(), method);
+		}
+	}
+
+	private static boolean isHookProcessingEnabled(ConfigurableListableBeanFactory beanFactory) {
+		return beanFactory.getBeanNamesForType(ClaudeHookBeanPostProcessor.class, true, false).length > 0;
+	}
+
+	private static class HookMethodsContribution implements BeanRegistrationAotContribution {
+
+		private static final String REGISTERED_BEAN_PARAMETER = "registeredBean";
+
+		private static final String INSTANCE_PARAMETER = "instance";
+
+		private final RegisteredBean registeredBean;
+
+		private final List<Method> hookMethods;
+
+		HookMethodsContribution(RegisteredBean registeredBean, List<Method> hookMethods) {
+			this.registeredBean = registeredBean;
+			this.hookMethods = hookMethods;
+		}
+
+		@Override
+		public void applyTo(GenerationContext generationContext, BeanRegistrationCode beanRegistrationCode) {
+			for (Method method : this.hookMethods) {
+				generationContext.getRuntimeHints().reflection().registerMethod(method, ExecutableMode.INVOKE);
+			}
+
+			ClassName beanType = ClassName.get(this.registeredBean.getBeanClass());
+			CodeBlock methodNames = this.hookMethods.stream()
+				.map(method -> CodeBlock.of("$S", method.getName()))
+				.collect(CodeBlock.joining(", "));
+
+			GeneratedMethod generatedMethod = beanRegistrationCode.getMethods().add("registerClaudeHooks", method -> {
+				method.addJavadoc("Register Claude hook methods discovered at build time.");
+				method.addModifiers(Modifier.PRIVATE, Modifier.STATIC);
+				method.addParameter(RegisteredBean.class, REGISTERED_BEAN_PARAMETER);
+				method.addParameter(beanType, INSTANCE_PARAMETER);
+				method.returns(beanType);
+				method.addStatement("$T.registerHooks($L, $L, $L)", ClaudeHookBeanRegistrationAotProcessor.class,
+						REGISTERED_BEAN_PARAMETER, INSTANCE_PARAMETER, methodNames);
+				method.addStatement("return $L", INSTANCE_PARAMETER);
+			});
+			beanRegistrationCode.addInstancePostProcessor(generatedMethod.toMethodReference());
+		}
+
+	}
+
+}
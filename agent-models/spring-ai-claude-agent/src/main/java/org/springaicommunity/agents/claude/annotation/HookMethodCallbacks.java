@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.annotation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.claude.agent.sdk.hooks.HookCallback;
+import org.springaicommunity.claude.agent.sdk.types.control.HookInput;
+import org.springaicommunity.claude.agent.sdk.types.control.HookOutput;
+import org.springframework.core.NativeDetector;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Creates {@link HookCallback}s for annotated hook methods without reflective invocation
+ * on the hot path.
+ *
+ * <p>
+ * Public methods on public, visible classes are bound through {@link LambdaMetafactory},
+ * which yields a call as cheap as a hand-written lambda. Other methods (private methods,
+ * package-private classes) are invoked through a bound {@link MethodHandle}, which still
+ * avoids the argument array and access checks of {@link Method#invoke}.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+final class HookMethodCallbacks {
+
+	private static final Logger logger = LoggerFactory.getLogger(HookMethodCallbacks.class);
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, HookInput.class);
+
+	private HookMethodCallbacks() {
+		// Utility class - prevent instantiation
+	}
+
+	/**
+	 * Create a callback that invokes the given hook method on the bean.
+	 * @param bean the bean declaring the hook (ignored for static methods)
+	 * @param method the validated hook method
+	 * @return callback returning {@link HookOutput#allow()} for void or null results and
+	 * blocking if the method throws
+	 */
+	static HookCallback create(Object bean, Method method) {
+		Class<?> returnType = method.getReturnType();
+		boolean voidReturn = void.class.equals(returnType) || Void.class.equals(returnType);
+		HookInvoker invoker = createInvoker(bean, method, voidReturn);
+		String hookName = bean.getClass().getSimpleName() + "." + method.getName();
+
+		return input -> {
+			try {
+				Object result = invoker.invoke(input);
+				if (voidReturn || result == null) {
+					return HookOutput.allow();
+				}
+				return (HookOutput) result;
+			}
+			catch (Throwable ex) {
+				logger.error("Hook execution failed: {}", hookName, ex);
+				return HookOutput.block("Hook execution failed: " + ex.getMessage());
+			}
+		};
+	}
+
+	static HookInvoker createInvoker(Object bean, Method method, boolean voidReturn) {
+		boolean isStatic = Modifier.isStatic(method.getModifiers());
+		if (isLambdaCompatible(bean, method, isStatic)) {
+			try {
+				return createLambdaInvoker(bean, method, isStatic, voidReturn);
+			}
+			catch (Throwable ex) {
+				logger.debug("Falling back to MethodHandle invocation for {}: {}", method, ex.toString());
+			}
+		}
+		return createMethodHandleInvoker(bean, method, isStatic);
+	}
+
+	private static boolean isLambdaCompatible(Object bean, Method method, boolean isStatic) {
+		if (NativeDetector.inNativeImage()) {
+			// Native images cannot spin lambda classes at runtime
+			return false;
+		}
+		Class<?> declaringClass = method.getDeclaringClass();
+		return Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(declaringClass.getModifiers())
+				&& (isStatic || declaringClass.isInstance(bean))
+				&& ClassUtils.isVisible(declaringClass, HookMethodCallbacks.class.getClassLoader())
+				&& ClassUtils.isVisible(method.getParameterTypes()[0], HookMethodCallbacks.class.getClassLoader());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static HookInvoker createLambdaInvoker(Object bean, Method method, boolean isStatic, boolean voidReturn)
+			throws Throwable {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodHandle implementation = lookup.unreflect(method);
+		Class<?> declaringClass = method.getDeclaringClass();
+		Class<?> parameterType = method.getParameterTypes()[0];
+		MethodType factoryType = isStatic ? MethodType.methodType(voidReturn ? Consumer.class : Function.class)
+				: MethodType.methodType(voidReturn ? Consumer.class : Function.class, declaringClass);
+
+		if (voidReturn) {
+			CallSite site = LambdaMetafactory.metafactory(lookup, "accept", factoryType,
+					MethodType.methodType(void.class, Object.class), implementation,
+					MethodType.methodType(void.class, parameterType));
+			Consumer<HookInput> consumer = (Consumer<HookInput>) (isStatic ? site.getTarget().invoke()
+					: site.getTarget().invoke(bean));
+			return input -> {
+				consumer.accept(input);
+				return null;
+			};
+		}
+
+		CallSite site = LambdaMetafactory.metafactory(lookup, "apply", factoryType,
+				MethodType.methodType(Object.class, Object.class), implementation,
+				MethodType.methodType(method.getReturnType(), parameterType));
+		Function<HookInput, Object> function = (Function<HookInput, Object>) (isStatic ? site.getTarget().invoke()
+				: site.getTarget().invoke(bean));
+		return function::apply;
+	}
+
+	private static HookInvoker createMethodHandleInvoker(Object bean, Method method, boolean isStatic) {
+		ReflectionUtils.makeAccessible(method);
+		MethodHandle handle;
+		try {
+			handle = MethodHandles.lookup().unreflect(method);
+		}
+		catch (IllegalAccessException ex) {
+			throw new IllegalStateException("Cannot access hook method " + method, ex);
+		}
+		MethodHandle bound = (isStatic ? handle : handle.bindTo(bean)).asType(INVOKER_TYPE);
+		return input -> (Object) bound.invokeExact(input);
+	}
+
+	/**
+	 * Invokes a hook method with a single {@link HookInput} argument.
+	 */
+	@FunctionalInterface
+	interface HookInvoker {
+
+		Object invoke(HookInput input) throws Throwable;
+
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.aot;
+
+import org.springaicommunity.agents.claude.AgentDefinition;
+import org.springaicommunity.agents.claude.ClaudeAgentModel;
+import org.springaicommunity.agents.claude.ClaudeAgentOptions;
+import org.springaicommunity.agents.claude.SettingSource;
+import org.springaicommunity.agents.claude.SystemPrompt;
+import org.springaicommunity.agents.claude.annotation.PostToolUse;
+import org.springaicommunity.agents.claude.annotation.PreToolUse;
+import org.springaicommunity.agents.claude.annotation.Stop;
+import org.springaicommunity.agents.claude.annotation.UserPromptSubmit;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Native image runtime hints for the Claude agent model, its options and the Claude SDK
+ * message, control and MCP types that are bound from CLI JSON output.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class ClaudeAgentRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final List<Class<?>> AGENT_TYPES = List.of(ClaudeAgentModel.class, ClaudeAgentOptions.class,
+			AgentDefinition.class, SystemPrompt.class, SystemPrompt.StringPrompt.class,
+			SystemPrompt.PresetPrompt.class, SettingSource.class, PreToolUse.class, PostToolUse.class,
+			UserPromptSubmit.class, Stop.class);
+
+	/**
+	 * SDK packages whose types are created from JSON by reflection.
+	 */
+	private static final List<String> SDK_PACKAGES = List.of("org.springaicommunity.claude.agent.sdk.types",
+			"org.springaicommunity.claude.agent.sdk.mcp");
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		for (Class<?> type : AGENT_TYPES) {
+			hints.reflection().registerType(type, MemberCategory.values());
+		}
+		for (String packageName : SDK_PACKAGES) {
+			for (TypeReference type : findClassesInPackage(packageName, classLoader)) {
+				hints.reflection().registerType(type, MemberCategory.values());
+			}
+		}
+	}
+
+	static Set<TypeReference> findClassesInPackage(String packageName, ClassLoader classLoader) {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+				// Include records, enums, interfaces and nested types
+				return true;
+			}
+
+		};
+		scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+		if (classLoader != null) {
+			scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+		}
+
+		Set<TypeReference> types = new LinkedHashSet<>();
+		for (BeanDefinition candidate : scanner.findCandidateComponents(packageName)) {
+			types.add(TypeReference.of(candidate.getBeanClassName()));
+		}
+		return types;
+	}
+
+}
@@ -15,8 +15,11 @@
  */
 package org.springaicommunity.agents.claude.autoconfigure;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springaicommunity.agents.claude.ClaudeAgentModel;
 import org.springaicommunity.agents.claude.ClaudeAgentOptions;
+import org.springaicommunity.agents.claude.hook.HookExecutor;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
 import org.springaicommunity.claude.agent.sdk.hooks.HookRegistry;
 import org.springaicommunity.claude.agent.sdk.mcp.McpServerConfig;
 import org.springframework.beans.factory.ObjectProvider;
@@ -54,12 +57,16 @@ public class ClaudeAgentAutoConfiguration {
 	 * <li>{@link org.springaicommunity.agents.model.IterableAgentModel} - Iterator</li>
 	 * </ul>
 	 * @param properties agent configuration properties
+	 * @param observationRegistry registry used to observe agent calls, if available
+	 * @param observationConvention custom convention for agent call observations
 	 * @return configured Claude Code agent model
 	 */
 	@Bean
 	@ConditionalOnMissingBean
 	public ClaudeAgentModel claudeAgentModel(ClaudeAgentProperties properties, ClaudeAgentMcpProperties mcpProperties,
-			ObjectProvider<HookRegistry> hookRegistryProvider) {
+			ObjectProvider<HookRegistry> hookRegistryProvider, ObjectProvider<HookExecutor> hookExecutorProvider,
+			ObjectProvider<ObservationRegistry> observationRegistry,
+			ObjectProvider<AgentModelObservationConvention> observationConvention) {
 		ClaudeAgentOptions.Builder optionsBuilder = ClaudeAgentOptions.builder()
 			.model(properties.getModel())
 			.timeout(properties.getTimeout())
@@ -112,6 +119,11 @@ public class ClaudeAgentAutoConfiguration {
 
 		// Inject hook registry if available (from ClaudeHookAutoConfiguration)
 		hookRegistryProvider.ifAvailable(builder::hookRegistry);
+		hookExecutorProvider.ifAvailable(builder::hookExecutor);
+
+		// Observe calls when an observation registry is available (e.g. from Actuator)
+		observationRegistry.ifUnique(builder::observationRegistry);
+		observationConvention.ifAvailable(builder::observationConvention);
 
 		return builder.build();
 	}
@@ -18,10 +18,12 @@ package org.springaicommunity.agents.claude.autoconfigure;
 
 import org.springaicommunity.agents.claude.ClaudeAgentModel;
 import org.springaicommunity.agents.claude.annotation.ClaudeHookBeanPostProcessor;
+import org.springaicommunity.agents.claude.hook.HookExecutor;
 import org.springaicommunity.claude.agent.sdk.hooks.HookRegistry;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
 /**
@@ -32,6 +34,7 @@ import org.springframework.context.annotation.Bean;
  * </p>
  * <ul>
  * <li>A {@link HookRegistry} bean for hook registration</li>
+ * <li>A {@link HookExecutor} that runs hooks with their timeout enforced</li>
  * <li>A {@link ClaudeHookBeanPostProcessor} that discovers annotated hook methods</li>
  * </ul>
  *
@@ -46,6 +49,7 @@ import org.springframework.context.annotation.Bean;
  */
 @AutoConfiguration(before = ClaudeAgentAutoConfiguration.class)
 @ConditionalOnClass(ClaudeAgentModel.class)
+@EnableConfigurationProperties(ClaudeHookProperties.class)
 public class ClaudeHookAutoConfiguration {
 
 	/**
@@ -66,6 +70,25 @@ public class ClaudeHookAutoConfiguration {
 		return new HookRegistry();
 	}
 
+	/**
+	 * Creates the executor that runs hook callbacks if one doesn't exist.
+	 *
+	 * <p>
+	 * Define a custom {@link HookExecutor} bean to run hooks on a different executor,
+	 * for example virtual threads on Java 21.
+	 * </p>
+	 * @param properties the hook properties
+	 * @return the hook executor
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public HookExecutor hookExecutor(ClaudeHookProperties properties) {
+		return HookExecutor.builder()
+			.defaultTimeout(properties.getDefaultTimeout())
+			.timeoutFallback(properties.getTimeoutFallback())
+			.build();
+	}
+
 	/**
 	 * Creates the bean post processor that discovers and registers annotated hooks.
 	 *
@@ -79,11 +102,13 @@ public class ClaudeHookAutoConfiguration {
 	 * <li>{@link org.springaicommunity.agents.claude.annotation.Stop}</li>
 	 * </ul>
 	 * @param hookRegistry the registry to add discovered hooks to
+	 * @param hookExecutor the executor that runs discovered hooks
 	 * @return the configured bean post processor
 	 */
 	@Bean
-	public ClaudeHookBeanPostProcessor claudeHookBeanPostProcessor(HookRegistry hookRegistry) {
-		return new ClaudeHookBeanPostProcessor(hookRegistry);
+	public ClaudeHookBeanPostProcessor claudeHookBeanPostProcessor(HookRegistry hookRegistry,
+			HookExecutor hookExecutor) {
+		return new ClaudeHookBeanPostProcessor(hookRegistry, hookExecutor);
 	}
 
 }
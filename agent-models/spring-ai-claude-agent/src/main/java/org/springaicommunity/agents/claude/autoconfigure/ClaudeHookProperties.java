@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.autoconfigure;
+
+import org.springaicommunity.agents.claude.hook.HookExecutor;
+import org.springaicommunity.agents.claude.hook.HookFallback;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for Claude hook execution.
+ *
+ * <p>
+ * Hooks run on a dedicated executor that enforces their timeout. Properties in the
+ * {@code spring.ai.agents.claude-code.hooks} namespace control what happens when a hook
+ * does not complete in time.
+ *
+ * <p>
+ * Example configuration:
+ *
+ * <pre>
+ * spring:
+ *   ai:
+ *     agents:
+ *       claude-code:
+ *         hooks:
+ *           default-timeout: 10s
+ *           timeout-fallback: allow
+ * </pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+@ConfigurationProperties(prefix = "spring.ai.agents.claude-code.hooks")
+public class ClaudeHookProperties {
+
+	/**
+	 * Timeout for hooks registered without an explicit timeout.
+	 */
+	private Duration defaultTimeout = HookExecutor.DEFAULT_TIMEOUT;
+
+	/**
+	 * Decision applied when a hook times out or cannot be scheduled.
+	 */
+	private HookFallback timeoutFallback = HookFallback.BLOCK;
+
+	public Duration getDefaultTimeout() {
+		return defaultTimeout;
+	}
+
+	public void setDefaultTimeout(Duration defaultTimeout) {
+		this.defaultTimeout = defaultTimeout;
+	}
+
+	public HookFallback getTimeoutFallback() {
+		return timeoutFallback;
+	}
+
+	public void setTimeoutFallback(HookFallback timeoutFallback) {
+		this.timeoutFallback = timeoutFallback;
+	}
+
+}
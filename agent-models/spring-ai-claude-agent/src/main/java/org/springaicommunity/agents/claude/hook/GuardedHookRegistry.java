@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.hook;
+
+import org.springaicommunity.claude.agent.sdk.hooks.HookCallback;
+import org.springaicommunity.claude.agent.sdk.hooks.HookRegistration;
+import org.springaicommunity.claude.agent.sdk.hooks.HookRegistry;
+
+import java.time.Duration;
+
+/**
+ * Registers hooks on a {@link HookRegistry} so that their callbacks run on a
+ * {@link HookExecutor}, which enforces the hook timeout and records per-hook statistics.
+ *
+ * <p>
+ * Tool-name matching stays with the CLI: the registry's patterns are sent in the
+ * initialize request and the CLI calls back only the hooks that match.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class GuardedHookRegistry {
+
+	private final HookRegistry registry;
+
+	private final HookExecutor hookExecutor;
+
+	/**
+	 * Create a guarded view of a registry.
+	 * @param registry the hook registry
+	 * @param hookExecutor the executor that runs hook callbacks
+	 */
+	public GuardedHookRegistry(HookRegistry registry, HookExecutor hookExecutor) {
+		this.registry = registry;
+		this.hookExecutor = hookExecutor;
+	}
+
+	/**
+	 * Get the underlying registry.
+	 * @return the hook registry
+	 */
+	public HookRegistry getRegistry() {
+		return this.registry;
+	}
+
+	/**
+	 * Get the executor that runs hook callbacks registered through this view.
+	 * @return the hook executor
+	 */
+	public HookExecutor getHookExecutor() {
+		return this.hookExecutor;
+	}
+
+	/**
+	 * Wrap a callback so it runs on the hook executor with the given timeout.
+	 * @param hookId the hook id
+	 * @param callback the callback
+	 * @param timeout the hook timeout, or null for the executor default
+	 * @return the guarded callback
+	 */
+	public HookCallback guard(String hookId, HookCallback callback, Duration timeout) {
+		return this.hookExecutor.guard(hookId, callback, timeout);
+	}
+
+	// ========== Registration ==========
+
+	/**
+	 * Registers a hook. The registration's callback is used as is; wrap it with
+	 * {@link #guard} to enforce its timeout.
+	 * @param registration the hook registration
+	 */
+	public void register(HookRegistration registration) {
+		this.registry.register(registration);
+	}
+
+	/**
+	 * Registers a pre-tool-use hook for tools matching the pattern.
+	 * @param toolPattern regex pattern for tool names
+	 * @param callback the hook callback
+	 * @return the generated hook ID
+	 */
+	public String registerPreToolUse(String toolPattern, HookCallback callback) {
+		HookExecutor.GuardedHook guarded = this.hookExecutor.guardUnbound(callback, null);
+		String id = this.registry.registerPreToolUse(toolPattern, guarded.callback());
+		guarded.bind(id);
+		return id;
+	}
+
+	/**
+	 * Registers a pre-tool-use hook for all tools.
+	 * @param callback the hook callback
+	 * @return the generated hook ID
+	 */
+	public String registerPreToolUse(HookCallback callback) {
+		HookExecutor.GuardedHook guarded = this.hookExecutor.guardUnbound(callback, null);
+		String id = this.registry.registerPreToolUse(guarded.callback());
+		guarded.bind(id);
+		return id;
+	}
+
+	/**
+	 * Registers a post-tool-use hook for tools matching the pattern.
+	 * @param toolPattern regex pattern for tool names
+	 * @param callback the hook callback
+	 * @return the generated hook ID
+	 */
+	public String registerPostToolUse(String toolPattern, HookCallback callback) {
+		HookExecutor.GuardedHook guarded = this.hookExecutor.guardUnbound(callback, null);
+		String id = this.registry.registerPostToolUse(toolPattern, guarded.callback());
+		guarded.bind(id);
+		return id;
+	}
+
+	/**
+	 * Registers a post-tool-use hook for all tools.
+	 * @param callback the hook callback
+	 * @return the generated hook ID
+	 */
+	public String registerPostToolUse(HookCallback callback) {
+		HookExecutor.GuardedHook guarded = this.hookExecutor.guardUnbound(callback, null);
+		String id = this.registry.registerPostToolUse(guarded.callback());
+		guarded.bind(id);
+		return id;
+	}
+
+	/**
+	 * Registers a user-prompt-submit hook.
+	 * @param callback the hook callback
+	 * @return the generated hook ID
+	 */
+	public String registerUserPromptSubmit(HookCallback callback) {
+		HookExecutor.GuardedHook guarded = this.hookExecutor.guardUnbound(callback, null);
+		String id = this.registry.registerUserPromptSubmit(guarded.callback());
+		guarded.bind(id);
+		return id;
+	}
+
+	/**
+	 * Registers a stop hook.
+	 * @param callback the hook callback
+	 * @return the generated hook ID
+	 */
+	public String registerStop(HookCallback callback) {
+		HookExecutor.GuardedHook guarded = this.hookExecutor.guardUnbound(callback, null);
+		String id = this.registry.registerStop(guarded.callback());
+		guarded.bind(id);
+		return id;
+	}
+
+	/**
+	 * Unregisters a hook by ID.
+	 * @param hookId the hook ID to remove
+	 * @return true if removed, false if not found
+	 */
+	public boolean unregister(String hookId) {
+		boolean removed = this.registry.unregister(hookId);
+		if (removed) {
+			this.hookExecutor.forget(hookId);
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes all hooks.
+	 */
+	public void clear() {
+		this.registry.clear();
+		this.hookExecutor.forgetAll();
+	}
+
+}
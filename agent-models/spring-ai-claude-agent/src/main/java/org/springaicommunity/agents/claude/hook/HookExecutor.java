@@ -0,0 +1,352 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.hook;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.claude.agent.sdk.hooks.HookCallback;
+import org.springaicommunity.claude.agent.sdk.hooks.HookRegistry;
+import org.springaicommunity.claude.agent.sdk.types.control.HookInput;
+import org.springaicommunity.claude.agent.sdk.types.control.HookOutput;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs hook callbacks on a dedicated executor and enforces their timeout.
+ *
+ * <p>
+ * Hooks are invoked by the SDK on the thread that reads CLI messages, so a slow hook
+ * stalls the whole message stream. Callbacks guarded by this executor are handed off to
+ * a separate executor; the reading thread waits at most the hook's timeout, after which
+ * the hook is interrupted and the configured {@link HookFallback} decision is returned.
+ * The same fallback applies when the executor rejects the task. Exceptions thrown by a
+ * hook block the tool use, matching annotated hook behavior.
+ * </p>
+ *
+ * <p>
+ * Per-hook latency, timeout and failure counts are available from
+ * {@link #getStatistics()}. Java 21 users can supply
+ * {@code Executors.newVirtualThreadPerTaskExecutor()} via the builder.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class HookExecutor {
+
+	private static final Logger logger = LoggerFactory.getLogger(HookExecutor.class);
+
+	/**
+	 * Timeout used for hooks registered without an explicit timeout, matching the
+	 * annotation default.
+	 */
+	public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60);
+
+	/**
+	 * Default executor using cached thread pool with daemon threads.
+	 */
+	private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+		private final AtomicInteger counter = new AtomicInteger(0);
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "claude-hook-" + counter.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	});
+
+	private final Executor executor;
+
+	private final Duration defaultTimeout;
+
+	private final HookFallback timeoutFallback;
+
+	private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+	private HookExecutor(Builder builder) {
+		this.executor = builder.executor != null ? builder.executor : DEFAULT_EXECUTOR;
+		this.defaultTimeout = builder.defaultTimeout;
+		this.timeoutFallback = builder.timeoutFallback;
+	}
+
+	/**
+	 * Creates a new builder for HookExecutor.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Get the timeout applied to hooks registered without an explicit timeout.
+	 * @return the default timeout
+	 */
+	public Duration getDefaultTimeout() {
+		return this.defaultTimeout;
+	}
+
+	/**
+	 * Get the decision applied when a hook times out or cannot be scheduled.
+	 * @return the fallback decision
+	 */
+	public HookFallback getTimeoutFallback() {
+		return this.timeoutFallback;
+	}
+
+	/**
+	 * Wrap a callback so it runs on this executor with the given timeout.
+	 * @param hookId the hook id, used for statistics
+	 * @param callback the callback to guard
+	 * @param timeout maximum time to wait for the callback, or null for the default
+	 * @return the guarded callback
+	 */
+	public HookCallback guard(String hookId, HookCallback callback, Duration timeout) {
+		return guardUnbound(callback, timeout).bind(hookId);
+	}
+
+	/**
+	 * Wrap a callback whose hook id is only known once it has been registered.
+	 * @param callback the callback to guard
+	 * @param timeout maximum time to wait for the callback, or null for the default
+	 * @return the guarded hook; register {@link GuardedHook#callback()} and then call
+	 * {@link GuardedHook#bind(String)} with the assigned id
+	 */
+	public GuardedHook guardUnbound(HookCallback callback, Duration timeout) {
+		return new GuardedHook(callback, timeout != null ? timeout : this.defaultTimeout);
+	}
+
+	/**
+	 * Get a snapshot of the execution statistics of all hooks.
+	 * @return statistics by hook id, sorted by id
+	 */
+	public Map<String, HookStatistics> getStatistics() {
+		Map<String, HookStatistics> snapshot = new TreeMap<>();
+		this.counters.forEach((id, c) -> snapshot.put(id, c.snapshot()));
+		return snapshot;
+	}
+
+	/**
+	 * Get the execution statistics of a single hook.
+	 * @param hookId the hook id
+	 * @return the statistics, or null if the hook has not been invoked
+	 */
+	public HookStatistics getStatistics(String hookId) {
+		Counters c = this.counters.get(hookId);
+		return c != null ? c.snapshot() : null;
+	}
+
+	/**
+	 * Discard the statistics of a hook that has been unregistered.
+	 * @param hookId the hook id
+	 */
+	public void forget(String hookId) {
+		this.counters.remove(hookId);
+	}
+
+	/**
+	 * Discard all statistics.
+	 */
+	public void forgetAll() {
+		this.counters.clear();
+	}
+
+	/**
+	 * A hook callback that runs its delegate on the hook executor with a timeout.
+	 */
+	public final class GuardedHook {
+
+		/**
+		 * Single-entry registry that invokes the delegate, so that guarding works for any
+		 * callback the SDK accepts.
+		 */
+		private final HookRegistry delegate = new HookRegistry();
+
+		private final String delegateId;
+
+		private final Duration timeout;
+
+		private volatile String hookId;
+
+		private GuardedHook(HookCallback delegate, Duration timeout) {
+			this.delegateId = this.delegate.registerStop(delegate);
+			this.timeout = timeout;
+		}
+
+		/**
+		 * Bind the hook id used for statistics.
+		 * @param hookId the hook id
+		 * @return the guarded callback
+		 */
+		public HookCallback bind(String hookId) {
+			this.hookId = hookId;
+			return callback();
+		}
+
+		/**
+		 * Get the callback to register.
+		 * @return a callback that delegates through the hook executor
+		 */
+		public HookCallback callback() {
+			return this::execute;
+		}
+
+		/**
+		 * Get the enforced timeout.
+		 * @return the timeout
+		 */
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		HookOutput execute(HookInput input) {
+			String id = this.hookId != null ? this.hookId : "unbound";
+			Counters stats = HookExecutor.this.counters.computeIfAbsent(id, key -> new Counters());
+			FutureTask<HookOutput> task = new FutureTask<>(() -> this.delegate.executeHook(this.delegateId, input));
+			long start = System.nanoTime();
+			try {
+				HookExecutor.this.executor.execute(task);
+				return task.get(this.timeout.toNanos(), TimeUnit.NANOSECONDS);
+			}
+			catch (TimeoutException ex) {
+				task.cancel(true);
+				stats.timeouts.increment();
+				logger.warn("Hook {} timed out after {} ms, applying fallback {}", id, this.timeout.toMillis(),
+						HookExecutor.this.timeoutFallback);
+				return HookExecutor.this.timeoutFallback
+					.toOutput("Hook " + id + " timed out after " + this.timeout.toMillis() + " ms");
+			}
+			catch (RejectedExecutionException ex) {
+				stats.failures.increment();
+				logger.warn("Hook {} rejected by executor, applying fallback {}", id,
+						HookExecutor.this.timeoutFallback);
+				return HookExecutor.this.timeoutFallback.toOutput("Hook " + id + " could not be scheduled");
+			}
+			catch (ExecutionException ex) {
+				stats.failures.increment();
+				Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+				logger.error("Hook execution failed: {}", id, cause);
+				return HookOutput.block("Hook execution failed: " + cause.getMessage());
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				task.cancel(true);
+				return HookExecutor.this.timeoutFallback.toOutput("Hook " + id + " interrupted");
+			}
+			finally {
+				stats.record(System.nanoTime() - start);
+			}
+		}
+
+	}
+
+	private static final class Counters {
+
+		private final LongAdder invocations = new LongAdder();
+
+		private final LongAdder timeouts = new LongAdder();
+
+		private final LongAdder failures = new LongAdder();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		void record(long nanos) {
+			this.invocations.increment();
+			this.totalNanos.add(nanos);
+			this.maxNanos.accumulateAndGet(nanos, Math::max);
+		}
+
+		HookStatistics snapshot() {
+			return new HookStatistics(this.invocations.sum(), this.timeouts.sum(), this.failures.sum(),
+					Duration.ofNanos(this.totalNanos.sum()), Duration.ofNanos(this.maxNanos.get()));
+		}
+
+	}
+
+	/**
+	 * Builder for {@link HookExecutor}.
+	 */
+	public static final class Builder {
+
+		private Executor executor;
+
+		private Duration defaultTimeout = DEFAULT_TIMEOUT;
+
+		private HookFallback timeoutFallback = HookFallback.BLOCK;
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the executor hooks run on. Defaults to a cached pool of daemon threads.
+		 * @param executor the executor
+		 * @return this builder
+		 */
+		public Builder executor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Sets the timeout for hooks registered without an explicit timeout.
+		 * @param defaultTimeout the default timeout
+		 * @return this builder
+		 */
+		public Builder defaultTimeout(Duration defaultTimeout) {
+			this.defaultTimeout = defaultTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the decision applied when a hook times out. Defaults to
+		 * {@link HookFallback#BLOCK}, consistent with hooks that throw.
+		 * @param timeoutFallback the fallback decision
+		 * @return this builder
+		 */
+		public Builder timeoutFallback(HookFallback timeoutFallback) {
+			this.timeoutFallback = timeoutFallback;
+			return this;
+		}
+
+		/**
+		 * Builds the HookExecutor.
+		 * @return a new HookExecutor
+		 */
+		public HookExecutor build() {
+			return new HookExecutor(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.hook;
+
+import org.springaicommunity.claude.agent.sdk.types.control.HookOutput;
+
+/**
+ * Decision applied when a hook cannot produce a result in time or cannot be scheduled.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public enum HookFallback {
+
+	/**
+	 * Let the tool use proceed.
+	 */
+	ALLOW,
+
+	/**
+	 * Block the tool use.
+	 */
+	BLOCK;
+
+	/**
+	 * Create the hook output for this decision.
+	 * @param reason reason reported when blocking
+	 * @return the hook output
+	 */
+	public HookOutput toOutput(String reason) {
+		return this == ALLOW ? HookOutput.allow() : HookOutput.block(reason);
+	}
+
+}
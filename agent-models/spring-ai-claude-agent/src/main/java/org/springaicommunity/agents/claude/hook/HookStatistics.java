@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.hook;
+
+import java.time.Duration;
+
+/**
+ * Execution statistics for a single hook.
+ *
+ * @param invocations number of times the hook was invoked
+ * @param timeouts number of invocations that exceeded the hook timeout
+ * @param failures number of invocations that threw an exception or were rejected
+ * @param totalTime total time spent waiting for the hook
+ * @param maxTime longest single invocation
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public record HookStatistics(long invocations, long timeouts, long failures, Duration totalTime, Duration maxTime) {
+
+	/**
+	 * Average time per invocation.
+	 * @return average latency, or zero if the hook was never invoked
+	 */
+	public Duration averageTime() {
+		return this.invocations == 0 ? Duration.ZERO : this.totalTime.dividedBy(this.invocations);
+	}
+
+}
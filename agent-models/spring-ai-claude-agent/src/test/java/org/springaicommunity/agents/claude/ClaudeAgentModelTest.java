@@ -34,6 +34,7 @@ import java.time.Duration;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Unit tests for ClaudeAgentModel - testing builder patterns, hook registration,
@@ -404,4 +405,72 @@ class ClaudeAgentModelTest {
 
 	}
 
+	@Nested
+	@DisplayName("Conversation Tests")
+	class ConversationTests {
+
+		@Test
+		@DisplayName("Opening a conversation does not start the CLI")
+		void openConversationIsLazy() {
+			model = ClaudeAgentModel.builder().workingDirectory(TEST_WORKING_DIR).build();
+
+			ClaudeConversation conversation = model.openConversation();
+
+			assertThat(conversation.isOpen()).isTrue();
+			assertThat(conversation.getWorkingDirectory()).isEqualTo(TEST_WORKING_DIR);
+			assertThat(conversation.getSessionId()).isNull();
+			assertThat(conversation.getTurnCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("Closed conversation rejects further goals")
+		void closedConversationRejectsGoals() {
+			model = ClaudeAgentModel.builder().workingDirectory(TEST_WORKING_DIR).build();
+			ClaudeConversation conversation = model.openConversation();
+
+			conversation.close();
+
+			assertThat(conversation.isOpen()).isFalse();
+			assertThatThrownBy(() -> conversation.send("next goal")).isInstanceOf(IllegalStateException.class);
+		}
+
+		@Test
+		@DisplayName("close() should close open conversations")
+		void closeClosesConversations() {
+			model = ClaudeAgentModel.builder().workingDirectory(TEST_WORKING_DIR).build();
+			ClaudeConversation first = model.openConversation();
+			ClaudeConversation second = model.openConversation(TEST_WORKING_DIR.getParent());
+
+			model.close();
+
+			assertThat(first.isOpen()).isFalse();
+			assertThat(second.isOpen()).isFalse();
+		}
+
+		@Test
+		@DisplayName("Idle conversation is closed automatically")
+		void idleConversationIsClosed() throws InterruptedException {
+			model = ClaudeAgentModel.builder()
+				.workingDirectory(TEST_WORKING_DIR)
+				.conversationIdleTimeout(Duration.ofMillis(50))
+				.build();
+			ClaudeConversation conversation = model.openConversation();
+
+			long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+			while (conversation.isOpen() && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+
+			assertThat(conversation.isOpen()).isFalse();
+		}
+
+		@Test
+		@DisplayName("Idle timeout must be positive")
+		void idleTimeoutMustBePositive() {
+			assertThatThrownBy(() -> ClaudeAgentModel.builder().conversationIdleTimeout(Duration.ZERO))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+	}
+
 }
@@ -215,8 +215,79 @@ class ClaudeHookBeanPostProcessorTest {
 
 	}
 
+	@Nested
+	@DisplayName("Callback Invocation Tests")
+	class CallbackInvocationTests {
+
+		@Test
+		@DisplayName("Should invoke public hook methods through generated lambda")
+		void shouldInvokePublicHookMethod() {
+			PublicHooks bean = new PublicHooks();
+			processor.postProcessAfterInitialization(bean, "publicHooks");
+
+			HookOutput output = hookRegistry.executeHook("publicHooks.denyRm",
+					createPreToolUseInput("Bash", Map.of("command", "rm -rf /")));
+
+			assertThat(output.continueExecution()).isFalse();
+			assertThat(output.reason()).isEqualTo("rm not allowed");
+			assertThat(bean.calls).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Should invoke private hook methods through method handle")
+		void shouldInvokePrivateHookMethod() {
+			processor.postProcessAfterInitialization(new PrivateHooks(), "privateHooks");
+
+			HookOutput output = hookRegistry.executeHook("privateHooks.blockAll",
+					createPreToolUseInput("Write", Map.of()));
+
+			assertThat(output.continueExecution()).isFalse();
+			assertThat(output.reason()).isEqualTo("blocked");
+		}
+
+		@Test
+		@DisplayName("Should block when hook method throws")
+		void shouldBlockWhenHookThrows() {
+			processor.postProcessAfterInitialization(new PublicHooks(), "publicHooks");
+
+			HookOutput output = hookRegistry.executeHook("publicHooks.failing",
+					createPreToolUseInput("Read", Map.of()));
+
+			assertThat(output.continueExecution()).isFalse();
+			assertThat(output.reason()).isEqualTo("Hook execution failed: boom");
+		}
+
+	}
+
 	// Test helper classes
 
+	public static class PublicHooks {
+
+		int calls;
+
+		@PreToolUse(pattern = "Bash")
+		public HookOutput denyRm(HookInput.PreToolUseInput input) {
+			calls++;
+			String command = input.getArgument("command", String.class).orElse("");
+			return command.startsWith("rm") ? HookOutput.block("rm not allowed") : HookOutput.allow();
+		}
+
+		@PreToolUse
+		public void failing(HookInput input) {
+			throw new IllegalStateException("boom");
+		}
+
+	}
+
+	static class PrivateHooks {
+
+		@PreToolUse
+		private HookOutput blockAll(HookInput input) {
+			return HookOutput.block("blocked");
+		}
+
+	}
+
 	static class TestHooks {
 
 		@PreToolUse
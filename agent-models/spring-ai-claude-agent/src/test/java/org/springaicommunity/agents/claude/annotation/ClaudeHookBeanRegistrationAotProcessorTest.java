@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.annotation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springaicommunity.agents.claude.hook.HookExecutor;
+import org.springaicommunity.claude.agent.sdk.hooks.HookRegistry;
+import org.springaicommunity.claude.agent.sdk.types.control.HookEvent;
+import org.springaicommunity.claude.agent.sdk.types.control.HookInput;
+import org.springaicommunity.claude.agent.sdk.types.control.HookOutput;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ClaudeHookBeanRegistrationAotProcessor}.
+ */
+class ClaudeHookBeanRegistrationAotProcessorTest {
+
+	private final ClaudeHookBeanRegistrationAotProcessor processor = new ClaudeHookBeanRegistrationAotProcessor();
+
+	private DefaultListableBeanFactory beanFactory;
+
+	private HookRegistry hookRegistry;
+
+	@BeforeEach
+	void setUp() {
+		hookRegistry = new HookRegistry();
+		beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("hookRegistry", hookRegistry);
+		beanFactory.registerBeanDefinition("claudeHookBeanPostProcessor",
+				new RootBeanDefinition(ClaudeHookBeanPostProcessor.class));
+	}
+
+	@Test
+	@DisplayName("Should contribute for beans with hook methods")
+	void shouldContributeForHookBeans() {
+		beanFactory.registerBeanDefinition("guard", new RootBeanDefinition(GuardHooks.class));
+
+		assertThat(processor.processAheadOfTime(RegisteredBean.of(beanFactory, "guard"))).isNotNull();
+	}
+
+	@Test
+	@DisplayName("Should not contribute for beans without hook methods")
+	void shouldNotContributeForPlainBeans() {
+		beanFactory.registerBeanDefinition("plain", new RootBeanDefinition(String.class));
+
+		assertThat(processor.processAheadOfTime(RegisteredBean.of(beanFactory, "plain"))).isNull();
+	}
+
+	@Test
+	@DisplayName("Should not contribute when hook processing is not configured")
+	void shouldNotContributeWithoutPostProcessor() {
+		DefaultListableBeanFactory plainFactory = new DefaultListableBeanFactory();
+		plainFactory.registerBeanDefinition("guard", new RootBeanDefinition(GuardHooks.class));
+
+		assertThat(processor.processAheadOfTime(RegisteredBean.of(plainFactory, "guard"))).isNull();
+	}
+
+	@Test
+	@DisplayName("Should register hooks discovered at build time")
+	void shouldRegisterDiscoveredHooks() {
+		beanFactory.registerBeanDefinition("guard", new RootBeanDefinition(GuardHooks.class));
+
+		ClaudeHookBeanRegistrationAotProcessor.registerHooks(RegisteredBean.of(beanFactory, "guard"), new GuardHooks(),
+				"blockBash");
+
+		assertThat(hookRegistry.getByEvent(HookEvent.PRE_TOOL_USE)).hasSize(1);
+		assertThat(hookRegistry.getById("guard.blockBash").getPatternString()).isEqualTo("Bash");
+	}
+
+	@Test
+	@DisplayName("Should run hooks discovered at build time on the HookExecutor bean")
+	void shouldUseHookExecutorBean() {
+		HookExecutor hookExecutor = HookExecutor.builder().build();
+		beanFactory.registerSingleton("hookExecutor", hookExecutor);
+		beanFactory.registerBeanDefinition("guard", new RootBeanDefinition(GuardHooks.class));
+
+		ClaudeHookBeanRegistrationAotProcessor.registerHooks(RegisteredBean.of(beanFactory, "guard"), new GuardHooks(),
+				"blockBash");
+		HookOutput output = hookRegistry.executeHook("guard.blockBash", new HookInput.PreToolUseInput("PreToolUse",
+				"test-session", "/tmp/transcript", "/tmp", "bypassPermissions", "Bash", "tool-use-123", Map.of()));
+
+		assertThat(output).isNotNull();
+		assertThat(hookExecutor.getStatistics("guard.blockBash").invocations()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Should skip runtime scan when running with generated artifacts")
+	void shouldSkipRuntimeScanInAotMode() {
+		new ClaudeHookBeanPostProcessor(hookRegistry, true).postProcessAfterInitialization(new GuardHooks(), "guard");
+
+		assertThat(hookRegistry.hasHooks()).isFalse();
+	}
+
+	public static class GuardHooks {
+
+		@PreToolUse(pattern = "Bash")
+		public HookOutput blockBash(HookInput input) {
+			return HookOutput.block("no bash");
+		}
+
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.aot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springaicommunity.agents.claude.ClaudeAgentOptions;
+import org.springaicommunity.claude.agent.sdk.types.control.HookOutput;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ClaudeAgentRuntimeHints}.
+ */
+class ClaudeAgentRuntimeHintsTest {
+
+	@Test
+	@DisplayName("Should register reflection hints for agent options")
+	void shouldRegisterAgentTypes() {
+		RuntimeHints hints = new RuntimeHints();
+		new ClaudeAgentRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+		assertThat(RuntimeHintsPredicates.reflection().onType(ClaudeAgentOptions.class)).accepts(hints);
+	}
+
+	@Test
+	@DisplayName("Should register reflection hints for SDK types")
+	void shouldRegisterSdkTypes() {
+		RuntimeHints hints = new RuntimeHints();
+		new ClaudeAgentRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+		assertThat(RuntimeHintsPredicates.reflection().onType(HookOutput.class)).accepts(hints);
+	}
+
+	@Test
+	@DisplayName("Should find SDK classes by package")
+	void shouldFindSdkClasses() {
+		assertThat(ClaudeAgentRuntimeHints.findClassesInPackage("org.springaicommunity.claude.agent.sdk.types",
+				getClass().getClassLoader()))
+			.contains(TypeReference.of(HookOutput.class));
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.hook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springaicommunity.claude.agent.sdk.hooks.HookRegistry;
+import org.springaicommunity.claude.agent.sdk.types.control.HookEvent;
+import org.springaicommunity.claude.agent.sdk.types.control.HookInput;
+import org.springaicommunity.claude.agent.sdk.types.control.HookOutput;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link GuardedHookRegistry}.
+ */
+class GuardedHookRegistryTest {
+
+	private HookRegistry registry;
+
+	private GuardedHookRegistry hooks;
+
+	@BeforeEach
+	void setUp() {
+		registry = new HookRegistry();
+		hooks = new GuardedHookRegistry(registry, HookExecutor.builder().build());
+	}
+
+	@Test
+	@DisplayName("Should register hooks with their tool pattern on the underlying registry")
+	void shouldRegisterOnUnderlyingRegistry() {
+		String bash = hooks.registerPreToolUse("Bash", input -> HookOutput.allow());
+		String all = hooks.registerPostToolUse(input -> HookOutput.allow());
+		String stop = hooks.registerStop(input -> HookOutput.allow());
+
+		assertThat(registry.getRegisteredIds()).containsExactlyInAnyOrder(bash, all, stop);
+		assertThat(registry.getById(bash).getPatternString()).isEqualTo("Bash");
+		assertThat(registry.getByEvent(HookEvent.POST_TOOL_USE)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("Should run callbacks through the hook executor")
+	void shouldRunCallbacksThroughExecutor() {
+		String id = hooks.registerPreToolUse("Bash", input -> HookOutput.block("no bash"));
+
+		HookOutput output = registry.executeHook(id, preToolUse("Bash"));
+
+		assertThat(output.continueExecution()).isFalse();
+		assertThat(output.reason()).isEqualTo("no bash");
+		assertThat(hooks.getHookExecutor().getStatistics()).containsKey(id);
+	}
+
+	@Test
+	@DisplayName("Should forget statistics on unregister and clear")
+	void shouldForgetStatisticsOnUnregisterAndClear() {
+		String first = hooks.registerPreToolUse(input -> HookOutput.allow());
+		String second = hooks.registerUserPromptSubmit(input -> HookOutput.allow());
+		registry.executeHook(first, preToolUse("Read"));
+
+		assertThat(hooks.unregister(first)).isTrue();
+		assertThat(hooks.unregister(first)).isFalse();
+		assertThat(hooks.getHookExecutor().getStatistics()).doesNotContainKey(first);
+		assertThat(registry.getById(second)).isNotNull();
+
+		hooks.clear();
+		assertThat(registry.hasHooks()).isFalse();
+	}
+
+	private HookInput preToolUse(String toolName) {
+		return new HookInput.PreToolUseInput("PreToolUse", "test-session", "/tmp/transcript", "/tmp",
+				"bypassPermissions", toolName, "tool-use-123", Map.of());
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.hook;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springaicommunity.claude.agent.sdk.hooks.HookCallback;
+import org.springaicommunity.claude.agent.sdk.hooks.HookRegistry;
+import org.springaicommunity.claude.agent.sdk.types.control.HookInput;
+import org.springaicommunity.claude.agent.sdk.types.control.HookOutput;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HookExecutor}.
+ */
+class HookExecutorTest {
+
+	private static final Duration SHORT_TIMEOUT = Duration.ofMillis(100);
+
+	@Test
+	@DisplayName("Should return the hook output when the hook completes in time")
+	void shouldReturnHookOutput() {
+		HookExecutor executor = HookExecutor.builder().build();
+		HookCallback guarded = executor.guard("hook-1", input -> HookOutput.block("denied"), SHORT_TIMEOUT);
+
+		HookOutput output = execute(guarded);
+
+		assertThat(output.continueExecution()).isFalse();
+		assertThat(output.reason()).isEqualTo("denied");
+		assertThat(executor.getStatistics("hook-1").invocations()).isEqualTo(1);
+		assertThat(executor.getStatistics("hook-1").timeouts()).isZero();
+	}
+
+	@Test
+	@DisplayName("Should block and interrupt a hook that exceeds its timeout")
+	void shouldBlockOnTimeout() throws InterruptedException {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		HookExecutor executor = HookExecutor.builder().build();
+		HookCallback guarded = executor.guard("slow", input -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+			return HookOutput.allow();
+		}, SHORT_TIMEOUT);
+
+		HookOutput output = execute(guarded);
+
+		assertThat(output.continueExecution()).isFalse();
+		assertThat(output.reason()).contains("timed out");
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+		HookStatistics statistics = executor.getStatistics("slow");
+		assertThat(statistics.invocations()).isEqualTo(1);
+		assertThat(statistics.timeouts()).isEqualTo(1);
+		assertThat(statistics.maxTime()).isGreaterThanOrEqualTo(SHORT_TIMEOUT);
+	}
+
+	@Test
+	@DisplayName("Should allow on timeout when configured")
+	void shouldAllowOnTimeoutWhenConfigured() {
+		HookExecutor executor = HookExecutor.builder().timeoutFallback(HookFallback.ALLOW).build();
+		HookCallback guarded = executor.guard("slow", input -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return HookOutput.block("too late");
+		}, SHORT_TIMEOUT);
+
+		assertThat(execute(guarded).continueExecution()).isTrue();
+		assertThat(executor.getStatistics("slow").timeouts()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Should block when the hook throws")
+	void shouldBlockWhenHookThrows() {
+		HookExecutor executor = HookExecutor.builder().timeoutFallback(HookFallback.ALLOW).build();
+		HookCallback guarded = executor.guard("failing", input -> {
+			throw new IllegalStateException("boom");
+		}, SHORT_TIMEOUT);
+
+		HookOutput output = execute(guarded);
+
+		assertThat(output.continueExecution()).isFalse();
+		assertThat(executor.getStatistics("failing").timeouts()).isZero();
+	}
+
+	@Test
+	@DisplayName("Should apply fallback when the executor rejects the hook")
+	void shouldApplyFallbackWhenRejected() {
+		HookExecutor executor = HookExecutor.builder().executor(task -> {
+			throw new RejectedExecutionException("saturated");
+		}).timeoutFallback(HookFallback.ALLOW).build();
+		HookCallback guarded = executor.guard("rejected", input -> HookOutput.block("never runs"), SHORT_TIMEOUT);
+
+		assertThat(execute(guarded).continueExecution()).isTrue();
+		assertThat(executor.getStatistics("rejected").failures()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Should run hooks on the configured executor")
+	void shouldRunOnConfiguredExecutor() {
+		String[] threadName = new String[1];
+		HookExecutor executor = HookExecutor.builder()
+			.executor(task -> new Thread(task, "custom-hook-thread").start())
+			.build();
+		HookCallback guarded = executor.guard("hook-1", input -> {
+			threadName[0] = Thread.currentThread().getName();
+			return HookOutput.allow();
+		}, SHORT_TIMEOUT);
+
+		execute(guarded);
+
+		assertThat(threadName[0]).isEqualTo("custom-hook-thread");
+	}
+
+	@Test
+	@DisplayName("Should guard hooks registered through a guarded registry")
+	void shouldGuardRegisteredHooks() {
+		GuardedHookRegistry hooks = new GuardedHookRegistry(new HookRegistry(),
+				HookExecutor.builder().defaultTimeout(SHORT_TIMEOUT).build());
+		String id = hooks.registerPreToolUse("Bash", input -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return HookOutput.allow();
+		});
+
+		HookOutput output = hooks.getRegistry().executeHook(id, preToolUse("Bash"));
+
+		assertThat(output.continueExecution()).isFalse();
+		assertThat(hooks.getHookExecutor().getStatistics()).containsKey(id);
+
+		hooks.unregister(id);
+		assertThat(hooks.getHookExecutor().getStatistics()).doesNotContainKey(id);
+	}
+
+	private HookOutput execute(HookCallback callback) {
+		HookRegistry registry = new HookRegistry();
+		String id = registry.registerPreToolUse(callback);
+		return registry.executeHook(id, preToolUse("Bash"));
+	}
+
+	private HookInput preToolUse(String toolName) {
+		return new HookInput.PreToolUseInput("PreToolUse", "test-session", "/tmp/transcript", "/tmp",
+				"bypassPermissions", toolName, "tool-use-123", Map.of());
+	}
+
+}
@@ -16,16 +16,27 @@
 
 package org.springaicommunity.agents.codex;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springaicommunity.agents.codexsdk.CodexClient;
 import org.springaicommunity.agents.codexsdk.types.ExecuteOptions;
 import org.springaicommunity.agents.codexsdk.types.ExecuteResult;
 import org.springaicommunity.agents.model.*;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
+import org.springaicommunity.agents.model.observation.AgentModelObservations;
+import org.springaicommunity.agents.model.session.InMemorySessionStore;
+import org.springaicommunity.agents.model.session.SessionStore;
 import org.springaicommunity.sandbox.Sandbox;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Implementation of {@link AgentModel} for OpenAI Codex CLI-based agents.
@@ -43,12 +54,22 @@ public class CodexAgentModel implements AgentModel {
 
 	private static final Logger logger = LoggerFactory.getLogger(CodexAgentModel.class);
 
+	private static final String PROVIDER = "codex";
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
 	private final CodexClient codexClient;
 
 	private final CodexAgentOptions defaultOptions;
 
 	private final Sandbox sandbox;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private AgentModelObservationConvention observationConvention;
+
+	private SessionStore sessionStore = new InMemorySessionStore();
+
 	/**
 	 * Create a new CodexAgentModel with the given client, options, and sandbox.
 	 * @param codexClient the Codex CLI client
@@ -66,8 +87,39 @@ public class CodexAgentModel implements AgentModel {
 		}
 	}
 
+	/**
+	 * Set the registry used to observe {@link #call} invocations.
+	 * @param observationRegistry the observation registry
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
+	}
+
+	/**
+	 * Set a custom convention for call observations.
+	 * @param observationConvention the observation convention
+	 */
+	public void setObservationConvention(AgentModelObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Set the store that maps conversation keys to Codex sessions. Requests whose options
+	 * carry a {@link AgentOptions#getConversationKey() conversation key} resume the
+	 * session recorded for it. Defaults to an {@link InMemorySessionStore}.
+	 * @param sessionStore the session store
+	 */
+	public void setSessionStore(SessionStore sessionStore) {
+		this.sessionStore = sessionStore != null ? sessionStore : new InMemorySessionStore();
+	}
+
 	@Override
 	public AgentResponse call(AgentTaskRequest request) {
+		return AgentModelObservations.observe(this.observationRegistry, this.observationConvention, request, PROVIDER,
+				observationContext -> doCall(request));
+	}
+
+	private AgentResponse doCall(AgentTaskRequest request) {
 		// Extract goal/prompt from request
 		String goal = request.goal();
 		logger.info("Executing Codex agent with goal: {}", goal);
@@ -75,16 +127,47 @@ public class CodexAgentModel implements AgentModel {
 		// Merge options
 		CodexAgentOptions options = mergeOptions(request);
 
-		// Convert to ExecuteOptions
-		ExecuteOptions executeOptions = toExecuteOptions(options);
+		// Codex reads the output schema from a file
+		Path outputSchema = writeOutputSchema(request.outputSchema());
+		ExecuteResult result;
+		try {
+			// Convert to ExecuteOptions
+			ExecuteOptions executeOptions = toExecuteOptions(options, outputSchema);
 
-		// Execute via SDK
-		ExecuteResult result = codexClient.execute(goal, executeOptions);
+			// Execute via SDK, resuming the session of the conversation if there is one
+			String conversationKey = options.getConversationKey();
+			Optional<String> sessionId = conversationKey != null ? sessionStore.find(PROVIDER, conversationKey)
+					: Optional.empty();
+			if (sessionId.isPresent()) {
+				logger.debug("Resuming Codex session {} for conversation {}", sessionId.get(), conversationKey);
+				result = codexClient.resume(sessionId.get(), goal, executeOptions);
+			}
+			else {
+				result = codexClient.execute(goal, executeOptions);
+			}
+			recordSession(conversationKey, result);
+		}
+		finally {
+			deleteOutputSchema(outputSchema);
+		}
 
 		// Convert to AgentResponse
 		return toAgentResponse(result);
 	}
 
+	private void recordSession(String conversationKey, ExecuteResult result) {
+		if (conversationKey == null) {
+			return;
+		}
+		if (result.isSuccessful() && result.getSessionId() != null) {
+			sessionStore.save(PROVIDER, conversationKey, result.getSessionId());
+		}
+		else if (!result.isSuccessful()) {
+			// The session may be gone or broken, start the next goal afresh
+			sessionStore.remove(PROVIDER, conversationKey);
+		}
+	}
+
 	@Override
 	public boolean isAvailable() {
 		try {
@@ -103,7 +186,8 @@ public class CodexAgentModel implements AgentModel {
 			.timeout(defaultOptions.getTimeout())
 			.fullAuto(defaultOptions.isFullAuto())
 			.skipGitCheck(defaultOptions.isSkipGitCheck())
-			.executablePath(defaultOptions.getExecutablePath());
+			.executablePath(defaultOptions.getExecutablePath())
+			.conversationKey(defaultOptions.getConversationKey());
 
 		if (defaultOptions.getSandboxMode() != null) {
 			builder.sandboxMode(defaultOptions.getSandboxMode());
@@ -113,6 +197,11 @@ public class CodexAgentModel implements AgentModel {
 			builder.approvalPolicy(defaultOptions.getApprovalPolicy());
 		}
 
+		// The conversation key may come with any agent options
+		if (request.options() != null && request.options().getConversationKey() != null) {
+			builder.conversationKey(request.options().getConversationKey());
+		}
+
 		// Override with request-specific options if present
 		if (request.options() != null && request.options() instanceof CodexAgentOptions requestOptions) {
 			if (requestOptions.getModel() != null) {
@@ -134,12 +223,39 @@ public class CodexAgentModel implements AgentModel {
 		return builder.build();
 	}
 
-	private ExecuteOptions toExecuteOptions(CodexAgentOptions options) {
+	private static Path writeOutputSchema(Map<String, Object> outputSchema) {
+		if (outputSchema == null || outputSchema.isEmpty()) {
+			return null;
+		}
+		try {
+			Path file = Files.createTempFile("codex-output-schema-", ".json");
+			OBJECT_MAPPER.writeValue(file.toFile(), outputSchema);
+			return file;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write the Codex output schema", ex);
+		}
+	}
+
+	private static void deleteOutputSchema(Path outputSchema) {
+		if (outputSchema == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(outputSchema);
+		}
+		catch (IOException ex) {
+			logger.debug("Could not delete output schema {}: {}", outputSchema, ex.getMessage());
+		}
+	}
+
+	private ExecuteOptions toExecuteOptions(CodexAgentOptions options, Path outputSchema) {
 		ExecuteOptions.Builder builder = ExecuteOptions.builder()
 			.model(options.getModel())
 			.timeout(options.getTimeout())
 			.fullAuto(options.isFullAuto())
-			.skipGitCheck(options.isSkipGitCheck());
+			.skipGitCheck(options.isSkipGitCheck())
+			.outputSchema(outputSchema);
 
 		if (!options.isFullAuto()) {
 			if (options.getSandboxMode() != null) {
@@ -161,9 +277,9 @@ public class CodexAgentModel implements AgentModel {
 								result.getSessionId() != null ? result.getSessionId() : "", "activityLog",
 								result.getActivityLog() != null ? result.getActivityLog() : "")));
 
-		// Create response metadata with sessionId
+		// Create response metadata with sessionId and token usage
 		AgentResponseMetadata metadata = new AgentResponseMetadata(result.getModel(), result.getDuration(),
-				result.getSessionId() != null ? result.getSessionId() : "",
+				result.getSessionId() != null ? result.getSessionId() : "", AgentUsage.ofTotal(result.getTokensUsed()),
 				Map.of("exitCode", result.getExitCode(), "successful", result.isSuccessful(), "activityLog",
 						result.getActivityLog() != null ? result.getActivityLog() : ""));
 
@@ -51,6 +51,8 @@ public class CodexAgentOptions implements AgentOptions {
 
 	private Map<String, Object> extras = Map.of();
 
+	private String conversationKey;
+
 	private CodexAgentOptions() {
 	}
 
@@ -97,6 +99,11 @@ public class CodexAgentOptions implements AgentOptions {
 		return extras;
 	}
 
+	@Override
+	public String getConversationKey() {
+		return conversationKey;
+	}
+
 	public static Builder builder() {
 		return new Builder();
 	}
@@ -155,6 +162,11 @@ public class CodexAgentOptions implements AgentOptions {
 			return this;
 		}
 
+		public Builder conversationKey(String conversationKey) {
+			options.conversationKey = conversationKey;
+			return this;
+		}
+
 		public CodexAgentOptions build() {
 			return options;
 		}
@@ -16,12 +16,15 @@
 
 package org.springaicommunity.agents.codex.autoconfigure;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springaicommunity.agents.codex.CodexAgentModel;
 import org.springaicommunity.agents.codex.CodexAgentOptions;
 import org.springaicommunity.agents.codexsdk.CodexClient;
 import org.springaicommunity.agents.codexsdk.types.ExecuteOptions;
 import org.springaicommunity.agents.model.AgentModel;
 import org.springaicommunity.sandbox.Sandbox;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
+import org.springaicommunity.agents.model.session.SessionStore;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -56,7 +59,9 @@ public class CodexAgentAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	public AgentModel agentModel(CodexClient codexClient, CodexAgentProperties properties,
-			ObjectProvider<Sandbox> sandboxProvider) {
+			ObjectProvider<Sandbox> sandboxProvider, ObjectProvider<ObservationRegistry> observationRegistry,
+			ObjectProvider<AgentModelObservationConvention> observationConvention,
+			ObjectProvider<SessionStore> sessionStore) {
 
 		CodexAgentOptions options = CodexAgentOptions.builder()
 			.model(properties.getModel())
@@ -66,7 +71,12 @@ public class CodexAgentAutoConfiguration {
 			.executablePath(properties.getExecutablePath())
 			.build();
 
-		return new CodexAgentModel(codexClient, options, sandboxProvider.getIfAvailable());
+		CodexAgentModel agentModel = new CodexAgentModel(codexClient, options, sandboxProvider.getIfAvailable());
+		// Observe calls when an observation registry is available (e.g. from Actuator)
+		observationRegistry.ifUnique(agentModel::setObservationRegistry);
+		observationConvention.ifAvailable(agentModel::setObservationConvention);
+		sessionStore.ifUnique(agentModel::setSessionStore);
+		return agentModel;
 	}
 
 }
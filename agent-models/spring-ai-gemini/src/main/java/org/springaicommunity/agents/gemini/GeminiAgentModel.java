@@ -21,6 +21,7 @@ import org.springaicommunity.agents.geminisdk.exceptions.GeminiSDKException;
 import org.springaicommunity.agents.geminisdk.transport.CLIOptions;
 import org.springaicommunity.agents.geminisdk.types.QueryResult;
 import org.springaicommunity.agents.geminisdk.types.ResultStatus;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springaicommunity.agents.model.AgentResponse;
@@ -29,16 +30,27 @@ import org.springaicommunity.agents.model.AgentGeneration;
 import org.springaicommunity.agents.model.AgentGenerationMetadata;
 import org.springaicommunity.agents.model.AgentModel;
 import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
+import org.springaicommunity.agents.model.observation.AgentModelObservations;
+import org.springaicommunity.agents.model.process.CgroupResourceLimiter;
+import org.springaicommunity.agents.model.process.ResourceUsage;
+import org.springaicommunity.agents.model.sandbox.SandboxPool;
 import org.springaicommunity.sandbox.ExecResult;
 import org.springaicommunity.sandbox.ExecSpec;
+import org.springaicommunity.sandbox.LocalSandbox;
 import org.springaicommunity.sandbox.Sandbox;
 
 import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Map;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -58,12 +70,22 @@ public class GeminiAgentModel implements AgentModel {
 
 	private static final Logger logger = LoggerFactory.getLogger(GeminiAgentModel.class);
 
+	private static final String PROVIDER = "gemini";
+
 	private final GeminiClient geminiClient;
 
 	private final GeminiAgentOptions defaultOptions;
 
 	private final Sandbox sandbox;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private AgentModelObservationConvention observationConvention;
+
+	private CgroupResourceLimiter resourceLimiter = CgroupResourceLimiter.detect();
+
+	private SandboxPool sandboxPool;
+
 	/**
 	 * Create a new GeminiAgentModel with the given API client, options, and sandbox.
 	 * @param geminiClient the Gemini CLI client
@@ -81,8 +103,47 @@ public class GeminiAgentModel implements AgentModel {
 		}
 	}
 
+	/**
+	 * Set the registry used to observe {@link #call} invocations.
+	 * @param observationRegistry the observation registry
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
+	}
+
+	/**
+	 * Set a custom convention for call observations.
+	 * @param observationConvention the observation convention
+	 */
+	public void setObservationConvention(AgentModelObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Set the limiter enforcing {@link GeminiAgentOptions#getResourcePolicy()} on runs in
+	 * a {@link LocalSandbox}. Defaults to {@link CgroupResourceLimiter#detect()}.
+	 * @param resourceLimiter the resource limiter
+	 */
+	public void setResourceLimiter(CgroupResourceLimiter resourceLimiter) {
+		this.resourceLimiter = resourceLimiter != null ? resourceLimiter : CgroupResourceLimiter.detect();
+	}
+
+	/**
+	 * Set a pool to borrow a sandbox from for each request, instead of running every
+	 * request in the sandbox given at construction.
+	 * @param sandboxPool the sandbox pool, or {@code null} to use the single sandbox
+	 */
+	public void setSandboxPool(SandboxPool sandboxPool) {
+		this.sandboxPool = sandboxPool;
+	}
+
 	@Override
 	public AgentResponse call(AgentTaskRequest request) {
+		return AgentModelObservations.observe(this.observationRegistry, this.observationConvention, request, PROVIDER,
+				observationContext -> doCall(request));
+	}
+
+	private AgentResponse doCall(AgentTaskRequest request) {
 		logger.debug("Executing agent task: {}", request.goal());
 
 		Instant startTime = Instant.now();
@@ -98,9 +159,25 @@ public class GeminiAgentModel implements AgentModel {
 			String prompt = formatTaskPrompt(request);
 
 			QueryResult result;
-			if (sandbox != null) {
-				// Use sandbox for execution (AgentModel-centric pattern)
-				result = executeViaSandbox(prompt, cliOptions, request);
+			ResourceUsage resourceUsage = null;
+			if (sandboxPool != null || sandbox != null) {
+				// Use sandbox for execution (AgentModel-centric pattern), a pooled one per
+				// request when a pool is configured
+				try (SandboxPool.Lease lease = sandboxPool != null ? sandboxPool.borrow() : null) {
+					Sandbox runSandbox = lease != null ? lease.sandbox() : sandbox;
+					boolean succeeded = false;
+					try (CgroupResourceLimiter.Group group = openResourceGroup(runSandbox, request)) {
+						result = executeViaSandbox(runSandbox, prompt, cliOptions, request, group);
+						resourceUsage = group.usage();
+						succeeded = true;
+					}
+					finally {
+						if (!succeeded && lease != null) {
+							// A failed or timed out run may leave processes or files behind
+							lease.invalidate();
+						}
+					}
+				}
 			}
 			else {
 				// Fallback to direct execution (should rarely happen)
@@ -108,7 +185,7 @@ public class GeminiAgentModel implements AgentModel {
 			}
 
 			// Convert to AgentResponse
-			return convertResult(result, startTime);
+			return convertResult(result, startTime, resourceUsage);
 
 		}
 		catch (GeminiSDKException e) {
@@ -116,6 +193,12 @@ public class GeminiAgentModel implements AgentModel {
 			Duration duration = Duration.between(startTime, Instant.now());
 			return createErrorResponse(e.getMessage(), duration);
 		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.warn("Agent execution interrupted");
+			Duration duration = Duration.between(startTime, Instant.now());
+			return createErrorResponse("Agent execution interrupted", duration);
+		}
 		catch (Exception e) {
 			logger.error("Unexpected error during agent execution", e);
 			Duration duration = Duration.between(startTime, Instant.now());
@@ -139,7 +222,8 @@ public class GeminiAgentModel implements AgentModel {
 	 * Executes a query via sandbox using the AgentModel-centric pattern. SDK builds
 	 * command -> Sandbox executes -> SDK parses result.
 	 */
-	private QueryResult executeViaSandbox(String prompt, CLIOptions cliOptions, AgentTaskRequest request)
+	private QueryResult executeViaSandbox(Sandbox sandbox, String prompt, CLIOptions cliOptions,
+			AgentTaskRequest request, CgroupResourceLimiter.Group group)
 			throws GeminiSDKException, IOException, InterruptedException,
 			org.springaicommunity.sandbox.TimeoutException {
 		logger.info("Executing Gemini query via sandbox");
@@ -147,8 +231,17 @@ public class GeminiAgentModel implements AgentModel {
 		logger.info("Prompt length: {} characters", prompt.length());
 		logger.debug("Full prompt: {}", prompt);
 
-		// 1. SDK builds command
-		List<String> command = geminiClient.buildCommand(prompt, cliOptions);
+		// 1. SDK builds command, large prompts are redirected from a file on a local
+		// sandbox so that they stay off the command line
+		Path promptFile = null;
+		List<String> command;
+		if (sandbox instanceof LocalSandbox && geminiClient.getPromptDelivery().useStdin(prompt)) {
+			promptFile = writePromptFile(prompt);
+			command = redirectStdin(geminiClient.buildCommand(prompt, cliOptions, false), promptFile);
+		}
+		else {
+			command = geminiClient.buildCommand(prompt, cliOptions);
+		}
 		logger.info("Gemini command: {}", String.join(" ", command));
 
 		// 2. Create ExecSpec with environment variables
@@ -176,10 +269,22 @@ public class GeminiAgentModel implements AgentModel {
 		// NVM environment variables and PATH are not needed - getGeminiCommand() handles
 		// NVM Node.js paths internally
 
-		ExecSpec spec = ExecSpec.builder().command(command).env(environment).timeout(cliOptions.getTimeout()).build();
+		ExecSpec spec = ExecSpec.builder()
+			.command(group.wrap(command))
+			.env(environment)
+			.timeout(cliOptions.getTimeout())
+			.build();
 
 		// 3. Execute via sandbox
-		ExecResult execResult = sandbox.exec(spec);
+		ExecResult execResult;
+		try {
+			execResult = sandbox.exec(spec);
+		}
+		finally {
+			if (promptFile != null) {
+				Files.deleteIfExists(promptFile);
+			}
+		}
 		logger.info("Gemini CLI execution completed with exit code: {}", execResult.exitCode());
 		logger.info("Output length: {} characters", execResult.mergedLog().length());
 		logger.debug("Full Gemini CLI output: {}", execResult.mergedLog());
@@ -198,6 +303,47 @@ public class GeminiAgentModel implements AgentModel {
 		return result;
 	}
 
+	/**
+	 * Writes a prompt to a file only the current user can read.
+	 */
+	private static Path writePromptFile(String prompt) throws IOException {
+		Path file;
+		if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+			file = Files.createTempFile("gemini-prompt-", ".txt",
+					PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+		}
+		else {
+			file = Files.createTempFile("gemini-prompt-", ".txt");
+		}
+		Files.writeString(file, prompt);
+		return file;
+	}
+
+	/**
+	 * Runs a command with its standard input read from a file. The file is passed as
+	 * {@code $0}, so no path needs quoting inside the script.
+	 */
+	static List<String> redirectStdin(List<String> command, Path input) {
+		List<String> redirected = new ArrayList<>();
+		redirected.add("/bin/sh");
+		redirected.add("-c");
+		redirected.add("exec \"$@\" < \"$0\"");
+		redirected.add(input.toString());
+		redirected.addAll(command);
+		return redirected;
+	}
+
+	/**
+	 * Opens the cgroup limiting and accounting a run. Only processes of a local sandbox
+	 * run on this host, so runs in other sandboxes are not constrained.
+	 */
+	private CgroupResourceLimiter.Group openResourceGroup(Sandbox sandbox, AgentTaskRequest request) {
+		if (!(sandbox instanceof LocalSandbox)) {
+			return CgroupResourceLimiter.Group.unconstrained();
+		}
+		return resourceLimiter.open(getEffectiveOptions(request).getResourcePolicy());
+	}
+
 	/**
 	 * Ensures the Gemini CLI API is connected and ready.
 	 */
@@ -271,7 +417,7 @@ public class GeminiAgentModel implements AgentModel {
 	/**
 	 * Converts QueryResult from Gemini CLI to Spring AI AgentResponse.
 	 */
-	private AgentResponse convertResult(QueryResult result, Instant startTime) {
+	private AgentResponse convertResult(QueryResult result, Instant startTime, ResourceUsage resourceUsage) {
 		Duration duration = Duration.between(startTime, Instant.now());
 
 		// Convert messages to generations
@@ -292,11 +438,18 @@ public class GeminiAgentModel implements AgentModel {
 		}
 
 		// Create response metadata
+		Map<String, Object> providerFields = new HashMap<>();
+		if (result.metadata() != null) {
+			providerFields.put("gemini_metadata", result.metadata());
+		}
+		if (resourceUsage != null) {
+			providerFields.put(ResourceUsage.METADATA_KEY, resourceUsage);
+		}
 		AgentResponseMetadata responseMetadata = AgentResponseMetadata.builder()
 			.model("gemini-2.0-flash-exp") // Default model
 			.duration(duration)
 			.sessionId("") // Gemini CLI doesn't provide session ID
-			.providerFields(result.metadata() != null ? Map.of("gemini_metadata", result.metadata()) : Map.of())
+			.providerFields(providerFields)
 			.build();
 
 		return new AgentResponse(generations, responseMetadata);
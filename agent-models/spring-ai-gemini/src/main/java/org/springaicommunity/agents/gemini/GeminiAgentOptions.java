@@ -17,6 +17,7 @@
 package org.springaicommunity.agents.gemini;
 
 import org.springaicommunity.agents.model.AgentOptions;
+import org.springaicommunity.agents.model.process.ResourcePolicy;
 
 import java.time.Duration;
 import java.util.Map;
@@ -76,6 +77,11 @@ public class GeminiAgentOptions implements AgentOptions {
 	 */
 	private boolean yolo = true;
 
+	/**
+	 * CPU, memory and process limits for the CLI when it runs in a local sandbox.
+	 */
+	private ResourcePolicy resourcePolicy = ResourcePolicy.UNLIMITED;
+
 	public GeminiAgentOptions() {
 	}
 
@@ -156,6 +162,15 @@ public class GeminiAgentOptions implements AgentOptions {
 		this.yolo = yolo;
 	}
 
+	@Override
+	public ResourcePolicy getResourcePolicy() {
+		return resourcePolicy;
+	}
+
+	public void setResourcePolicy(ResourcePolicy resourcePolicy) {
+		this.resourcePolicy = resourcePolicy != null ? resourcePolicy : ResourcePolicy.UNLIMITED;
+	}
+
 	public static Builder builder() {
 		return new Builder();
 	}
@@ -215,6 +230,11 @@ public class GeminiAgentOptions implements AgentOptions {
 			return this;
 		}
 
+		public Builder resourcePolicy(ResourcePolicy resourcePolicy) {
+			options.setResourcePolicy(resourcePolicy);
+			return this;
+		}
+
 		public GeminiAgentOptions build() {
 			return options;
 		}
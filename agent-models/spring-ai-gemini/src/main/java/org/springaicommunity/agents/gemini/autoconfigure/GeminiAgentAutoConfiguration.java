@@ -15,8 +15,10 @@
  */
 package org.springaicommunity.agents.gemini.autoconfigure;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -27,6 +29,8 @@ import org.springaicommunity.agents.gemini.GeminiAgentOptions;
 import org.springaicommunity.agents.geminisdk.GeminiClient;
 import org.springaicommunity.agents.geminisdk.transport.CLIOptions;
 import org.springaicommunity.sandbox.Sandbox;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
+import org.springaicommunity.agents.model.sandbox.SandboxPool;
 
 /**
  * Auto-configuration for Gemini agent model support.
@@ -103,16 +107,26 @@ public class GeminiAgentAutoConfiguration {
 	 * @param geminiClient the Gemini CLI client
 	 * @param geminiAgentOptions the agent options
 	 * @param sandbox the sandbox for execution
+	 * @param observationRegistry registry used to observe agent calls, if available
+	 * @param observationConvention custom convention for agent call observations
+	 * @param sandboxPool pool to borrow a sandbox from per request, if available
 	 * @return configured GeminiAgentModel
 	 */
 	@Bean
 	@ConditionalOnMissingBean
 	public GeminiAgentModel geminiAgentModel(GeminiClient geminiClient, GeminiAgentOptions geminiAgentOptions,
-			Sandbox sandbox) {
+			Sandbox sandbox, ObjectProvider<ObservationRegistry> observationRegistry,
+			ObjectProvider<AgentModelObservationConvention> observationConvention,
+			ObjectProvider<SandboxPool> sandboxPool) {
 
 		logger.debug("Creating GeminiAgentModel with sandbox: {}", sandbox.getClass().getSimpleName());
 
-		return new GeminiAgentModel(geminiClient, geminiAgentOptions, sandbox);
+		GeminiAgentModel agentModel = new GeminiAgentModel(geminiClient, geminiAgentOptions, sandbox);
+		// Observe calls when an observation registry is available (e.g. from Actuator)
+		observationRegistry.ifUnique(agentModel::setObservationRegistry);
+		observationConvention.ifAvailable(agentModel::setObservationConvention);
+		sandboxPool.ifUnique(agentModel::setSandboxPool);
+		return agentModel;
 	}
 
 }
\ No newline at end of file
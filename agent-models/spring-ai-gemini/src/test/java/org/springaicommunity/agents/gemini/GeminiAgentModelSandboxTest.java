@@ -18,6 +18,9 @@ package org.springaicommunity.agents.gemini;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -31,10 +34,13 @@ import org.springaicommunity.agents.geminisdk.types.ResultStatus;
 import org.springaicommunity.agents.geminisdk.types.Usage;
 import org.springaicommunity.agents.model.AgentResponse;
 import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.agents.model.sandbox.SandboxPool;
 import org.springaicommunity.sandbox.ExecResult;
 import org.springaicommunity.sandbox.ExecSpec;
 import org.springaicommunity.sandbox.Sandbox;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
@@ -199,6 +205,54 @@ class GeminiAgentModelSandboxTest {
 		// This proves the Spring-idiomatic constructor injection pattern
 	}
 
+	@Test
+	void testFailedPooledRunDiscardsSandbox() throws Exception {
+		AgentTaskRequest request = AgentTaskRequest.builder("Fix the failing test", Paths.get("/tmp/test")).build();
+		when(mockGeminiClient.buildCommand(anyString(), any(CLIOptions.class)))
+			.thenReturn(List.of("gemini", "-p", "x"));
+		when(mockSandbox.exec(any(ExecSpec.class))).thenThrow(new IllegalStateException("timed out"));
+		try (SandboxPool pool = SandboxPool.builder(() -> mockSandbox).minIdle(0).build()) {
+			agentModel.setSandboxPool(pool);
+
+			AgentResponse result = agentModel.call(request);
+
+			// ASSERT: The sandbox of a failed run is closed instead of returned to the pool
+			assertThat(result.getResult().getMetadata().getFinishReason()).isEqualTo("ERROR");
+			verify(mockSandbox).close();
+			assertThat(pool.getIdleCount()).isZero();
+		}
+	}
+
+	@Test
+	void testInterruptedBorrowKeepsInterruptFlag() {
+		AgentTaskRequest request = AgentTaskRequest.builder("Fix the failing test", Paths.get("/tmp/test")).build();
+		try (SandboxPool pool = SandboxPool.builder(() -> mockSandbox).minIdle(0).build()) {
+			agentModel.setSandboxPool(pool);
+
+			Thread.currentThread().interrupt();
+			AgentResponse result = agentModel.call(request);
+
+			// ASSERT: The interrupt is reported and not swallowed
+			assertThat(Thread.interrupted()).isTrue();
+			assertThat(result.getResult().getOutput()).isEqualTo("Agent execution interrupted");
+		}
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void testRedirectStdinFeedsPromptFileToCommand(@TempDir Path tempDir) throws Exception {
+		Path promptFile = Files.writeString(tempDir.resolve("prompt.txt"), "a prompt with 'quotes' and $HOME");
+
+		List<String> command = GeminiAgentModel.redirectStdin(List.of("cat"), promptFile);
+		Process process = new ProcessBuilder(command).start();
+		String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+		// ASSERT: The prompt reaches the command on stdin, not on its command line
+		assertThat(process.waitFor()).isZero();
+		assertThat(output).isEqualTo("a prompt with 'quotes' and $HOME");
+		assertThat(command).doesNotContain("a prompt with 'quotes' and $HOME");
+	}
+
 	private Metadata createMockMetadata(long durationMs) {
 		Cost mockCost = Cost.of(java.math.BigDecimal.valueOf(0.01), java.math.BigDecimal.valueOf(0.02));
 
@@ -20,6 +20,7 @@ import org.springaicommunity.agents.sweagentsdk.transport.SweCliApi;
 import org.springaicommunity.agents.sweagentsdk.transport.SweCliApi.SweResult;
 import org.springaicommunity.agents.sweagentsdk.transport.SweCliApi.SweResultStatus;
 import org.springaicommunity.agents.sweagentsdk.transport.SweCliApi.SweCliException;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springaicommunity.agents.model.AgentResponse;
@@ -28,6 +29,12 @@ import org.springaicommunity.agents.model.AgentGeneration;
 import org.springaicommunity.agents.model.AgentGenerationMetadata;
 import org.springaicommunity.agents.model.AgentModel;
 import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.agents.model.observation.AgentModelObservationConvention;
+import org.springaicommunity.agents.model.observation.AgentModelObservations;
+import org.springaicommunity.agents.model.process.CgroupResourceLimiter;
+import org.springaicommunity.agents.model.process.ResourceUsage;
+import org.springaicommunity.agents.model.sandbox.SandboxPool;
+import org.springaicommunity.sandbox.LocalSandbox;
 import org.springaicommunity.sandbox.Sandbox;
 import org.springaicommunity.sandbox.ExecResult;
 import org.springaicommunity.sandbox.ExecSpec;
@@ -55,12 +62,22 @@ public class SweAgentModel implements AgentModel {
 
 	private static final Logger logger = LoggerFactory.getLogger(SweAgentModel.class);
 
+	private static final String PROVIDER = "swe";
+
 	private final SweCliApi sweCliApi;
 
 	private final SweAgentOptions defaultOptions;
 
 	private final Sandbox sandbox;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private AgentModelObservationConvention observationConvention;
+
+	private CgroupResourceLimiter resourceLimiter = CgroupResourceLimiter.detect();
+
+	private SandboxPool sandboxPool;
+
 	/**
 	 * Create a new SweAgentModel with the given CLI API client, options, and sandbox.
 	 * @param sweCliApi the SWE Agent CLI client
@@ -106,22 +123,73 @@ public class SweAgentModel implements AgentModel {
 		this(sweCliApi, null);
 	}
 
+	/**
+	 * Set the registry used to observe {@link #call} invocations.
+	 * @param observationRegistry the observation registry
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
+	}
+
+	/**
+	 * Set a custom convention for call observations.
+	 * @param observationConvention the observation convention
+	 */
+	public void setObservationConvention(AgentModelObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Set the limiter enforcing {@link SweAgentOptions#getResourcePolicy()} on runs in a
+	 * {@link LocalSandbox}. Defaults to {@link CgroupResourceLimiter#detect()}.
+	 * @param resourceLimiter the resource limiter
+	 */
+	public void setResourceLimiter(CgroupResourceLimiter resourceLimiter) {
+		this.resourceLimiter = resourceLimiter != null ? resourceLimiter : CgroupResourceLimiter.detect();
+	}
+
+	/**
+	 * Set a pool to borrow a sandbox from for each request, instead of running every
+	 * request in the sandbox given at construction.
+	 * @param sandboxPool the sandbox pool, or {@code null} to use the single sandbox
+	 */
+	public void setSandboxPool(SandboxPool sandboxPool) {
+		this.sandboxPool = sandboxPool;
+	}
+
 	@Override
 	public AgentResponse call(AgentTaskRequest request) {
+		return AgentModelObservations.observe(this.observationRegistry, this.observationConvention, request, PROVIDER,
+				observationContext -> doCall(request));
+	}
+
+	private AgentResponse doCall(AgentTaskRequest request) {
 		logger.debug("Executing agent task: {}", request.goal());
 
 		Instant startTime = Instant.now();
 
 		try {
-			if (sandbox != null) {
+			if (sandboxPool != null) {
+				// Borrow a warm sandbox of its own for this request
+				try (SandboxPool.Lease lease = sandboxPool.borrow()) {
+					return executeWithSandbox(lease.sandbox(), lease, request, startTime);
+				}
+			}
+			else if (sandbox != null) {
 				// Use sandbox-based execution (new pattern)
-				return executeWithSandbox(request, startTime);
+				return executeWithSandbox(sandbox, null, request, startTime);
 			}
 			else {
 				// Use legacy direct CLI execution (deprecated)
 				return executeLegacy(request, startTime);
 			}
 		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.warn("Agent execution interrupted");
+			Duration duration = Duration.between(startTime, Instant.now());
+			return createErrorResponse("Agent execution interrupted", duration);
+		}
 		catch (Exception e) {
 			logger.error("Unexpected error during agent execution", e);
 			Duration duration = Duration.between(startTime, Instant.now());
@@ -130,9 +198,12 @@ public class SweAgentModel implements AgentModel {
 	}
 
 	/**
-	 * Execute agent task using sandbox-based execution (preferred pattern).
+	 * Execute agent task using sandbox-based execution (preferred pattern). A pooled
+	 * sandbox is invalidated when the run fails or times out, since it may leave processes
+	 * or files behind.
 	 */
-	private AgentResponse executeWithSandbox(AgentTaskRequest request, Instant startTime) throws Exception {
+	private AgentResponse executeWithSandbox(Sandbox sandbox, SandboxPool.Lease lease, AgentTaskRequest request,
+			Instant startTime) throws Exception {
 		SweAgentOptions options = getEffectiveOptions(request);
 
 		// Build the SWE CLI command
@@ -141,18 +212,31 @@ public class SweAgentModel implements AgentModel {
 		// Build environment variables
 		Map<String, String> environment = buildEnvironment(options);
 
-		// Create execution specification
-		ExecSpec execSpec = ExecSpec.builder()
-			.command(command)
-			.env(environment)
-			.timeout(options.getTimeout() != null ? options.getTimeout() : Duration.ofMinutes(5))
-			.build();
-
-		// Execute via sandbox
-		ExecResult execResult = sandbox.exec(execSpec);
-
-		// Convert to AgentResponse
-		return convertSandboxResult(execResult, startTime);
+		// Only processes of a local sandbox run on this host and can be constrained
+		try (CgroupResourceLimiter.Group group = sandbox instanceof LocalSandbox
+				? resourceLimiter.open(options.getResourcePolicy()) : CgroupResourceLimiter.Group.unconstrained()) {
+			// Create execution specification
+			ExecSpec execSpec = ExecSpec.builder()
+				.command(group.wrap(command))
+				.env(environment)
+				.timeout(options.getTimeout() != null ? options.getTimeout() : Duration.ofMinutes(5))
+				.build();
+
+			// Execute via sandbox
+			boolean succeeded = false;
+			try {
+				ExecResult execResult = sandbox.exec(execSpec);
+				succeeded = execResult.success();
+
+				// Convert to AgentResponse
+				return convertSandboxResult(execResult, startTime, group.usage());
+			}
+			finally {
+				if (!succeeded && lease != null) {
+					lease.invalidate();
+				}
+			}
+		}
 	}
 
 	/**
@@ -241,7 +325,7 @@ public class SweAgentModel implements AgentModel {
 	/**
 	 * Convert sandbox ExecResult to AgentResponse.
 	 */
-	private AgentResponse convertSandboxResult(ExecResult execResult, Instant startTime) {
+	private AgentResponse convertSandboxResult(ExecResult execResult, Instant startTime, ResourceUsage resourceUsage) {
 		Duration duration = Duration.between(startTime, Instant.now());
 
 		// Create generations from sandbox result
@@ -258,12 +342,16 @@ public class SweAgentModel implements AgentModel {
 		generations.add(new AgentGeneration(combinedText.toString(), generationMetadata));
 
 		// Create response metadata
+		Map<String, Object> providerFields = new HashMap<>(Map.of("sandbox_execution", true, "exit_code",
+				execResult.exitCode(), "execution_duration", execResult.duration().toString()));
+		if (resourceUsage != null) {
+			providerFields.put(ResourceUsage.METADATA_KEY, resourceUsage);
+		}
 		AgentResponseMetadata responseMetadata = AgentResponseMetadata.builder()
 			.model("mini-swe-agent")
 			.duration(duration)
 			.sessionId("")
-			.providerFields(Map.of("sandbox_execution", true, "exit_code", execResult.exitCode(), "execution_duration",
-					execResult.duration().toString()))
+			.providerFields(providerFields)
 			.build();
 
 		return new AgentResponse(generations, responseMetadata);
@@ -17,6 +17,7 @@
 package org.springaicommunity.agents.sweagent;
 
 import org.springaicommunity.agents.model.AgentOptions;
+import org.springaicommunity.agents.model.process.ResourcePolicy;
 
 import java.time.Duration;
 import java.util.Map;
@@ -69,6 +70,11 @@ public class SweAgentOptions implements AgentOptions {
 	 */
 	private boolean verbose = false;
 
+	/**
+	 * CPU, memory and process limits for the CLI when it runs in a local sandbox.
+	 */
+	private ResourcePolicy resourcePolicy = ResourcePolicy.UNLIMITED;
+
 	public SweAgentOptions() {
 	}
 
@@ -141,6 +147,15 @@ public class SweAgentOptions implements AgentOptions {
 		this.extras = extras != null ? extras : Map.of();
 	}
 
+	@Override
+	public ResourcePolicy getResourcePolicy() {
+		return resourcePolicy;
+	}
+
+	public void setResourcePolicy(ResourcePolicy resourcePolicy) {
+		this.resourcePolicy = resourcePolicy != null ? resourcePolicy : ResourcePolicy.UNLIMITED;
+	}
+
 	public static Builder builder() {
 		return new Builder();
 	}
@@ -195,6 +210,11 @@ public class SweAgentOptions implements AgentOptions {
 			return this;
 		}
 
+		public Builder resourcePolicy(ResourcePolicy resourcePolicy) {
+			options.setResourcePolicy(resourcePolicy);
+			return this;
+		}
+
 		public SweAgentOptions build() {
 			return options;
 		}
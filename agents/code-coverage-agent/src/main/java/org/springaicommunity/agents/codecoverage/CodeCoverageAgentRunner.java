@@ -24,8 +24,10 @@ import org.springaicommunity.agents.claude.ClaudeAgentModel;
 import org.springaicommunity.agents.claude.ClaudeAgentOptions;
 import org.springaicommunity.claude.agent.sdk.config.ClaudeCliDiscovery;
 import org.springaicommunity.agents.core.AgentRunner;
+import org.springaicommunity.agents.core.GitCommitResolver;
 import org.springaicommunity.agents.core.LauncherSpec;
 import org.springaicommunity.agents.core.Result;
+import org.springaicommunity.agents.core.SetupCacheKey;
 import org.springaicommunity.agents.core.SetupContext;
 import org.springaicommunity.agents.gemini.GeminiAgentModel;
 import org.springaicommunity.agents.gemini.GeminiAgentOptions;
@@ -45,8 +47,11 @@ import org.zeroturnaround.exec.ProcessResult;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -65,6 +70,24 @@ public class CodeCoverageAgentRunner implements AgentRunner {
 
 	private static final Logger log = LoggerFactory.getLogger(CodeCoverageAgentRunner.class);
 
+	/**
+	 * Setup only depends on the repository coordinates and the commit they resolve to, so
+	 * runs that differ in provider, model or target coverage share one cached setup.
+	 */
+	@Override
+	public SetupCacheKey setupCacheKey(LauncherSpec spec) throws Exception {
+		Map<String, Object> inputs = spec.inputs();
+		String gitUrl = getInputOrDefault(inputs, "git_url", "https://github.com/spring-guides/gs-rest-service");
+		String gitRef = getInputOrDefault(inputs, "git_ref", "main");
+		String gitSubdir = getInputOrDefault(inputs, "git_subdirectory", "complete");
+
+		Map<String, String> keyInputs = new LinkedHashMap<>();
+		keyInputs.put("git_url", gitUrl);
+		keyInputs.put("git_ref", gitRef);
+		keyInputs.put("git_subdirectory", gitSubdir);
+		return SetupCacheKey.of(spec.agentSpec().id(), keyInputs, GitCommitResolver.resolve(gitUrl, gitRef));
+	}
+
 	@Override
 	public SetupContext setup(LauncherSpec spec) throws Exception {
 		log.info("=== SETUP PHASE ===");
@@ -122,12 +145,18 @@ public class CodeCoverageAgentRunner implements AgentRunner {
 		log.info("✅ Setup complete: compiles=PASS, tests=PASS, jacoco={}, baseline={}%",
 				hasJaCoCo ? "present" : "missing", baseline.lineCoverage());
 
-		return SetupContext.builder()
+		SetupContext.Builder context = SetupContext.builder()
 			.workspace(workspace)
 			.successful(true)
 			.metadata("baseline_coverage", baseline)
-			.metadata("has_jacoco", hasJaCoCo)
-			.build();
+			.metadata("has_jacoco", hasJaCoCo);
+
+		// Keep what incremental evaluation needs: baseline exec data and source hashes
+		if (hasJaCoCo && IncrementalCoverageEvaluator.captureBaseline(workspace)) {
+			context.metadata("source_fingerprint", IncrementalCoverageEvaluator.fingerprint(workspace));
+		}
+
+		return context.build();
 	}
 
 	@Override
@@ -146,8 +175,12 @@ public class CodeCoverageAgentRunner implements AgentRunner {
 		int targetCoverage = getInputOrDefault(inputs, "target_coverage", 80);
 		String provider = getInputOrDefault(inputs, "provider", "gemini");
 		String model = getInputOrDefault(inputs, "model", "gemini-2.5-pro");
+		String coverageMode = getInputOrDefault(inputs, "coverage_mode", "incremental");
+		boolean monitorCoverage = Boolean.parseBoolean(getInputOrDefault(inputs, "monitor_coverage", "true"));
+		int monitorIntervalSeconds = getInputOrDefault(inputs, "monitor_interval_seconds", 60);
 
-		log.info("Configuration: target={}%, provider={}, model={}", targetCoverage, provider, model);
+		log.info("Configuration: target={}%, provider={}, model={}, coverage_mode={}", targetCoverage, provider, model,
+				coverageMode);
 
 		// Build AI goal
 		String goal = buildCoverageGoal(baseline, hasJaCoCo, targetCoverage);
@@ -164,6 +197,18 @@ public class CodeCoverageAgentRunner implements AgentRunner {
 		log.info("Executing agent autonomously");
 		log.info("Goal: Improve coverage from {}% to {}%", baseline.lineCoverage(), targetCoverage);
 
+		// Live progress monitoring (needs the baseline exec data captured during setup)
+		Map<String, String> fingerprint = setup.getMetadata("source_fingerprint");
+		CoverageProgressMonitor monitor = null;
+		if (monitorCoverage && hasJaCoCo && fingerprint != null) {
+			monitor = new CoverageProgressMonitor(setup.getWorkspace(), baseline, targetCoverage, fingerprint,
+					Duration.ofSeconds(monitorIntervalSeconds));
+			if (agentModel instanceof ClaudeAgentModel claudeModel) {
+				monitor.attach(claudeModel);
+			}
+			monitor.start();
+		}
+
 		AgentClientResponse response;
 		try {
 			response = client.goal(goal).workingDirectory(setup.getWorkspace()).run();
@@ -172,6 +217,11 @@ public class CodeCoverageAgentRunner implements AgentRunner {
 			log.error("Agent execution failed", e);
 			return Result.fail("Agent execution failed: " + e.getMessage());
 		}
+		finally {
+			if (monitor != null) {
+				monitor.close();
+			}
+		}
 
 		log.info("Agent completed");
 
@@ -179,7 +229,7 @@ public class CodeCoverageAgentRunner implements AgentRunner {
 		log.info("=== EVALUATE PHASE ===");
 		CoverageMetrics finalCov;
 		try {
-			finalCov = measureCoverage(setup.getWorkspace());
+			finalCov = measureCoverage(setup, coverageMode);
 		}
 		catch (Exception e) {
 			log.error("Coverage measurement failed", e);
@@ -191,7 +241,7 @@ public class CodeCoverageAgentRunner implements AgentRunner {
 				improvement >= 0 ? "+" : "", improvement);
 
 		// Build structured result
-		return buildResult(baseline, finalCov, response, setup.getWorkspace());
+		return buildResult(baseline, finalCov, response, setup.getWorkspace(), monitor);
 	}
 
 	private String getInputOrDefault(Map<String, Object> inputs, String key, String defaultValue) {
@@ -289,8 +339,20 @@ public class CodeCoverageAgentRunner implements AgentRunner {
 		}
 	}
 
+	private CoverageMetrics measureCoverage(SetupContext setup, String coverageMode) {
+		Path workspace = setup.getWorkspace();
+		if (!"full".equalsIgnoreCase(coverageMode)) {
+			Map<String, String> fingerprint = setup.getMetadata("source_fingerprint");
+			Optional<CoverageMetrics> incremental = IncrementalCoverageEvaluator.evaluate(workspace, fingerprint);
+			if (incremental.isPresent()) {
+				return incremental.get();
+			}
+		}
+		return measureCoverage(workspace);
+	}
+
 	private CoverageMetrics measureCoverage(Path workspace) {
-		// Run Maven build with JaCoCo
+		// Full rebuild: authoritative measurement used for release runs and as fallback
 		BuildResult buildResult = MavenBuildRunner.runBuild(workspace, 15, "clean", "test", "jacoco:report");
 
 		if (!buildResult.success()) {
@@ -307,7 +369,7 @@ public class CodeCoverageAgentRunner implements AgentRunner {
 	}
 
 	private Result buildResult(CoverageMetrics baseline, CoverageMetrics finalCoverage, AgentClientResponse response,
-			Path workspace) {
+			Path workspace, CoverageProgressMonitor monitor) {
 		Map<String, Object> outputs = new HashMap<>();
 		outputs.put("baseline_coverage_line", baseline.lineCoverage());
 		outputs.put("baseline_coverage_branch", baseline.branchCoverage());
@@ -315,6 +377,11 @@ public class CodeCoverageAgentRunner implements AgentRunner {
 		outputs.put("final_coverage_branch", finalCoverage.branchCoverage());
 		outputs.put("coverage_improvement", finalCoverage.lineCoverage() - baseline.lineCoverage());
 		outputs.put("agent_response", response.getResult());
+		if (monitor != null) {
+			outputs.put("coverage_progression",
+					monitor.getProgression().stream().map(CoverageProgressEvent::toString).toList());
+			outputs.put("stopped_early", monitor.isTargetReached());
+		}
 
 		// Add workspace and coverage report paths for user visibility
 		outputs.put("workspace", workspace.toString());
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.codecoverage;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of coverage progress measured while the agent is still working.
+ *
+ * @param sample sequence number of the measurement, starting at 1
+ * @param baselineLineCoverage line coverage before the agent started (0-100)
+ * @param currentLineCoverage line coverage at the time of the measurement (0-100)
+ * @param currentBranchCoverage branch coverage at the time of the measurement (0-100)
+ * @param targetCoverage target line coverage (0-100)
+ * @param targetReached whether the current coverage meets the target
+ * @param timestamp when the measurement completed
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public record CoverageProgressEvent(int sample, double baselineLineCoverage, double currentLineCoverage,
+		double currentBranchCoverage, int targetCoverage, boolean targetReached, Instant timestamp) {
+
+	@Override
+	public String toString() {
+		return String.format("#%d %.1f%% → %.1f%% (target %d%%%s)", this.sample, this.baselineLineCoverage,
+				this.currentLineCoverage, this.targetCoverage, this.targetReached ? ", reached" : "");
+	}
+
+}
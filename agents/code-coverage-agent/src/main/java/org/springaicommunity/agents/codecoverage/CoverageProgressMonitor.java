@@ -0,0 +1,345 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.codecoverage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.claude.ClaudeAgentModel;
+import org.springaicommunity.claude.agent.sdk.types.control.HookOutput;
+import org.springaicommunity.judge.coverage.JaCoCoReportParser.CoverageMetrics;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Measures coverage in the background while the agent is working and stops the run once
+ * the target is reached.
+ *
+ * <p>
+ * Activity is detected either through Claude {@code PostToolUse} hooks (see
+ * {@link #attach(ClaudeAgentModel)}) or, for other providers, by polling a fingerprint of
+ * the project sources. Measurements are throttled to at most one per interval and
+ * coalesce any activity that happened in between. Each measurement runs incremental
+ * coverage on a copy of the workspace so it never races with the agent's own builds.
+ * </p>
+ *
+ * <p>
+ * When the target is reached, a {@code PreToolUse} hook blocks every further tool call
+ * with an instruction to finish, which ends the Claude run within a turn. For providers
+ * without hooks, progress is still reported but the run is not interrupted.
+ * </p>
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public class CoverageProgressMonitor implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(CoverageProgressMonitor.class);
+
+	/**
+	 * Tools whose use can change test sources.
+	 */
+	private static final String MODIFYING_TOOLS = "Write|Edit|MultiEdit|Bash";
+
+	private final CoverageMetrics baseline;
+
+	private final int targetCoverage;
+
+	private final Duration interval;
+
+	private final Supplier<Optional<CoverageMetrics>> probe;
+
+	private final Supplier<Map<String, String>> sourceFingerprint;
+
+	private final List<Consumer<CoverageProgressEvent>> listeners = new CopyOnWriteArrayList<>();
+
+	private final List<CoverageProgressEvent> progression = new CopyOnWriteArrayList<>();
+
+	private final AtomicBoolean dirty = new AtomicBoolean();
+
+	private final AtomicBoolean targetReached = new AtomicBoolean();
+
+	private final List<String> hookIds = new ArrayList<>();
+
+	private ScheduledExecutorService scheduler;
+
+	private ClaudeAgentModel attachedModel;
+
+	private Map<String, String> lastFingerprint;
+
+	/**
+	 * Create a monitor for a workspace prepared by the coverage agent setup phase.
+	 * @param workspace project directory the agent works in
+	 * @param baseline baseline coverage measured during setup
+	 * @param targetCoverage target line coverage percentage
+	 * @param baselineFingerprint source fingerprint captured during setup
+	 * @param interval minimum time between two measurements
+	 */
+	public CoverageProgressMonitor(Path workspace, CoverageMetrics baseline, int targetCoverage,
+			Map<String, String> baselineFingerprint, Duration interval) {
+		this(baseline, targetCoverage, interval, () -> measureSnapshot(workspace, baselineFingerprint),
+				() -> fingerprintOrEmpty(workspace));
+	}
+
+	CoverageProgressMonitor(CoverageMetrics baseline, int targetCoverage, Duration interval,
+			Supplier<Optional<CoverageMetrics>> probe, Supplier<Map<String, String>> sourceFingerprint) {
+		this.baseline = baseline;
+		this.targetCoverage = targetCoverage;
+		this.interval = interval;
+		this.probe = probe;
+		this.sourceFingerprint = sourceFingerprint;
+	}
+
+	/**
+	 * Register a listener for progress events.
+	 * @param listener consumer invoked on the monitor thread after every measurement
+	 * @return this monitor
+	 */
+	public CoverageProgressMonitor onProgress(Consumer<CoverageProgressEvent> listener) {
+		this.listeners.add(listener);
+		return this;
+	}
+
+	/**
+	 * Use Claude hooks for activity detection and early stop. Must be called before
+	 * {@link #start()}.
+	 * @param model Claude agent model executing the goal
+	 * @return this monitor
+	 */
+	public CoverageProgressMonitor attach(ClaudeAgentModel model) {
+		this.attachedModel = model;
+		this.hookIds.add(model.registerPostToolUse(MODIFYING_TOOLS, input -> {
+			onActivity();
+			return HookOutput.allow();
+		}));
+		this.hookIds.add(model.registerPreToolUse(input -> {
+			if (this.targetReached.get()) {
+				return HookOutput.block(stopMessage());
+			}
+			return HookOutput.allow();
+		}));
+		return this;
+	}
+
+	/**
+	 * Start periodic measurements.
+	 * @return this monitor
+	 */
+	public synchronized CoverageProgressMonitor start() {
+		if (this.scheduler != null) {
+			return this;
+		}
+		this.lastFingerprint = this.attachedModel == null ? this.sourceFingerprint.get() : null;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "coverage-progress-monitor");
+			t.setDaemon(true);
+			return t;
+		});
+		long millis = this.interval.toMillis();
+		this.scheduler.scheduleWithFixedDelay(this::tick, millis, millis, TimeUnit.MILLISECONDS);
+		log.info("Coverage progress monitor started (interval={}s, detection={})", this.interval.toSeconds(),
+				this.attachedModel != null ? "hooks" : "polling");
+		return this;
+	}
+
+	/**
+	 * Signal that the agent may have changed the workspace.
+	 */
+	public void onActivity() {
+		this.dirty.set(true);
+	}
+
+	/**
+	 * Whether a measurement has met the target coverage.
+	 * @return true once the target has been reached
+	 */
+	public boolean isTargetReached() {
+		return this.targetReached.get();
+	}
+
+	/**
+	 * All progress events emitted so far, in order.
+	 * @return unmodifiable list of progress events
+	 */
+	public List<CoverageProgressEvent> getProgression() {
+		return Collections.unmodifiableList(this.progression);
+	}
+
+	@Override
+	public synchronized void close() {
+		if (this.scheduler != null) {
+			this.scheduler.shutdownNow();
+			this.scheduler = null;
+		}
+		if (this.attachedModel != null) {
+			this.hookIds.forEach(this.attachedModel::unregisterHook);
+			this.hookIds.clear();
+		}
+	}
+
+	/**
+	 * Run one monitoring cycle: detect changes, measure if needed, publish progress.
+	 */
+	void tick() {
+		if (this.targetReached.get()) {
+			return;
+		}
+		if (this.attachedModel == null) {
+			Map<String, String> current = this.sourceFingerprint.get();
+			if (!current.equals(this.lastFingerprint)) {
+				this.lastFingerprint = current;
+				this.dirty.set(true);
+			}
+		}
+		if (!this.dirty.getAndSet(false)) {
+			return;
+		}
+
+		Optional<CoverageMetrics> measured;
+		try {
+			measured = this.probe.get();
+		}
+		catch (Exception e) {
+			log.debug("Background coverage measurement failed", e);
+			return;
+		}
+		measured.ifPresent(this::publish);
+	}
+
+	private void publish(CoverageMetrics current) {
+		boolean reached = current.lineCoverage() >= this.targetCoverage;
+		CoverageProgressEvent event = new CoverageProgressEvent(this.progression.size() + 1,
+				this.baseline.lineCoverage(), current.lineCoverage(), current.branchCoverage(), this.targetCoverage,
+				reached, Instant.now());
+		this.progression.add(event);
+		log.info("Coverage progress: {}", event);
+		if (reached && this.targetReached.compareAndSet(false, true)) {
+			log.info("Target coverage {}% reached, stopping agent", this.targetCoverage);
+		}
+		for (Consumer<CoverageProgressEvent> listener : this.listeners) {
+			try {
+				listener.accept(event);
+			}
+			catch (Exception e) {
+				log.warn("Coverage progress listener failed: {}", e.getMessage());
+			}
+		}
+	}
+
+	private String stopMessage() {
+		CoverageProgressEvent last = this.progression.isEmpty() ? null
+				: this.progression.get(this.progression.size() - 1);
+		return String.format(
+				"Target coverage of %d%% has been reached (currently %.1f%%). Do not make further changes; "
+						+ "stop now and summarize the tests you added.",
+				this.targetCoverage, last != null ? last.currentLineCoverage() : (double) this.targetCoverage);
+	}
+
+	private static Map<String, String> fingerprintOrEmpty(Path workspace) {
+		try {
+			return IncrementalCoverageEvaluator.fingerprint(workspace);
+		}
+		catch (IOException e) {
+			return Map.of();
+		}
+	}
+
+	/**
+	 * Measure coverage on a timestamp-preserving copy of the workspace, so the
+	 * measurement's Maven build cannot interfere with builds the agent runs itself.
+	 */
+	private static Optional<CoverageMetrics> measureSnapshot(Path workspace, Map<String, String> baselineFingerprint) {
+		Path snapshot = null;
+		try {
+			snapshot = Files.createTempDirectory("coverage-monitor-");
+			copyTree(workspace, snapshot);
+			return IncrementalCoverageEvaluator.evaluate(snapshot, baselineFingerprint);
+		}
+		catch (IOException e) {
+			log.debug("Failed to snapshot workspace for coverage measurement: {}", e.getMessage());
+			return Optional.empty();
+		}
+		finally {
+			if (snapshot != null) {
+				deleteQuietly(snapshot);
+			}
+		}
+	}
+
+	private static void copyTree(Path source, Path target) throws IOException {
+		Files.walkFileTree(source, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Files.copy(file, target.resolve(source.relativize(file).toString()),
+						StandardCopyOption.COPY_ATTRIBUTES, LinkOption.NOFOLLOW_LINKS);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException exc) {
+				// Files may disappear while the agent is working
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	private static void deleteQuietly(Path directory) {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+				try {
+					Files.deleteIfExists(path);
+				}
+				catch (IOException e) {
+					log.debug("Failed to delete: {}", path);
+				}
+			});
+		}
+		catch (IOException e) {
+			log.debug("Failed to delete snapshot directory {}", directory);
+		}
+	}
+
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.codecoverage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.judge.coverage.JaCoCoReportParser;
+import org.springaicommunity.judge.coverage.JaCoCoReportParser.CoverageMetrics;
+import org.zeroturnaround.exec.ProcessExecutor;
+import org.zeroturnaround.exec.ProcessResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Fast coverage evaluation that only runs the test classes the agent added or changed.
+ *
+ * <p>
+ * During setup the baseline JaCoCo execution data and a fingerprint of the project
+ * sources are captured. After the agent finishes, the baseline exec file is copied back
+ * to {@code target/jacoco.exec} and only new or modified test classes are run without
+ * {@code clean}. JaCoCo's agent appends to the existing exec file by default, so the
+ * report reflects baseline plus new tests while compiled classes are reused.
+ * </p>
+ *
+ * <p>
+ * Incremental evaluation is only valid when production code and the build file are
+ * unchanged; otherwise {@link #evaluate} returns empty and the caller falls back to a
+ * full {@code clean test jacoco:report} build.
+ * </p>
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public final class IncrementalCoverageEvaluator {
+
+	private static final Logger log = LoggerFactory.getLogger(IncrementalCoverageEvaluator.class);
+
+	/**
+	 * Location of the preserved baseline exec file, outside {@code target/} so that an
+	 * agent running {@code mvn clean} does not delete it.
+	 */
+	static final String BASELINE_EXEC = ".agent-coverage/jacoco-baseline.exec";
+
+	private static final String JACOCO_EXEC = "target/jacoco.exec";
+
+	private static final String MAIN_SOURCES = "src/main/";
+
+	private static final String TEST_SOURCES = "src/test/java/";
+
+	private static final long TIMEOUT_MINUTES = 5;
+
+	private IncrementalCoverageEvaluator() {
+		// Utility class - prevent instantiation
+	}
+
+	/**
+	 * Preserve the baseline JaCoCo exec data produced by the setup test run.
+	 * @param workspace project directory
+	 * @return true if baseline exec data was found and preserved
+	 */
+	public static boolean captureBaseline(Path workspace) {
+		Path exec = workspace.resolve(JACOCO_EXEC);
+		if (!Files.isRegularFile(exec)) {
+			log.info("No baseline JaCoCo exec data at {}, incremental evaluation unavailable", exec);
+			return false;
+		}
+		try {
+			Path target = workspace.resolve(BASELINE_EXEC);
+			Files.createDirectories(target.getParent());
+			Files.copy(exec, target, StandardCopyOption.REPLACE_EXISTING);
+			return true;
+		}
+		catch (IOException e) {
+			log.warn("Failed to preserve baseline JaCoCo exec data: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Fingerprint the build file and all main and test sources.
+	 * @param workspace project directory
+	 * @return map of workspace-relative path to SHA-256 content hash
+	 * @throws IOException if the sources cannot be read
+	 */
+	public static Map<String, String> fingerprint(Path workspace) throws IOException {
+		Map<String, String> fingerprint = new TreeMap<>();
+		Path pom = workspace.resolve("pom.xml");
+		if (Files.isRegularFile(pom)) {
+			fingerprint.put("pom.xml", sha256(pom));
+		}
+		for (String root : List.of(MAIN_SOURCES, TEST_SOURCES)) {
+			Path dir = workspace.resolve(root);
+			if (!Files.isDirectory(dir)) {
+				continue;
+			}
+			try (Stream<Path> files = Files.walk(dir)) {
+				for (Path file : files.filter(Files::isRegularFile).toList()) {
+					fingerprint.put(workspace.relativize(file).toString().replace('\\', '/'), sha256(file));
+				}
+			}
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Measure coverage by running only new or changed test classes on top of the baseline
+	 * exec data.
+	 * @param workspace project directory
+	 * @param baselineFingerprint fingerprint captured during setup
+	 * @return merged coverage, or empty if a full build is required
+	 */
+	public static Optional<CoverageMetrics> evaluate(Path workspace, Map<String, String> baselineFingerprint) {
+		Path baselineExec = workspace.resolve(BASELINE_EXEC);
+		if (baselineFingerprint == null || !Files.isRegularFile(baselineExec)) {
+			log.info("No baseline captured, falling back to full coverage build");
+			return Optional.empty();
+		}
+
+		List<String> testClasses;
+		try {
+			testClasses = changedTestClasses(baselineFingerprint, fingerprint(workspace));
+		}
+		catch (IOException e) {
+			log.warn("Failed to fingerprint sources, falling back to full coverage build: {}", e.getMessage());
+			return Optional.empty();
+		}
+		catch (IllegalStateException e) {
+			log.info("{}, falling back to full coverage build", e.getMessage());
+			return Optional.empty();
+		}
+
+		try {
+			Path exec = workspace.resolve(JACOCO_EXEC);
+			Files.createDirectories(exec.getParent());
+			Files.copy(baselineExec, exec, StandardCopyOption.REPLACE_EXISTING);
+
+			List<String> command = new ArrayList<>();
+			command.add(mavenCommand(workspace));
+			command.add("-B");
+			command.add("-q");
+			if (testClasses.isEmpty()) {
+				log.info("No new or changed test classes, reporting baseline execution data");
+				command.add("jacoco:report");
+			}
+			else {
+				log.info("Incremental coverage: running {} new or changed test classes", testClasses.size());
+				command.add("test");
+				command.add("jacoco:report");
+				command.add("-Dtest=" + String.join(",", testClasses));
+				command.add("-Djacoco.append=true");
+				command.add("-Dsurefire.failIfNoSpecifiedTests=false");
+				command.add("-DfailIfNoTests=false");
+			}
+
+			long start = System.nanoTime();
+			ProcessResult result = new ProcessExecutor().command(command)
+				.directory(workspace.toFile())
+				.timeout(TIMEOUT_MINUTES, TimeUnit.MINUTES)
+				.readOutput(true)
+				.execute();
+			log.info("Incremental coverage build finished in {} ms with exit code {}",
+					(System.nanoTime() - start) / 1_000_000, result.getExitValue());
+
+			if (result.getExitValue() != 0) {
+				log.warn("Incremental coverage build failed, falling back to full build: {}", result.outputUTF8());
+				return Optional.empty();
+			}
+			return Optional.of(JaCoCoReportParser.parse(workspace));
+		}
+		catch (Exception e) {
+			log.warn("Incremental coverage evaluation failed, falling back to full build: {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Determine the test classes added or modified since the baseline.
+	 * @param baseline fingerprint captured during setup
+	 * @param current current fingerprint
+	 * @return fully qualified names of new or changed test classes
+	 * @throws IllegalStateException if production sources or the build file changed, in
+	 * which case baseline execution data can no longer be reused
+	 */
+	static List<String> changedTestClasses(Map<String, String> baseline, Map<String, String> current) {
+		if (!sameEntries(baseline, current, "pom.xml")) {
+			throw new IllegalStateException("Build file changed since baseline");
+		}
+		for (String path : union(baseline, current)) {
+			if (path.startsWith(MAIN_SOURCES) && !sameEntries(baseline, current, path)) {
+				throw new IllegalStateException("Production source changed since baseline: " + path);
+			}
+			if (path.startsWith(TEST_SOURCES) && !current.containsKey(path)) {
+				throw new IllegalStateException("Test source removed since baseline: " + path);
+			}
+		}
+
+		List<String> changed = new ArrayList<>();
+		current.forEach((path, hash) -> {
+			if (path.startsWith(TEST_SOURCES) && path.endsWith(".java") && !hash.equals(baseline.get(path))) {
+				changed.add(path.substring(TEST_SOURCES.length(), path.length() - ".java".length()).replace('/', '.'));
+			}
+		});
+		return changed;
+	}
+
+	private static boolean sameEntries(Map<String, String> a, Map<String, String> b, String key) {
+		String left = a.get(key);
+		String right = b.get(key);
+		return left == null ? right == null : left.equals(right);
+	}
+
+	private static List<String> union(Map<String, String> a, Map<String, String> b) {
+		TreeMap<String, String> all = new TreeMap<>(a);
+		all.putAll(b);
+		return new ArrayList<>(all.keySet());
+	}
+
+	private static String mavenCommand(Path workspace) {
+		Path wrapper = workspace.resolve("mvnw");
+		return Files.isExecutable(wrapper) ? wrapper.toAbsolutePath().toString() : "mvn";
+	}
+
+	private static String sha256(Path file) throws IOException {
+		try (InputStream in = Files.newInputStream(file)) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+			StringBuilder hex = new StringBuilder();
+			for (byte b : digest.digest()) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+}
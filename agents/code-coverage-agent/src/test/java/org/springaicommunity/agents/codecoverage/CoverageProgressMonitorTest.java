@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.codecoverage;
+
+import org.junit.jupiter.api.Test;
+import org.springaicommunity.judge.coverage.JaCoCoReportParser.CoverageMetrics;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CoverageProgressMonitor} sampling and target detection.
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+class CoverageProgressMonitorTest {
+
+	private static final CoverageMetrics BASELINE = metrics(40.0);
+
+	@Test
+	void measuresOnlyAfterActivity() {
+		AtomicInteger probes = new AtomicInteger();
+		CoverageProgressMonitor monitor = new CoverageProgressMonitor(BASELINE, 80, Duration.ofSeconds(1), () -> {
+			probes.incrementAndGet();
+			return Optional.of(metrics(55.0));
+		}, () -> Map.of("a", "1"));
+		monitor.onActivity();
+
+		monitor.tick();
+		monitor.tick();
+
+		assertThat(probes).hasValue(1);
+		assertThat(monitor.getProgression()).singleElement().satisfies(event -> {
+			assertThat(event.sample()).isEqualTo(1);
+			assertThat(event.baselineLineCoverage()).isEqualTo(40.0);
+			assertThat(event.currentLineCoverage()).isEqualTo(55.0);
+			assertThat(event.targetReached()).isFalse();
+		});
+		assertThat(monitor.isTargetReached()).isFalse();
+	}
+
+	@Test
+	void detectsChangesByPollingFingerprint() {
+		Deque<Map<String, String>> fingerprints = new ArrayDeque<>(
+				List.of(Map.of("a", "1"), Map.of("a", "1"), Map.of("a", "2")));
+		AtomicInteger probes = new AtomicInteger();
+		CoverageProgressMonitor monitor = new CoverageProgressMonitor(BASELINE, 80, Duration.ofHours(1), () -> {
+			probes.incrementAndGet();
+			return Optional.of(metrics(50.0));
+		}, fingerprints::poll);
+
+		monitor.start();
+		try {
+			monitor.tick();
+			assertThat(probes).hasValue(0);
+			monitor.tick();
+			assertThat(probes).hasValue(1);
+		}
+		finally {
+			monitor.close();
+		}
+	}
+
+	@Test
+	void stopsSamplingOnceTargetReached() {
+		Deque<CoverageMetrics> samples = new ArrayDeque<>(List.of(metrics(70.0), metrics(82.5), metrics(90.0)));
+		List<CoverageProgressEvent> received = new ArrayList<>();
+		CoverageProgressMonitor monitor = new CoverageProgressMonitor(BASELINE, 80, Duration.ofSeconds(1),
+				() -> Optional.of(samples.poll()), Map::of)
+			.onProgress(received::add);
+
+		for (int i = 0; i < 3; i++) {
+			monitor.onActivity();
+			monitor.tick();
+		}
+
+		assertThat(monitor.isTargetReached()).isTrue();
+		assertThat(received).extracting(CoverageProgressEvent::currentLineCoverage).containsExactly(70.0, 82.5);
+		assertThat(received.get(1).targetReached()).isTrue();
+	}
+
+	@Test
+	void skipsSampleWhenMeasurementUnavailable() {
+		CoverageProgressMonitor monitor = new CoverageProgressMonitor(BASELINE, 80, Duration.ofSeconds(1),
+				Optional::empty, Map::of);
+		monitor.onActivity();
+
+		monitor.tick();
+
+		assertThat(monitor.getProgression()).isEmpty();
+	}
+
+	private static CoverageMetrics metrics(double lineCoverage) {
+		return new CoverageMetrics(lineCoverage, 0.0, 0.0, 0, 0, 0, 0, 0, 0, "test");
+	}
+
+}
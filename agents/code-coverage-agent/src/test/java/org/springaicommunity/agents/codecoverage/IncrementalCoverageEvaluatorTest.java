@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.codecoverage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link IncrementalCoverageEvaluator} change detection.
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+class IncrementalCoverageEvaluatorTest {
+
+	@TempDir
+	Path workspace;
+
+	@Test
+	void detectsNewAndModifiedTestClasses() throws Exception {
+		write("pom.xml", "<project/>");
+		write("src/main/java/com/example/Greeting.java", "class Greeting {}");
+		write("src/test/java/com/example/ExistingTests.java", "class ExistingTests {}");
+		write("src/test/java/com/example/ChangedTests.java", "class ChangedTests {}");
+		Map<String, String> baseline = IncrementalCoverageEvaluator.fingerprint(workspace);
+
+		write("src/test/java/com/example/ChangedTests.java", "class ChangedTests { void more() {} }");
+		write("src/test/java/com/example/web/NewControllerTests.java", "class NewControllerTests {}");
+		Map<String, String> current = IncrementalCoverageEvaluator.fingerprint(workspace);
+
+		assertThat(IncrementalCoverageEvaluator.changedTestClasses(baseline, current))
+			.containsExactlyInAnyOrder("com.example.ChangedTests", "com.example.web.NewControllerTests");
+	}
+
+	@Test
+	void noChangesYieldsNoTestClasses() throws Exception {
+		write("pom.xml", "<project/>");
+		write("src/test/java/com/example/ExistingTests.java", "class ExistingTests {}");
+		Map<String, String> baseline = IncrementalCoverageEvaluator.fingerprint(workspace);
+
+		assertThat(IncrementalCoverageEvaluator.changedTestClasses(baseline,
+				IncrementalCoverageEvaluator.fingerprint(workspace)))
+			.isEmpty();
+	}
+
+	@Test
+	void productionChangeRequiresFullBuild() throws Exception {
+		write("pom.xml", "<project/>");
+		write("src/main/java/com/example/Greeting.java", "class Greeting {}");
+		Map<String, String> baseline = IncrementalCoverageEvaluator.fingerprint(workspace);
+
+		write("src/main/java/com/example/Greeting.java", "class Greeting { int x; }");
+
+		assertThatThrownBy(() -> IncrementalCoverageEvaluator.changedTestClasses(baseline,
+				IncrementalCoverageEvaluator.fingerprint(workspace)))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("Production source changed");
+	}
+
+	@Test
+	void buildFileChangeRequiresFullBuild() throws Exception {
+		write("pom.xml", "<project/>");
+		Map<String, String> baseline = IncrementalCoverageEvaluator.fingerprint(workspace);
+
+		write("pom.xml", "<project><build/></project>");
+
+		assertThatThrownBy(() -> IncrementalCoverageEvaluator.changedTestClasses(baseline,
+				IncrementalCoverageEvaluator.fingerprint(workspace)))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("Build file changed");
+	}
+
+	@Test
+	void evaluateWithoutBaselineFallsBack() {
+		assertThat(IncrementalCoverageEvaluator.evaluate(workspace, Map.of())).isEmpty();
+		assertThat(IncrementalCoverageEvaluator.captureBaseline(workspace)).isFalse();
+	}
+
+	private void write(String relativePath, String content) throws Exception {
+		Path file = workspace.resolve(relativePath);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+}
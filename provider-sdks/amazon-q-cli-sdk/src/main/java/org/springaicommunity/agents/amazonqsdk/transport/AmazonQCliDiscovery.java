@@ -37,6 +37,8 @@ public class AmazonQCliDiscovery {
 
 	private static final Logger logger = LoggerFactory.getLogger(AmazonQCliDiscovery.class);
 
+	private static final String PROPERTY_Q_CLI_PATH = "q.cli.path";
+
 	private static final String ENV_Q_CLI_PATH = "Q_CLI_PATH";
 
 	/**
@@ -45,7 +47,16 @@ public class AmazonQCliDiscovery {
 	 * @throws AmazonQSDKException if Q CLI cannot be found
 	 */
 	public static String discoverQCli() {
-		// 1. Check Q_CLI_PATH environment variable
+		// 1. Check q.cli.path system property, then Q_CLI_PATH environment variable
+		String propertyPath = System.getProperty(PROPERTY_Q_CLI_PATH);
+		if (propertyPath != null && !propertyPath.isEmpty()) {
+			Path qPath = Paths.get(propertyPath);
+			if (Files.exists(qPath) && Files.isExecutable(qPath)) {
+				logger.info("Found Amazon Q CLI via q.cli.path: {}", propertyPath);
+				return propertyPath;
+			}
+			logger.warn("q.cli.path set but not executable: {}", propertyPath);
+		}
 		String envPath = System.getenv(ENV_Q_CLI_PATH);
 		if (envPath != null && !envPath.isEmpty()) {
 			Path qPath = Paths.get(envPath);
@@ -76,7 +87,8 @@ public class AmazonQCliDiscovery {
 		}
 
 		throw new AmazonQSDKException(
-				"Amazon Q CLI not found. Install from https://aws.amazon.com/q/developer/ or set Q_CLI_PATH environment variable.");
+				"Amazon Q CLI not found. Install from https://aws.amazon.com/q/developer/ or set the q.cli.path "
+						+ "system property or Q_CLI_PATH environment variable.");
 	}
 
 	private static String tryWhichCommand() {
@@ -21,15 +21,16 @@ import org.slf4j.LoggerFactory;
 import org.springaicommunity.agents.amazonqsdk.exceptions.AmazonQSDKException;
 import org.springaicommunity.agents.amazonqsdk.types.ExecuteOptions;
 import org.springaicommunity.agents.amazonqsdk.types.ExecuteResult;
-import org.zeroturnaround.exec.ProcessExecutor;
-import org.zeroturnaround.exec.ProcessResult;
+import org.springaicommunity.agents.process.ProcessRunResult;
+import org.springaicommunity.agents.process.ProcessRunner;
+import org.springaicommunity.agents.process.ProcessSpec;
+import org.springaicommunity.agents.process.PromptDelivery;
 
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Handles communication with the Amazon Q CLI process.
@@ -45,11 +46,24 @@ public class CLITransport {
 
 	private final Path workingDirectory;
 
+	private final ProcessRunner processRunner = new ProcessRunner();
+
+	private PromptDelivery promptDelivery = PromptDelivery.DEFAULT;
+
 	public CLITransport(String qCliPath, Path workingDirectory) {
 		this.qCliPath = qCliPath;
 		this.workingDirectory = workingDirectory;
 	}
 
+	/**
+	 * Sets how prompts are handed to the CLI. Prompts above the threshold are piped to
+	 * standard input, which the CLI reads as the prompt when none is given as argument.
+	 * @param promptDelivery the prompt delivery
+	 */
+	public void setPromptDelivery(PromptDelivery promptDelivery) {
+		this.promptDelivery = promptDelivery != null ? promptDelivery : PromptDelivery.DEFAULT;
+	}
+
 	/**
 	 * Executes a prompt via Amazon Q CLI.
 	 * @param prompt the prompt to execute
@@ -58,34 +72,47 @@ public class CLITransport {
 	 * @throws AmazonQSDKException if execution fails
 	 */
 	public ExecuteResult execute(String prompt, ExecuteOptions options) {
-		logger.info("Executing Amazon Q with prompt: {}", prompt);
+		if (prompt == null || prompt.isEmpty()) {
+			throw new IllegalArgumentException("Prompt cannot be null or empty");
+		}
+		boolean promptOnStdin = promptDelivery.useStdin(prompt);
+		logger.info("Executing Amazon Q with prompt length: {}{}", prompt.length(), promptOnStdin ? " on stdin" : "");
 		Instant startTime = Instant.now();
 
 		try {
-			List<String> command = buildCommand(prompt, options);
+			List<String> command = buildCommand(promptOnStdin ? null : prompt, options);
 			logger.debug("Running command: {}", String.join(" ", command));
 
-			long timeoutMillis = options.getTimeout().toMillis();
-
-			ProcessResult result = new ProcessExecutor().command(command)
-				.directory(workingDirectory.toFile())
-				.timeout(timeoutMillis, TimeUnit.MILLISECONDS)
-				.readOutput(true)
-				.execute();
+			ProcessSpec spec = ProcessSpec.builder()
+				.command(command)
+				.directory(workingDirectory)
+				.timeout(options.getTimeout())
+				.input(promptOnStdin ? prompt : null)
+				.build();
 
-			Duration duration = Duration.between(startTime, Instant.now());
+			try (ProcessRunResult result = processRunner.run(spec)) {
+				Duration duration = Duration.between(startTime, Instant.now());
 
-			String output = result.outputUTF8();
-			int exitCode = result.getExitValue();
+				// The response on stdout is the result; stderr is not read beyond its tail
+				String output = result.stdout().asString();
+				int exitCode = result.exitCode();
 
-			logger.info("Amazon Q execution completed in {} ms with exit code {}", duration.toMillis(), exitCode);
+				logger.info("Amazon Q execution completed in {} ms with exit code {}", duration.toMillis(), exitCode);
+				if (exitCode != 0) {
+					logger.debug("Amazon Q stderr: {}", result.stderr().tail());
+				}
 
-			// Extract conversation ID if present in output
-			String conversationId = extractConversationId(output);
+				// Extract conversation ID if present in output
+				String conversationId = extractConversationId(output);
 
-			return new ExecuteResult(output, exitCode, options.getModel(), duration, conversationId);
+				return new ExecuteResult(output, exitCode, options.getModel(), duration, conversationId);
+			}
 		}
 		catch (Exception e) {
+			// The runner does not return before the CLI and its children are gone
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
 			logger.error("Amazon Q execution failed", e);
 			throw new AmazonQSDKException("Amazon Q CLI execution failed: " + e.getMessage(), e);
 		}
@@ -93,7 +120,7 @@ public class CLITransport {
 
 	/**
 	 * Builds the command line for Amazon Q CLI execution.
-	 * @param prompt the prompt to execute
+	 * @param prompt the prompt to execute, or {@code null} when it is piped to stdin
 	 * @param options execution options
 	 * @return the command as a list of strings
 	 */
@@ -138,7 +165,9 @@ public class CLITransport {
 		}
 
 		// Add the prompt as the last argument
-		command.add(prompt);
+		if (prompt != null) {
+			command.add(prompt);
+		}
 
 		return command;
 	}
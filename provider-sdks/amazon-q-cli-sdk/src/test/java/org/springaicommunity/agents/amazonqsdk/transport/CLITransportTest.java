@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.amazonqsdk.transport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.agents.amazonqsdk.types.ExecuteOptions;
+import org.springaicommunity.agents.amazonqsdk.types.ExecuteResult;
+import org.springaicommunity.agents.process.PromptDelivery;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for how {@link CLITransport} hands prompts to the Amazon Q CLI, using a script
+ * that records its arguments and standard input in place of the CLI.
+ *
+ * @author Spring AI Community
+ */
+@DisabledOnOs(OS.WINDOWS)
+class CLITransportTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void largePromptIsWrittenToStdinOnly() throws IOException {
+		CLITransport transport = new CLITransport(recordingCli().toString(), this.tempDir);
+		transport.setPromptDelivery(PromptDelivery.STDIN);
+
+		ExecuteResult result = transport.execute("fix the build", ExecuteOptions.builder().build());
+
+		assertThat(result.getExitCode()).isZero();
+		assertThat(Files.readAllLines(this.tempDir.resolve("args.txt"))).doesNotContain("fix the build")
+			.endsWith("--no-interactive", "--trust-all-tools");
+		assertThat(this.tempDir.resolve("stdin.txt")).hasContent("fix the build");
+	}
+
+	@Test
+	void smallPromptIsPassedAsArgument() throws IOException {
+		CLITransport transport = new CLITransport(recordingCli().toString(), this.tempDir);
+
+		transport.execute("fix the build", ExecuteOptions.builder().build());
+
+		assertThat(Files.readAllLines(this.tempDir.resolve("args.txt"))).endsWith("fix the build");
+		assertThat(this.tempDir.resolve("stdin.txt")).isEmptyFile();
+	}
+
+	private Path recordingCli() throws IOException {
+		Path cli = this.tempDir.resolve("q");
+		Files.writeString(cli, """
+				#!/bin/sh
+				dir=$(dirname "$0")
+				printf '%s\\n' "$@" > "$dir/args.txt"
+				cat > "$dir/stdin.txt"
+				echo "done"
+				""");
+		cli.toFile().setExecutable(true);
+		return cli;
+	}
+
+}
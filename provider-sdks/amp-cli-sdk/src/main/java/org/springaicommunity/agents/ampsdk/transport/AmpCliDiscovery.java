@@ -38,6 +38,8 @@ public class AmpCliDiscovery {
 
 	private static final Logger logger = LoggerFactory.getLogger(AmpCliDiscovery.class);
 
+	private static final String PROPERTY_AMP_CLI_PATH = "amp.cli.path";
+
 	private static final String ENV_AMP_CLI_PATH = "AMP_CLI_PATH";
 
 	/**
@@ -46,7 +48,16 @@ public class AmpCliDiscovery {
 	 * @throws AmpSDKException if the CLI cannot be found
 	 */
 	public static String discoverAmpCli() {
-		// 1. Check environment variable first (highest priority)
+		// 1. Check system property first (highest priority), then environment variable
+		String propertyPath = System.getProperty(PROPERTY_AMP_CLI_PATH);
+		if (propertyPath != null && !propertyPath.isEmpty()) {
+			Path ampPath = Paths.get(propertyPath);
+			if (Files.exists(ampPath) && Files.isExecutable(ampPath)) {
+				logger.info("Found Amp CLI via {} system property: {}", PROPERTY_AMP_CLI_PATH, propertyPath);
+				return propertyPath;
+			}
+			logger.warn("{} points to non-existent or non-executable file: {}", PROPERTY_AMP_CLI_PATH, propertyPath);
+		}
 		String envPath = System.getenv(ENV_AMP_CLI_PATH);
 		if (envPath != null && !envPath.isEmpty()) {
 			Path ampPath = Paths.get(envPath);
@@ -76,8 +87,8 @@ public class AmpCliDiscovery {
 			}
 		}
 
-		throw new AmpSDKException(
-				"Amp CLI not found. Please install Amp CLI or set " + ENV_AMP_CLI_PATH + " environment variable");
+		throw new AmpSDKException("Amp CLI not found. Please install Amp CLI or set the " + PROPERTY_AMP_CLI_PATH
+				+ " system property or " + ENV_AMP_CLI_PATH + " environment variable");
 	}
 
 	private static String tryWhichCommand() {
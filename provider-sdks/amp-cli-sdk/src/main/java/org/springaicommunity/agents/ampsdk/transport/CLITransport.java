@@ -21,19 +21,19 @@ import org.slf4j.LoggerFactory;
 import org.springaicommunity.agents.ampsdk.exceptions.AmpSDKException;
 import org.springaicommunity.agents.ampsdk.types.ExecuteOptions;
 import org.springaicommunity.agents.ampsdk.types.ExecuteResult;
-import org.zeroturnaround.exec.ProcessExecutor;
-import org.zeroturnaround.exec.ProcessResult;
+import org.springaicommunity.agents.process.ProcessRunResult;
+import org.springaicommunity.agents.process.ProcessRunner;
+import org.springaicommunity.agents.process.ProcessSpec;
 
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 /**
- * Low-level transport layer for Amp CLI communication using zt-exec for robust process
- * management.
+ * Low-level transport layer for Amp CLI communication using the shared
+ * {@link ProcessRunner} for bounded output capture and process-tree termination.
  *
  * @author Spring AI Community
  * @since 0.1.0
@@ -46,6 +46,8 @@ public class CLITransport {
 
 	private final String ampCliPath;
 
+	private final ProcessRunner processRunner = new ProcessRunner();
+
 	public CLITransport(Path workingDirectory) {
 		this(workingDirectory, null);
 	}
@@ -82,23 +84,25 @@ public class CLITransport {
 
 		logger.debug("Executing Amp CLI command: {}", command);
 
-		try {
-			// Amp CLI requires prompt via stdin when using -x flag
-			ProcessResult result = new ProcessExecutor().command(command)
-				.directory(workingDirectory.toFile())
-				.timeout(options.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
-				.readOutput(true)
-				.destroyOnExit()
-				.redirectInput(
-						new java.io.ByteArrayInputStream(prompt.getBytes(java.nio.charset.StandardCharsets.UTF_8)))
-				.execute();
-
+		// Amp CLI requires prompt via stdin when using -x flag
+		ProcessSpec spec = ProcessSpec.builder()
+			.command(command)
+			.directory(workingDirectory)
+			.timeout(options.getTimeout())
+			.input(prompt)
+			.build();
+		try (ProcessRunResult result = processRunner.run(spec)) {
 			Duration duration = Duration.between(startTime, Instant.now());
 
-			String output = result.outputUTF8();
-			int exitCode = result.getExitValue();
+			// Execute mode prints only the final message to stdout, which is the result;
+			// the activity on stderr is not read beyond its tail
+			String output = result.stdout().asString();
+			int exitCode = result.exitCode();
 
 			logger.debug("Amp CLI execution completed. Exit code: {}, Duration: {}ms", exitCode, duration.toMillis());
+			if (exitCode != 0) {
+				logger.debug("Amp CLI stderr: {}", result.stderr().tail());
+			}
 
 			// Extract model from output if available (Amp doesn't return model in simple
 			// mode)
@@ -107,6 +111,10 @@ public class CLITransport {
 			return new ExecuteResult(output, exitCode, duration, model);
 		}
 		catch (Exception e) {
+			// The runner does not return before the CLI and its children are gone
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
 			Duration duration = Duration.between(startTime, Instant.now());
 			logger.error("Amp CLI execution failed after {}ms: {}", duration.toMillis(), e.getMessage());
 			throw new AmpSDKException("Failed to execute Amp CLI command", e);
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+import java.nio.file.Path;
+
+/**
+ * Limits of an {@link OutputCapture}.
+ *
+ * @param memoryThreshold bytes kept in memory before the output spills to a temp file
+ * @param tailBytes bytes at the end of the output that are always retained in memory
+ * @param maxBytes bytes stored in memory and on disk at most; output beyond that is
+ * dropped, except for the retained tail
+ * @param spillDirectory directory for spill files, or {@code null} for the system temp
+ * directory
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public record CaptureLimits(int memoryThreshold, int tailBytes, long maxBytes, Path spillDirectory) {
+
+	/**
+	 * Default limits: 256 KiB in memory, a 64 KiB tail and at most 256 MiB per stream.
+	 */
+	public static final CaptureLimits DEFAULT = new CaptureLimits(256 * 1024, 64 * 1024, 256L * 1024 * 1024, null);
+
+	public CaptureLimits {
+		if (memoryThreshold < 0 || tailBytes < 0) {
+			throw new IllegalArgumentException("memoryThreshold and tailBytes must not be negative");
+		}
+		if (maxBytes < memoryThreshold) {
+			throw new IllegalArgumentException("maxBytes must not be smaller than memoryThreshold");
+		}
+	}
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Captured output of one stream of a process, with bounded heap usage.
+ *
+ * <p>
+ * Output is kept in memory up to {@link CaptureLimits#memoryThreshold()}. Beyond that,
+ * everything captured so far moves to a temp file and further output is appended to it,
+ * so multi-megabyte agent logs do not stay on the heap. Independently of that, the last
+ * {@link CaptureLimits#tailBytes()} are kept in a ring buffer, which is where result
+ * messages and errors usually are. Past {@link CaptureLimits#maxBytes()} output is no
+ * longer stored, but the tail is still retained and appended when the output is read,
+ * after a marker that tells how many bytes were omitted.
+ * </p>
+ *
+ * <p>
+ * Closing the capture deletes its temp file. Reading is meant to happen once the
+ * process has finished; while it is running, {@link #tail()} is safe to call.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class OutputCapture implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(OutputCapture.class);
+
+	private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+
+	private final CaptureLimits limits;
+
+	private byte[] memory = new byte[0];
+
+	private int memoryLength;
+
+	private Path spillFile;
+
+	private OutputStream spillStream;
+
+	private final byte[] tail;
+
+	private int tailEnd;
+
+	private int tailLength;
+
+	private long size;
+
+	private long stored;
+
+	private boolean closed;
+
+	/**
+	 * Create an empty capture.
+	 * @param limits the capture limits
+	 */
+	public OutputCapture(CaptureLimits limits) {
+		this.limits = limits;
+		this.tail = new byte[limits.tailBytes()];
+	}
+
+	/**
+	 * Append output.
+	 * @param bytes the buffer
+	 * @param offset the offset of the output in the buffer
+	 * @param length the number of bytes
+	 * @throws IOException if the output cannot be spilled to disk
+	 */
+	public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+		if (this.closed) {
+			return;
+		}
+		this.size += length;
+		appendTail(bytes, offset, length);
+		int storable = (int) Math.min(length, this.limits.maxBytes() - this.stored);
+		if (storable <= 0) {
+			return;
+		}
+		if (this.spillStream == null && this.memoryLength + storable <= this.limits.memoryThreshold()) {
+			if (this.memoryLength + storable > this.memory.length) {
+				int capacity = Math.max(this.memoryLength + storable, Math.min(this.memory.length * 2,
+						this.limits.memoryThreshold()));
+				this.memory = Arrays.copyOf(this.memory, capacity);
+			}
+			System.arraycopy(bytes, offset, this.memory, this.memoryLength, storable);
+			this.memoryLength += storable;
+		}
+		else {
+			if (this.spillStream == null) {
+				spill();
+			}
+			this.spillStream.write(bytes, offset, storable);
+		}
+		this.stored += storable;
+	}
+
+	private void spill() throws IOException {
+		Path directory = this.limits.spillDirectory();
+		this.spillFile = directory != null ? Files.createTempFile(directory, "cli-output-", ".log")
+				: Files.createTempFile("cli-output-", ".log");
+		logger.debug("Output exceeded {} bytes, spilling to {}", this.limits.memoryThreshold(), this.spillFile);
+		this.spillStream = new BufferedOutputStream(Files.newOutputStream(this.spillFile), SPILL_BUFFER_SIZE);
+		this.spillStream.write(this.memory, 0, this.memoryLength);
+		this.memory = new byte[0];
+		this.memoryLength = 0;
+	}
+
+	private void appendTail(byte[] bytes, int offset, int length) {
+		int capacity = this.tail.length;
+		if (capacity == 0) {
+			return;
+		}
+		if (length >= capacity) {
+			System.arraycopy(bytes, offset + length - capacity, this.tail, 0, capacity);
+			this.tailEnd = 0;
+			this.tailLength = capacity;
+			return;
+		}
+		int first = Math.min(length, capacity - this.tailEnd);
+		System.arraycopy(bytes, offset, this.tail, this.tailEnd, first);
+		System.arraycopy(bytes, offset + first, this.tail, 0, length - first);
+		this.tailEnd = (this.tailEnd + length) % capacity;
+		this.tailLength = Math.min(capacity, this.tailLength + length);
+	}
+
+	private byte[] lastBytes(int count) {
+		byte[] result = new byte[count];
+		int start = Math.floorMod(this.tailEnd - count, this.tail.length == 0 ? 1 : this.tail.length);
+		int first = Math.min(count, this.tail.length - start);
+		System.arraycopy(this.tail, start, result, 0, first);
+		System.arraycopy(this.tail, 0, result, first, count - first);
+		return result;
+	}
+
+	/**
+	 * Get the number of bytes written, including omitted ones.
+	 * @return the output size
+	 */
+	public synchronized long size() {
+		return this.size;
+	}
+
+	/**
+	 * Check whether the output spilled to a temp file.
+	 * @return true if the output is stored on disk
+	 */
+	public synchronized boolean isSpilled() {
+		return this.spillFile != null;
+	}
+
+	/**
+	 * Check whether output was omitted because it exceeded the maximum size.
+	 * @return true if bytes were omitted
+	 */
+	public synchronized boolean isTruncated() {
+		return omitted() > 0;
+	}
+
+	private long omitted() {
+		long unstored = this.size - this.stored;
+		return unstored - Math.min(this.tailLength, unstored);
+	}
+
+	/**
+	 * Get the retained end of the output.
+	 * @return the last {@link CaptureLimits#tailBytes()} bytes, decoded as UTF-8
+	 */
+	public synchronized String tail() {
+		return new String(lastBytes(this.tailLength), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Open a stream over the captured output. Omitted output is replaced by a marker.
+	 * @return a new input stream, to be closed by the caller
+	 * @throws IOException if the spill file cannot be opened
+	 */
+	public synchronized InputStream newInputStream() throws IOException {
+		if (this.closed) {
+			throw new IllegalStateException("Output capture is closed");
+		}
+		InputStream head;
+		if (this.spillFile != null) {
+			this.spillStream.flush();
+			head = Files.newInputStream(this.spillFile);
+		}
+		else {
+			head = new ByteArrayInputStream(Arrays.copyOf(this.memory, this.memoryLength));
+		}
+		byte[] rest = unstoredBytes();
+		if (rest.length == 0) {
+			return head;
+		}
+		return new SequenceInputStream(head, new ByteArrayInputStream(rest));
+	}
+
+	/**
+	 * Get what follows the stored output when output was not stored: the omission
+	 * marker, if any, and the retained tail beyond the stored output.
+	 */
+	private byte[] unstoredBytes() {
+		long unstored = this.size - this.stored;
+		if (unstored == 0) {
+			return new byte[0];
+		}
+		int appended = (int) Math.min(this.tailLength, unstored);
+		long omitted = unstored - appended;
+		byte[] marker = omitted > 0 ? ("\n... [" + omitted + " bytes omitted] ...\n").getBytes(StandardCharsets.UTF_8)
+				: new byte[0];
+		byte[] rest = Arrays.copyOf(marker, marker.length + appended);
+		System.arraycopy(lastBytes(appended), 0, rest, marker.length, appended);
+		return rest;
+	}
+
+	/**
+	 * Read the captured output as a string. The output is read into a single buffer of
+	 * its exact size, but a large output still takes heap proportional to its size;
+	 * prefer {@link #newInputStream()} or {@link #tail()} when only part of it is needed.
+	 * @return the output decoded as UTF-8
+	 */
+	public synchronized String asString() {
+		if (this.closed) {
+			throw new IllegalStateException("Output capture is closed");
+		}
+		byte[] rest = unstoredBytes();
+		if (this.spillFile == null && rest.length == 0) {
+			return new String(this.memory, 0, this.memoryLength, StandardCharsets.UTF_8);
+		}
+		byte[] bytes = new byte[Math.toIntExact(this.stored + rest.length)];
+		if (this.spillFile != null) {
+			try {
+				this.spillStream.flush();
+				try (InputStream in = Files.newInputStream(this.spillFile)) {
+					in.readNBytes(bytes, 0, (int) this.stored);
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to read captured output", ex);
+			}
+		}
+		else {
+			System.arraycopy(this.memory, 0, bytes, 0, this.memoryLength);
+		}
+		System.arraycopy(rest, 0, bytes, (int) this.stored, rest.length);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Release the memory of the capture and delete its temp file.
+	 */
+	@Override
+	public synchronized void close() {
+		this.closed = true;
+		this.memory = new byte[0];
+		this.memoryLength = 0;
+		if (this.spillStream != null) {
+			try {
+				this.spillStream.close();
+				Files.deleteIfExists(this.spillFile);
+			}
+			catch (IOException ex) {
+				logger.debug("Could not delete spill file {}: {}", this.spillFile, ex.toString());
+			}
+			this.spillStream = null;
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "OutputCapture[size=" + this.size + ", spilled=" + isSpilled() + ", truncated=" + isTruncated() + "]";
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+/**
+ * Callback notified of the phases of a process run as they happen, for example to
+ * record spawn and time-to-first-output marks of an observation. Callbacks run on the
+ * threads of the runner and must not block.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public interface ProcessListener {
+
+	/**
+	 * Called once the process has been started.
+	 * @param process the started process
+	 */
+	default void onStart(Process process) {
+	}
+
+	/**
+	 * Called once, when the process writes its first byte to stdout or stderr.
+	 */
+	default void onFirstOutput() {
+	}
+
+}
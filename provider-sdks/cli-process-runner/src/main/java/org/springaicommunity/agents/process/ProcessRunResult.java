@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+/**
+ * Result of a process run by {@link ProcessRunner}. Closing the result releases the
+ * captured output, including spill files.
+ *
+ * @param exitCode the exit code of the process
+ * @param stdout the captured standard output
+ * @param stderr the captured standard error
+ * @param timings the phase timings of the run
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public record ProcessRunResult(int exitCode, OutputCapture stdout, OutputCapture stderr,
+		ProcessTimings timings) implements AutoCloseable {
+
+	/**
+	 * Check whether the process exited normally.
+	 * @return true if the exit code is zero
+	 */
+	public boolean isSuccess() {
+		return this.exitCode == 0;
+	}
+
+	/**
+	 * Get standard error followed by standard output, for CLIs whose result parsing
+	 * expects both streams.
+	 * @return the combined output decoded as UTF-8
+	 */
+	public String combinedOutput() {
+		String err = this.stderr.asString();
+		String out = this.stdout.asString();
+		if (err.isEmpty() || out.isEmpty()) {
+			return err + out;
+		}
+		return err.endsWith("\n") ? err + out : err + "\n" + out;
+	}
+
+	@Override
+	public void close() {
+		this.stdout.close();
+		this.stderr.close();
+	}
+
+}
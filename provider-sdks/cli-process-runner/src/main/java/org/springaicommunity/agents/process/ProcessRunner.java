@@ -0,0 +1,252 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs agent CLI processes with bounded output capture.
+ *
+ * <p>
+ * Standard output and standard error are pumped separately into an
+ * {@link OutputCapture} each, which keeps small outputs in memory and spills large ones
+ * to disk, so concurrent runs with multi-megabyte logs do not pressure the heap. Standard
+ * input receives the {@link ProcessSpec#getInput() input} of the spec and is closed
+ * afterwards, so CLIs never wait for a terminal.
+ * </p>
+ *
+ * <p>
+ * When the timeout elapses, when the calling thread is interrupted, or when the JVM
+ * shuts down, the process is terminated together with all processes it started, see
+ * {@link ProcessTrees}. {@link #run(ProcessSpec)} does not return before they are gone.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class ProcessRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(ProcessRunner.class);
+
+	/**
+	 * How long to wait for the output after the process exited. Descendants that outlive
+	 * the process can keep its pipes open.
+	 */
+	private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(5);
+
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	private static final long NOT_RECORDED = -1;
+
+	private static final ProcessListener NO_LISTENER = new ProcessListener() {
+	};
+
+	/**
+	 * Executor for the stream pumps using cached thread pool with daemon threads.
+	 */
+	private static final ExecutorService PUMP_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+		private final AtomicInteger counter = new AtomicInteger(0);
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "cli-process-pump-" + counter.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	});
+
+	private static final Set<Process> RUNNING = ConcurrentHashMap.newKeySet();
+
+	static {
+		Runtime.getRuntime()
+			.addShutdownHook(new Thread(() -> RUNNING.forEach(ProcessTrees::destroy), "cli-process-shutdown"));
+	}
+
+	private final CaptureLimits limits;
+
+	/**
+	 * Create a runner with the {@link CaptureLimits#DEFAULT default} capture limits.
+	 */
+	public ProcessRunner() {
+		this(CaptureLimits.DEFAULT);
+	}
+
+	/**
+	 * Create a runner with the given capture limits, which apply to each stream.
+	 * @param limits the capture limits
+	 */
+	public ProcessRunner(CaptureLimits limits) {
+		this.limits = limits;
+	}
+
+	/**
+	 * Run a process to completion.
+	 * @param spec the process specification
+	 * @return the result, to be closed by the caller to release the captured output
+	 * @throws IOException if the process cannot be started or its output not captured
+	 * @throws InterruptedException if the calling thread was interrupted; the process
+	 * tree has been terminated
+	 * @throws TimeoutException if the process did not exit within the timeout; the
+	 * process tree has been terminated
+	 */
+	public ProcessRunResult run(ProcessSpec spec) throws IOException, InterruptedException, TimeoutException {
+		ProcessListener listener = spec.getListener() != null ? spec.getListener() : NO_LISTENER;
+		long startNanos = System.nanoTime();
+
+		ProcessBuilder builder = new ProcessBuilder(spec.getCommand());
+		if (spec.getDirectory() != null) {
+			builder.directory(spec.getDirectory().toFile());
+		}
+		builder.environment().putAll(spec.getEnv());
+		Process process = builder.start();
+		long spawnNanos = System.nanoTime();
+		RUNNING.add(process);
+		listener.onStart(process);
+
+		OutputCapture stdout = new OutputCapture(this.limits);
+		OutputCapture stderr = new OutputCapture(this.limits);
+		AtomicLong firstOutputNanos = new AtomicLong(NOT_RECORDED);
+		boolean completed = false;
+		try {
+			List<Future<?>> pumps = List.of(
+					PUMP_EXECUTOR.submit(() -> pump(process.getInputStream(), stdout, firstOutputNanos, listener)),
+					PUMP_EXECUTOR.submit(() -> pump(process.getErrorStream(), stderr, firstOutputNanos, listener)));
+			writeInput(process, spec.getInput());
+
+			if (!waitFor(process, spec.getTimeout())) {
+				int killed = ProcessTrees.destroy(process);
+				String lastError = lastLine(stderr.tail());
+				throw new TimeoutException("Process timed out after " + spec.getTimeout().toMillis() + " ms, killed "
+						+ killed + " processes" + (lastError.isEmpty() ? "" : ": " + lastError));
+			}
+			long exitNanos = System.nanoTime();
+			drain(pumps);
+			long drainedNanos = System.nanoTime();
+
+			long firstOutput = firstOutputNanos.get();
+			ProcessTimings timings = new ProcessTimings(Duration.ofNanos(spawnNanos - startNanos),
+					firstOutput != NOT_RECORDED ? Duration.ofNanos(firstOutput - startNanos) : null,
+					Duration.ofNanos(exitNanos - startNanos), Duration.ofNanos(drainedNanos - startNanos));
+			logger.debug("Process {} exited with {} after {} ms (stdout {} bytes, stderr {} bytes)", process.pid(),
+					process.exitValue(), timings.exit().toMillis(), stdout.size(), stderr.size());
+			completed = true;
+			return new ProcessRunResult(process.exitValue(), stdout, stderr, timings);
+		}
+		finally {
+			RUNNING.remove(process);
+			if (!completed) {
+				// Interrupted, timed out or failed: do not return before the tree is gone
+				ProcessTrees.destroy(process);
+				stdout.close();
+				stderr.close();
+			}
+		}
+	}
+
+	private static Void pump(InputStream stream, OutputCapture capture, AtomicLong firstOutputNanos,
+			ProcessListener listener) throws IOException {
+		byte[] buffer = new byte[READ_BUFFER_SIZE];
+		try (InputStream in = stream) {
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				if (read > 0) {
+					if (firstOutputNanos.get() == NOT_RECORDED
+							&& firstOutputNanos.compareAndSet(NOT_RECORDED, System.nanoTime())) {
+						listener.onFirstOutput();
+					}
+					capture.write(buffer, 0, read);
+				}
+			}
+		}
+		return null;
+	}
+
+	private static void writeInput(Process process, byte[] input) {
+		if (input == null) {
+			closeQuietly(process.getOutputStream());
+			return;
+		}
+		PUMP_EXECUTOR.execute(() -> {
+			try (OutputStream out = process.getOutputStream()) {
+				out.write(input);
+			}
+			catch (IOException ex) {
+				// The process exited or closed its input before reading everything
+				logger.debug("Could not write input to process {}: {}", process.pid(), ex.toString());
+			}
+		});
+	}
+
+	private static boolean waitFor(Process process, Duration timeout) throws InterruptedException {
+		if (timeout == null) {
+			process.waitFor();
+			return true;
+		}
+		return process.waitFor(timeout.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	private static void drain(List<Future<?>> pumps) throws IOException, InterruptedException {
+		long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+		for (Future<?> pump : pumps) {
+			try {
+				pump.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			}
+			catch (ExecutionException ex) {
+				throw new IOException("Failed to capture process output", ex.getCause());
+			}
+			catch (TimeoutException ex) {
+				// Leave the pump running, it ends when the last writer closes the pipe
+				logger.warn("Process output still open {} ms after exit, returning output captured so far",
+						DRAIN_TIMEOUT.toMillis());
+				return;
+			}
+		}
+	}
+
+	private static String lastLine(String text) {
+		String trimmed = text.strip();
+		return trimmed.substring(trimmed.lastIndexOf('\n') + 1);
+	}
+
+	private static void closeQuietly(OutputStream stream) {
+		try {
+			stream.close();
+		}
+		catch (IOException ex) {
+			logger.debug("Could not close process input: {}", ex.toString());
+		}
+	}
+
+}
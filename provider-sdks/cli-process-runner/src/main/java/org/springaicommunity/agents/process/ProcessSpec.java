@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Specification of a process run by {@link ProcessRunner}.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class ProcessSpec {
+
+	private final List<String> command;
+
+	private final Path directory;
+
+	private final Map<String, String> env;
+
+	private final Duration timeout;
+
+	private final byte[] input;
+
+	private final ProcessListener listener;
+
+	private ProcessSpec(Builder builder) {
+		this.command = List.copyOf(builder.command);
+		this.directory = builder.directory;
+		this.env = Map.copyOf(builder.env);
+		this.timeout = builder.timeout;
+		this.input = builder.input;
+		this.listener = builder.listener;
+	}
+
+	/**
+	 * Create a builder for a process specification.
+	 * @return a new builder instance
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Get the command and its arguments.
+	 * @return the command
+	 */
+	public List<String> getCommand() {
+		return this.command;
+	}
+
+	/**
+	 * Get the working directory.
+	 * @return the directory, or {@code null} for the current directory
+	 */
+	public Path getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Get the environment variables added to the inherited environment.
+	 * @return the environment variables
+	 */
+	public Map<String, String> getEnv() {
+		return this.env;
+	}
+
+	/**
+	 * Get the timeout after which the process tree is killed.
+	 * @return the timeout, or {@code null} to wait indefinitely
+	 */
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * Get the bytes written to the standard input of the process.
+	 * @return the input, or {@code null} if standard input is closed right away
+	 */
+	public byte[] getInput() {
+		return this.input;
+	}
+
+	/**
+	 * Get the listener notified of the phases of the run.
+	 * @return the listener, or {@code null}
+	 */
+	public ProcessListener getListener() {
+		return this.listener;
+	}
+
+	/**
+	 * Builder for ProcessSpec.
+	 */
+	public static final class Builder {
+
+		private List<String> command = List.of();
+
+		private Path directory;
+
+		private Map<String, String> env = Map.of();
+
+		private Duration timeout;
+
+		private byte[] input;
+
+		private ProcessListener listener;
+
+		private Builder() {
+		}
+
+		/**
+		 * Set the command and its arguments.
+		 * @param command the command
+		 * @return this builder
+		 */
+		public Builder command(List<String> command) {
+			this.command = command;
+			return this;
+		}
+
+		/**
+		 * Set the command and its arguments.
+		 * @param command the command
+		 * @return this builder
+		 */
+		public Builder command(String... command) {
+			return command(Arrays.asList(command));
+		}
+
+		/**
+		 * Set the working directory.
+		 * @param directory the working directory
+		 * @return this builder
+		 */
+		public Builder directory(Path directory) {
+			this.directory = directory;
+			return this;
+		}
+
+		/**
+		 * Set environment variables added to the inherited environment.
+		 * @param env the environment variables
+		 * @return this builder
+		 */
+		public Builder env(Map<String, String> env) {
+			this.env = env != null ? env : Map.of();
+			return this;
+		}
+
+		/**
+		 * Set the timeout after which the process tree is killed.
+		 * @param timeout the timeout
+		 * @return this builder
+		 */
+		public Builder timeout(Duration timeout) {
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Set text written to the standard input of the process, encoded as UTF-8.
+		 * @param input the input text
+		 * @return this builder
+		 */
+		public Builder input(String input) {
+			this.input = input != null ? input.getBytes(StandardCharsets.UTF_8) : null;
+			return this;
+		}
+
+		/**
+		 * Set the listener notified of the phases of the run.
+		 * @param listener the listener
+		 * @return this builder
+		 */
+		public Builder listener(ProcessListener listener) {
+			this.listener = listener;
+			return this;
+		}
+
+		/**
+		 * Build the ProcessSpec.
+		 * @return the constructed specification
+		 */
+		public ProcessSpec build() {
+			if (this.command == null || this.command.isEmpty()) {
+				throw new IllegalStateException("command must be set");
+			}
+			return new ProcessSpec(this);
+		}
+
+	}
+
+}
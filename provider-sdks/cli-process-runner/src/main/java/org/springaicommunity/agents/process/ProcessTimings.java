@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Phase timings of a process run, each measured from the start of the run.
+ *
+ * @param spawn time until the process was started
+ * @param firstOutput time until the first byte on stdout or stderr, or {@code null} if
+ * the process wrote nothing
+ * @param exit time until the process exited
+ * @param drained time until all output was captured
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public record ProcessTimings(Duration spawn, Duration firstOutput, Duration exit, Duration drained) {
+
+	/**
+	 * Get the time until the first output, if the process wrote any.
+	 * @return the first-output time
+	 */
+	public Optional<Duration> getFirstOutput() {
+		return Optional.ofNullable(this.firstOutput);
+	}
+
+	/**
+	 * Get the total duration of the run.
+	 * @return the time until all output was captured
+	 */
+	public Duration total() {
+		return this.drained;
+	}
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utilities for terminating agent CLI processes together with every process they
+ * started.
+ *
+ * <p>
+ * Agent CLIs are typically Node programs that spawn shells, language servers and build
+ * tools. Destroying only the CLI process leaves those children running, and once their
+ * parent is gone they are re-parented and can no longer be found through it. The tree is
+ * therefore collected via {@link ProcessHandle#descendants()} before anything is
+ * destroyed. Every process in the tree is asked to terminate, and processes that are
+ * still alive after the grace period are killed forcibly.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class ProcessTrees {
+
+	private static final Logger logger = LoggerFactory.getLogger(ProcessTrees.class);
+
+	/**
+	 * Default time processes get to exit after a termination request.
+	 */
+	public static final Duration DEFAULT_GRACE = Duration.ofSeconds(2);
+
+	private static final Duration KILL_TIMEOUT = Duration.ofSeconds(1);
+
+	private static final long POLL_INTERVAL_MILLIS = 10;
+
+	/**
+	 * Environment variable carrying the marker of a process started through a client that
+	 * does not expose its process, see {@link #destroyMarked(String, Duration)}.
+	 */
+	public static final String MARKER_VARIABLE = "SPRING_AI_AGENTS_PROCESS_MARKER";
+
+	private ProcessTrees() {
+		// Utility class - prevent instantiation
+	}
+
+	/**
+	 * Destroy a process and all of its descendants using the default grace period.
+	 * @param process the root process
+	 * @return the number of processes that were alive when termination started
+	 */
+	public static int destroy(Process process) {
+		return destroy(process.toHandle(), DEFAULT_GRACE);
+	}
+
+	/**
+	 * Destroy a process and all of its descendants. Returns once every process in the
+	 * tree has exited or was killed forcibly.
+	 * @param root the root process
+	 * @param grace how long processes get to exit before they are killed forcibly
+	 * @return the number of processes that were alive when termination started
+	 */
+	public static int destroy(ProcessHandle root, Duration grace) {
+		Set<ProcessHandle> tree = collect(root);
+		if (tree.isEmpty()) {
+			return 0;
+		}
+		logger.debug("Destroying process tree of {}: {}", root.pid(),
+				tree.stream().map(handle -> String.valueOf(handle.pid())).collect(Collectors.joining(",")));
+
+		// Stop the root first so it cannot spawn replacements for its children
+		tree.forEach(ProcessHandle::destroy);
+
+		awaitExit(tree, grace);
+
+		List<ProcessHandle> survivors = new ArrayList<>();
+		for (ProcessHandle handle : tree) {
+			if (isRunning(handle)) {
+				// Catch children forked while the tree was shutting down
+				handle.descendants().forEach(survivors::add);
+				survivors.add(handle);
+			}
+		}
+		if (!survivors.isEmpty()) {
+			logger.debug("Forcibly killing {} processes of tree {}", survivors.size(), root.pid());
+			survivors.forEach(ProcessHandle::destroyForcibly);
+			awaitExit(survivors, KILL_TIMEOUT);
+		}
+		return tree.size();
+	}
+
+	/**
+	 * Create a new process marker. Start the process with the marker as value of
+	 * {@link #MARKER_VARIABLE} so that it can be found with {@link #findMarked(String)}.
+	 * @return a unique marker value
+	 */
+	public static String newMarker() {
+		return UUID.randomUUID().toString();
+	}
+
+	/**
+	 * Find the descendants of this JVM that were started with the given marker. Only the
+	 * topmost marked processes are returned, their children inherit the marker and are
+	 * part of their trees. Used for clients that do not expose the process they start;
+	 * requires {@code /proc}, on other platforms nothing is found.
+	 * @param marker the marker value
+	 * @return the marked processes that do not have a marked parent
+	 */
+	public static List<ProcessHandle> findMarked(String marker) {
+		byte[] entry = (MARKER_VARIABLE + "=" + marker).getBytes(StandardCharsets.UTF_8);
+		Set<Long> marked = ProcessHandle.current()
+			.descendants()
+			.filter(handle -> hasEnvironmentEntry(handle, entry))
+			.map(ProcessHandle::pid)
+			.collect(Collectors.toSet());
+		return ProcessHandle.current()
+			.descendants()
+			.filter(handle -> marked.contains(handle.pid()))
+			.filter(handle -> handle.parent().map(parent -> !marked.contains(parent.pid())).orElse(true))
+			.toList();
+	}
+
+	/**
+	 * Destroy the trees of all descendants of this JVM started with the given marker.
+	 * @param marker the marker value
+	 * @param grace how long processes get to exit before they are killed forcibly
+	 * @return the number of processes that were alive when termination started
+	 */
+	public static int destroyMarked(String marker, Duration grace) {
+		int destroyed = 0;
+		for (ProcessHandle root : findMarked(marker)) {
+			destroyed += destroy(root, grace);
+		}
+		return destroyed;
+	}
+
+	private static boolean hasEnvironmentEntry(ProcessHandle handle, byte[] entry) {
+		byte[] environment;
+		try {
+			environment = Files.readAllBytes(Path.of("/proc", String.valueOf(handle.pid()), "environ"));
+		}
+		catch (IOException | RuntimeException ex) {
+			return false;
+		}
+		// Entries are NUL terminated
+		int start = 0;
+		for (int i = 0; i < environment.length; i++) {
+			if (environment[i] == 0) {
+				if (Arrays.equals(environment, start, i, entry, 0, entry.length)) {
+					return true;
+				}
+				start = i + 1;
+			}
+		}
+		return false;
+	}
+
+	private static Set<ProcessHandle> collect(ProcessHandle root) {
+		Set<ProcessHandle> tree = new LinkedHashSet<>();
+		if (isRunning(root)) {
+			tree.add(root);
+		}
+		root.descendants().filter(ProcessTrees::isRunning).forEach(tree::add);
+		return tree;
+	}
+
+	/**
+	 * Check whether a process is still running. On Linux, a killed process whose parent
+	 * has not reaped it yet is a zombie: it is reported as alive but no longer uses CPU or
+	 * memory.
+	 */
+	static boolean isRunning(ProcessHandle handle) {
+		if (!handle.isAlive()) {
+			return false;
+		}
+		Path stat = Path.of("/proc", String.valueOf(handle.pid()), "stat");
+		try {
+			String content = Files.readString(stat);
+			// The state follows the parenthesized command name, which may contain spaces
+			int end = content.lastIndexOf(')');
+			return end < 0 || end + 2 >= content.length() || content.charAt(end + 2) != 'Z';
+		}
+		catch (IOException | RuntimeException ex) {
+			return handle.isAlive();
+		}
+	}
+
+	/**
+	 * Poll until all processes have exited. {@link ProcessHandle#onExit()} is not used
+	 * because it backs off to long polling intervals for processes that are not direct
+	 * children of this JVM.
+	 */
+	private static boolean awaitExit(Collection<ProcessHandle> processes, Duration timeout) {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		while (processes.stream().anyMatch(ProcessTrees::isRunning)) {
+			if (System.nanoTime() >= deadline) {
+				return false;
+			}
+			try {
+				Thread.sleep(POLL_INTERVAL_MILLIS);
+			}
+			catch (InterruptedException ex) {
+				// Keep killing, the caller is being cancelled itself
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
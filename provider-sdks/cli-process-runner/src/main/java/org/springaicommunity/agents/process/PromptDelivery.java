@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+/**
+ * How a CLI transport hands the prompt to the agent CLI. Short prompts are passed as a
+ * command line argument; prompts longer than the threshold are written to the standard
+ * input of the CLI instead, so that they neither run into the argument length limits of
+ * the operating system nor end up in the process table and in logged command lines.
+ *
+ * <p>
+ * The default threshold is 32 Ki characters and can be changed with the
+ * {@value #THRESHOLD_PROPERTY} system property.
+ * </p>
+ *
+ * @param stdinThreshold prompts longer than this many characters go through standard
+ * input
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public record PromptDelivery(int stdinThreshold) {
+
+	/**
+	 * System property overriding the threshold of {@link #DEFAULT}.
+	 */
+	public static final String THRESHOLD_PROPERTY = "agents.cli.prompt-stdin-threshold";
+
+	/**
+	 * Standard input for prompts above the configured threshold.
+	 */
+	public static final PromptDelivery DEFAULT = new PromptDelivery(
+			Integer.getInteger(THRESHOLD_PROPERTY, 32 * 1024));
+
+	/**
+	 * Always pass the prompt as an argument.
+	 */
+	public static final PromptDelivery ARGUMENT = new PromptDelivery(Integer.MAX_VALUE);
+
+	/**
+	 * Always write the prompt to standard input.
+	 */
+	public static final PromptDelivery STDIN = new PromptDelivery(0);
+
+	public PromptDelivery {
+		if (stdinThreshold < 0) {
+			throw new IllegalArgumentException("stdinThreshold must not be negative");
+		}
+	}
+
+	/**
+	 * Check whether a prompt goes through standard input.
+	 * @param prompt the prompt
+	 * @return true if the prompt is written to standard input rather than passed as an
+	 * argument
+	 */
+	public boolean useStdin(String prompt) {
+		return prompt != null && prompt.length() > this.stdinThreshold;
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link OutputCapture}.
+ *
+ * @author Spring AI Community
+ */
+class OutputCaptureTest {
+
+	@TempDir
+	Path spillDirectory;
+
+	@Test
+	void smallOutputStaysInMemory() throws IOException {
+		try (OutputCapture capture = new OutputCapture(limits(16, 8, 32))) {
+			write(capture, "0123456789");
+
+			assertThat(capture.asString()).isEqualTo("0123456789");
+			assertThat(capture.isSpilled()).isFalse();
+			assertThat(spillFiles()).isZero();
+		}
+	}
+
+	@Test
+	void outputPastThresholdSpillsToDiskAndIsDeletedOnClose() throws IOException {
+		OutputCapture capture = new OutputCapture(limits(16, 8, 32));
+		write(capture, "0123456789");
+		write(capture, "abcdefghij");
+
+		assertThat(capture.isSpilled()).isTrue();
+		assertThat(capture.asString()).isEqualTo("0123456789abcdefghij");
+		assertThat(spillFiles()).isOne();
+
+		capture.close();
+		assertThat(spillFiles()).isZero();
+		assertThatThrownBy(capture::asString).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void outputPastMaximumKeepsHeadAndTail() throws IOException {
+		try (OutputCapture capture = new OutputCapture(limits(16, 8, 32))) {
+			write(capture, "0123456789".repeat(3));
+			write(capture, "abcdefghij");
+			write(capture, "XYZ");
+
+			assertThat(capture.size()).isEqualTo(43);
+			assertThat(capture.isTruncated()).isTrue();
+			assertThat(capture.tail()).isEqualTo("fghijXYZ");
+			assertThat(capture.asString())
+				.isEqualTo("0123456789".repeat(3) + "ab\n... [3 bytes omitted] ...\nfghijXYZ");
+		}
+	}
+
+	@Test
+	void tailCoversOutputJustPastMaximum() throws IOException {
+		try (OutputCapture capture = new OutputCapture(limits(16, 8, 32))) {
+			write(capture, "0123456789".repeat(3) + "abcd");
+
+			assertThat(capture.isTruncated()).isFalse();
+			assertThat(capture.asString()).isEqualTo("0123456789".repeat(3) + "abcd");
+		}
+	}
+
+	private CaptureLimits limits(int memoryThreshold, int tailBytes, long maxBytes) {
+		return new CaptureLimits(memoryThreshold, tailBytes, maxBytes, this.spillDirectory);
+	}
+
+	private static void write(OutputCapture capture, String text) throws IOException {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		capture.write(bytes, 0, bytes.length);
+	}
+
+	private long spillFiles() throws IOException {
+		try (Stream<Path> files = Files.list(this.spillDirectory)) {
+			return files.count();
+		}
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ProcessRunner}.
+ *
+ * @author Spring AI Community
+ */
+@DisabledOnOs(OS.WINDOWS)
+class ProcessRunnerTest {
+
+	private final ProcessRunner runner = new ProcessRunner();
+
+	@Test
+	void capturesStdoutAndStderrSeparately() throws Exception {
+		ProcessSpec spec = ProcessSpec.builder()
+			.command("sh", "-c", "cat; echo warning >&2; exit 3")
+			.input("prompt via stdin")
+			.build();
+
+		try (ProcessRunResult result = this.runner.run(spec)) {
+			assertThat(result.exitCode()).isEqualTo(3);
+			assertThat(result.isSuccess()).isFalse();
+			assertThat(result.stdout().asString()).isEqualTo("prompt via stdin");
+			assertThat(result.stderr().asString()).isEqualTo("warning\n");
+			assertThat(result.combinedOutput()).isEqualTo("warning\nprompt via stdin");
+		}
+	}
+
+	@Test
+	void recordsPhaseTimingsAndNotifiesListener() throws Exception {
+		AtomicReference<Process> started = new AtomicReference<>();
+		AtomicBoolean firstOutput = new AtomicBoolean();
+		ProcessListener listener = new ProcessListener() {
+			@Override
+			public void onStart(Process process) {
+				started.set(process);
+			}
+
+			@Override
+			public void onFirstOutput() {
+				firstOutput.set(true);
+			}
+		};
+		ProcessSpec spec = ProcessSpec.builder()
+			.command("sh", "-c", "sleep 0.2; echo done")
+			.listener(listener)
+			.build();
+
+		try (ProcessRunResult result = this.runner.run(spec)) {
+			ProcessTimings timings = result.timings();
+			assertThat(started.get()).isNotNull();
+			assertThat(firstOutput).isTrue();
+			assertThat(timings.getFirstOutput())
+				.hasValueSatisfying(time -> assertThat(time).isBetween(timings.spawn(), timings.exit()));
+			assertThat(timings.exit()).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+			assertThat(timings.total()).isGreaterThanOrEqualTo(timings.exit());
+		}
+	}
+
+	@Test
+	void largeOutputIsBoundedInMemory() throws Exception {
+		ProcessRunner bounded = new ProcessRunner(new CaptureLimits(1024, 256, 64 * 1024, null));
+		ProcessSpec spec = ProcessSpec.builder().command("sh", "-c", "head -c 1000000 /dev/zero | tr '\\0' x").build();
+
+		try (ProcessRunResult result = bounded.run(spec)) {
+			assertThat(result.stdout().size()).isEqualTo(1_000_000);
+			assertThat(result.stdout().isSpilled()).isTrue();
+			assertThat(result.stdout().isTruncated()).isTrue();
+			assertThat(result.stdout().tail()).hasSize(256);
+			assertThat(result.stdout().asString()).contains("bytes omitted").hasSizeLessThan(70 * 1024);
+		}
+	}
+
+	@Test
+	void timeoutKillsProcessTree() throws Exception {
+		AtomicReference<List<ProcessHandle>> tree = new AtomicReference<>();
+		ProcessSpec spec = ProcessSpec.builder()
+			.command("sh", "-c", "echo starting >&2; sleep 60 & sleep 60")
+			.timeout(Duration.ofMillis(300))
+			.listener(new ProcessListener() {
+				@Override
+				public void onStart(Process process) {
+					tree.set(awaitDescendants(process));
+				}
+			})
+			.build();
+
+		assertThatThrownBy(() -> this.runner.run(spec)).isInstanceOf(TimeoutException.class)
+			.hasMessageContaining("starting");
+		assertThat(tree.get()).isNotEmpty().noneMatch(ProcessTrees::isRunning);
+	}
+
+	@Test
+	void interruptKillsProcessTree() throws Exception {
+		AtomicReference<Process> started = new AtomicReference<>();
+		ProcessSpec spec = ProcessSpec.builder().command("sleep", "60").listener(new ProcessListener() {
+			@Override
+			public void onStart(Process process) {
+				started.set(process);
+			}
+		}).build();
+		Thread caller = Thread.currentThread();
+		Thread interrupter = new Thread(() -> {
+			try {
+				Thread.sleep(200);
+			}
+			catch (InterruptedException ex) {
+				return;
+			}
+			caller.interrupt();
+		});
+		interrupter.start();
+
+		assertThatThrownBy(() -> this.runner.run(spec)).isInstanceOf(InterruptedException.class);
+		assertThat(ProcessTrees.isRunning(started.get().toHandle())).isFalse();
+	}
+
+	private static List<ProcessHandle> awaitDescendants(Process process) {
+		for (int i = 0; i < 50; i++) {
+			List<ProcessHandle> descendants = process.descendants().toList();
+			if (!descendants.isEmpty()) {
+				return descendants;
+			}
+			try {
+				Thread.sleep(20);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		return List.of();
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProcessTrees}.
+ *
+ * @author Spring AI Community
+ */
+@DisabledOnOs(OS.WINDOWS)
+class ProcessTreesTest {
+
+	@Test
+	void destroyKillsProcessAndDescendants() throws Exception {
+		Process process = new ProcessBuilder("sh", "-c", "sleep 60 & sleep 60 & wait").start();
+		List<ProcessHandle> children = awaitDescendants(process.toHandle(), 2);
+
+		int destroyed = ProcessTrees.destroy(process);
+
+		assertThat(destroyed).isEqualTo(3);
+		assertThat(ProcessTrees.isRunning(process.toHandle())).isFalse();
+		assertThat(children).noneMatch(ProcessTrees::isRunning);
+	}
+
+	@Test
+	void destroyForciblyKillsProcessesIgnoringTermination() throws Exception {
+		Process process = new ProcessBuilder("sh", "-c", "trap '' TERM; sleep 60 & wait").start();
+		List<ProcessHandle> children = awaitDescendants(process.toHandle(), 1);
+
+		ProcessTrees.destroy(process.toHandle(), Duration.ofMillis(200));
+
+		assertThat(ProcessTrees.isRunning(process.toHandle())).isFalse();
+		assertThat(children).noneMatch(ProcessTrees::isRunning);
+	}
+
+	@Test
+	@EnabledOnOs(OS.LINUX)
+	void destroyMarkedKillsOnlyMarkedTrees() throws Exception {
+		String marker = ProcessTrees.newMarker();
+		ProcessBuilder marked = new ProcessBuilder("sh", "-c", "sleep 60 & wait");
+		marked.environment().put(ProcessTrees.MARKER_VARIABLE, marker);
+		Process process = marked.start();
+		Process other = new ProcessBuilder("sleep", "60").start();
+		try {
+			List<ProcessHandle> children = awaitDescendants(process.toHandle(), 1);
+
+			assertThat(ProcessTrees.findMarked(marker)).extracting(ProcessHandle::pid).containsExactly(process.pid());
+
+			int destroyed = ProcessTrees.destroyMarked(marker, Duration.ofSeconds(1));
+
+			assertThat(destroyed).isEqualTo(2);
+			assertThat(children).noneMatch(ProcessTrees::isRunning);
+			assertThat(ProcessTrees.isRunning(other.toHandle())).isTrue();
+		}
+		finally {
+			other.destroyForcibly();
+			process.destroyForcibly();
+		}
+	}
+
+	private static List<ProcessHandle> awaitDescendants(ProcessHandle root, int count) throws InterruptedException {
+		for (int i = 0; i < 50; i++) {
+			List<ProcessHandle> descendants = root.descendants().toList();
+			if (descendants.size() >= count) {
+				return descendants;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("Process " + root.pid() + " did not start " + count + " children");
+	}
+
+}
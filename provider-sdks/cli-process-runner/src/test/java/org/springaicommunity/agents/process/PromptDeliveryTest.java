@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.process;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link PromptDelivery}.
+ *
+ * @author Spring AI Community
+ */
+class PromptDeliveryTest {
+
+	@Test
+	void promptsAboveThresholdUseStdin() {
+		PromptDelivery delivery = new PromptDelivery(4);
+
+		assertThat(delivery.useStdin("abcd")).isFalse();
+		assertThat(delivery.useStdin("abcde")).isTrue();
+		assertThat(delivery.useStdin(null)).isFalse();
+	}
+
+	@Test
+	void fixedModes() {
+		assertThat(PromptDelivery.STDIN.useStdin("a")).isTrue();
+		assertThat(PromptDelivery.ARGUMENT.useStdin("a".repeat(1024 * 1024))).isFalse();
+	}
+
+	@Test
+	void rejectsNegativeThreshold() {
+		assertThatThrownBy(() -> new PromptDelivery(-1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -21,20 +21,26 @@ import org.slf4j.LoggerFactory;
 import org.springaicommunity.agents.codexsdk.exceptions.CodexSDKException;
 import org.springaicommunity.agents.codexsdk.types.ExecuteOptions;
 import org.springaicommunity.agents.codexsdk.types.ExecuteResult;
-import org.zeroturnaround.exec.ProcessExecutor;
-import org.zeroturnaround.exec.ProcessResult;
+import org.springaicommunity.agents.process.ProcessRunResult;
+import org.springaicommunity.agents.process.ProcessRunner;
+import org.springaicommunity.agents.process.ProcessSpec;
+import org.springaicommunity.agents.process.PromptDelivery;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * Low-level transport layer for Codex CLI communication using zt-exec for robust process
- * management.
+ * Low-level transport layer for Codex CLI communication using the shared
+ * {@link ProcessRunner} for bounded output capture and process-tree termination.
  *
  * @author Spring AI Community
  * @since 0.1.0
@@ -43,10 +49,22 @@ public class CLITransport {
 
 	private static final Logger logger = LoggerFactory.getLogger(CLITransport.class);
 
+	private static final String DEFAULT_MODEL = "codex-default";
+
+	private static final Pattern SESSION_ID_PATTERN = Pattern.compile("session id:\\s*([a-f0-9\\-]+)");
+
+	private static final Pattern TOKENS_USED_PATTERN = Pattern.compile("tokens used:?\\s*([0-9][0-9,]*)");
+
+	private static final Pattern TOKEN_COUNT_PATTERN = Pattern.compile("\\s*([0-9][0-9,]*)\\s*");
+
 	private final Path workingDirectory;
 
 	private final String codexCliPath;
 
+	private final ProcessRunner processRunner = new ProcessRunner();
+
+	private PromptDelivery promptDelivery = PromptDelivery.DEFAULT;
+
 	public CLITransport(Path workingDirectory) {
 		this(workingDirectory, null);
 	}
@@ -63,6 +81,15 @@ public class CLITransport {
 		logger.info("Codex CLI initialized at: {}", this.codexCliPath);
 	}
 
+	/**
+	 * Set how prompts are handed to the CLI. Prompts above the threshold are piped to
+	 * standard input and passed as {@code -}, which makes the CLI read them from there.
+	 * @param promptDelivery the prompt delivery
+	 */
+	public void setPromptDelivery(PromptDelivery promptDelivery) {
+		this.promptDelivery = promptDelivery != null ? promptDelivery : PromptDelivery.DEFAULT;
+	}
+
 	/**
 	 * Execute a prompt via Codex CLI in execute mode.
 	 * @param prompt the user prompt/goal to execute
@@ -78,8 +105,7 @@ public class CLITransport {
 			options = ExecuteOptions.defaultOptions();
 		}
 
-		List<String> command = buildCommand(prompt, options, null);
-		return executeCommand(command, options);
+		return executeCommand(prompt, options, null);
 	}
 
 	/**
@@ -101,55 +127,46 @@ public class CLITransport {
 			options = ExecuteOptions.defaultOptions();
 		}
 
-		List<String> command = buildCommand(prompt, options, sessionId);
-		return executeCommand(command, options);
+		return executeCommand(prompt, options, sessionId);
 	}
 
-	private ExecuteResult executeCommand(List<String> command, ExecuteOptions options) {
+	private ExecuteResult executeCommand(String prompt, ExecuteOptions options, String sessionId) {
+		boolean promptOnStdin = promptDelivery.useStdin(prompt);
+		List<String> command = buildCommand(promptOnStdin ? "-" : prompt, options, sessionId);
 		Instant startTime = Instant.now();
 		logger.debug("Executing Codex CLI command: {}", command);
 
-		try {
-			ProcessResult result = new ProcessExecutor().command(command)
-				.directory(workingDirectory.toFile())
-				.timeout(options.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
-				.readOutput(true)
-				.destroyOnExit()
-				.execute();
-
+		ProcessSpec spec = ProcessSpec.builder()
+			.command(command)
+			.directory(workingDirectory)
+			.timeout(options.getTimeout())
+			.input(promptOnStdin ? prompt : null)
+			.build();
+		try (ProcessRunResult result = processRunner.run(spec)) {
 			Duration duration = Duration.between(startTime, Instant.now());
 
-			String combinedOutput = result.outputUTF8();
-			int exitCode = result.getExitValue();
+			int exitCode = result.exitCode();
 
-			logger.debug("Codex CLI execution completed. Exit code: {}, Duration: {}ms", exitCode, duration.toMillis());
+			logger.debug("Codex CLI execution completed. Exit code: {}, Duration: {}ms, first output after: {}ms",
+					exitCode, duration.toMillis(),
+					result.timings().getFirstOutput().map(Duration::toMillis).orElse(-1L));
 
-			// Codex outputs activity to stderr and final message to stdout
-			// Since zt-exec combines them by default, we parse from combined output
-			// Activity log is everything, final message is the last line(s)
-			String[] lines = combinedOutput.split("\n");
-
-			// Find where the final assistant message starts (after the last "codex" or
-			// "tokens used" marker)
-			int finalMessageStart = -1;
-			for (int i = lines.length - 1; i >= 0; i--) {
-				if (lines[i].startsWith("codex") || lines[i].startsWith("tokens used")) {
-					finalMessageStart = i;
-					break;
-				}
+			// Codex outputs activity to stderr and the final message to stdout. The
+			// activity log can be large, so it is scanned as a stream and only its
+			// retained tail is kept.
+			Activity activity;
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(result.stderr().newInputStream(), StandardCharsets.UTF_8))) {
+				activity = scanActivity(reader);
 			}
-
-			String activityLog = combinedOutput;
-			String finalMessage = "";
-			if (finalMessageStart >= 0 && finalMessageStart < lines.length - 1) {
-				finalMessage = String.join("\n",
-						java.util.Arrays.copyOfRange(lines, finalMessageStart + 1, lines.length));
+			String activityLog = result.stderr().tail();
+			String finalMessage = result.stdout().asString().strip();
+			if (finalMessage.isEmpty()) {
+				finalMessage = extractFinalMessage(activityLog);
 			}
 
-			// Extract model from activity log
-			String model = extractModel(activityLog);
-
-			return new ExecuteResult(finalMessage, activityLog, exitCode, duration, model);
+			return new ExecuteResult(finalMessage, activityLog, exitCode, duration, activity.model(),
+					activity.sessionId(), activity.tokensUsed());
 		}
 		catch (IOException e) {
 			Duration duration = Duration.between(startTime, Instant.now());
@@ -157,6 +174,7 @@ public class CLITransport {
 			throw new CodexSDKException("Failed to execute Codex CLI command", e);
 		}
 		catch (InterruptedException e) {
+			// Cancelled: the runner has already stopped the CLI and its children
 			Duration duration = Duration.between(startTime, Instant.now());
 			logger.error("Codex CLI execution interrupted after {}ms", duration.toMillis());
 			Thread.currentThread().interrupt();
@@ -169,6 +187,24 @@ public class CLITransport {
 		}
 	}
 
+	/**
+	 * Extracts the final assistant message from the activity log, for CLI versions that
+	 * print everything to one stream. The message follows the last "codex" or "tokens
+	 * used" marker line.
+	 * @param activityLog the activity log
+	 * @return the final message or an empty string if not found
+	 */
+	static String extractFinalMessage(String activityLog) {
+		String[] lines = activityLog.split("\n");
+		for (int i = lines.length - 1; i >= 0; i--) {
+			if (lines[i].startsWith("codex") || lines[i].startsWith("tokens used")) {
+				return i < lines.length - 1
+						? String.join("\n", java.util.Arrays.copyOfRange(lines, i + 1, lines.length)) : "";
+			}
+		}
+		return "";
+	}
+
 	private List<String> buildCommand(String prompt, ExecuteOptions options, String sessionId) {
 		List<String> command = new ArrayList<>();
 
@@ -225,32 +261,73 @@ public class CLITransport {
 			command.add(sessionId);
 		}
 
-		// Prompt as final argument
+		// Prompt as final argument, "-" reads it from stdin
 		command.add(prompt);
 
 		return command;
 	}
 
 	/**
-	 * Extracts model name from Codex stderr output. Model appears in stderr like: "model:
-	 * gpt-5-codex"
-	 * @param stderr the stderr output
-	 * @return extracted model name or "codex-default" if not found
+	 * Reads the model, session ID and token count from the Codex activity log, line by
+	 * line. The model appears as "model: gpt-5-codex" and the session ID as "session id:
+	 * 0199b2f0-...", both in the header. Tokens are reported as "tokens used: 1234" or
+	 * as "tokens used" followed by the count on the next line; the last report wins.
+	 * @param activityLog the activity log
+	 * @return the activity details, with model "codex-default" if none is reported
+	 * @throws IOException if the activity log cannot be read
 	 */
-	private String extractModel(String stderr) {
-		if (stderr == null || stderr.isEmpty()) {
-			return "codex-default";
+	static Activity scanActivity(BufferedReader activityLog) throws IOException {
+		String model = null;
+		String sessionId = null;
+		long tokensUsed = 0;
+		boolean tokensOnNextLine = false;
+		for (String line = activityLog.readLine(); line != null; line = activityLog.readLine()) {
+			if (tokensOnNextLine && !line.isBlank()) {
+				tokensOnNextLine = false;
+				Matcher count = TOKEN_COUNT_PATTERN.matcher(line);
+				if (count.matches()) {
+					tokensUsed = parseTokens(count.group(1), tokensUsed);
+					continue;
+				}
+			}
+			if (model == null && line.startsWith("model:")) {
+				model = line.substring("model:".length()).trim();
+			}
+			if (sessionId == null) {
+				Matcher session = SESSION_ID_PATTERN.matcher(line);
+				if (session.find()) {
+					sessionId = session.group(1);
+				}
+			}
+			Matcher tokens = TOKENS_USED_PATTERN.matcher(line);
+			if (tokens.find()) {
+				tokensUsed = parseTokens(tokens.group(1), tokensUsed);
+			}
+			else if (line.startsWith("tokens used")) {
+				tokensOnNextLine = true;
+			}
 		}
+		return new Activity(model != null ? model : DEFAULT_MODEL, sessionId, tokensUsed);
+	}
 
-		// Look for "model: <model-name>" in stderr
-		String[] lines = stderr.split("\n");
-		for (String line : lines) {
-			if (line.startsWith("model:")) {
-				return line.substring("model:".length()).trim();
-			}
+	private static long parseTokens(String count, long previous) {
+		try {
+			return Long.parseLong(count.replace(",", ""));
 		}
+		catch (NumberFormatException ex) {
+			// Ignore counts that do not fit, keep the previous report
+			return previous;
+		}
+	}
 
-		return "codex-default";
+	/**
+	 * Details Codex reports in its activity log.
+	 *
+	 * @param model the model that ran
+	 * @param sessionId the session ID, or null if not reported
+	 * @param tokensUsed the tokens used, or 0 if not reported
+	 */
+	record Activity(String model, String sessionId, long tokensUsed) {
 	}
 
 	/**
@@ -38,6 +38,8 @@ public class CodexCliDiscovery {
 
 	private static final Logger logger = LoggerFactory.getLogger(CodexCliDiscovery.class);
 
+	private static final String PROPERTY_CODEX_CLI_PATH = "codex.cli.path";
+
 	private static final String ENV_CODEX_CLI_PATH = "CODEX_CLI_PATH";
 
 	/**
@@ -46,7 +48,16 @@ public class CodexCliDiscovery {
 	 * @throws CodexSDKException if the CLI cannot be found
 	 */
 	public static String discoverCodexCli() {
-		// 1. Check environment variable first (highest priority)
+		// 1. Check system property first (highest priority), then environment variable
+		String propertyPath = System.getProperty(PROPERTY_CODEX_CLI_PATH);
+		if (propertyPath != null && !propertyPath.isEmpty()) {
+			Path codexPath = Paths.get(propertyPath);
+			if (Files.exists(codexPath) && Files.isExecutable(codexPath)) {
+				logger.info("Found Codex CLI via {} system property: {}", PROPERTY_CODEX_CLI_PATH, propertyPath);
+				return propertyPath;
+			}
+			logger.warn("{} points to non-existent or non-executable file: {}", PROPERTY_CODEX_CLI_PATH, propertyPath);
+		}
 		String envPath = System.getenv(ENV_CODEX_CLI_PATH);
 		if (envPath != null && !envPath.isEmpty()) {
 			Path codexPath = Paths.get(envPath);
@@ -84,7 +95,8 @@ public class CodexCliDiscovery {
 		}
 
 		throw new CodexSDKException("Codex CLI not found. Please install via 'npm install -g @openai/codex' or "
-				+ "'brew install codex', or set " + ENV_CODEX_CLI_PATH + " environment variable");
+				+ "'brew install codex', or set the " + PROPERTY_CODEX_CLI_PATH
+				+ " system property or " + ENV_CODEX_CLI_PATH + " environment variable");
 	}
 
 	private static String tryWhichCommand() {
@@ -30,6 +30,8 @@ public class ExecuteResult {
 
 	private static final Pattern SESSION_ID_PATTERN = Pattern.compile("session id:\\s*([a-f0-9\\-]+)");
 
+	private static final Pattern TOKENS_USED_PATTERN = Pattern.compile("tokens used:?\\s*([0-9][0-9,]*)");
+
 	private final String output;
 
 	private final String activityLog;
@@ -42,6 +44,8 @@ public class ExecuteResult {
 
 	private final String sessionId;
 
+	private final long tokensUsed;
+
 	public ExecuteResult(String output, String activityLog, int exitCode, Duration duration, String model) {
 		this.output = output;
 		this.activityLog = activityLog;
@@ -49,6 +53,29 @@ public class ExecuteResult {
 		this.duration = duration;
 		this.model = model;
 		this.sessionId = extractSessionId(activityLog);
+		this.tokensUsed = extractTokensUsed(activityLog);
+	}
+
+	/**
+	 * Create a result whose session ID and token count were already read from the
+	 * activity log, for activity logs that are only partially retained.
+	 * @param output the final message
+	 * @param activityLog the retained activity log
+	 * @param exitCode the exit code of the CLI
+	 * @param duration the execution duration
+	 * @param model the model that ran
+	 * @param sessionId the session ID, or null if not reported
+	 * @param tokensUsed the tokens used, or 0 if not reported
+	 */
+	public ExecuteResult(String output, String activityLog, int exitCode, Duration duration, String model,
+			String sessionId, long tokensUsed) {
+		this.output = output;
+		this.activityLog = activityLog;
+		this.exitCode = exitCode;
+		this.duration = duration;
+		this.model = model;
+		this.sessionId = sessionId;
+		this.tokensUsed = tokensUsed;
 	}
 
 	/**
@@ -69,6 +96,31 @@ public class ExecuteResult {
 		return null;
 	}
 
+	/**
+	 * Extracts the token count from Codex output. Codex reports the tokens consumed by the
+	 * run in stderr as "tokens used: 1234" or as "tokens used" followed by the count on
+	 * the next line. The last report wins.
+	 * @param activityLog the stderr activity log
+	 * @return tokens used, or 0 if not reported
+	 */
+	private long extractTokensUsed(String activityLog) {
+		if (activityLog == null || activityLog.isEmpty()) {
+			return 0;
+		}
+
+		long tokens = 0;
+		Matcher matcher = TOKENS_USED_PATTERN.matcher(activityLog);
+		while (matcher.find()) {
+			try {
+				tokens = Long.parseLong(matcher.group(1).replace(",", ""));
+			}
+			catch (NumberFormatException ex) {
+				// Ignore counts that do not fit, keep the previous report
+			}
+		}
+		return tokens;
+	}
+
 	public String getOutput() {
 		return output;
 	}
@@ -93,6 +145,14 @@ public class ExecuteResult {
 		return sessionId;
 	}
 
+	/**
+	 * Get the total tokens consumed by the run as reported by Codex.
+	 * @return tokens used, or 0 if not reported
+	 */
+	public long getTokensUsed() {
+		return tokensUsed;
+	}
+
 	public boolean isSuccessful() {
 		return exitCode == 0;
 	}
@@ -19,6 +19,7 @@ package org.springaicommunity.agents.codexsdk;
 import org.junit.jupiter.api.Test;
 import org.springaicommunity.agents.codexsdk.types.ApprovalPolicy;
 import org.springaicommunity.agents.codexsdk.types.ExecuteOptions;
+import org.springaicommunity.agents.codexsdk.types.ExecuteResult;
 import org.springaicommunity.agents.codexsdk.types.SandboxMode;
 
 import java.time.Duration;
@@ -89,4 +90,17 @@ class CodexClientTest {
 		assertThat(options.getApprovalPolicy()).isEqualTo(ApprovalPolicy.ALWAYS);
 	}
 
+	@Test
+	void testExecuteResultExtractsTokensUsed() {
+		String inline = "session id: 0199b2f0-e92a\ncodex\nDone\ntokens used: 1234\nDone";
+		String multiline = "codex\nDone\ntokens used\n12,345\nDone";
+
+		assertThat(new ExecuteResult("Done", inline, 0, Duration.ZERO, "gpt-5-codex").getTokensUsed())
+			.isEqualTo(1234);
+		assertThat(new ExecuteResult("Done", multiline, 0, Duration.ZERO, "gpt-5-codex").getTokensUsed())
+			.isEqualTo(12345);
+		assertThat(new ExecuteResult("Done", "codex\nDone", 0, Duration.ZERO, "gpt-5-codex").getTokensUsed())
+			.isZero();
+	}
+
 }
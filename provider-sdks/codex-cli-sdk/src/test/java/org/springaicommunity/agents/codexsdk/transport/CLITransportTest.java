@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.codexsdk.transport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.agents.codexsdk.types.ExecuteOptions;
+import org.springaicommunity.agents.codexsdk.types.ExecuteResult;
+import org.springaicommunity.agents.process.PromptDelivery;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for how {@link CLITransport} hands prompts to the Codex CLI, using a script that
+ * records its arguments and standard input in place of the CLI, and for how it reads the
+ * activity log.
+ *
+ * @author Spring AI Community
+ */
+@DisabledOnOs(OS.WINDOWS)
+class CLITransportTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void largePromptIsPassedAsDashAndWrittenToStdin() throws IOException {
+		CLITransport transport = new CLITransport(this.tempDir, recordingCli().toString());
+		transport.setPromptDelivery(PromptDelivery.STDIN);
+
+		ExecuteResult result = transport.execute("fix the build", ExecuteOptions.defaultOptions());
+
+		assertThat(result.getExitCode()).isZero();
+		List<String> args = Files.readAllLines(this.tempDir.resolve("args.txt"));
+		assertThat(args).doesNotContain("fix the build").endsWith("-");
+		assertThat(this.tempDir.resolve("stdin.txt")).hasContent("fix the build");
+	}
+
+	@Test
+	void smallPromptIsPassedAsArgument() throws IOException {
+		CLITransport transport = new CLITransport(this.tempDir, recordingCli().toString());
+
+		transport.execute("fix the build", ExecuteOptions.defaultOptions());
+
+		assertThat(Files.readAllLines(this.tempDir.resolve("args.txt"))).contains("fix the build");
+		assertThat(this.tempDir.resolve("stdin.txt")).isEmptyFile();
+	}
+
+	@Test
+	void activityIsScannedLineByLine() throws IOException {
+		String log = """
+				model: gpt-5-codex
+				session id: 0199b2f0-e92a-76b3-88fa-a0fa925ad545
+				codex
+				working
+				tokens used: 1,200
+				codex
+				still working
+				tokens used
+				3,456
+				""";
+
+		CLITransport.Activity activity = CLITransport.scanActivity(new BufferedReader(new StringReader(log)));
+
+		assertThat(activity.model()).isEqualTo("gpt-5-codex");
+		assertThat(activity.sessionId()).isEqualTo("0199b2f0-e92a-76b3-88fa-a0fa925ad545");
+		assertThat(activity.tokensUsed()).isEqualTo(3456);
+	}
+
+	@Test
+	void activityDefaultsWhenNothingIsReported() throws IOException {
+		CLITransport.Activity activity = CLITransport.scanActivity(new BufferedReader(new StringReader("codex\nDone")));
+
+		assertThat(activity.model()).isEqualTo("codex-default");
+		assertThat(activity.sessionId()).isNull();
+		assertThat(activity.tokensUsed()).isZero();
+	}
+
+	private Path recordingCli() throws IOException {
+		Path cli = this.tempDir.resolve("codex");
+		Files.writeString(cli, """
+				#!/bin/sh
+				if [ "$1" = "--version" ]; then echo "codex-cli 0.1.0"; exit 0; fi
+				dir=$(dirname "$0")
+				printf '%s\\n' "$@" > "$dir/args.txt"
+				cat > "$dir/stdin.txt"
+				echo "done"
+				""");
+		cli.toFile().setExecutable(true);
+		return cli;
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.fakecli;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Output protocols of the agent CLIs the fake CLI can stand in for.
+ *
+ * <p>
+ * Each protocol knows the executable name of the real CLI and the system property its
+ * discovery class reads, so that a {@link FakeCliInstallation} can be found the same way
+ * as the real binary.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public enum CliProtocol {
+
+	/**
+	 * Claude Code: text, {@code json} or {@code stream-json} output, with stream-json
+	 * input for bidirectional sessions.
+	 */
+	CLAUDE("claude", null, "2.0.0 (Claude Code)"),
+
+	/**
+	 * Codex {@code exec}: activity on stderr and the final message on stdout, or JSONL
+	 * events with {@code --json}.
+	 */
+	CODEX("codex", "codex.cli.path", "codex-cli 0.46.0"),
+
+	/**
+	 * Gemini CLI: text, {@code json} or {@code stream-json} output.
+	 */
+	GEMINI("gemini", "gemini.cli.path", "0.9.0"),
+
+	/**
+	 * Amp execute mode: plain text, or Claude-compatible stream-json with
+	 * {@code --stream-json}.
+	 */
+	AMP("amp", "amp.cli.path", "0.0.1760000000-g0000000"),
+
+	/**
+	 * Amazon Q {@code chat --no-interactive}: plain text.
+	 */
+	AMAZON_Q("q", "q.cli.path", "q 1.19.0"),
+
+	/**
+	 * mini-swe-agent: progress on stdout and a trajectory file written to
+	 * {@code --output}.
+	 */
+	MINI_SWE("mini", "swe.cli.path", "mini-swe-agent 1.14.0");
+
+	private final String executableName;
+
+	private final String discoveryProperty;
+
+	private final String version;
+
+	CliProtocol(String executableName, String discoveryProperty, String version) {
+		this.executableName = executableName;
+		this.discoveryProperty = discoveryProperty;
+		this.version = version;
+	}
+
+	/**
+	 * Get the name of the real CLI executable.
+	 * @return the executable name
+	 */
+	public String executableName() {
+		return this.executableName;
+	}
+
+	/**
+	 * Get the system property the CLI discovery class reads for an explicit executable
+	 * path. Claude has none: its path is set with {@code ClaudeAgentOptions} instead.
+	 * @return the property name, or {@code null} if the CLI has no such property
+	 */
+	public String discoveryProperty() {
+		return this.discoveryProperty;
+	}
+
+	/**
+	 * Get the text printed for {@code --version}.
+	 * @return the version output
+	 */
+	public String version() {
+		return this.version;
+	}
+
+	/**
+	 * Find a protocol by its constant name or executable name, ignoring case.
+	 * @param name the protocol or executable name
+	 * @return the protocol
+	 * @throws IllegalArgumentException if no protocol matches
+	 */
+	public static CliProtocol fromName(String name) {
+		for (CliProtocol protocol : values()) {
+			if (protocol.name().equalsIgnoreCase(name) || protocol.executableName.equalsIgnoreCase(name)) {
+				return protocol;
+			}
+		}
+		throw new IllegalArgumentException("Unknown CLI protocol: " + name + " (expected one of "
+				+ Arrays.toString(values()).toLowerCase(Locale.ROOT) + ")");
+	}
+
+}
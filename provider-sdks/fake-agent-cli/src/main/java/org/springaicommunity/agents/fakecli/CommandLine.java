@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.fakecli;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line of a fake CLI invocation, split into options and positional arguments.
+ *
+ * <p>
+ * Options listed as taking a value consume the next argument unless it looks like
+ * another option, which keeps optional values such as Amp's {@code -x [prompt]} working.
+ * {@code --name=value} is accepted for every option and {@code --} ends the options.
+ * </p>
+ *
+ * @author Spring AI Community
+ */
+final class CommandLine {
+
+	private final Map<String, String> options = new HashMap<>();
+
+	private final List<String> positionals = new ArrayList<>();
+
+	private CommandLine() {
+	}
+
+	static CommandLine parse(List<String> args, Set<String> valueOptions) {
+		CommandLine commandLine = new CommandLine();
+		for (int i = 0; i < args.size(); i++) {
+			String arg = args.get(i);
+			if (arg.equals("--")) {
+				commandLine.positionals.addAll(args.subList(i + 1, args.size()));
+				break;
+			}
+			if (!isOption(arg)) {
+				commandLine.positionals.add(arg);
+				continue;
+			}
+			int equals = arg.indexOf('=');
+			if (arg.startsWith("--") && equals > 0) {
+				commandLine.options.put(arg.substring(0, equals), arg.substring(equals + 1));
+			}
+			else if (valueOptions.contains(arg) && i + 1 < args.size() && !isOption(args.get(i + 1))) {
+				commandLine.options.put(arg, args.get(++i));
+			}
+			else {
+				commandLine.options.put(arg, "");
+			}
+		}
+		return commandLine;
+	}
+
+	private static boolean isOption(String arg) {
+		return arg.startsWith("-") && arg.length() > 1;
+	}
+
+	/**
+	 * Whether any of the given options is present.
+	 */
+	boolean has(String... names) {
+		for (String name : names) {
+			if (this.options.containsKey(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the non-empty value of the first given option that has one.
+	 */
+	String value(String... names) {
+		for (String name : names) {
+			String value = this.options.get(name);
+			if (value != null && !value.isEmpty()) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	List<String> positionals() {
+		return this.positionals;
+	}
+
+}
@@ -0,0 +1,575 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.fakecli;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.springaicommunity.agents.fakecli.FakeCliScenario.Failure;
+
+/**
+ * Fake agent CLI that replays a {@link FakeCliScenario} in the output protocol of one of
+ * the real CLIs.
+ *
+ * <p>
+ * The first argument names the {@link CliProtocol}; the remaining arguments are the
+ * command line the real CLI would receive. The fake answers {@code --version}, reads the
+ * prompt where the real CLI reads it (an argument, or standard input when no prompt
+ * argument is given) and writes the scenario's answer in the protocol's format, with the
+ * scenario's pacing, size, exit code and injected failure. It is normally started through
+ * a launcher script created by {@link FakeCliInstallation}, which passes the protocol
+ * and the installation directory holding the scenario.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class FakeAgentCli {
+
+	/**
+	 * System property naming the installation directory with the scenario and the
+	 * invocation log.
+	 */
+	public static final String HOME_PROPERTY = "fake.agent.cli.home";
+
+	private static final Set<String> CLAUDE_VALUE_OPTIONS = Set.of("--output-format", "--input-format", "--model",
+			"--system-prompt", "--append-system-prompt", "--allowedTools", "--allowed-tools", "--disallowedTools",
+			"--disallowed-tools", "--permission-mode", "--max-turns", "--resume", "-r", "--session-id",
+			"--mcp-config", "--settings", "--add-dir", "--permission-prompt-tool", "--fallback-model",
+			"--max-thinking-tokens", "--agents", "--setting-sources", "--json-schema", "-p", "--print");
+
+	private static final Set<String> CODEX_VALUE_OPTIONS = Set.of("--model", "-m", "--sandbox", "-s",
+			"--ask-for-approval", "-a", "-C", "--cd", "--output-schema", "-c", "--config", "--output-last-message",
+			"-o", "--profile", "-p", "--color", "-i", "--image");
+
+	private static final Set<String> GEMINI_VALUE_OPTIONS = Set.of("-m", "--model", "-p", "--prompt", "-o",
+			"--output-format", "--approval-mode", "--proxy", "--include-directories", "-e", "--extensions",
+			"--allowed-mcp-server-names", "--allowed-tools");
+
+	private static final Set<String> AMP_VALUE_OPTIONS = Set.of("-x", "--execute", "--settings-file", "--log-level",
+			"--log-file");
+
+	private static final Set<String> Q_VALUE_OPTIONS = Set.of("--model", "--agent", "--trust-tools");
+
+	private static final Set<String> MINI_VALUE_OPTIONS = Set.of("-m", "--model", "-t", "--task", "-o", "--output",
+			"-c", "--config", "-l", "--cost-limit", "--model-class");
+
+	private static final byte[] INVALID_UTF8 = { (byte) 0xC3, (byte) 0x28, (byte) 0xFF, '\n' };
+
+	private final CliProtocol protocol;
+
+	private final FakeCliScenario scenario;
+
+	private final IntSupplier turns;
+
+	private final List<String> args;
+
+	private final InputStream in;
+
+	private final PrintStream out;
+
+	private final PrintStream err;
+
+	private final Path workingDirectory;
+
+	FakeAgentCli(CliProtocol protocol, FakeCliScenario scenario, IntSupplier turns, List<String> args, InputStream in,
+			PrintStream out, PrintStream err, Path workingDirectory) {
+		this.protocol = protocol;
+		this.scenario = scenario;
+		this.turns = turns;
+		this.args = args;
+		this.in = in;
+		this.out = out;
+		this.err = err;
+		this.workingDirectory = workingDirectory;
+	}
+
+	/**
+	 * Run the fake CLI.
+	 * @param args the protocol name followed by the CLI arguments
+	 */
+	public static void main(String[] args) {
+		if (args.length == 0) {
+			System.err.println("Usage: FakeAgentCli <protocol> [cli arguments...]");
+			System.exit(2);
+		}
+		CliProtocol protocol = CliProtocol.fromName(args[0]);
+		List<String> cliArgs = List.of(Arrays.copyOfRange(args, 1, args.length));
+		String home = System.getProperty(HOME_PROPERTY);
+		int exitCode;
+		try {
+			FakeCliScenario scenario = FakeCliScenario.defaults();
+			IntSupplier turns = new AtomicInteger()::incrementAndGet;
+			if (home != null) {
+				Path directory = Path.of(home);
+				scenario = FakeCliInstallation.loadScenario(directory);
+				FakeCliInstallation.recordInvocation(directory, cliArgs);
+				turns = () -> FakeCliInstallation.nextTurn(directory);
+			}
+			PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 65536),
+					false, StandardCharsets.UTF_8);
+			exitCode = new FakeAgentCli(protocol, scenario, turns, cliArgs, System.in, out, System.err,
+					Path.of("").toAbsolutePath())
+				.run();
+			out.flush();
+		}
+		catch (IOException ex) {
+			System.err.println("fake " + protocol.executableName() + ": " + ex);
+			exitCode = 2;
+		}
+		System.exit(exitCode);
+	}
+
+	/**
+	 * Replay the scenario for the command line.
+	 * @return the exit code
+	 * @throws IOException if the prompt or a file cannot be read or written
+	 */
+	int run() throws IOException {
+		if (this.args.contains("--version")) {
+			this.out.println(this.protocol.version());
+			this.out.flush();
+			return 0;
+		}
+		try {
+			sleep(this.scenario.startupDelay());
+			if (this.scenario.stderrBytes() > 0) {
+				this.err.print(FakeCliScenario.filler("log", this.scenario.stderrBytes()));
+				this.err.flush();
+			}
+			return switch (this.protocol) {
+				case CLAUDE -> claude();
+				case CODEX -> codex();
+				case GEMINI -> gemini();
+				case AMP -> amp();
+				case AMAZON_Q -> amazonQ();
+				case MINI_SWE -> miniSwe();
+			};
+		}
+		catch (Crash crash) {
+			return crash.exitCode;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return 130;
+		}
+		finally {
+			this.out.flush();
+			this.err.flush();
+		}
+	}
+
+	private int claude() throws IOException, InterruptedException {
+		CommandLine commandLine = CommandLine.parse(this.args, CLAUDE_VALUE_OPTIONS);
+		String model = valueOr(commandLine, this.scenario.model(), "--model");
+		String session = valueOr(commandLine, newSession(), "--resume", "-r", "--session-id");
+		if ("stream-json".equals(commandLine.value("--input-format"))) {
+			return claudeSession(model, session);
+		}
+		String prompt = commandLine.value("-p", "--print");
+		if (prompt == null) {
+			prompt = promptArgument(commandLine.positionals());
+		}
+		String format = valueOr(commandLine, "text", "--output-format");
+		claudeTurn(format, model, session, prompt, true);
+		return this.scenario.exitCode();
+	}
+
+	private int claudeSession(String model, String session) throws IOException, InterruptedException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(this.in, StandardCharsets.UTF_8));
+		boolean initialized = false;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.isBlank()) {
+				continue;
+			}
+			Map<?, ?> message;
+			try {
+				message = (Map<?, ?>) Json.parse(line);
+			}
+			catch (IllegalArgumentException | ClassCastException ex) {
+				this.err.println("Error parsing stream-json input: " + ex.getMessage());
+				continue;
+			}
+			if ("control_request".equals(message.get("type"))) {
+				write(this.out, "{\"type\":\"control_response\",\"response\":{\"subtype\":\"success\",\"request_id\":"
+						+ Json.quote(String.valueOf(message.get("request_id"))) + ",\"response\":{}}}\n");
+			}
+			else if ("user".equals(message.get("type"))) {
+				claudeTurn("stream-json", model, session, userText(message.get("message")), !initialized);
+				initialized = true;
+			}
+		}
+		return this.scenario.exitCode();
+	}
+
+	private void claudeTurn(String format, String model, String session, String prompt, boolean init)
+			throws InterruptedException {
+		long started = System.nanoTime();
+		int turn = this.turns.getAsInt();
+		String text = this.scenario.render(turn, prompt, session);
+		if ("text".equals(format)) {
+			paced(this.out, textRecords(text), false);
+			return;
+		}
+		if ("stream-json".equals(format)) {
+			if (init) {
+				write(this.out, claudeInit(model, session));
+			}
+			List<String> chunks = chunks(text);
+			List<String> records = new ArrayList<>(chunks.size());
+			for (int i = 0; i < chunks.size(); i++) {
+				records.add("{\"type\":\"assistant\",\"message\":{\"id\":\"msg_fake_" + turn + "_" + i
+						+ "\",\"type\":\"message\",\"role\":\"assistant\",\"model\":" + Json.quote(model)
+						+ ",\"content\":[{\"type\":\"text\",\"text\":" + Json.quote(chunks.get(i))
+						+ "}],\"stop_reason\":null,\"stop_sequence\":null,\"usage\":" + claudeUsage(prompt, text)
+						+ "},\"parent_tool_use_id\":null,\"session_id\":" + Json.quote(session) + "}\n");
+			}
+			paced(this.out, records, true);
+			write(this.out, claudeResult(session, prompt, text, started));
+			return;
+		}
+		paced(this.out, List.of(claudeResult(session, prompt, text, started)), true);
+	}
+
+	private String claudeInit(String model, String session) {
+		return "{\"type\":\"system\",\"subtype\":\"init\",\"cwd\":" + Json.quote(this.workingDirectory.toString())
+				+ ",\"session_id\":" + Json.quote(session) + ",\"tools\":[],\"mcp_servers\":[],\"model\":"
+				+ Json.quote(model) + ",\"permissionMode\":\"default\",\"slash_commands\":[],"
+				+ "\"apiKeySource\":\"none\"}\n";
+	}
+
+	private String claudeResult(String session, String prompt, String text, long started) {
+		boolean error = this.scenario.exitCode() != 0;
+		long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+		return "{\"type\":\"result\",\"subtype\":" + (error ? "\"error_during_execution\"" : "\"success\"")
+				+ ",\"is_error\":" + error + ",\"duration_ms\":" + duration + ",\"duration_api_ms\":" + duration
+				+ ",\"num_turns\":1,\"result\":" + Json.quote(text) + ",\"session_id\":" + Json.quote(session)
+				+ ",\"total_cost_usd\":0,\"usage\":" + claudeUsage(prompt, text) + "}\n";
+	}
+
+	private static String claudeUsage(String prompt, String text) {
+		return "{\"input_tokens\":" + tokens(prompt) + ",\"output_tokens\":" + tokens(text) + "}";
+	}
+
+	private int codex() throws IOException, InterruptedException {
+		CommandLine commandLine = CommandLine.parse(this.args, CODEX_VALUE_OPTIONS);
+		List<String> positionals = commandLine.positionals();
+		if (positionals.isEmpty() || !(positionals.get(0).equals("exec") || positionals.get(0).equals("e"))) {
+			this.err.println("error: the fake codex CLI only supports the 'exec' subcommand");
+			return 2;
+		}
+		positionals = positionals.subList(1, positionals.size());
+		String session = null;
+		if (!positionals.isEmpty() && positionals.get(0).equals("resume")) {
+			session = positionals.size() > 1 ? positionals.get(1) : null;
+			positionals = positionals.subList(Math.min(2, positionals.size()), positionals.size());
+		}
+		if (session == null) {
+			session = newSession();
+		}
+		String prompt = promptArgument(positionals);
+		String model = valueOr(commandLine, this.scenario.model(), "--model", "-m");
+		int turn = this.turns.getAsInt();
+		String text = this.scenario.render(turn, prompt, session);
+		boolean error = this.scenario.exitCode() != 0;
+		if (commandLine.has("--json")) {
+			write(this.out, "{\"type\":\"thread.started\",\"thread_id\":" + Json.quote(session) + "}\n"
+					+ "{\"type\":\"turn.started\"}\n");
+			List<String> chunks = chunks(text);
+			List<String> records = new ArrayList<>(chunks.size());
+			for (int i = 0; i < chunks.size(); i++) {
+				records.add("{\"type\":\"item.completed\",\"item\":{\"id\":\"item_" + i
+						+ "\",\"type\":\"agent_message\",\"text\":" + Json.quote(chunks.get(i)) + "}}\n");
+			}
+			paced(this.out, records, true);
+			write(this.out, error ? "{\"type\":\"turn.failed\",\"error\":{\"message\":\"fake failure\"}}\n"
+					: "{\"type\":\"turn.completed\",\"usage\":{\"input_tokens\":" + tokens(prompt)
+							+ ",\"cached_input_tokens\":0,\"output_tokens\":" + tokens(text) + "}}\n");
+		}
+		else {
+			write(this.err,
+					"OpenAI Codex v0.46.0 (research preview)\n--------\nworkdir: "
+							+ valueOr(commandLine, this.workingDirectory.toString(), "-C", "--cd") + "\nmodel: "
+							+ model + "\nprovider: openai\nsession id: " + session + "\n--------\nuser\n" + prompt
+							+ "\n\ncodex\n");
+			paced(this.err, textRecords(text), false);
+			write(this.err, error ? "ERROR: fake failure\n" : "tokens used: " + (tokens(prompt) + tokens(text)) + "\n");
+			if (!error) {
+				write(this.out, text + "\n");
+			}
+		}
+		String lastMessage = commandLine.value("--output-last-message", "-o");
+		if (lastMessage != null && !error) {
+			Files.writeString(this.workingDirectory.resolve(lastMessage), text, StandardCharsets.UTF_8);
+		}
+		return this.scenario.exitCode();
+	}
+
+	private int gemini() throws IOException, InterruptedException {
+		CommandLine commandLine = CommandLine.parse(this.args, GEMINI_VALUE_OPTIONS);
+		String prompt = commandLine.value("-p", "--prompt");
+		if (prompt == null) {
+			prompt = promptArgument(commandLine.positionals());
+		}
+		String model = valueOr(commandLine, this.scenario.model(), "-m", "--model");
+		String session = newSession();
+		long started = System.nanoTime();
+		String text = this.scenario.render(this.turns.getAsInt(), prompt, session);
+		boolean error = this.scenario.exitCode() != 0;
+		String format = valueOr(commandLine, "text", "-o", "--output-format");
+		if ("json".equals(format)) {
+			paced(this.out, List.of(error
+					? "{\"error\":{\"type\":\"Error\",\"message\":\"fake failure\",\"code\":" + this.scenario.exitCode()
+							+ "}}\n"
+					: "{\"response\":" + Json.quote(text) + ",\"stats\":{\"models\":{" + Json.quote(model)
+							+ ":{\"tokens\":{\"prompt\":" + tokens(prompt) + ",\"candidates\":" + tokens(text)
+							+ ",\"total\":" + (tokens(prompt) + tokens(text)) + "}}}}}\n"),
+					true);
+		}
+		else if ("stream-json".equals(format)) {
+			write(this.out, "{\"type\":\"init\",\"session_id\":" + Json.quote(session) + ",\"model\":"
+					+ Json.quote(model) + "}\n{\"type\":\"message\",\"role\":\"user\",\"content\":" + Json.quote(prompt)
+					+ "}\n");
+			List<String> records = new ArrayList<>();
+			for (String chunk : chunks(text)) {
+				records.add("{\"type\":\"message\",\"role\":\"assistant\",\"content\":" + Json.quote(chunk)
+						+ ",\"delta\":true}\n");
+			}
+			paced(this.out, records, true);
+			write(this.out,
+					"{\"type\":\"result\",\"status\":" + (error ? "\"error\"" : "\"success\"")
+							+ ",\"stats\":{\"input_tokens\":" + tokens(prompt) + ",\"output_tokens\":" + tokens(text)
+							+ ",\"duration_ms\":" + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)
+							+ "}}\n");
+		}
+		else if (error) {
+			write(this.err, "Error when talking to Gemini API: fake failure\n");
+		}
+		else {
+			paced(this.out, textRecords(text), false);
+		}
+		return this.scenario.exitCode();
+	}
+
+	private int amp() throws IOException, InterruptedException {
+		CommandLine commandLine = CommandLine.parse(this.args, AMP_VALUE_OPTIONS);
+		String prompt = commandLine.value("-x", "--execute");
+		if (prompt == null) {
+			prompt = promptArgument(commandLine.positionals());
+		}
+		if (commandLine.has("--stream-json")) {
+			claudeTurn("stream-json", this.scenario.model(), newSession(), prompt, true);
+		}
+		else {
+			String text = this.scenario.render(this.turns.getAsInt(), prompt, newSession());
+			paced(this.out, textRecords(text), false);
+		}
+		return this.scenario.exitCode();
+	}
+
+	private int amazonQ() throws IOException, InterruptedException {
+		CommandLine commandLine = CommandLine.parse(this.args, Q_VALUE_OPTIONS);
+		List<String> positionals = commandLine.positionals();
+		if (positionals.isEmpty() || !positionals.get(0).equals("chat")) {
+			this.err.println("error: the fake q CLI only supports the 'chat' subcommand");
+			return 2;
+		}
+		String prompt = promptArgument(positionals.subList(1, positionals.size()));
+		if (commandLine.has("--verbose", "-v")) {
+			write(this.err, "INFO fake q: model=" + valueOr(commandLine, this.scenario.model(), "--model")
+					+ " agent=" + valueOr(commandLine, "default", "--agent") + "\n");
+		}
+		String text = this.scenario.render(this.turns.getAsInt(), prompt, newSession());
+		paced(this.out, textRecords(text), false);
+		return this.scenario.exitCode();
+	}
+
+	private int miniSwe() throws IOException, InterruptedException {
+		CommandLine commandLine = CommandLine.parse(this.args, MINI_VALUE_OPTIONS);
+		String prompt = commandLine.value("-t", "--task");
+		if (prompt == null) {
+			prompt = promptArgument(commandLine.positionals());
+		}
+		String model = valueOr(commandLine, this.scenario.model(), "-m", "--model");
+		String text = this.scenario.render(this.turns.getAsInt(), prompt, newSession());
+		List<String> chunks = chunks(text);
+		List<String> records = new ArrayList<>(chunks.size());
+		StringBuilder steps = new StringBuilder();
+		StringBuilder messages = new StringBuilder("{\"role\":\"system\",\"content\":\"You are a helpful assistant.\"},"
+				+ "{\"role\":\"user\",\"content\":" + Json.quote(prompt) + "}");
+		for (int i = 0; i < chunks.size(); i++) {
+			records.add("mini-swe-agent step " + (i + 1) + ": " + chunks.get(i) + "\n");
+			steps.append(i > 0 ? "," : "")
+				.append("{\"step\":")
+				.append(i + 1)
+				.append(",\"action\":\"echo\",\"output\":")
+				.append(Json.quote(chunks.get(i)))
+				.append('}');
+			messages.append(",{\"role\":\"assistant\",\"content\":").append(Json.quote(chunks.get(i))).append('}');
+		}
+		write(this.out, this.protocol.version() + " (fake) using model " + model + "\n");
+		paced(this.out, records, false);
+		String output = commandLine.value("-o", "--output");
+		if (output != null) {
+			String trajectory = "{\"info\":{\"exit_status\":"
+					+ (this.scenario.exitCode() == 0 ? "\"Submitted\"" : "\"RuntimeError\"") + ",\"submission\":"
+					+ Json.quote(text) + ",\"model_stats\":{\"instance_cost\":0.0,\"api_calls\":" + chunks.size()
+					+ "},\"config\":{\"model\":{\"model_name\":" + Json.quote(model) + "}}},\"messages\":["
+					+ messages + "],\"trajectory_format\":\"mini-swe-agent-1\",\"summary\":" + Json.quote(text)
+					+ ",\"steps\":[" + steps + "]}\n";
+			if (this.scenario.failure() == Failure.MALFORMED_OUTPUT) {
+				trajectory = trajectory.substring(0, trajectory.length() / 2);
+			}
+			Files.writeString(this.workingDirectory.resolve(output), trajectory, StandardCharsets.UTF_8);
+		}
+		return this.scenario.exitCode();
+	}
+
+	/**
+	 * Write records with the scenario's pacing, injecting its failure halfway through.
+	 */
+	private void paced(PrintStream target, List<String> records, boolean structured) throws InterruptedException {
+		int failAt = records.size() / 2;
+		for (int i = 0; i < records.size(); i++) {
+			if (i > 0) {
+				sleep(this.scenario.chunkDelay());
+			}
+			String record = records.get(i);
+			if (i == failAt) {
+				switch (this.scenario.failure()) {
+					case CRASH -> {
+						write(target, record.substring(0, record.length() / 2));
+						throw new Crash(this.scenario.exitCode() != 0 ? this.scenario.exitCode() : 1);
+					}
+					case HANG -> {
+						target.flush();
+						Thread.sleep(Long.MAX_VALUE);
+					}
+					case MALFORMED_OUTPUT -> {
+						if (structured) {
+							write(target, "{\"type\":\"assist\n");
+						}
+						else {
+							target.write(INVALID_UTF8, 0, INVALID_UTF8.length);
+						}
+					}
+					case NONE -> {
+					}
+				}
+			}
+			write(target, record);
+		}
+	}
+
+	private List<String> textRecords(String text) {
+		List<String> records = new ArrayList<>(chunks(text));
+		int last = records.size() - 1;
+		records.set(last, records.get(last) + "\n");
+		return records;
+	}
+
+	private List<String> chunks(String text) {
+		int count = Math.max(1, Math.min(this.scenario.chunks(), text.length()));
+		List<String> chunks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			chunks.add(text.substring((int) ((long) text.length() * i / count),
+					(int) ((long) text.length() * (i + 1) / count)));
+		}
+		return chunks;
+	}
+
+	private String promptArgument(List<String> positionals) throws IOException {
+		if (!positionals.isEmpty() && !positionals.get(positionals.size() - 1).equals("-")) {
+			return positionals.get(positionals.size() - 1);
+		}
+		return new String(this.in.readAllBytes(), StandardCharsets.UTF_8).strip();
+	}
+
+	private static String userText(Object message) {
+		Object content = (message instanceof Map<?, ?> map) ? map.get("content") : null;
+		if (content instanceof List<?> blocks) {
+			StringBuilder text = new StringBuilder();
+			for (Object block : blocks) {
+				if (block instanceof Map<?, ?> map && map.get("text") instanceof String blockText) {
+					text.append(blockText);
+				}
+			}
+			return text.toString();
+		}
+		return (content != null) ? content.toString() : "";
+	}
+
+	private String newSession() {
+		return (this.scenario.sessionId() != null) ? this.scenario.sessionId() : UUID.randomUUID().toString();
+	}
+
+	private static String valueOr(CommandLine commandLine, String defaultValue, String... names) {
+		String value = commandLine.value(names);
+		return (value != null) ? value : defaultValue;
+	}
+
+	private static long tokens(String text) {
+		return Math.max(1, text.length() / 4);
+	}
+
+	private static void write(PrintStream target, String text) {
+		target.print(text);
+		target.flush();
+	}
+
+	private static void sleep(Duration duration) throws InterruptedException {
+		if (!duration.isZero()) {
+			Thread.sleep(duration.toMillis());
+		}
+	}
+
+	/**
+	 * Signals an injected crash: the output stops and the CLI exits.
+	 */
+	private static final class Crash extends RuntimeException {
+
+		private final int exitCode;
+
+		Crash(int exitCode) {
+			super(null, null, false, false);
+			this.exitCode = exitCode;
+		}
+
+	}
+
+}
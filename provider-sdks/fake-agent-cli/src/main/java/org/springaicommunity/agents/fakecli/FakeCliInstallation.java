@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.fakecli;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fake agent CLI installed as an executable launcher, so it can be started exactly like
+ * the real binary.
+ *
+ * <p>
+ * The launcher is a POSIX shell script named after the real executable. It starts
+ * {@link FakeAgentCli} with the current Java runtime and the protocol of the
+ * installation. The installation directory also holds the {@link FakeCliScenario},
+ * which can be replaced between invocations, and a log of every invocation's arguments.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * FakeCliInstallation codex = FakeCliInstallation.install(CliProtocol.CODEX, tempDir);
+ * codex.scenario(FakeCliScenario.builder()
+ *     .responses("Echo: {prompt}")
+ *     .payloadBytes(1024 * 1024)
+ *     .chunks(16)
+ *     .chunkDelay(Duration.ofMillis(20))
+ *     .build());
+ * codex.registerForDiscovery();
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class FakeCliInstallation {
+
+	private static final String SCENARIO_FILE = "scenario.properties";
+
+	private static final String INVOCATIONS_FILE = "invocations.log";
+
+	private static final String TURNS_FILE = "turns";
+
+	private final CliProtocol protocol;
+
+	private final Path directory;
+
+	private final Path executable;
+
+	private FakeCliInstallation(CliProtocol protocol, Path directory, Path executable) {
+		this.protocol = protocol;
+		this.directory = directory;
+		this.executable = executable;
+	}
+
+	/**
+	 * Install a fake CLI with the default scenario.
+	 * @param protocol the protocol to emulate
+	 * @param directory the installation directory, created if missing
+	 * @return the installation
+	 * @throws IOException if the launcher cannot be written
+	 */
+	public static FakeCliInstallation install(CliProtocol protocol, Path directory) throws IOException {
+		Files.createDirectories(directory);
+		Path home = directory.toAbsolutePath();
+		Path executable = home.resolve(protocol.executableName());
+		String script = "#!/bin/sh\n" + "exec " + quote(javaExecutable())
+				+ " -XX:TieredStopAtLevel=1 -XX:+UseSerialGC -Xshare:auto -cp " + quote(classpath()) + " "
+				+ quote("-D" + FakeAgentCli.HOME_PROPERTY + "=" + home) + " " + FakeAgentCli.class.getName() + " "
+				+ protocol.name() + " \"$@\"\n";
+		Files.writeString(executable, script, StandardCharsets.UTF_8);
+		Files.setPosixFilePermissions(executable, PosixFilePermissions.fromString("rwxr-xr-x"));
+		FakeCliInstallation installation = new FakeCliInstallation(protocol, home, executable);
+		installation.scenario(FakeCliScenario.defaults());
+		return installation;
+	}
+
+	/**
+	 * Get the protocol this installation emulates.
+	 * @return the protocol
+	 */
+	public CliProtocol protocol() {
+		return this.protocol;
+	}
+
+	/**
+	 * Get the path of the launcher, to be used wherever the real CLI path goes.
+	 * @return the executable
+	 */
+	public Path path() {
+		return this.executable;
+	}
+
+	/**
+	 * Replace the scenario. Invocations starting afterwards use the new one.
+	 * @param scenario the scenario
+	 * @return this installation
+	 */
+	public FakeCliInstallation scenario(FakeCliScenario scenario) {
+		try {
+			scenario.store(this.directory.resolve(SCENARIO_FILE));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return this;
+	}
+
+	/**
+	 * Point the CLI discovery of the protocol's SDK at this installation by setting its
+	 * system property. Claude has no discovery property; pass {@link #path()} as the
+	 * executable path in its options instead.
+	 * @throws IllegalStateException if the protocol has no discovery property
+	 */
+	public void registerForDiscovery() {
+		System.setProperty(discoveryProperty(), this.executable.toString());
+	}
+
+	/**
+	 * Clear the discovery system property set by {@link #registerForDiscovery()}.
+	 */
+	public void unregisterForDiscovery() {
+		System.clearProperty(discoveryProperty());
+	}
+
+	private String discoveryProperty() {
+		if (this.protocol.discoveryProperty() == null) {
+			throw new IllegalStateException("The " + this.protocol.executableName()
+					+ " CLI has no discovery property, use its executable path option instead");
+		}
+		return this.protocol.discoveryProperty();
+	}
+
+	/**
+	 * Get the arguments of every invocation so far, in order, excluding the protocol
+	 * name.
+	 * @return the invocation arguments
+	 */
+	public List<List<String>> invocations() {
+		Path log = this.directory.resolve(INVOCATIONS_FILE);
+		List<List<String>> invocations = new ArrayList<>();
+		try {
+			if (!Files.exists(log)) {
+				return invocations;
+			}
+			for (String line : Files.readAllLines(log, StandardCharsets.UTF_8)) {
+				List<String> args = new ArrayList<>();
+				for (Object arg : (List<?>) Json.parse(line)) {
+					args.add((String) arg);
+				}
+				invocations.add(args);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return invocations;
+	}
+
+	/**
+	 * Get the number of invocations so far.
+	 * @return the invocation count
+	 */
+	public int invocationCount() {
+		return invocations().size();
+	}
+
+	static FakeCliScenario loadScenario(Path directory) throws IOException {
+		Path file = directory.resolve(SCENARIO_FILE);
+		return Files.exists(file) ? FakeCliScenario.load(file) : FakeCliScenario.defaults();
+	}
+
+	static void recordInvocation(Path directory, List<String> args) throws IOException {
+		byte[] line = (Json.array(args) + "\n").getBytes(StandardCharsets.UTF_8);
+		try (FileChannel channel = FileChannel.open(directory.resolve(INVOCATIONS_FILE), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.APPEND); FileLock lock = channel.lock()) {
+			channel.write(ByteBuffer.wrap(line));
+		}
+	}
+
+	static int nextTurn(Path directory) {
+		try (FileChannel channel = FileChannel.open(directory.resolve(TURNS_FILE), StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE); FileLock lock = channel.lock()) {
+			ByteBuffer buffer = ByteBuffer.allocate(32);
+			channel.read(buffer, 0);
+			String current = new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII).strip();
+			int turn = (current.isEmpty() ? 0 : Integer.parseInt(current)) + 1;
+			channel.truncate(0);
+			channel.write(ByteBuffer.wrap(Integer.toString(turn).getBytes(StandardCharsets.US_ASCII)), 0);
+			return turn;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static String javaExecutable() {
+		return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+	}
+
+	private static String classpath() {
+		try {
+			return Path.of(FakeAgentCli.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+		}
+		catch (URISyntaxException ex) {
+			throw new IllegalStateException("Cannot locate the fake agent CLI classes", ex);
+		}
+	}
+
+	private static String quote(String value) {
+		return "'" + value.replace("'", "'\\''") + "'";
+	}
+
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.fakecli;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Script for the fake agent CLI: what it answers and how it behaves while answering.
+ *
+ * <p>
+ * Responses are templates consumed one per turn; once the list is exhausted the last
+ * response is repeated. A template may contain {@value #PROMPT}, {@value #TURN} and
+ * {@value #SESSION}, which are replaced with the prompt, the 1-based turn number and the
+ * session id. A payload of configurable size can be appended to every response to
+ * exercise output handling, and the response is written in a configurable number of
+ * chunks with a delay between them.
+ * </p>
+ *
+ * <p>
+ * A scenario is stored as a properties file next to the launcher, so it can be changed
+ * between invocations of an installed fake CLI.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public final class FakeCliScenario {
+
+	/**
+	 * Placeholder replaced with the prompt.
+	 */
+	public static final String PROMPT = "{prompt}";
+
+	/**
+	 * Placeholder replaced with the 1-based turn number.
+	 */
+	public static final String TURN = "{turn}";
+
+	/**
+	 * Placeholder replaced with the session id.
+	 */
+	public static final String SESSION = "{session}";
+
+	private static final int PAYLOAD_LINE_LENGTH = 80;
+
+	private final List<String> responses;
+
+	private final long payloadBytes;
+
+	private final int chunks;
+
+	private final Duration startupDelay;
+
+	private final Duration chunkDelay;
+
+	private final int exitCode;
+
+	private final Failure failure;
+
+	private final long stderrBytes;
+
+	private final String model;
+
+	private final String sessionId;
+
+	private FakeCliScenario(Builder builder) {
+		this.responses = List.copyOf(builder.responses);
+		this.payloadBytes = builder.payloadBytes;
+		this.chunks = builder.chunks;
+		this.startupDelay = builder.startupDelay;
+		this.chunkDelay = builder.chunkDelay;
+		this.exitCode = builder.exitCode;
+		this.failure = builder.failure;
+		this.stderrBytes = builder.stderrBytes;
+		this.model = builder.model;
+		this.sessionId = builder.sessionId;
+	}
+
+	/**
+	 * Create a new builder.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Get the default scenario: a short successful answer, written at once.
+	 * @return the default scenario
+	 */
+	public static FakeCliScenario defaults() {
+		return builder().build();
+	}
+
+	/**
+	 * Load a scenario from a properties file written by {@link #store(Path)}. Missing
+	 * keys keep their default.
+	 * @param file the properties file
+	 * @return the scenario
+	 * @throws IOException if the file cannot be read
+	 */
+	public static FakeCliScenario load(Path file) throws IOException {
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		Builder builder = builder();
+		List<String> responses = new ArrayList<>();
+		for (int i = 0; properties.containsKey("response." + i); i++) {
+			responses.add(properties.getProperty("response." + i));
+		}
+		if (!responses.isEmpty()) {
+			builder.responses(responses);
+		}
+		builder.payloadBytes(Long.parseLong(properties.getProperty("payload-bytes", "0")));
+		builder.chunks(Integer.parseInt(properties.getProperty("chunks", "1")));
+		builder.startupDelay(Duration.ofMillis(Long.parseLong(properties.getProperty("startup-delay-ms", "0"))));
+		builder.chunkDelay(Duration.ofMillis(Long.parseLong(properties.getProperty("chunk-delay-ms", "0"))));
+		builder.exitCode(Integer.parseInt(properties.getProperty("exit-code", "0")));
+		builder.failure(Failure.valueOf(properties.getProperty("failure", Failure.NONE.name())));
+		builder.stderrBytes(Long.parseLong(properties.getProperty("stderr-bytes", "0")));
+		builder.model(properties.getProperty("model", builder.model));
+		builder.sessionId(properties.getProperty("session-id"));
+		return builder.build();
+	}
+
+	/**
+	 * Store this scenario as a properties file. The file is replaced atomically, so a
+	 * fake CLI starting concurrently sees either the old or the new scenario.
+	 * @param file the properties file
+	 * @throws IOException if the file cannot be written
+	 */
+	public void store(Path file) throws IOException {
+		Properties properties = new Properties();
+		for (int i = 0; i < this.responses.size(); i++) {
+			properties.setProperty("response." + i, this.responses.get(i));
+		}
+		properties.setProperty("payload-bytes", Long.toString(this.payloadBytes));
+		properties.setProperty("chunks", Integer.toString(this.chunks));
+		properties.setProperty("startup-delay-ms", Long.toString(this.startupDelay.toMillis()));
+		properties.setProperty("chunk-delay-ms", Long.toString(this.chunkDelay.toMillis()));
+		properties.setProperty("exit-code", Integer.toString(this.exitCode));
+		properties.setProperty("failure", this.failure.name());
+		properties.setProperty("stderr-bytes", Long.toString(this.stderrBytes));
+		properties.setProperty("model", this.model);
+		if (this.sessionId != null) {
+			properties.setProperty("session-id", this.sessionId);
+		}
+		Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), ".scenario", ".tmp");
+		try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+			properties.store(writer, "Fake agent CLI scenario");
+		}
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Render the answer for a turn: the response template with its placeholders replaced,
+	 * followed by the payload.
+	 * @param turn the 1-based turn number
+	 * @param prompt the prompt
+	 * @param session the session id
+	 * @return the answer text
+	 */
+	public String render(int turn, String prompt, String session) {
+		String template = this.responses.get(Math.min(Math.max(turn, 1), this.responses.size()) - 1);
+		String text = template.replace(PROMPT, prompt)
+			.replace(TURN, Integer.toString(turn))
+			.replace(SESSION, session);
+		if (this.payloadBytes == 0) {
+			return text;
+		}
+		return text + "\n" + filler("payload", this.payloadBytes);
+	}
+
+	/**
+	 * Create filler text of the given size, in numbered lines of 80 characters.
+	 * @param label the word starting every line
+	 * @param bytes the size in bytes
+	 * @return the filler text
+	 */
+	static String filler(String label, long bytes) {
+		if (bytes > Integer.MAX_VALUE - 16) {
+			throw new IllegalArgumentException("Payload too large: " + bytes);
+		}
+		StringBuilder builder = new StringBuilder((int) bytes);
+		int line = 0;
+		while (builder.length() < bytes) {
+			int start = builder.length();
+			builder.append(label).append(String.format(" %08d ", ++line));
+			while (builder.length() - start < PAYLOAD_LINE_LENGTH - 1) {
+				builder.append('x');
+			}
+			builder.append('\n');
+		}
+		builder.setLength((int) bytes);
+		return builder.toString();
+	}
+
+	public List<String> responses() {
+		return this.responses;
+	}
+
+	public long payloadBytes() {
+		return this.payloadBytes;
+	}
+
+	public int chunks() {
+		return this.chunks;
+	}
+
+	public Duration startupDelay() {
+		return this.startupDelay;
+	}
+
+	public Duration chunkDelay() {
+		return this.chunkDelay;
+	}
+
+	public int exitCode() {
+		return this.exitCode;
+	}
+
+	public Failure failure() {
+		return this.failure;
+	}
+
+	public long stderrBytes() {
+		return this.stderrBytes;
+	}
+
+	public String model() {
+		return this.model;
+	}
+
+	/**
+	 * Get the fixed session id reported for new sessions.
+	 * @return the session id, or {@code null} to generate one per session
+	 */
+	public String sessionId() {
+		return this.sessionId;
+	}
+
+	/**
+	 * Faults the fake CLI can inject halfway through its output.
+	 */
+	public enum Failure {
+
+		/**
+		 * Answer normally.
+		 */
+		NONE,
+
+		/**
+		 * Stop in the middle of a record, as if the CLI was killed, and exit with the
+		 * scenario's exit code, or 1 if that is 0.
+		 */
+		CRASH,
+
+		/**
+		 * Stop writing and never exit, until the process is destroyed.
+		 */
+		HANG,
+
+		/**
+		 * Write a record that is not valid in the protocol (truncated JSON, or bytes that
+		 * are not UTF-8 for text output) and then continue normally.
+		 */
+		MALFORMED_OUTPUT
+
+	}
+
+	/**
+	 * Builder for {@link FakeCliScenario}.
+	 */
+	public static final class Builder {
+
+		private List<String> responses = List.of("Task completed.");
+
+		private long payloadBytes;
+
+		private int chunks = 1;
+
+		private Duration startupDelay = Duration.ZERO;
+
+		private Duration chunkDelay = Duration.ZERO;
+
+		private int exitCode;
+
+		private Failure failure = Failure.NONE;
+
+		private long stderrBytes;
+
+		private String model = "fake-model";
+
+		private String sessionId;
+
+		private Builder() {
+		}
+
+		/**
+		 * Set the response templates, used one per turn. The last one is repeated.
+		 * @param responses the response templates
+		 * @return this builder
+		 */
+		public Builder responses(String... responses) {
+			return responses(List.of(responses));
+		}
+
+		/**
+		 * Set the response templates, used one per turn. The last one is repeated.
+		 * @param responses the response templates
+		 * @return this builder
+		 */
+		public Builder responses(List<String> responses) {
+			this.responses = List.copyOf(responses);
+			return this;
+		}
+
+		/**
+		 * Set the size of the filler appended to every response.
+		 * @param payloadBytes the payload size in bytes
+		 * @return this builder
+		 */
+		public Builder payloadBytes(long payloadBytes) {
+			this.payloadBytes = payloadBytes;
+			return this;
+		}
+
+		/**
+		 * Set the number of chunks each answer is written in.
+		 * @param chunks the number of chunks
+		 * @return this builder
+		 */
+		public Builder chunks(int chunks) {
+			this.chunks = chunks;
+			return this;
+		}
+
+		/**
+		 * Set the delay before the first output, emulating CLI start-up.
+		 * @param startupDelay the start-up delay
+		 * @return this builder
+		 */
+		public Builder startupDelay(Duration startupDelay) {
+			this.startupDelay = startupDelay;
+			return this;
+		}
+
+		/**
+		 * Set the delay between chunks, emulating model latency.
+		 * @param chunkDelay the delay between chunks
+		 * @return this builder
+		 */
+		public Builder chunkDelay(Duration chunkDelay) {
+			this.chunkDelay = chunkDelay;
+			return this;
+		}
+
+		/**
+		 * Set the exit code. A non-zero exit code also makes the protocols that report
+		 * errors in-band report the answer as an error.
+		 * @param exitCode the exit code
+		 * @return this builder
+		 */
+		public Builder exitCode(int exitCode) {
+			this.exitCode = exitCode;
+			return this;
+		}
+
+		/**
+		 * Set the fault injected halfway through the output.
+		 * @param failure the fault
+		 * @return this builder
+		 */
+		public Builder failure(Failure failure) {
+			this.failure = failure;
+			return this;
+		}
+
+		/**
+		 * Set how much diagnostic noise is written to stderr before the answer.
+		 * @param stderrBytes the stderr size in bytes
+		 * @return this builder
+		 */
+		public Builder stderrBytes(long stderrBytes) {
+			this.stderrBytes = stderrBytes;
+			return this;
+		}
+
+		/**
+		 * Set the model name reported by the CLI.
+		 * @param model the model name
+		 * @return this builder
+		 */
+		public Builder model(String model) {
+			this.model = model;
+			return this;
+		}
+
+		/**
+		 * Set a fixed session id for new sessions. By default every session gets a random
+		 * one.
+		 * @param sessionId the session id
+		 * @return this builder
+		 */
+		public Builder sessionId(String sessionId) {
+			this.sessionId = sessionId;
+			return this;
+		}
+
+		/**
+		 * Build the scenario.
+		 * @return the scenario
+		 * @throws IllegalStateException if the scenario is invalid
+		 */
+		public FakeCliScenario build() {
+			if (this.responses.isEmpty()) {
+				throw new IllegalStateException("At least one response is required");
+			}
+			if (this.chunks < 1) {
+				throw new IllegalStateException("chunks must be at least 1");
+			}
+			if (this.payloadBytes < 0 || this.stderrBytes < 0) {
+				throw new IllegalStateException("payloadBytes and stderrBytes must not be negative");
+			}
+			if (this.startupDelay.isNegative() || this.chunkDelay.isNegative()) {
+				throw new IllegalStateException("Delays must not be negative");
+			}
+			if (this.failure == null || this.model == null) {
+				throw new IllegalStateException("failure and model are required");
+			}
+			return new FakeCliScenario(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.fakecli;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Just enough JSON for the fake CLI, which must not depend on a JSON library to keep its
+ * start-up cheap. Values are read as {@link Map}, {@link List}, {@link String},
+ * {@link BigDecimal}, {@link Boolean} or {@code null}.
+ *
+ * @author Spring AI Community
+ */
+final class Json {
+
+	private final String text;
+
+	private int position;
+
+	private Json(String text) {
+		this.text = text;
+	}
+
+	/**
+	 * Quote a string as a JSON string literal.
+	 * @param value the string, may be {@code null}
+	 * @return the literal, or {@code null} as JSON null
+	 */
+	static String quote(String value) {
+		if (value == null) {
+			return "null";
+		}
+		StringBuilder builder = new StringBuilder(value.length() + 16).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> builder.append("\\\"");
+				case '\\' -> builder.append("\\\\");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				case '\t' -> builder.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						builder.append(String.format("\\u%04x", (int) c));
+					}
+					else {
+						builder.append(c);
+					}
+				}
+			}
+		}
+		return builder.append('"').toString();
+	}
+
+	/**
+	 * Write a list of strings as a JSON array.
+	 * @param values the strings
+	 * @return the JSON array
+	 */
+	static String array(List<String> values) {
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < values.size(); i++) {
+			builder.append(i > 0 ? "," : "").append(quote(values.get(i)));
+		}
+		return builder.append(']').toString();
+	}
+
+	/**
+	 * Parse a JSON document.
+	 * @param text the JSON text
+	 * @return the parsed value
+	 * @throws IllegalArgumentException if the text is not valid JSON
+	 */
+	static Object parse(String text) {
+		Json json = new Json(text);
+		Object value = json.value();
+		json.whitespace();
+		if (json.position != text.length()) {
+			throw json.error("Unexpected trailing content");
+		}
+		return value;
+	}
+
+	private Object value() {
+		whitespace();
+		if (this.position >= this.text.length()) {
+			throw error("Unexpected end of input");
+		}
+		char c = this.text.charAt(this.position);
+		return switch (c) {
+			case '{' -> object();
+			case '[' -> list();
+			case '"' -> string();
+			case 't' -> literal("true", Boolean.TRUE);
+			case 'f' -> literal("false", Boolean.FALSE);
+			case 'n' -> literal("null", null);
+			default -> number();
+		};
+	}
+
+	private Map<String, Object> object() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		this.position++;
+		whitespace();
+		if (peek('}')) {
+			this.position++;
+			return map;
+		}
+		while (true) {
+			whitespace();
+			String key = string();
+			whitespace();
+			expect(':');
+			map.put(key, value());
+			whitespace();
+			if (peek(',')) {
+				this.position++;
+				continue;
+			}
+			expect('}');
+			return map;
+		}
+	}
+
+	private List<Object> list() {
+		List<Object> list = new ArrayList<>();
+		this.position++;
+		whitespace();
+		if (peek(']')) {
+			this.position++;
+			return list;
+		}
+		while (true) {
+			list.add(value());
+			whitespace();
+			if (peek(',')) {
+				this.position++;
+				continue;
+			}
+			expect(']');
+			return list;
+		}
+	}
+
+	private String string() {
+		expect('"');
+		StringBuilder builder = new StringBuilder();
+		while (this.position < this.text.length()) {
+			char c = this.text.charAt(this.position++);
+			if (c == '"') {
+				return builder.toString();
+			}
+			if (c != '\\') {
+				builder.append(c);
+				continue;
+			}
+			if (this.position >= this.text.length()) {
+				break;
+			}
+			char escaped = this.text.charAt(this.position++);
+			switch (escaped) {
+				case 'n' -> builder.append('\n');
+				case 'r' -> builder.append('\r');
+				case 't' -> builder.append('\t');
+				case 'b' -> builder.append('\b');
+				case 'f' -> builder.append('\f');
+				case 'u' -> {
+					if (this.position + 4 > this.text.length()) {
+						throw error("Invalid unicode escape");
+					}
+					builder.append((char) Integer.parseInt(this.text.substring(this.position, this.position + 4), 16));
+					this.position += 4;
+				}
+				default -> builder.append(escaped);
+			}
+		}
+		throw error("Unterminated string");
+	}
+
+	private Object literal(String literal, Object value) {
+		if (!this.text.startsWith(literal, this.position)) {
+			throw error("Unexpected token");
+		}
+		this.position += literal.length();
+		return value;
+	}
+
+	private BigDecimal number() {
+		int start = this.position;
+		while (this.position < this.text.length() && "+-0123456789.eE".indexOf(this.text.charAt(this.position)) >= 0) {
+			this.position++;
+		}
+		try {
+			return new BigDecimal(this.text.substring(start, this.position));
+		}
+		catch (NumberFormatException ex) {
+			throw error("Invalid number");
+		}
+	}
+
+	private void whitespace() {
+		while (this.position < this.text.length() && Character.isWhitespace(this.text.charAt(this.position))) {
+			this.position++;
+		}
+	}
+
+	private boolean peek(char c) {
+		return this.position < this.text.length() && this.text.charAt(this.position) == c;
+	}
+
+	private void expect(char c) {
+		if (!peek(c)) {
+			throw error("Expected '" + c + "'");
+		}
+		this.position++;
+	}
+
+	private IllegalArgumentException error(String message) {
+		return new IllegalArgumentException(message + " at position " + this.position);
+	}
+
+}
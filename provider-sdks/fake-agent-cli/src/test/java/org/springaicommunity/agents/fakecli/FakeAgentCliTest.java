@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.fakecli;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.agents.fakecli.FakeCliScenario.Failure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FakeAgentCli}.
+ *
+ * @author Spring AI Community
+ */
+class FakeAgentCliTest {
+
+	private static final String SESSION = "0199b2f0-e92a-76b3-88fa-a0fa925ad545";
+
+	@TempDir
+	Path tempDir;
+
+	private final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+
+	private final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+	@Test
+	void answersVersion() throws Exception {
+		int exitCode = run(CliProtocol.CODEX, FakeCliScenario.defaults(), "", "--version");
+
+		assertThat(exitCode).isEqualTo(0);
+		assertThat(stdout()).isEqualTo("codex-cli 0.46.0\n");
+	}
+
+	@Test
+	void claudeStreamJsonEndsWithResult() throws Exception {
+		FakeCliScenario scenario = scenario().responses("Echo: {prompt}").chunks(3).build();
+
+		int exitCode = run(CliProtocol.CLAUDE, scenario, "", "--output-format", "stream-json", "--verbose", "--print",
+				"--", "hello");
+
+		List<String> lines = stdout().lines().toList();
+		assertThat(exitCode).isEqualTo(0);
+		assertThat(lines).hasSize(5);
+		assertThat(json(lines.get(0)).get("subtype")).isEqualTo("init");
+		assertThat(json(lines.get(1)).get("type")).isEqualTo("assistant");
+		Map<?, ?> result = json(lines.get(4));
+		assertThat(result.get("type")).isEqualTo("result");
+		assertThat(result.get("result")).isEqualTo("Echo: hello");
+		assertThat(result.get("session_id")).isEqualTo(SESSION);
+	}
+
+	@Test
+	void claudeStreamJsonInputAnswersEveryUserMessage() throws Exception {
+		String input = """
+				{"type":"control_request","request_id":"req_1","request":{"subtype":"initialize"}}
+				{"type":"user","message":{"role":"user","content":"first"}}
+				{"type":"user","message":{"role":"user","content":[{"type":"text","text":"second"}]}}
+				""";
+
+		run(CliProtocol.CLAUDE, scenario().responses("{turn}: {prompt}").build(), input, "--input-format",
+				"stream-json", "--output-format", "stream-json");
+
+		List<String> lines = stdout().lines().toList();
+		assertThat(json(lines.get(0)).get("type")).isEqualTo("control_response");
+		assertThat(lines.stream().filter((line) -> line.contains("\"subtype\":\"init\"")).count()).isEqualTo(1L);
+		assertThat(lines.stream()
+			.map(FakeAgentCliTest::json)
+			.filter((message) -> "result".equals(message.get("type")))
+			.map((message) -> message.get("result"))
+			.toList()).containsExactly("1: first", "2: second");
+	}
+
+	@Test
+	void codexPlainTextWritesActivityToStderrAndAnswerToStdout() throws Exception {
+		int exitCode = run(CliProtocol.CODEX, scenario().responses("Fixed it").build(), "", "exec", "--full-auto",
+				"resume", SESSION, "fix the bug");
+
+		assertThat(exitCode).isEqualTo(0);
+		assertThat(stdout()).isEqualTo("Fixed it\n");
+		assertThat(stderr()).contains("session id: " + SESSION)
+			.contains("\ncodex\nFixed it\n")
+			.contains("tokens used: ");
+	}
+
+	@Test
+	void codexJsonReportsFailedTurn() throws Exception {
+		run(CliProtocol.CODEX, scenario().exitCode(1).build(), "", "exec", "--json", "prompt");
+
+		List<String> lines = stdout().lines().toList();
+		assertThat(json(lines.get(0)).get("thread_id")).isEqualTo(SESSION);
+		assertThat(json(lines.get(lines.size() - 1)).get("type")).isEqualTo("turn.failed");
+	}
+
+	@Test
+	void readsPromptFromStdinWithoutPromptArgument() throws Exception {
+		FakeCliScenario scenario = scenario().responses("{prompt}").build();
+
+		run(CliProtocol.AMP, scenario, "prompt on stdin\n", "--dangerously-allow-all", "-x");
+		assertThat(stdout()).isEqualTo("prompt on stdin\n");
+
+		this.stdout.reset();
+		run(CliProtocol.GEMINI, scenario, "gemini stdin", "--yolo");
+		assertThat(stdout()).isEqualTo("gemini stdin\n");
+	}
+
+	@Test
+	void miniSweWritesTrajectory() throws Exception {
+		int exitCode = run(CliProtocol.MINI_SWE, scenario().responses("Summary").chunks(2).build(), "", "--task",
+				"task", "--output", "trajectory.json", "--yolo", "--exit-immediately");
+
+		Map<?, ?> trajectory = json(Files.readString(this.tempDir.resolve("trajectory.json")));
+		assertThat(exitCode).isEqualTo(0);
+		assertThat(trajectory.get("summary")).isEqualTo("Summary");
+		assertThat((List<?>) trajectory.get("steps")).hasSize(2);
+		assertThat(((Map<?, ?>) trajectory.get("info")).get("exit_status")).isEqualTo("Submitted");
+	}
+
+	@Test
+	void appendsPayloadAndPacesChunks() throws Exception {
+		FakeCliScenario scenario = scenario().responses("Done")
+			.payloadBytes(10_000)
+			.chunks(4)
+			.chunkDelay(Duration.ofMillis(50))
+			.build();
+
+		long started = System.nanoTime();
+		run(CliProtocol.AMAZON_Q, scenario, "", "chat", "--no-interactive", "prompt");
+
+		assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+		assertThat(stdout()).startsWith("Done\npayload 00000001 ");
+		assertThat(stdout().length()).isEqualTo("Done\n".length() + 10_000 + 1);
+	}
+
+	@Test
+	void crashStopsInTheMiddleOfARecord() throws Exception {
+		FakeCliScenario scenario = scenario().chunks(2).failure(Failure.CRASH).build();
+
+		int exitCode = run(CliProtocol.CODEX, scenario, "", "exec", "--json", "prompt");
+
+		List<String> lines = stdout().lines().toList();
+		assertThat(exitCode).isEqualTo(1);
+		assertThat(lines).hasSize(4);
+		assertThat(lines.get(3)).startsWith("{\"type\":\"item.completed\"");
+		assertThat(stdout()).doesNotContain("turn.completed");
+	}
+
+	@Test
+	void malformedOutputInjectsInvalidRecord() throws Exception {
+		FakeCliScenario scenario = scenario().failure(Failure.MALFORMED_OUTPUT).build();
+
+		int exitCode = run(CliProtocol.GEMINI, scenario, "", "-o", "stream-json", "-p", "prompt");
+
+		assertThat(exitCode).isEqualTo(0);
+		assertThat(stdout()).contains("{\"type\":\"assist\n").contains("\"status\":\"success\"");
+	}
+
+	private FakeCliScenario.Builder scenario() {
+		return FakeCliScenario.builder().sessionId(SESSION);
+	}
+
+	private int run(CliProtocol protocol, FakeCliScenario scenario, String stdin, String... args) throws Exception {
+		AtomicInteger turns = new AtomicInteger();
+		return new FakeAgentCli(protocol, scenario, turns::incrementAndGet, List.of(args),
+				new ByteArrayInputStream(stdin.getBytes(StandardCharsets.UTF_8)),
+				new PrintStream(this.stdout, true, StandardCharsets.UTF_8),
+				new PrintStream(this.stderr, true, StandardCharsets.UTF_8), this.tempDir)
+			.run();
+	}
+
+	private String stdout() {
+		return this.stdout.toString(StandardCharsets.UTF_8);
+	}
+
+	private String stderr() {
+		return this.stderr.toString(StandardCharsets.UTF_8);
+	}
+
+	private static Map<?, ?> json(String line) {
+		return (Map<?, ?>) Json.parse(line);
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.fakecli;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.agents.fakecli.FakeCliScenario.Failure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link FakeCliInstallation}.
+ *
+ * @author Spring AI Community
+ */
+@DisabledOnOs(OS.WINDOWS)
+class FakeCliInstallationTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void launcherRunsLikeTheRealCli() throws Exception {
+		FakeCliInstallation q = FakeCliInstallation.install(CliProtocol.AMAZON_Q, this.tempDir);
+		q.scenario(FakeCliScenario.builder().responses("Answer {turn} to {prompt}").exitCode(3).build());
+
+		Process first = start(q, "chat", "--no-interactive", "one");
+		String firstOutput = new String(first.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+		Process second = start(q, "chat", "--no-interactive", "two");
+		String secondOutput = new String(second.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+		assertThat(q.path()).isEqualTo(this.tempDir.toAbsolutePath().resolve("q"));
+		assertThat(first.waitFor()).isEqualTo(3);
+		assertThat(firstOutput).isEqualTo("Answer 1 to one\n");
+		assertThat(secondOutput).isEqualTo("Answer 2 to two\n");
+		assertThat(q.invocations()).containsExactly(List.of("chat", "--no-interactive", "one"),
+				List.of("chat", "--no-interactive", "two"));
+	}
+
+	@Test
+	void hangingCliCanBeDestroyed() throws Exception {
+		FakeCliInstallation amp = FakeCliInstallation.install(CliProtocol.AMP, this.tempDir);
+		amp.scenario(FakeCliScenario.builder().chunks(2).failure(Failure.HANG).build());
+
+		Process process = start(amp, "-x", "prompt");
+
+		assertThat(process.waitFor(1, TimeUnit.SECONDS)).isFalse();
+		process.destroyForcibly();
+		assertThat(process.waitFor(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void registersForDiscovery() throws Exception {
+		FakeCliInstallation codex = FakeCliInstallation.install(CliProtocol.CODEX, this.tempDir);
+		try {
+			codex.registerForDiscovery();
+			assertThat(System.getProperty("codex.cli.path")).isEqualTo(codex.path().toString());
+		}
+		finally {
+			codex.unregisterForDiscovery();
+		}
+		assertThat(System.getProperty("codex.cli.path")).isNull();
+
+		FakeCliInstallation claude = FakeCliInstallation.install(CliProtocol.CLAUDE, this.tempDir.resolve("claude"));
+		assertThatThrownBy(claude::registerForDiscovery).isInstanceOf(IllegalStateException.class);
+	}
+
+	private Process start(FakeCliInstallation cli, String... args) throws Exception {
+		List<String> command = new ArrayList<>();
+		command.add(cli.path().toString());
+		command.addAll(List.of(args));
+		Process process = new ProcessBuilder(command).directory(this.tempDir.toFile()).start();
+		process.getOutputStream().close();
+		return process;
+	}
+
+}
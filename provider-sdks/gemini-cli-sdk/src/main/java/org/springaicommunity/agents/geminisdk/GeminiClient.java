@@ -21,6 +21,7 @@ import org.springaicommunity.agents.geminisdk.transport.CLIOptions;
 import org.springaicommunity.agents.geminisdk.transport.CLITransport;
 import org.springaicommunity.agents.geminisdk.transport.CliAvailabilityResult;
 import org.springaicommunity.agents.geminisdk.types.*;
+import org.springaicommunity.agents.process.PromptDelivery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -177,6 +178,34 @@ public class GeminiClient implements AutoCloseable {
 		return transport.buildCommand(prompt, options);
 	}
 
+	/**
+	 * Builds the command line arguments for a query, leaving out the prompt when it is to
+	 * be written to the standard input of the CLI.
+	 * @param prompt the query prompt
+	 * @param options the CLI options
+	 * @param promptArgument whether to pass the prompt as an argument
+	 * @return the command line arguments as a list
+	 */
+	public List<String> buildCommand(String prompt, CLIOptions options, boolean promptArgument) {
+		return transport.buildCommand(prompt, options, promptArgument);
+	}
+
+	/**
+	 * Get how prompts are handed to the CLI.
+	 * @return the prompt delivery
+	 */
+	public PromptDelivery getPromptDelivery() {
+		return transport.getPromptDelivery();
+	}
+
+	/**
+	 * Set how prompts are handed to the CLI.
+	 * @param promptDelivery the prompt delivery, null for the default
+	 */
+	public void setPromptDelivery(PromptDelivery promptDelivery) {
+		transport.setPromptDelivery(promptDelivery);
+	}
+
 	/**
 	 * Parses the output from external command execution into a QueryResult. This is
 	 * useful for integrating with external execution environments.
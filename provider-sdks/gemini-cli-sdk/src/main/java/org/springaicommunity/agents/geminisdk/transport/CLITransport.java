@@ -26,9 +26,10 @@ import org.springaicommunity.agents.geminisdk.types.MessageType;
 import org.springaicommunity.agents.geminisdk.util.GeminiCliDiscovery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.zeroturnaround.exec.ProcessExecutor;
-import org.zeroturnaround.exec.ProcessResult;
-import org.zeroturnaround.exec.InvalidExitValueException;
+import org.springaicommunity.agents.process.ProcessRunResult;
+import org.springaicommunity.agents.process.PromptDelivery;
+import org.springaicommunity.agents.process.ProcessRunner;
+import org.springaicommunity.agents.process.ProcessSpec;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -51,12 +52,33 @@ public class CLITransport {
 
 	private final String geminiCommand;
 
+	private final ProcessRunner processRunner = new ProcessRunner();
+
+	private PromptDelivery promptDelivery = PromptDelivery.DEFAULT;
+
 	public CLITransport(Path workingDirectory, Duration defaultTimeout) {
 		this.workingDirectory = workingDirectory;
 		this.defaultTimeout = defaultTimeout;
 		this.geminiCommand = GeminiCliDiscovery.findGeminiCommand();
 	}
 
+	/**
+	 * Sets how prompts are handed to the CLI. Prompts above the threshold are piped to
+	 * standard input, which the CLI reads as the prompt in non-interactive mode.
+	 * @param promptDelivery the prompt delivery
+	 */
+	public void setPromptDelivery(PromptDelivery promptDelivery) {
+		this.promptDelivery = promptDelivery != null ? promptDelivery : PromptDelivery.DEFAULT;
+	}
+
+	/**
+	 * Get how prompts are handed to the CLI.
+	 * @return the prompt delivery
+	 */
+	public PromptDelivery getPromptDelivery() {
+		return this.promptDelivery;
+	}
+
 	/**
 	 * Checks if the Gemini CLI is available and functional.
 	 * @return true if Gemini CLI is installed, accessible, and responds to --version
@@ -106,40 +128,46 @@ public class CLITransport {
 			throw new IllegalArgumentException("Prompt cannot be null or empty");
 		}
 
-		List<String> command = buildCommand(prompt, options);
+		boolean promptOnStdin = promptDelivery.useStdin(prompt);
+		List<String> command = buildCommand(prompt, options, !promptOnStdin);
 
-		logger.info("Executing Gemini CLI command with prompt length: {}", prompt.length());
+		logger.info("Executing Gemini CLI command with prompt length: {}{}", prompt.length(),
+				promptOnStdin ? " on stdin" : "");
 		logger.debug("Command: {}", String.join(" ", command));
 
-		try {
-			// Use GeminiCliDiscovery to get the correct command for nvm environments
-			String[] commandArray = GeminiCliDiscovery.getGeminiCommand(geminiCommand,
-					command.subList(1, command.size()).toArray(new String[0]));
-
-			ProcessResult result = new ProcessExecutor().command(commandArray)
-				.directory(workingDirectory.toFile())
-				.timeout(options.getTimeout().toMillis(), java.util.concurrent.TimeUnit.MILLISECONDS)
-				.readOutput(true)
-				.exitValueNormal()
-				.execute();
+		// Use GeminiCliDiscovery to get the correct command for nvm environments
+		String[] commandArray = GeminiCliDiscovery.getGeminiCommand(geminiCommand,
+				command.subList(1, command.size()).toArray(new String[0]));
+
+		ProcessSpec spec = ProcessSpec.builder()
+			.command(commandArray)
+			.directory(workingDirectory)
+			.timeout(options.getTimeout())
+			.input(promptOnStdin ? prompt : null)
+			.build();
+		try (ProcessRunResult result = processRunner.run(spec)) {
+			if (!result.isSuccess()) {
+				// Errors are at the end of the output, which may be large
+				throw new ProcessExecutionException("Gemini CLI execution failed", result.exitCode(),
+						result.stdout().tail(), result.stderr().tail());
+			}
 
-			String output = result.outputUTF8();
+			// The whole output is the response, so it is the only stream read in full
+			String output = result.stdout().asString();
 			logger.debug("Gemini CLI output length: {}", output.length());
 
 			return parseResponse(output);
 
 		}
-		catch (InvalidExitValueException e) {
-			ProcessResult result = e.getResult();
-			String output = result.outputUTF8();
-			String stderr = (output != null && (output.contains("Error:") || output.contains("error:"))) ? output
-					: "No stderr captured";
-			throw new ProcessExecutionException("Gemini CLI execution failed", e.getExitValue(), output, stderr, e);
-		}
 		catch (java.util.concurrent.TimeoutException e) {
 			throw new TimeoutException("Gemini CLI execution timed out", options.getTimeout(), e);
 		}
-		catch (IOException | InterruptedException e) {
+		catch (InterruptedException e) {
+			// Cancelled: the runner has already stopped the CLI and its children
+			Thread.currentThread().interrupt();
+			throw new GeminiSDKException("Gemini CLI execution interrupted", e);
+		}
+		catch (IOException e) {
 			throw new GeminiSDKException("Failed to execute Gemini CLI", e);
 		}
 	}
@@ -153,6 +181,18 @@ public class CLITransport {
 	 * @return the command line arguments as a list
 	 */
 	public List<String> buildCommand(String prompt, CLIOptions options) {
+		return buildCommand(prompt, options, true);
+	}
+
+	/**
+	 * Builds the command line arguments for a query, optionally without the prompt.
+	 * @param prompt the query prompt
+	 * @param options the CLI options
+	 * @param promptArgument whether to pass the prompt with {@code -p}; otherwise the CLI
+	 * reads it from standard input
+	 * @return the command line arguments as a list
+	 */
+	public List<String> buildCommand(String prompt, CLIOptions options, boolean promptArgument) {
 		List<String> command = new ArrayList<>();
 
 		// Use getGeminiCommand to handle NVM Node.js wrapper if needed
@@ -213,9 +253,12 @@ public class CLITransport {
 			}
 		}
 
-		// Add prompt (must be last parameter for CLI compatibility)
-		command.add("-p");
-		command.add(prompt);
+		// Add prompt (must be last parameter for CLI compatibility), without it the CLI
+		// reads the prompt from stdin
+		if (promptArgument) {
+			command.add("-p");
+			command.add(prompt);
+		}
 
 		return command;
 	}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.geminisdk.transport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.springaicommunity.agents.geminisdk.types.Message;
+import org.springaicommunity.agents.geminisdk.util.GeminiCliDiscovery;
+import org.springaicommunity.agents.process.PromptDelivery;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for how {@link CLITransport} hands prompts to the Gemini CLI, using a script
+ * that records its arguments and standard input in place of the CLI.
+ *
+ * @author Spring AI Community
+ */
+@DisabledOnOs(OS.WINDOWS)
+class CLITransportTest {
+
+	@TempDir
+	Path tempDir;
+
+	private CLITransport transport;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		Path cli = this.tempDir.resolve("gemini");
+		Files.writeString(cli, """
+				#!/bin/sh
+				if [ "$1" = "--version" ]; then echo "0.9.0"; exit 0; fi
+				dir=$(dirname "$0")
+				printf '%s\\n' "$@" > "$dir/args.txt"
+				cat > "$dir/stdin.txt"
+				echo "done"
+				""");
+		cli.toFile().setExecutable(true);
+		System.setProperty("gemini.cli.path", cli.toString());
+		this.transport = new CLITransport(this.tempDir, Duration.ofMinutes(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		System.clearProperty("gemini.cli.path");
+		GeminiCliDiscovery.clearCache();
+	}
+
+	@Test
+	void largePromptIsWrittenToStdinOnly() throws IOException {
+		this.transport.setPromptDelivery(PromptDelivery.STDIN);
+
+		List<Message> messages = this.transport.executeQuery("fix the build", CLIOptions.defaultOptions());
+
+		assertThat(messages).extracting(Message::getContent).containsExactly("done");
+		assertThat(Files.readAllLines(this.tempDir.resolve("args.txt"))).doesNotContain("-p", "fix the build");
+		assertThat(this.tempDir.resolve("stdin.txt")).hasContent("fix the build");
+	}
+
+	@Test
+	void smallPromptIsPassedAsArgument() throws IOException {
+		this.transport.executeQuery("fix the build", CLIOptions.defaultOptions());
+
+		assertThat(Files.readAllLines(this.tempDir.resolve("args.txt"))).endsWith("-p", "fix the build");
+		assertThat(this.tempDir.resolve("stdin.txt")).isEmptyFile();
+	}
+
+	@Test
+	void commandWithoutPromptArgumentLeavesPromptOffTheCommandLine() {
+		List<String> command = this.transport.buildCommand("fix the build", CLIOptions.defaultOptions(), false);
+
+		assertThat(command).doesNotContain("-p", "fix the build");
+	}
+
+}
@@ -20,20 +20,20 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.process.ProcessRunResult;
+import org.springaicommunity.agents.process.PromptDelivery;
+import org.springaicommunity.agents.process.ProcessRunner;
+import org.springaicommunity.agents.process.ProcessSpec;
 import org.springaicommunity.agents.sweagentsdk.exceptions.SweCliNotFoundException;
 import org.springaicommunity.agents.sweagentsdk.types.SweAgentOptions;
 import org.springaicommunity.agents.sweagentsdk.util.SweCliDiscovery;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * API wrapper for the mini-SWE-agent CLI tool.
@@ -53,6 +53,8 @@ public class SweCliApi {
 
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
+	private final ProcessRunner processRunner = new ProcessRunner();
+
 	private final String executablePath;
 
 	/**
@@ -106,43 +108,35 @@ public class SweCliApi {
 			Path outputFile = workingDirectory.resolve("swe-agent-output-" + System.currentTimeMillis() + ".json");
 
 			List<String> command = buildCommand(prompt, options, outputFile);
-			logger.debug("Executing mini-SWE-agent with command: {}", command);
-
-			ProcessBuilder processBuilder = new ProcessBuilder(command);
-			processBuilder.directory(workingDirectory.toFile());
-
-			// Set environment variables if provided
-			if (options.getEnvironmentVariables() != null) {
-				processBuilder.environment().putAll(options.getEnvironmentVariables());
+			if (PromptDelivery.DEFAULT.useStdin(prompt)) {
+				// mini-swe-agent only accepts the task via --task; stdin answers its
+				// confirmation prompts
+				logger.warn("Passing {} character task to mini-SWE-agent on the command line", prompt.length());
 			}
-
-			Process process = processBuilder.start();
+			logger.debug("Executing mini-SWE-agent with command: {}", redactTask(command, prompt));
 
 			// Provide empty input to mini-swe-agent prompts
 			// This prevents hanging when the agent prompts for confirmation or new tasks
-			try (OutputStreamWriter writer = new OutputStreamWriter(process.getOutputStream())) {
-				// Send multiple empty lines to respond to various prompts
-				// (task confirmation, exit confirmation, new task prompts, etc.)
-				writer.write("\n\n\n");
-				writer.flush();
-			}
-			catch (IOException e) {
-				logger.debug("Failed to write to process stdin: {}", e.getMessage());
+			// (task confirmation, exit confirmation, new task prompts, etc.)
+			ProcessSpec spec = ProcessSpec.builder()
+				.command(command)
+				.directory(workingDirectory)
+				.env(options.getEnvironmentVariables())
+				.timeout(options.getTimeout())
+				.input("\n\n\n")
+				.build();
+
+			int exitCode;
+			String output;
+			String error;
+			try (ProcessRunResult result = this.processRunner.run(spec)) {
+				exitCode = result.exitCode();
+				// mini-SWE-agent logs every step; its final message and errors are at the
+				// end, and the trajectory file carries the full run
+				output = result.stdout().tail().trim();
+				error = result.stderr().tail().trim();
 			}
 
-			// Handle timeout
-			Duration timeout = options.getTimeout();
-			boolean finished = process.waitFor(timeout.toSeconds(), TimeUnit.SECONDS);
-
-			if (!finished) {
-				process.destroyForcibly();
-				throw new SweCliException("mini-SWE-agent execution timed out after " + timeout);
-			}
-
-			int exitCode = process.exitValue();
-			String output = readOutput(process);
-			String error = readError(process);
-
 			logger.debug("mini-SWE-agent completed with exit code: {}", exitCode);
 
 			// Try to read JSON trajectory file if it exists
@@ -162,10 +156,16 @@ public class SweCliApi {
 			return parseResult(output, error, exitCode, trajectoryJson);
 
 		}
-		catch (IOException | InterruptedException e) {
+		catch (TimeoutException e) {
+			throw new SweCliException("mini-SWE-agent execution timed out after " + options.getTimeout());
+		}
+		catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
 			throw new SweCliException("Failed to execute mini-SWE-agent: " + e.getMessage(), e);
 		}
+		catch (IOException e) {
+			throw new SweCliException("Failed to execute mini-SWE-agent: " + e.getMessage(), e);
+		}
 	}
 
 	private List<String> buildCommand(String prompt, SweAgentOptions options, Path outputFile) {
@@ -199,26 +199,13 @@ public class SweCliApi {
 		return command;
 	}
 
-	private String readOutput(Process process) throws IOException {
-		StringBuilder output = new StringBuilder();
-		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-			String line;
-			while ((line = reader.readLine()) != null) {
-				output.append(line).append("\n");
-			}
-		}
-		return output.toString().trim();
-	}
-
-	private String readError(Process process) throws IOException {
-		StringBuilder error = new StringBuilder();
-		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
-			String line;
-			while ((line = reader.readLine()) != null) {
-				error.append(line).append("\n");
-			}
+	private static List<String> redactTask(List<String> command, String prompt) {
+		List<String> redacted = new ArrayList<>(command);
+		int taskIndex = redacted.indexOf("--task") + 1;
+		if (taskIndex > 0 && taskIndex < redacted.size() && prompt != null && prompt.length() > 200) {
+			redacted.set(taskIndex, "<" + prompt.length() + " chars>");
 		}
-		return error.toString().trim();
+		return redacted;
 	}
 
 	private SweResult parseResult(String output, String error, int exitCode, JsonNode trajectoryJson) {
@@ -21,7 +21,10 @@ import java.time.Duration;
 import java.util.List;
 import java.util.function.Consumer;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisor;
+import org.springaicommunity.agents.client.observation.AgentClientObservationConvention;
 import org.springaicommunity.agents.model.AgentModel;
 import org.springaicommunity.agents.model.AgentOptions;
 
@@ -62,6 +65,19 @@ public interface AgentClient {
 		return new DefaultAgentClientBuilder(agentModel);
 	}
 
+	/**
+	 * Create a new agent client builder that observes runs and advisors.
+	 * @param agentModel the underlying agent model
+	 * @param observationRegistry the registry used to observe runs and advisors
+	 * @param observationConvention custom convention for run observations, or null for
+	 * the default
+	 * @return a new builder
+	 */
+	static Builder builder(AgentModel agentModel, ObservationRegistry observationRegistry,
+			AgentClientObservationConvention observationConvention) {
+		return new DefaultAgentClientBuilder(agentModel, observationRegistry, observationConvention);
+	}
+
 	/**
 	 * Create a new agent client request spec - equivalent to ChatClient.prompt().
 	 * @return a new request builder
@@ -150,6 +166,21 @@ public interface AgentClient {
 		 */
 		AgentClientResponse run();
 
+		/**
+		 * Execute the goal and map the final output of the agent to the given type. The
+		 * JSON schema of the type is derived once per type, appended to the goal as
+		 * format instructions, and passed to models whose CLI enforces structured
+		 * output. The result is read with a streaming JSON parser from the first JSON
+		 * value in the output, preferring a fenced {@code json} block, so agents that
+		 * surround the JSON with prose can be mapped as well.
+		 * @param <T> the entity type
+		 * @param type the entity type
+		 * @return the entity
+		 * @throws IllegalStateException if the run fails or its output holds no JSON
+		 * value of the type
+		 */
+		<T> T entity(Class<T> type);
+
 	}
 
 	/**
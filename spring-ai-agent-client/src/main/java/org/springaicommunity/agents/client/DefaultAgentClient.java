@@ -21,11 +21,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import org.springaicommunity.agents.client.advisor.AgentModelCallAdvisor;
 import org.springaicommunity.agents.client.advisor.DefaultAgentCallAdvisorChain;
 import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisor;
+import org.springaicommunity.agents.client.observation.AgentClientObservationContext;
+import org.springaicommunity.agents.client.observation.AgentClientObservationConvention;
+import org.springaicommunity.agents.client.observation.AgentClientObservationDocumentation;
+import org.springaicommunity.agents.client.observation.DefaultAgentClientObservationConvention;
 import org.springaicommunity.agents.model.AgentModel;
 import org.springaicommunity.agents.model.AgentOptions;
 import org.springaicommunity.agents.model.AgentResponse;
@@ -39,12 +47,20 @@ import org.springaicommunity.agents.model.AgentTaskRequest;
  */
 public class DefaultAgentClient implements AgentClient {
 
+	private static final AgentClientObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultAgentClientObservationConvention();
+
 	private final AgentModel agentModel;
 
 	private final AgentOptions defaultOptions;
 
 	private final List<AgentCallAdvisor> defaultAdvisors;
 
+	private final ObservationRegistry observationRegistry;
+
+	private final AgentClientObservationConvention observationConvention;
+
+	private final String provider;
+
 	/**
 	 * Create a new DefaultAgentClient with the given agent model.
 	 * @param agentModel the underlying agent model
@@ -71,9 +87,26 @@ public class DefaultAgentClient implements AgentClient {
 	 */
 	public DefaultAgentClient(AgentModel agentModel, AgentOptions defaultOptions,
 			List<AgentCallAdvisor> defaultAdvisors) {
+		this(agentModel, defaultOptions, defaultAdvisors, ObservationRegistry.NOOP, null);
+	}
+
+	/**
+	 * Create a new DefaultAgentClient that observes runs and advisors.
+	 * @param agentModel the underlying agent model
+	 * @param defaultOptions default options for all requests
+	 * @param defaultAdvisors default advisors for all requests
+	 * @param observationRegistry the registry used to observe runs and advisors
+	 * @param observationConvention custom convention for run observations, or null
+	 */
+	public DefaultAgentClient(AgentModel agentModel, AgentOptions defaultOptions,
+			List<AgentCallAdvisor> defaultAdvisors, ObservationRegistry observationRegistry,
+			AgentClientObservationConvention observationConvention) {
 		this.agentModel = Objects.requireNonNull(agentModel, "AgentModel cannot be null");
 		this.defaultOptions = defaultOptions != null ? defaultOptions : new DefaultAgentOptions();
 		this.defaultAdvisors = defaultAdvisors != null ? new ArrayList<>(defaultAdvisors) : new ArrayList<>();
+		this.observationRegistry = observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
+		this.observationConvention = observationConvention;
+		this.provider = providerName(agentModel);
 	}
 
 	@Override
@@ -104,10 +137,28 @@ public class DefaultAgentClient implements AgentClient {
 
 	@Override
 	public AgentClient.Builder mutate() {
-		return new DefaultAgentClientBuilder(this.agentModel).defaultOptions(this.defaultOptions)
+		return new DefaultAgentClientBuilder(this.agentModel, this.observationRegistry, this.observationConvention)
+			.defaultOptions(this.defaultOptions)
 			.defaultAdvisors(this.defaultAdvisors);
 	}
 
+	/**
+	 * Derive a low cardinality provider name from the agent model type, e.g.
+	 * {@code ClaudeAgentModel} becomes {@code claude} and {@code AmazonQAgentModel}
+	 * becomes {@code amazon-q}.
+	 */
+	static String providerName(AgentModel agentModel) {
+		Class<?> type = agentModel.getClass();
+		if (type.isSynthetic() || type.isAnonymousClass()) {
+			return "custom";
+		}
+		String name = type.getSimpleName().replaceFirst("AgentModel$", "");
+		if (name.isEmpty()) {
+			return "custom";
+		}
+		return name.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase(Locale.ROOT);
+	}
+
 	/**
 	 * Default implementation of AgentClientRequestSpec.
 	 */
@@ -150,32 +201,67 @@ public class DefaultAgentClient implements AgentClient {
 
 		@Override
 		public AgentClientResponse run() {
+			assertGoal();
+			return run(this.goal, new HashMap<>());
+		}
+
+		@Override
+		public <T> T entity(Class<T> type) {
+			Objects.requireNonNull(type, "Entity type cannot be null");
+			assertGoal();
+
+			// Ask for JSON in the goal, and pass the schema on to models that enforce it
+			Goal structuredGoal = new Goal(this.goal.getContent() + "\n\n" + StructuredOutput.format(type),
+					this.goal.getWorkingDirectory(), this.goal.getOptions());
+			Map<String, Object> context = new HashMap<>();
+			context.put(AgentModelCallAdvisor.OUTPUT_SCHEMA_KEY, StructuredOutput.schema(type));
+
+			AgentClientResponse response = run(structuredGoal, context);
+			if (!response.isSuccessful()) {
+				throw new IllegalStateException(
+						"Agent run failed, cannot map its output to " + type.getName() + ": " + response.getResult());
+			}
+			return StructuredOutput.read(response.getResult(), type);
+		}
+
+		private void assertGoal() {
 			// Ensure we have a goal before proceeding
 			if (this.goal == null) {
 				throw new IllegalStateException(
 						"Goal must be set before running. Use goal(String) or goal(Goal) first.");
 			}
+		}
 
+		private AgentClientResponse run(Goal goal, Map<String, Object> context) {
 			// Determine effective working directory
 			Path effectiveWorkingDirectory = determineWorkingDirectory();
 
 			// Merge options
-			AgentOptions effectiveOptions = mergeOptions(this.goal.getOptions(),
-					DefaultAgentClient.this.defaultOptions);
+			AgentOptions effectiveOptions = mergeOptions(goal.getOptions(), DefaultAgentClient.this.defaultOptions);
 
 			// Create client-layer request
-			AgentClientRequest request = new AgentClientRequest(this.goal, effectiveWorkingDirectory, effectiveOptions,
-					new HashMap<>());
+			AgentClientRequest request = new AgentClientRequest(goal, effectiveWorkingDirectory, effectiveOptions,
+					context);
 
 			// Build advisor chain with terminal advisor
 			List<AgentCallAdvisor> advisors = new ArrayList<>(DefaultAgentClient.this.defaultAdvisors);
 			advisors.addAll(this.requestAdvisors);
 			advisors.add(new AgentModelCallAdvisor(DefaultAgentClient.this.agentModel));
 
-			var chain = DefaultAgentCallAdvisorChain.builder().pushAll(advisors).build();
+			var chain = DefaultAgentCallAdvisorChain.builder(DefaultAgentClient.this.observationRegistry)
+				.pushAll(advisors)
+				.build();
 
 			// Execute through advisor chain
-			return chain.nextCall(request);
+			var observationContext = new AgentClientObservationContext(request, DefaultAgentClient.this.provider);
+			return AgentClientObservationDocumentation.AGENT_CLIENT_RUN
+				.observation(DefaultAgentClient.this.observationConvention, DEFAULT_OBSERVATION_CONVENTION,
+						() -> observationContext, DefaultAgentClient.this.observationRegistry)
+				.observe(() -> {
+					AgentClientResponse response = chain.nextCall(request);
+					observationContext.setResponse(response);
+					return response;
+				});
 		}
 
 		private Path determineWorkingDirectory() {
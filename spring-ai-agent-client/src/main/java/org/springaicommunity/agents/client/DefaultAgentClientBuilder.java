@@ -22,7 +22,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisor;
+import org.springaicommunity.agents.client.observation.AgentClientObservationConvention;
 import org.springaicommunity.agents.model.AgentModel;
 import org.springaicommunity.agents.model.AgentOptions;
 
@@ -40,10 +43,21 @@ public class DefaultAgentClientBuilder implements AgentClient.Builder {
 
 	private List<AgentCallAdvisor> defaultAdvisors;
 
+	private final ObservationRegistry observationRegistry;
+
+	private final AgentClientObservationConvention observationConvention;
+
 	public DefaultAgentClientBuilder(AgentModel agentModel) {
+		this(agentModel, ObservationRegistry.NOOP, null);
+	}
+
+	public DefaultAgentClientBuilder(AgentModel agentModel, ObservationRegistry observationRegistry,
+			AgentClientObservationConvention observationConvention) {
 		this.agentModel = Objects.requireNonNull(agentModel, "AgentModel cannot be null");
 		this.defaultOptions = new DefaultAgentOptions();
 		this.defaultAdvisors = new ArrayList<>();
+		this.observationRegistry = observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
+		this.observationConvention = observationConvention;
 	}
 
 	@Override
@@ -85,7 +99,8 @@ public class DefaultAgentClientBuilder implements AgentClient.Builder {
 
 	@Override
 	public AgentClient build() {
-		return new DefaultAgentClient(this.agentModel, this.defaultOptions, this.defaultAdvisors);
+		return new DefaultAgentClient(this.agentModel, this.defaultOptions, this.defaultAdvisors,
+				this.observationRegistry, this.observationConvention);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.client;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import org.springframework.ai.converter.BeanOutputConverter;
+
+/**
+ * Maps the final output of an agent to an entity type. The JSON schema and format
+ * instructions of a type are derived with Spring AI's {@link BeanOutputConverter} once
+ * and cached per type.
+ *
+ * <p>
+ * The output is scanned once for fenced {@code json} blocks and for the outermost
+ * balanced objects, or arrays for collection and array types. Each candidate is parsed
+ * at most once, straight from the output string. Fenced blocks are preferred, and among
+ * candidates of the same kind the last one wins, since agents state the result after
+ * the work they describe. An object only qualifies if it holds the properties the schema
+ * requires and at least one property of the schema, so stray JSON in the prose, such as a
+ * quoted {@code package.json}, is not mistaken for the result.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+final class StructuredOutput {
+
+	private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+		.build();
+
+	private static final ClassValue<BeanOutputConverter<?>> CONVERTERS = new ClassValue<>() {
+
+		@Override
+		protected BeanOutputConverter<?> computeValue(Class<?> type) {
+			return new BeanOutputConverter<>(type);
+		}
+
+	};
+
+	private StructuredOutput() {
+	}
+
+	/**
+	 * Get the JSON schema of a type.
+	 * @param type the entity type
+	 * @return the JSON schema
+	 */
+	static Map<String, Object> schema(Class<?> type) {
+		return CONVERTERS.get(type).getJsonSchemaMap();
+	}
+
+	/**
+	 * Get the instructions asking the agent to answer with JSON of a type.
+	 * @param type the entity type
+	 * @return the format instructions
+	 */
+	static String format(Class<?> type) {
+		return CONVERTERS.get(type).getFormat();
+	}
+
+	/**
+	 * Read an entity from the output of an agent.
+	 * @param <T> the entity type
+	 * @param output the agent output
+	 * @param type the entity type
+	 * @return the entity
+	 * @throws IllegalStateException if the output holds no JSON value of the type
+	 */
+	static <T> T read(String output, Class<T> type) {
+		if (output != null && !output.isEmpty()) {
+			boolean array = type.isArray() || Collection.class.isAssignableFrom(type);
+			Candidates candidates = Candidates.scan(output, array ? '[' : '{', array ? ']' : '}');
+			Map<String, Object> schema = array ? Map.of() : schema(type);
+			for (List<int[]> ranges : List.of(candidates.fenced, candidates.outermost)) {
+				for (int i = ranges.size() - 1; i >= 0; i--) {
+					T value = read(output, ranges.get(i), type, schema);
+					if (value != null) {
+						return value;
+					}
+				}
+			}
+		}
+		throw new IllegalStateException("No JSON value of type " + type.getName() + " found in the agent output");
+	}
+
+	private static <T> T read(String output, int[] range, Class<T> type, Map<String, Object> schema) {
+		try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(new RangeReader(output, range[0], range[1]))) {
+			JsonNode node = OBJECT_MAPPER.readTree(parser);
+			if (node == null || !matches(node, schema)) {
+				return null;
+			}
+			return OBJECT_MAPPER.treeToValue(node, type);
+		}
+		catch (IOException ex) {
+			// Not JSON of this type, try the next candidate
+			return null;
+		}
+	}
+
+	private static boolean matches(JsonNode node, Map<String, Object> schema) {
+		if (!node.isObject() || !(schema.get("properties") instanceof Map<?, ?> properties)
+				|| properties.isEmpty()) {
+			return true;
+		}
+		if (schema.get("required") instanceof Collection<?> required) {
+			for (Object name : required) {
+				if (!node.has(String.valueOf(name))) {
+					return false;
+				}
+			}
+		}
+		for (Object name : properties.keySet()) {
+			if (node.has(String.valueOf(name))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Ranges of the JSON candidates in an output, found in a single pass. Brackets are
+	 * matched outside of JSON strings; a range is outermost if no other matched range
+	 * encloses it.
+	 */
+	private static final class Candidates {
+
+		private static final String FENCE = "```json";
+
+		private final List<int[]> fenced = new ArrayList<>();
+
+		private final List<int[]> outermost = new ArrayList<>();
+
+		static Candidates scan(String output, char open, char close) {
+			Candidates candidates = new Candidates();
+			// Open brackets as {start, 1 if the value directly follows a fence}
+			Deque<int[]> opened = new ArrayDeque<>();
+			boolean afterFence = false;
+			boolean inString = false;
+			for (int i = 0; i < output.length(); i++) {
+				char c = output.charAt(i);
+				if (inString) {
+					if (c == '\\') {
+						i++;
+					}
+					else if (c == '"' || c == '\n') {
+						// JSON strings cannot span lines, so a quote in prose cannot hide the rest
+						inString = false;
+					}
+				}
+				else if (c == open) {
+					opened.push(new int[] { i, afterFence ? 1 : 0 });
+					afterFence = false;
+				}
+				else if (c == close && !opened.isEmpty()) {
+					int[] start = opened.pop();
+					int[] range = { start[0], i + 1 };
+					if (start[1] == 1) {
+						candidates.fenced.add(range);
+					}
+					// Drop the ranges enclosed by this one
+					while (!candidates.outermost.isEmpty()
+							&& candidates.outermost.get(candidates.outermost.size() - 1)[0] > range[0]) {
+						candidates.outermost.remove(candidates.outermost.size() - 1);
+					}
+					candidates.outermost.add(range);
+				}
+				else if (c == '"' && !opened.isEmpty()) {
+					inString = true;
+				}
+				else if (c == '`' && output.startsWith(FENCE, i)) {
+					afterFence = true;
+					i += FENCE.length() - 1;
+				}
+				else if (!Character.isWhitespace(c)) {
+					afterFence = false;
+				}
+			}
+			return candidates;
+		}
+
+	}
+
+	/**
+	 * Reader over a range of a string that does not copy the string.
+	 */
+	private static final class RangeReader extends Reader {
+
+		private final String text;
+
+		private final int end;
+
+		private int position;
+
+		RangeReader(String text, int start, int end) {
+			this.text = text;
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) {
+			if (this.position >= this.end) {
+				return -1;
+			}
+			int count = Math.min(length, this.end - this.position);
+			this.text.getChars(this.position, this.position + count, buffer, offset);
+			this.position += count;
+			return count;
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springaicommunity.agents.client.advisor;
 
+import java.util.Map;
+
 import org.springaicommunity.agents.client.AgentClientRequest;
 import org.springaicommunity.agents.client.AgentClientResponse;
 import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisor;
@@ -37,6 +39,12 @@ import org.springaicommunity.agents.model.AgentTaskRequest;
  */
 public class AgentModelCallAdvisor implements AgentCallAdvisor {
 
+	/**
+	 * Request context key of the JSON schema the final output must conform to, passed on
+	 * to the model as the {@link AgentTaskRequest#outputSchema() output schema}.
+	 */
+	public static final String OUTPUT_SCHEMA_KEY = "output.schema";
+
 	private static final String NAME = AgentModelCallAdvisor.class.getName();
 
 	private static final int ORDER = LOWEST_PRECEDENCE;
@@ -50,8 +58,10 @@ public class AgentModelCallAdvisor implements AgentCallAdvisor {
 	@Override
 	public AgentClientResponse adviseCall(AgentClientRequest request, AgentCallAdvisorChain chain) {
 		// Convert client request to model request
+		@SuppressWarnings("unchecked")
+		Map<String, Object> outputSchema = (Map<String, Object>) request.context().get(OUTPUT_SCHEMA_KEY);
 		AgentTaskRequest taskRequest = new AgentTaskRequest(request.goal().getContent(), request.workingDirectory(),
-				request.options());
+				request.options(), outputSchema);
 
 		// Call the agent model (terminal operation)
 		var agentResponse = this.agentModel.call(taskRequest);
@@ -21,10 +21,16 @@ import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import org.springaicommunity.agents.client.AgentClientRequest;
 import org.springaicommunity.agents.client.AgentClientResponse;
 import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisor;
 import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisorChain;
+import org.springaicommunity.agents.client.observation.AgentAdvisorObservationContext;
+import org.springaicommunity.agents.client.observation.AgentAdvisorObservationConvention;
+import org.springaicommunity.agents.client.observation.AgentAdvisorObservationDocumentation;
+import org.springaicommunity.agents.client.observation.DefaultAgentAdvisorObservationConvention;
 import org.springframework.core.OrderComparator;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -34,27 +40,46 @@ import org.springframework.util.CollectionUtils;
  * chain-of-responsibility pattern.
  *
  * <p>
- * Follows Spring AI's DefaultAroundAdvisorChain design for consistency.
+ * Follows Spring AI's DefaultAroundAdvisorChain design for consistency. Each advisor
+ * invocation is observed through the configured {@link ObservationRegistry}.
  *
  * @author Mark Pollack
  * @since 0.1.0
  */
 public class DefaultAgentCallAdvisorChain implements AgentCallAdvisorChain {
 
+	private static final AgentAdvisorObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultAgentAdvisorObservationConvention();
+
 	private final List<AgentCallAdvisor> originalCallAdvisors;
 
 	private final Deque<AgentCallAdvisor> callAdvisors;
 
+	private final ObservationRegistry observationRegistry;
+
+	private final AgentAdvisorObservationConvention observationConvention;
+
 	DefaultAgentCallAdvisorChain(Deque<AgentCallAdvisor> callAdvisors) {
+		this(callAdvisors, ObservationRegistry.NOOP, null);
+	}
+
+	DefaultAgentCallAdvisorChain(Deque<AgentCallAdvisor> callAdvisors, ObservationRegistry observationRegistry,
+			AgentAdvisorObservationConvention observationConvention) {
 		Assert.notNull(callAdvisors, "the callAdvisors must be non-null");
+		Assert.notNull(observationRegistry, "the observationRegistry must be non-null");
 		this.callAdvisors = callAdvisors;
 		this.originalCallAdvisors = List.copyOf(callAdvisors);
+		this.observationRegistry = observationRegistry;
+		this.observationConvention = observationConvention;
 	}
 
 	public static Builder builder() {
 		return new Builder();
 	}
 
+	public static Builder builder(ObservationRegistry observationRegistry) {
+		return new Builder(observationRegistry);
+	}
+
 	@Override
 	public AgentClientResponse nextCall(AgentClientRequest request) {
 		Assert.notNull(request, "the request cannot be null");
@@ -64,7 +89,15 @@ public class DefaultAgentCallAdvisorChain implements AgentCallAdvisorChain {
 		}
 
 		var advisor = this.callAdvisors.pop();
-		return advisor.adviseCall(request, this);
+		var observationContext = new AgentAdvisorObservationContext(advisor.getName(), advisor.getOrder(), request);
+		return AgentAdvisorObservationDocumentation.AGENT_ADVISOR
+			.observation(this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
+					this.observationRegistry)
+			.observe(() -> {
+				AgentClientResponse response = advisor.adviseCall(request, this);
+				observationContext.setResponse(response);
+				return response;
+			});
 	}
 
 	@Override
@@ -76,8 +109,23 @@ public class DefaultAgentCallAdvisorChain implements AgentCallAdvisorChain {
 
 		private final Deque<AgentCallAdvisor> callAdvisors;
 
+		private final ObservationRegistry observationRegistry;
+
+		private AgentAdvisorObservationConvention observationConvention;
+
 		public Builder() {
+			this(ObservationRegistry.NOOP);
+		}
+
+		public Builder(ObservationRegistry observationRegistry) {
+			Assert.notNull(observationRegistry, "the observationRegistry must be non-null");
 			this.callAdvisors = new ConcurrentLinkedDeque<>();
+			this.observationRegistry = observationRegistry;
+		}
+
+		public Builder observationConvention(AgentAdvisorObservationConvention observationConvention) {
+			this.observationConvention = observationConvention;
+			return this;
 		}
 
 		public Builder push(AgentCallAdvisor advisor) {
@@ -106,7 +154,8 @@ public class DefaultAgentCallAdvisorChain implements AgentCallAdvisorChain {
 		}
 
 		public DefaultAgentCallAdvisorChain build() {
-			return new DefaultAgentCallAdvisorChain(this.callAdvisors);
+			return new DefaultAgentCallAdvisorChain(this.callAdvisors, this.observationRegistry,
+					this.observationConvention);
 		}
 
 	}
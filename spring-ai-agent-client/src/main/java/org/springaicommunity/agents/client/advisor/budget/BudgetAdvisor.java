@@ -0,0 +1,354 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.advisor.budget;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.client.AgentClientRequest;
+import org.springaicommunity.agents.client.AgentClientResponse;
+import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisor;
+import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisorChain;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentUsage;
+import org.springframework.core.Ordered;
+import reactor.core.publisher.Flux;
+
+/**
+ * Advisor that charges the token usage and cost of each run to its client and tenant and
+ * rejects runs once the configured budget is exhausted.
+ *
+ * <p>
+ * Before a run, the totals of the current window are checked against the token and US
+ * dollar limits; if either is reached, the run is rejected with a
+ * {@link BudgetExceededException} without starting the agent CLI. After the run, the
+ * {@link AgentUsage} reported in the response metadata is recorded in the
+ * {@link SpendLedger} and the running totals are added to the response context under
+ * {@link #TOKENS_KEY} and {@link #COST_USD_KEY}.
+ * </p>
+ *
+ * <p>
+ * Agent CLIs report usage when a run completes, so runs admitted while budget remains
+ * can overshoot it. Streaming runs of a {@code StreamingAgentModel} can be guarded with
+ * {@link #limit(Flux, String)}, which stops the stream as soon as the budget is exhausted,
+ * including by concurrent runs of the same tenant.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * BudgetAdvisor budget = BudgetAdvisor.builder()
+ *     .clientId("nightly-migrations")
+ *     .maxTokens(2_000_000)
+ *     .maxCostUsd(new BigDecimal("25.00"))
+ *     .window(Duration.ofDays(1))
+ *     .build();
+ *
+ * AgentClient client = AgentClient.builder(agentModel)
+ *     .defaultAdvisor(budget)
+ *     .build();
+ *
+ * SpendLedger.Totals today = budget.getTotals(BudgetAdvisor.DEFAULT_TENANT);
+ * }</pre>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class BudgetAdvisor implements AgentCallAdvisor {
+
+	private static final Logger logger = LoggerFactory.getLogger(BudgetAdvisor.class);
+
+	/**
+	 * Request context key holding the tenant a run is charged to.
+	 */
+	public static final String TENANT_KEY = "budget.tenant";
+
+	/**
+	 * Tenant used when the request does not name one.
+	 */
+	public static final String DEFAULT_TENANT = "default";
+
+	/**
+	 * Response context key holding the tokens spent in the current window.
+	 */
+	public static final String TOKENS_KEY = "budget.tokens";
+
+	/**
+	 * Response context key holding the US dollars spent in the current window.
+	 */
+	public static final String COST_USD_KEY = "budget.cost.usd";
+
+	private final SpendLedger ledger;
+
+	private final String clientId;
+
+	private final Long maxTokens;
+
+	private final BigDecimal maxCostUsd;
+
+	private final Function<AgentClientRequest, String> tenantResolver;
+
+	private final int order;
+
+	private BudgetAdvisor(Builder builder) {
+		this.ledger = builder.ledger != null ? builder.ledger : new SpendLedger(builder.window);
+		this.clientId = builder.clientId;
+		this.maxTokens = builder.maxTokens;
+		this.maxCostUsd = builder.maxCostUsd;
+		this.tenantResolver = builder.tenantResolver;
+		this.order = builder.order;
+	}
+
+	/**
+	 * Creates a new builder for BudgetAdvisor.
+	 * @return a new builder instance
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public AgentClientResponse adviseCall(AgentClientRequest request, AgentCallAdvisorChain chain) {
+		SpendLedger.Key key = key(resolveTenant(request));
+		SpendLedger.Totals before = this.ledger.getTotals(key);
+		if (isExhausted(before)) {
+			logger.warn("Rejecting run for client '{}' and tenant '{}': budget exhausted", key.clientId(),
+					key.tenant());
+			throw new BudgetExceededException(key, before);
+		}
+
+		AgentClientResponse response = chain.nextCall(request);
+
+		SpendLedger.Totals after = this.ledger.record(key, usageOf(response.agentResponse()));
+		response.context().put(TOKENS_KEY, after.totalTokens());
+		response.context().put(COST_USD_KEY, after.costUsd());
+		if (isExhausted(after)) {
+			logger.info("Budget of client '{}' and tenant '{}' exhausted: {} tokens, ${}", key.clientId(),
+					key.tenant(), after.totalTokens(), after.costUsd().toPlainString());
+		}
+		return response;
+	}
+
+	/**
+	 * Guard a streaming run with this advisor's budget. The stream fails with a
+	 * {@link BudgetExceededException} if the budget is exhausted when it is subscribed to
+	 * or before any later response is emitted, which cancels the underlying run. Usage
+	 * reported by the emitted responses is recorded in the ledger.
+	 * @param responses the responses of a streaming run
+	 * @param tenant the tenant the run is charged to, or null for the default tenant
+	 * @return the guarded stream
+	 */
+	public Flux<AgentResponse> limit(Flux<AgentResponse> responses, String tenant) {
+		SpendLedger.Key key = key(tenant != null ? tenant : DEFAULT_TENANT);
+		return Flux.defer(() -> {
+			SpendLedger.Totals before = this.ledger.getTotals(key);
+			if (isExhausted(before)) {
+				return Flux.error(new BudgetExceededException(key, before));
+			}
+			return responses.handle((response, sink) -> {
+				SpendLedger.Totals current = this.ledger.getTotals(key);
+				if (isExhausted(current)) {
+					logger.info("Stopping streaming run for client '{}' and tenant '{}': budget exhausted",
+							key.clientId(), key.tenant());
+					sink.error(new BudgetExceededException(key, current));
+					return;
+				}
+				AgentUsage usage = usageOf(response);
+				if (!usage.isEmpty()) {
+					this.ledger.record(key, usage);
+				}
+				sink.next(response);
+			});
+		});
+	}
+
+	/**
+	 * Get the totals of the current window for a tenant of this client.
+	 * @param tenant the tenant
+	 * @return the totals
+	 */
+	public SpendLedger.Totals getTotals(String tenant) {
+		return this.ledger.getTotals(key(tenant));
+	}
+
+	/**
+	 * Check whether the budget of a tenant of this client is exhausted.
+	 * @param tenant the tenant
+	 * @return true if further runs are rejected
+	 */
+	public boolean isExhausted(String tenant) {
+		return isExhausted(getTotals(tenant));
+	}
+
+	/**
+	 * Get the ledger holding the running totals.
+	 * @return the spend ledger
+	 */
+	public SpendLedger getLedger() {
+		return this.ledger;
+	}
+
+	private boolean isExhausted(SpendLedger.Totals totals) {
+		return (this.maxTokens != null && totals.totalTokens() >= this.maxTokens)
+				|| (this.maxCostUsd != null && totals.costUsd().compareTo(this.maxCostUsd) >= 0);
+	}
+
+	private String resolveTenant(AgentClientRequest request) {
+		String tenant = this.tenantResolver.apply(request);
+		return tenant != null ? tenant : DEFAULT_TENANT;
+	}
+
+	private SpendLedger.Key key(String tenant) {
+		return new SpendLedger.Key(this.clientId, tenant);
+	}
+
+	private static AgentUsage usageOf(AgentResponse response) {
+		if (response == null || response.getMetadata() == null) {
+			return AgentUsage.EMPTY;
+		}
+		return response.getMetadata().getUsage();
+	}
+
+	@Override
+	public String getName() {
+		return "Budget";
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Builder for BudgetAdvisor.
+	 */
+	public static final class Builder {
+
+		private SpendLedger ledger;
+
+		private Duration window;
+
+		private String clientId = "default";
+
+		private Long maxTokens;
+
+		private BigDecimal maxCostUsd;
+
+		private Function<AgentClientRequest, String> tenantResolver = request -> (String) request.context()
+			.get(TENANT_KEY);
+
+		private int order = Ordered.HIGHEST_PRECEDENCE + 50;
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the ledger to record spend in, for example to share totals between
+		 * clients. Takes precedence over {@link #window(Duration)}.
+		 * @param ledger the spend ledger
+		 * @return this builder
+		 */
+		public Builder ledger(SpendLedger ledger) {
+			this.ledger = ledger;
+			return this;
+		}
+
+		/**
+		 * Sets the window after which the totals start again from zero. Defaults to no
+		 * window.
+		 * @param window the window length
+		 * @return this builder
+		 */
+		public Builder window(Duration window) {
+			this.window = window;
+			return this;
+		}
+
+		/**
+		 * Sets the id of the client the spend is charged to (default: "default").
+		 * @param clientId the client id
+		 * @return this builder
+		 */
+		public Builder clientId(String clientId) {
+			this.clientId = clientId;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of tokens per client, tenant and window.
+		 * @param maxTokens the token budget
+		 * @return this builder
+		 */
+		public Builder maxTokens(long maxTokens) {
+			this.maxTokens = maxTokens;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum cost in US dollars per client, tenant and window.
+		 * @param maxCostUsd the cost budget
+		 * @return this builder
+		 */
+		public Builder maxCostUsd(BigDecimal maxCostUsd) {
+			this.maxCostUsd = maxCostUsd;
+			return this;
+		}
+
+		/**
+		 * Sets how the tenant is determined from a request. Defaults to the
+		 * {@link BudgetAdvisor#TENANT_KEY} request context entry, falling back to
+		 * {@link BudgetAdvisor#DEFAULT_TENANT}.
+		 * @param tenantResolver resolves the tenant of a request
+		 * @return this builder
+		 */
+		public Builder tenantResolver(Function<AgentClientRequest, String> tenantResolver) {
+			this.tenantResolver = tenantResolver;
+			return this;
+		}
+
+		/**
+		 * Sets the advisor execution order.
+		 * @param order Spring Ordered value (default: HIGHEST_PRECEDENCE + 50)
+		 * @return this builder
+		 */
+		public Builder order(int order) {
+			this.order = order;
+			return this;
+		}
+
+		/**
+		 * Builds the BudgetAdvisor.
+		 * @return a new BudgetAdvisor instance
+		 * @throws IllegalStateException if neither a token nor a cost budget is set
+		 */
+		public BudgetAdvisor build() {
+			if (this.maxTokens == null && this.maxCostUsd == null) {
+				throw new IllegalStateException("maxTokens or maxCostUsd must be set");
+			}
+			if (this.clientId == null || this.tenantResolver == null) {
+				throw new IllegalStateException("clientId and tenantResolver must not be null");
+			}
+			return new BudgetAdvisor(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.advisor.budget;
+
+/**
+ * Thrown when a run is rejected or stopped because the token or cost budget of its client
+ * and tenant is exhausted.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class BudgetExceededException extends RuntimeException {
+
+	private final SpendLedger.Key key;
+
+	private final SpendLedger.Totals totals;
+
+	/**
+	 * Create a new exception.
+	 * @param key the client and tenant whose budget is exhausted
+	 * @param totals the totals of the current window
+	 */
+	public BudgetExceededException(SpendLedger.Key key, SpendLedger.Totals totals) {
+		super("Budget exhausted for client '" + key.clientId() + "' and tenant '" + key.tenant() + "': "
+				+ totals.totalTokens() + " tokens, $" + totals.costUsd().toPlainString() + " since "
+				+ totals.windowStart());
+		this.key = key;
+		this.totals = totals;
+	}
+
+	/**
+	 * Get the client and tenant whose budget is exhausted.
+	 * @return the ledger key
+	 */
+	public SpendLedger.Key getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Get the totals at the time the run was rejected or stopped.
+	 * @return the totals
+	 */
+	public SpendLedger.Totals getTotals() {
+		return this.totals;
+	}
+
+}
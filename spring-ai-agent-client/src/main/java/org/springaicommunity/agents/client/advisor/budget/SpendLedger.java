@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.advisor.budget;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springaicommunity.agents.model.AgentUsage;
+
+/**
+ * Thread-safe running totals of agent spend per client and tenant.
+ *
+ * <p>
+ * Totals are kept per fixed time window aligned to the epoch, for example per hour or per
+ * day. When a new window starts the totals of a key start again from zero. A ledger
+ * without a window accumulates for its whole lifetime. A single ledger can be shared by
+ * the {@link BudgetAdvisor}s of several clients.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class SpendLedger {
+
+	private final Duration window;
+
+	private final Clock clock;
+
+	private final Map<Key, Totals> totals = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a ledger that accumulates without a time window.
+	 */
+	public SpendLedger() {
+		this(null);
+	}
+
+	/**
+	 * Create a ledger that resets its totals every window.
+	 * @param window the window length, or null to accumulate without a window
+	 */
+	public SpendLedger(Duration window) {
+		this(window, Clock.systemUTC());
+	}
+
+	/**
+	 * Create a ledger that resets its totals every window.
+	 * @param window the window length, or null to accumulate without a window
+	 * @param clock the clock used to determine the current window
+	 */
+	public SpendLedger(Duration window, Clock clock) {
+		if (window != null && (window.isZero() || window.isNegative())) {
+			throw new IllegalArgumentException("Window must be positive: " + window);
+		}
+		this.window = window;
+		this.clock = clock;
+	}
+
+	/**
+	 * Get the window length.
+	 * @return the window, or null if the ledger accumulates without a window
+	 */
+	public Duration getWindow() {
+		return this.window;
+	}
+
+	/**
+	 * Record the usage of a completed run.
+	 * @param key the client and tenant the run is charged to
+	 * @param usage the usage reported by the agent model
+	 * @return the totals of the current window including this run
+	 */
+	public Totals record(Key key, AgentUsage usage) {
+		Instant windowStart = currentWindowStart();
+		return this.totals.compute(key, (k, current) -> {
+			Totals base = (current != null && current.windowStart().equals(windowStart)) ? current
+					: Totals.empty(windowStart);
+			return base.add(usage);
+		});
+	}
+
+	/**
+	 * Get the totals of the current window.
+	 * @param key the client and tenant
+	 * @return the totals, empty if nothing was recorded in the current window
+	 */
+	public Totals getTotals(Key key) {
+		Instant windowStart = currentWindowStart();
+		Totals current = this.totals.get(key);
+		return (current != null && current.windowStart().equals(windowStart)) ? current : Totals.empty(windowStart);
+	}
+
+	/**
+	 * Get the totals of the current window of all keys with recorded spend.
+	 * @return totals by key, sorted by client and tenant
+	 */
+	public Map<Key, Totals> getTotals() {
+		Instant windowStart = currentWindowStart();
+		Map<Key, Totals> snapshot = new TreeMap<>();
+		this.totals.forEach((key, current) -> {
+			if (current.windowStart().equals(windowStart)) {
+				snapshot.put(key, current);
+			}
+		});
+		return snapshot;
+	}
+
+	/**
+	 * Discard the totals of a key.
+	 * @param key the client and tenant
+	 */
+	public void reset(Key key) {
+		this.totals.remove(key);
+	}
+
+	/**
+	 * Discard all totals.
+	 */
+	public void reset() {
+		this.totals.clear();
+	}
+
+	private Instant currentWindowStart() {
+		if (this.window == null) {
+			return Instant.EPOCH;
+		}
+		long now = this.clock.millis();
+		return Instant.ofEpochMilli(now - Math.floorMod(now, this.window.toMillis()));
+	}
+
+	/**
+	 * Identifies who a run is charged to.
+	 *
+	 * @param clientId the agent client the run was made with
+	 * @param tenant the tenant the run was made for
+	 */
+	public record Key(String clientId, String tenant) implements Comparable<Key> {
+
+		@Override
+		public int compareTo(Key other) {
+			int result = this.clientId.compareTo(other.clientId);
+			return result != 0 ? result : this.tenant.compareTo(other.tenant);
+		}
+
+	}
+
+	/**
+	 * Spend accumulated in one window.
+	 *
+	 * @param windowStart start of the window
+	 * @param runs number of recorded runs
+	 * @param inputTokens input tokens, including cache reads and writes
+	 * @param outputTokens output tokens
+	 * @param totalTokens total tokens
+	 * @param costUsd cost in US dollars of the runs that reported a cost
+	 */
+	public record Totals(Instant windowStart, long runs, long inputTokens, long outputTokens, long totalTokens,
+			BigDecimal costUsd) {
+
+		static Totals empty(Instant windowStart) {
+			return new Totals(windowStart, 0, 0, 0, 0, BigDecimal.ZERO);
+		}
+
+		Totals add(AgentUsage usage) {
+			AgentUsage u = usage != null ? usage : AgentUsage.EMPTY;
+			long input = u.inputTokens() + u.cacheCreationInputTokens() + u.cacheReadInputTokens();
+			return new Totals(this.windowStart, this.runs + 1, this.inputTokens + input,
+					this.outputTokens + u.outputTokens(), this.totalTokens + u.totalTokens(),
+					u.hasCost() ? this.costUsd.add(u.costUsd()) : this.costUsd);
+		}
+
+	}
+
+}
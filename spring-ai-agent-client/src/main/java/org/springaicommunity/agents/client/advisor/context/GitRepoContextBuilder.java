@@ -153,7 +153,11 @@ public class GitRepoContextBuilder {
 		}
 	}
 
-	private String generateVendirYml() {
+	/**
+	 * Generate the vendir configuration fetching the repositories.
+	 * @return the vendir.yml content
+	 */
+	String generateVendirYml() {
 		StringBuilder yml = new StringBuilder();
 		yml.append("apiVersion: vendir.k14s.io/v1alpha1\n");
 		yml.append("kind: Config\n");
@@ -19,9 +19,9 @@ package org.springaicommunity.agents.client.advisor.context;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,9 +29,10 @@ import org.springaicommunity.agents.client.AgentClientRequest;
 import org.springaicommunity.agents.client.AgentClientResponse;
 import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisor;
 import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisorChain;
+import org.springaicommunity.agents.process.ProcessRunResult;
+import org.springaicommunity.agents.process.ProcessRunner;
+import org.springaicommunity.agents.process.ProcessSpec;
 import org.springframework.core.Ordered;
-import org.zeroturnaround.exec.ProcessExecutor;
-import org.zeroturnaround.exec.ProcessResult;
 
 /**
  * Context engineering advisor that uses vendir to gather external reference materials
@@ -79,6 +80,8 @@ public class VendirContextAdvisor implements AgentCallAdvisor {
 
 	private final int order;
 
+	private final ProcessRunner processRunner = new ProcessRunner();
+
 	/**
 	 * Creates a VendirContextAdvisor with the specified configuration.
 	 * @param vendirConfigPath path to vendir.yml configuration file
@@ -166,14 +169,14 @@ public class VendirContextAdvisor implements AgentCallAdvisor {
 
 		logger.debug("Executing vendir command: {}", String.join(" ", command));
 
-		try {
-			ProcessResult result = new ProcessExecutor().command(command)
-				.timeout(this.timeoutSeconds, TimeUnit.SECONDS)
-				.readOutput(true)
-				.execute();
+		ProcessSpec spec = ProcessSpec.builder()
+			.command(command)
+			.timeout(Duration.ofSeconds(this.timeoutSeconds))
+			.build();
 
-			String output = result.outputUTF8();
-			int exitCode = result.getExitValue();
+		try (ProcessRunResult result = this.processRunner.run(spec)) {
+			String output = result.combinedOutput();
+			int exitCode = result.exitCode();
 			boolean success = exitCode == 0;
 
 			if (success) {
@@ -189,6 +192,9 @@ public class VendirContextAdvisor implements AgentCallAdvisor {
 
 		}
 		catch (Exception e) {
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
 			logger.error("Failed to execute vendir sync", e);
 			return new VendirSyncResult(false, e.getMessage(), "");
 		}
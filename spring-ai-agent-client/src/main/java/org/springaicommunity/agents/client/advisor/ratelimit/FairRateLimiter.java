@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.advisor.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket rate limiter with a concurrency cap and a first-in, first-out wait queue.
+ *
+ * <p>
+ * A caller is admitted when it is at the head of the queue, a run slot is free and the
+ * bucket holds a token. Only the head of the queue can be admitted, so callers start in
+ * arrival order and a steady stream of new callers cannot starve one that has been
+ * waiting. Callers give up after their maximum queue time and leave the queue.
+ * </p>
+ *
+ * <p>
+ * Every successful {@link #tryAcquire(Duration)} must be paired with a
+ * {@link #release()} once the run has finished.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class FairRateLimiter {
+
+	private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final RateLimits limits;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition changed = this.lock.newCondition();
+
+	private final ArrayDeque<Object> queue = new ArrayDeque<>();
+
+	private double tokens;
+
+	private long lastRefillNanos;
+
+	private int inFlight;
+
+	/**
+	 * Create a limiter. The bucket starts full.
+	 * @param limits the rate and concurrency limits
+	 */
+	public FairRateLimiter(RateLimits limits) {
+		this.limits = limits;
+		this.tokens = limits.burst();
+		this.lastRefillNanos = System.nanoTime();
+	}
+
+	/**
+	 * Get the limits enforced by this limiter.
+	 * @return the limits
+	 */
+	public RateLimits getLimits() {
+		return this.limits;
+	}
+
+	/**
+	 * Wait in line for a run slot.
+	 * @param maxWait maximum time to wait in the queue
+	 * @return true if admitted, false if the wait timed out
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public boolean tryAcquire(Duration maxWait) throws InterruptedException {
+		Object ticket = new Object();
+		long deadline = System.nanoTime() + maxWait.toNanos();
+		this.lock.lockInterruptibly();
+		try {
+			this.queue.addLast(ticket);
+			try {
+				while (true) {
+					long now = System.nanoTime();
+					refill(now);
+					long waitNanos = Long.MAX_VALUE;
+					if (this.queue.peekFirst() == ticket && hasFreeSlot()) {
+						if (!this.limits.isRateLimited() || this.tokens >= 1) {
+							if (this.limits.isRateLimited()) {
+								this.tokens -= 1;
+							}
+							this.inFlight++;
+							return true;
+						}
+						waitNanos = (long) Math.ceil((1 - this.tokens) * NANOS_PER_SECOND
+								/ this.limits.requestsPerSecond());
+					}
+					long remaining = deadline - now;
+					if (remaining <= 0) {
+						return false;
+					}
+					this.changed.awaitNanos(Math.min(remaining, Math.max(1, waitNanos)));
+				}
+			}
+			finally {
+				// Admitted, timed out or interrupted: leave the queue and let the next caller
+				// re-evaluate
+				this.queue.remove(ticket);
+				this.changed.signalAll();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Release the run slot of a caller admitted by {@link #tryAcquire(Duration)}.
+	 */
+	public void release() {
+		this.lock.lock();
+		try {
+			if (this.inFlight > 0) {
+				this.inFlight--;
+			}
+			this.changed.signalAll();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Get the number of callers waiting for a run slot.
+	 * @return the queue depth
+	 */
+	public int getQueueDepth() {
+		this.lock.lock();
+		try {
+			return this.queue.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Get the number of admitted runs that have not been released.
+	 * @return the runs in flight
+	 */
+	public int getInFlight() {
+		this.lock.lock();
+		try {
+			return this.inFlight;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private boolean hasFreeSlot() {
+		return !this.limits.isConcurrencyLimited() || this.inFlight < this.limits.maxConcurrent();
+	}
+
+	private void refill(long now) {
+		if (this.limits.isRateLimited()) {
+			double added = (now - this.lastRefillNanos) * this.limits.requestsPerSecond() / NANOS_PER_SECOND;
+			this.tokens = Math.min(this.limits.burst(), this.tokens + added);
+		}
+		this.lastRefillNanos = now;
+	}
+
+}
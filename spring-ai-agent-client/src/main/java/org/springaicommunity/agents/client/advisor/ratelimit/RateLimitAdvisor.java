@@ -0,0 +1,397 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.advisor.ratelimit;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.agents.client.AgentClientRequest;
+import org.springaicommunity.agents.client.AgentClientResponse;
+import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisor;
+import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisorChain;
+import org.springaicommunity.agents.client.advisor.budget.BudgetAdvisor;
+import org.springframework.core.Ordered;
+
+/**
+ * Advisor that limits the rate and concurrency of agent runs per provider/model and per
+ * tenant, queueing runs instead of letting the provider CLI fail with rate limit errors.
+ *
+ * <p>
+ * Each run first waits for its tenant's limits and then for the limits of the
+ * provider/model it runs against, each enforced by a {@link FairRateLimiter}: a token
+ * bucket for the start rate, a cap on runs in flight and a first-in, first-out queue.
+ * Configure the provider limits at the provider's sustainable rate so that a fan-out of
+ * hundreds of runs drains at that rate rather than failing in bursts and retrying. A run
+ * that is not admitted within the maximum queue time fails with a
+ * {@link RateLimitExceededException}; the time spent in the queue is added to the
+ * response context under {@link #WAIT_KEY}.
+ * </p>
+ *
+ * <p>
+ * With a {@link MeterRegistry}, queue depth and runs in flight are published as gauges
+ * {@code agent.ratelimit.queue.depth} and {@code agent.ratelimit.in.flight}, and queue
+ * time as the timer {@code agent.ratelimit.wait}, tagged with the scope and key.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * RateLimitAdvisor rateLimit = RateLimitAdvisor.builder()
+ *     .provider("claude")
+ *     .defaultModelLimits(new RateLimits(0.5, 5, 20))
+ *     .defaultTenantLimits(RateLimits.concurrency(4))
+ *     .maxQueueTime(Duration.ofMinutes(10))
+ *     .meterRegistry(meterRegistry)
+ *     .build();
+ *
+ * AgentClient client = AgentClient.builder(agentModel)
+ *     .defaultAdvisor(rateLimit)
+ *     .build();
+ * }</pre>
+ *
+ * <p>
+ * Share one advisor instance between the clients that use the same provider account so
+ * that they share its limits.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class RateLimitAdvisor implements AgentCallAdvisor {
+
+	private static final Logger logger = LoggerFactory.getLogger(RateLimitAdvisor.class);
+
+	/**
+	 * Scope of the per provider/model limits.
+	 */
+	public static final String MODEL_SCOPE = "model";
+
+	/**
+	 * Scope of the per tenant limits.
+	 */
+	public static final String TENANT_SCOPE = "tenant";
+
+	/**
+	 * Response context key holding the time the run waited for admission.
+	 */
+	public static final String WAIT_KEY = "ratelimit.wait";
+
+	private final Function<AgentClientRequest, String> modelKeyResolver;
+
+	private final Function<AgentClientRequest, String> tenantResolver;
+
+	private final RateLimits defaultModelLimits;
+
+	private final Map<String, RateLimits> modelLimits;
+
+	private final RateLimits defaultTenantLimits;
+
+	private final Map<String, RateLimits> tenantLimits;
+
+	private final Duration maxQueueTime;
+
+	private final RateLimitMetrics metrics;
+
+	private final int order;
+
+	private final Map<String, FairRateLimiter> modelLimiters = new ConcurrentHashMap<>();
+
+	private final Map<String, FairRateLimiter> tenantLimiters = new ConcurrentHashMap<>();
+
+	private RateLimitAdvisor(Builder builder) {
+		String provider = builder.provider;
+		this.modelKeyResolver = builder.modelKeyResolver != null ? builder.modelKeyResolver
+				: request -> provider + "/" + (request.options() != null && request.options().getModel() != null
+						? request.options().getModel() : "default");
+		this.tenantResolver = builder.tenantResolver;
+		this.defaultModelLimits = builder.defaultModelLimits;
+		this.modelLimits = Map.copyOf(builder.modelLimits);
+		this.defaultTenantLimits = builder.defaultTenantLimits;
+		this.tenantLimits = Map.copyOf(builder.tenantLimits);
+		this.maxQueueTime = builder.maxQueueTime;
+		this.metrics = builder.meterRegistry != null ? new RateLimitMetrics(builder.meterRegistry) : null;
+		this.order = builder.order;
+	}
+
+	/**
+	 * Creates a new builder for RateLimitAdvisor.
+	 * @return a new builder instance
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public AgentClientResponse adviseCall(AgentClientRequest request, AgentCallAdvisorChain chain) {
+		String resolvedTenant = this.tenantResolver.apply(request);
+		String tenant = resolvedTenant != null ? resolvedTenant : BudgetAdvisor.DEFAULT_TENANT;
+		String modelKey = this.modelKeyResolver.apply(request);
+		FairRateLimiter tenantLimiter = limiter(TENANT_SCOPE, tenant, this.tenantLimiters, this.tenantLimits,
+				this.defaultTenantLimits);
+		FairRateLimiter modelLimiter = limiter(MODEL_SCOPE, modelKey, this.modelLimiters, this.modelLimits,
+				this.defaultModelLimits);
+
+		long start = System.nanoTime();
+		long deadline = start + this.maxQueueTime.toNanos();
+		acquire(tenantLimiter, TENANT_SCOPE, tenant, start, deadline);
+		try {
+			acquire(modelLimiter, MODEL_SCOPE, modelKey, start, deadline);
+			try {
+				Duration waited = Duration.ofNanos(System.nanoTime() - start);
+				AgentClientResponse response = chain.nextCall(request);
+				response.context().put(WAIT_KEY, waited);
+				return response;
+			}
+			finally {
+				if (modelLimiter != null) {
+					modelLimiter.release();
+				}
+			}
+		}
+		finally {
+			if (tenantLimiter != null) {
+				tenantLimiter.release();
+			}
+		}
+	}
+
+	private void acquire(FairRateLimiter limiter, String scope, String key, long start, long deadline) {
+		if (limiter == null) {
+			return;
+		}
+		long waitStart = System.nanoTime();
+		boolean admitted = false;
+		try {
+			admitted = limiter.tryAcquire(Duration.ofNanos(Math.max(0, deadline - waitStart)));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new RateLimitExceededException(scope, key, Duration.ofNanos(System.nanoTime() - start), ex);
+		}
+		finally {
+			if (this.metrics != null) {
+				this.metrics.recordWait(scope, key, admitted, Duration.ofNanos(System.nanoTime() - waitStart));
+			}
+		}
+		if (!admitted) {
+			logger.warn("Run not admitted by {} limit '{}' within {} ms", scope, key, this.maxQueueTime.toMillis());
+			throw new RateLimitExceededException(scope, key, Duration.ofNanos(System.nanoTime() - start), null);
+		}
+	}
+
+	private FairRateLimiter limiter(String scope, String key, Map<String, FairRateLimiter> limiters,
+			Map<String, RateLimits> configured, RateLimits defaults) {
+		RateLimits limits = configured.getOrDefault(key, defaults);
+		if (limits == null || limits.isUnlimited()) {
+			return null;
+		}
+		return limiters.computeIfAbsent(key, k -> {
+			FairRateLimiter limiter = new FairRateLimiter(limits);
+			if (this.metrics != null) {
+				this.metrics.register(scope, k, limiter);
+			}
+			return limiter;
+		});
+	}
+
+	/**
+	 * Get the limiters created so far for provider/model keys.
+	 * @return limiters by provider/model key
+	 */
+	public Map<String, FairRateLimiter> getModelLimiters() {
+		return Collections.unmodifiableMap(this.modelLimiters);
+	}
+
+	/**
+	 * Get the limiters created so far for tenants.
+	 * @return limiters by tenant
+	 */
+	public Map<String, FairRateLimiter> getTenantLimiters() {
+		return Collections.unmodifiableMap(this.tenantLimiters);
+	}
+
+	@Override
+	public String getName() {
+		return "RateLimit";
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Builder for RateLimitAdvisor.
+	 */
+	public static final class Builder {
+
+		private String provider = "default";
+
+		private Function<AgentClientRequest, String> modelKeyResolver;
+
+		private Function<AgentClientRequest, String> tenantResolver = request -> {
+			Object tenant = request.context().get(BudgetAdvisor.TENANT_KEY);
+			return tenant != null ? tenant.toString() : BudgetAdvisor.DEFAULT_TENANT;
+		};
+
+		private RateLimits defaultModelLimits;
+
+		private final Map<String, RateLimits> modelLimits = new HashMap<>();
+
+		private RateLimits defaultTenantLimits;
+
+		private final Map<String, RateLimits> tenantLimits = new HashMap<>();
+
+		private Duration maxQueueTime = Duration.ofMinutes(5);
+
+		private MeterRegistry meterRegistry;
+
+		private int order = Ordered.HIGHEST_PRECEDENCE + 60;
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the provider name used in the default provider/model key, for example
+		 * "claude" (default: "default").
+		 * @param provider the provider name
+		 * @return this builder
+		 */
+		public Builder provider(String provider) {
+			this.provider = provider;
+			return this;
+		}
+
+		/**
+		 * Sets how the provider/model key is determined from a request. Defaults to the
+		 * provider name and the model of the request options, for example
+		 * "claude/claude-sonnet-4-5".
+		 * @param modelKeyResolver resolves the provider/model key of a request
+		 * @return this builder
+		 */
+		public Builder modelKeyResolver(Function<AgentClientRequest, String> modelKeyResolver) {
+			this.modelKeyResolver = modelKeyResolver;
+			return this;
+		}
+
+		/**
+		 * Sets how the tenant is determined from a request. Defaults to the
+		 * {@link BudgetAdvisor#TENANT_KEY} request context entry, falling back to
+		 * {@link BudgetAdvisor#DEFAULT_TENANT}.
+		 * @param tenantResolver resolves the tenant of a request
+		 * @return this builder
+		 */
+		public Builder tenantResolver(Function<AgentClientRequest, String> tenantResolver) {
+			this.tenantResolver = tenantResolver;
+			return this;
+		}
+
+		/**
+		 * Sets the limits applied to each provider/model key without explicit limits.
+		 * @param limits the limits
+		 * @return this builder
+		 */
+		public Builder defaultModelLimits(RateLimits limits) {
+			this.defaultModelLimits = limits;
+			return this;
+		}
+
+		/**
+		 * Sets the limits of a provider/model key.
+		 * @param modelKey the provider/model key, for example "claude/claude-sonnet-4-5"
+		 * @param limits the limits
+		 * @return this builder
+		 */
+		public Builder modelLimits(String modelKey, RateLimits limits) {
+			this.modelLimits.put(modelKey, limits);
+			return this;
+		}
+
+		/**
+		 * Sets the limits applied to each tenant without explicit limits.
+		 * @param limits the limits
+		 * @return this builder
+		 */
+		public Builder defaultTenantLimits(RateLimits limits) {
+			this.defaultTenantLimits = limits;
+			return this;
+		}
+
+		/**
+		 * Sets the limits of a tenant.
+		 * @param tenant the tenant
+		 * @param limits the limits
+		 * @return this builder
+		 */
+		public Builder tenantLimits(String tenant, RateLimits limits) {
+			this.tenantLimits.put(tenant, limits);
+			return this;
+		}
+
+		/**
+		 * Sets the maximum time a run waits for admission (default: 5 minutes).
+		 * @param maxQueueTime the maximum queue time
+		 * @return this builder
+		 */
+		public Builder maxQueueTime(Duration maxQueueTime) {
+			this.maxQueueTime = maxQueueTime;
+			return this;
+		}
+
+		/**
+		 * Sets the registry to publish queue depth and wait time metrics to.
+		 * @param meterRegistry the meter registry
+		 * @return this builder
+		 */
+		public Builder meterRegistry(MeterRegistry meterRegistry) {
+			this.meterRegistry = meterRegistry;
+			return this;
+		}
+
+		/**
+		 * Sets the advisor execution order.
+		 * @param order Spring Ordered value (default: HIGHEST_PRECEDENCE + 60)
+		 * @return this builder
+		 */
+		public Builder order(int order) {
+			this.order = order;
+			return this;
+		}
+
+		/**
+		 * Builds the RateLimitAdvisor.
+		 * @return a new RateLimitAdvisor instance
+		 * @throws IllegalStateException if the maximum queue time is negative
+		 */
+		public RateLimitAdvisor build() {
+			if (this.maxQueueTime == null || this.maxQueueTime.isNegative()) {
+				throw new IllegalStateException("maxQueueTime must not be negative");
+			}
+			return new RateLimitAdvisor(this);
+		}
+
+	}
+
+}
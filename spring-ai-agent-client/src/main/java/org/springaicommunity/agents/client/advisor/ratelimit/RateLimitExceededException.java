@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.advisor.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a run is not admitted by a {@link RateLimitAdvisor} within its maximum
+ * queue time, or when the waiting thread is interrupted.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+	private final String scope;
+
+	private final String key;
+
+	private final Duration waited;
+
+	/**
+	 * Create a new exception.
+	 * @param scope the limit scope, {@link RateLimitAdvisor#MODEL_SCOPE} or
+	 * {@link RateLimitAdvisor#TENANT_SCOPE}
+	 * @param key the provider/model key or tenant that was not admitted
+	 * @param waited how long the run waited in the queue
+	 * @param cause the interrupt, or null on timeout
+	 */
+	public RateLimitExceededException(String scope, String key, Duration waited, Throwable cause) {
+		super("Run not admitted by " + scope + " limit '" + key + "' after " + waited.toMillis() + " ms", cause);
+		this.scope = scope;
+		this.key = key;
+		this.waited = waited;
+	}
+
+	/**
+	 * Get the scope of the limit that rejected the run.
+	 * @return the limit scope
+	 */
+	public String getScope() {
+		return this.scope;
+	}
+
+	/**
+	 * Get the provider/model key or tenant that was not admitted.
+	 * @return the limit key
+	 */
+	public String getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Get how long the run waited in the queue.
+	 * @return the queue time
+	 */
+	public Duration getWaited() {
+		return this.waited;
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.advisor.ratelimit;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer meters of a {@link RateLimitAdvisor}. Kept separate so that the advisor does
+ * not require Micrometer on the classpath.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+final class RateLimitMetrics {
+
+	static final String QUEUE_DEPTH = "agent.ratelimit.queue.depth";
+
+	static final String IN_FLIGHT = "agent.ratelimit.in.flight";
+
+	static final String WAIT = "agent.ratelimit.wait";
+
+	private final MeterRegistry registry;
+
+	RateLimitMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	void register(String scope, String key, FairRateLimiter limiter) {
+		Gauge.builder(QUEUE_DEPTH, limiter, FairRateLimiter::getQueueDepth)
+			.description("Agent runs waiting for admission")
+			.tags("scope", scope, "key", key)
+			.register(this.registry);
+		Gauge.builder(IN_FLIGHT, limiter, FairRateLimiter::getInFlight)
+			.description("Agent runs admitted and not yet finished")
+			.tags("scope", scope, "key", key)
+			.register(this.registry);
+	}
+
+	void recordWait(String scope, String key, boolean admitted, Duration waited) {
+		Timer.builder(WAIT)
+			.description("Time agent runs waited for admission")
+			.tags("scope", scope, "key", key, "outcome", admitted ? "admitted" : "rejected")
+			.register(this.registry)
+			.record(waited);
+	}
+
+}
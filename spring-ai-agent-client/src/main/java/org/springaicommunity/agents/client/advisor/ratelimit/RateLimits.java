@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.advisor.ratelimit;
+
+/**
+ * Request rate and concurrency limits of a {@link FairRateLimiter}.
+ *
+ * <p>
+ * The rate is enforced with a token bucket that refills at {@code requestsPerSecond} and
+ * holds at most {@code burst} tokens. A rate of zero or less disables rate limiting, and a
+ * concurrency of zero or less disables the concurrency cap.
+ * </p>
+ *
+ * @param requestsPerSecond sustained rate at which runs are started
+ * @param burst number of runs that may start at once after an idle period
+ * @param maxConcurrent maximum number of runs in flight
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+public record RateLimits(double requestsPerSecond, int burst, int maxConcurrent) {
+
+	/**
+	 * Limits that admit every run immediately.
+	 */
+	public static final RateLimits UNLIMITED = new RateLimits(0, 0, 0);
+
+	public RateLimits {
+		burst = Math.max(1, burst);
+	}
+
+	/**
+	 * Limit the rate at which runs start.
+	 * @param requestsPerSecond sustained rate
+	 * @param burst runs that may start at once after an idle period
+	 * @return the limits
+	 */
+	public static RateLimits rate(double requestsPerSecond, int burst) {
+		return new RateLimits(requestsPerSecond, burst, 0);
+	}
+
+	/**
+	 * Limit the number of runs in flight.
+	 * @param maxConcurrent maximum number of runs in flight
+	 * @return the limits
+	 */
+	public static RateLimits concurrency(int maxConcurrent) {
+		return new RateLimits(0, 1, maxConcurrent);
+	}
+
+	/**
+	 * Return a copy of these limits with the given concurrency cap.
+	 * @param maxConcurrent maximum number of runs in flight
+	 * @return the limits
+	 */
+	public RateLimits withMaxConcurrent(int maxConcurrent) {
+		return new RateLimits(this.requestsPerSecond, this.burst, maxConcurrent);
+	}
+
+	/**
+	 * Check whether the rate is limited.
+	 * @return true if runs are admitted at a limited rate
+	 */
+	public boolean isRateLimited() {
+		return this.requestsPerSecond > 0;
+	}
+
+	/**
+	 * Check whether the concurrency is limited.
+	 * @return true if the number of runs in flight is capped
+	 */
+	public boolean isConcurrencyLimited() {
+		return this.maxConcurrent > 0;
+	}
+
+	/**
+	 * Check whether these limits admit every run immediately.
+	 * @return true if neither rate nor concurrency is limited
+	 */
+	public boolean isUnlimited() {
+		return !isRateLimited() && !isConcurrencyLimited();
+	}
+
+}
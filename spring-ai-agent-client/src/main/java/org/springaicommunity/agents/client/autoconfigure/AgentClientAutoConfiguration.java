@@ -15,8 +15,11 @@
  */
 package org.springaicommunity.agents.client.autoconfigure;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springaicommunity.agents.client.AgentClient;
+import org.springaicommunity.agents.client.observation.AgentClientObservationConvention;
 import org.springaicommunity.agents.model.AgentModel;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -37,6 +40,10 @@ import org.springframework.context.annotation.Scope;
  * typically provided by a model-specific autoconfiguration (e.g.,
  * ClaudeAgentAutoConfiguration).
  *
+ * <p>
+ * When an {@link ObservationRegistry} is available, clients built from the builder
+ * observe each run and each advisor invocation.
+ *
  * @author Spring AI Community
  * @since 0.1.0
  */
@@ -48,13 +55,18 @@ public class AgentClientAutoConfiguration {
 	/**
 	 * Creates an AgentClient.Builder with prototype scope.
 	 * @param agentModel the configured agent model
+	 * @param observationRegistry registry used to observe runs, if available
+	 * @param observationConvention custom convention for run observations
 	 * @return a new builder instance for each injection point
 	 */
 	@Bean
 	@Scope("prototype")
 	@ConditionalOnMissingBean
-	public AgentClient.Builder agentClientBuilder(AgentModel agentModel) {
-		return AgentClient.builder(agentModel);
+	public AgentClient.Builder agentClientBuilder(AgentModel agentModel,
+			ObjectProvider<ObservationRegistry> observationRegistry,
+			ObjectProvider<AgentClientObservationConvention> observationConvention) {
+		return AgentClient.builder(agentModel, observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP),
+				observationConvention.getIfAvailable());
 	}
 
 }
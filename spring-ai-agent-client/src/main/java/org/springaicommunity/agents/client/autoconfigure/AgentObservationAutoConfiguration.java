@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springaicommunity.agents.client.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springaicommunity.agents.model.observation.AgentModelPhaseObservationHandler;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Spring Boot auto-configuration for agent metrics.
+ *
+ * <p>
+ * Agent models, clients and advisors are observed through the application's
+ * {@code ObservationRegistry}, which records a duration timer per observation. This
+ * configuration adds the CLI spawn and time-to-first-output timers of agent model calls
+ * when Micrometer metrics are available. Spring Boot registers the handler with the
+ * observation registry.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+@AutoConfiguration(
+		afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnClass(MeterRegistry.class)
+public class AgentObservationAutoConfiguration {
+
+	/**
+	 * Creates the handler that records agent model phase timers.
+	 * @param meterRegistry the meter registry
+	 * @return the phase observation handler
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(MeterRegistry.class)
+	public AgentModelPhaseObservationHandler agentModelPhaseObservationHandler(MeterRegistry meterRegistry) {
+		return new AgentModelPhaseObservationHandler(meterRegistry);
+	}
+
+}
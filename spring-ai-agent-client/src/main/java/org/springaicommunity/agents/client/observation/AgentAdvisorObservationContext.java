@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.observation;
+
+import io.micrometer.observation.Observation;
+
+import org.springaicommunity.agents.client.AgentClientRequest;
+import org.springaicommunity.agents.client.AgentClientResponse;
+import org.springframework.util.Assert;
+
+/**
+ * Context used to observe a single agent call advisor. The observation covers the advisor
+ * and everything further down the chain, so nested advisor observations form a tree.
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public class AgentAdvisorObservationContext extends Observation.Context {
+
+	private final String advisorName;
+
+	private final int order;
+
+	private final AgentClientRequest request;
+
+	private AgentClientResponse response;
+
+	/**
+	 * Create a context for an advisor invocation.
+	 * @param advisorName the advisor name
+	 * @param order the advisor order
+	 * @param request the request passed to the advisor
+	 */
+	public AgentAdvisorObservationContext(String advisorName, int order, AgentClientRequest request) {
+		Assert.hasText(advisorName, "advisorName cannot be null or empty");
+		Assert.notNull(request, "request cannot be null");
+		this.advisorName = advisorName;
+		this.order = order;
+		this.request = request;
+	}
+
+	/**
+	 * Get the advisor name.
+	 * @return the advisor name
+	 */
+	public String getAdvisorName() {
+		return this.advisorName;
+	}
+
+	/**
+	 * Get the advisor order.
+	 * @return the advisor order
+	 */
+	public int getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Get the request passed to the advisor.
+	 * @return the request
+	 */
+	public AgentClientRequest getRequest() {
+		return this.request;
+	}
+
+	/**
+	 * Get the response returned by the advisor.
+	 * @return the response, or null
+	 */
+	public AgentClientResponse getResponse() {
+		return this.response;
+	}
+
+	/**
+	 * Set the response returned by the advisor.
+	 * @param response the response
+	 */
+	public void setResponse(AgentClientResponse response) {
+		this.response = response;
+	}
+
+}
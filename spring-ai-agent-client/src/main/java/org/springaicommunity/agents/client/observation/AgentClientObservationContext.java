@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.observation;
+
+import io.micrometer.observation.Observation;
+
+import org.springaicommunity.agents.client.AgentClientRequest;
+import org.springaicommunity.agents.client.AgentClientResponse;
+import org.springframework.util.Assert;
+
+/**
+ * Context used to observe a single {@code AgentClient} run, including all advisors.
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public class AgentClientObservationContext extends Observation.Context {
+
+	private final AgentClientRequest request;
+
+	private final String provider;
+
+	private AgentClientResponse response;
+
+	/**
+	 * Create a context for an agent client run.
+	 * @param request the client request
+	 * @param provider the provider of the underlying agent model
+	 */
+	public AgentClientObservationContext(AgentClientRequest request, String provider) {
+		Assert.notNull(request, "request cannot be null");
+		Assert.hasText(provider, "provider cannot be null or empty");
+		this.request = request;
+		this.provider = provider;
+	}
+
+	/**
+	 * Get the client request.
+	 * @return the client request
+	 */
+	public AgentClientRequest getRequest() {
+		return this.request;
+	}
+
+	/**
+	 * Get the provider of the underlying agent model.
+	 * @return the provider name
+	 */
+	public String getProvider() {
+		return this.provider;
+	}
+
+	/**
+	 * Get the response, once the run has completed.
+	 * @return the response, or null
+	 */
+	public AgentClientResponse getResponse() {
+		return this.response;
+	}
+
+	/**
+	 * Set the response of the run.
+	 * @param response the response
+	 */
+	public void setResponse(AgentClientResponse response) {
+		this.response = response;
+	}
+
+}
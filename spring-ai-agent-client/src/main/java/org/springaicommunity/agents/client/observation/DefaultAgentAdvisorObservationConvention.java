@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.observation;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springaicommunity.agents.client.AgentClientResponse;
+import org.springaicommunity.agents.client.observation.AgentAdvisorObservationDocumentation.LowCardinalityKeyNames;
+
+/**
+ * Default {@link AgentAdvisorObservationConvention}.
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public class DefaultAgentAdvisorObservationConvention implements AgentAdvisorObservationConvention {
+
+	/**
+	 * Name of the observation and of the resulting duration timer.
+	 */
+	public static final String DEFAULT_NAME = "agent.advisor";
+
+	@Override
+	public String getName() {
+		return DEFAULT_NAME;
+	}
+
+	@Override
+	public String getContextualName(AgentAdvisorObservationContext context) {
+		return "agent advisor " + context.getAdvisorName();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(AgentAdvisorObservationContext context) {
+		return KeyValues.of(advisorName(context), outcome(context));
+	}
+
+	protected KeyValue advisorName(AgentAdvisorObservationContext context) {
+		return KeyValue.of(LowCardinalityKeyNames.ADVISOR_NAME, context.getAdvisorName());
+	}
+
+	protected KeyValue outcome(AgentAdvisorObservationContext context) {
+		if (context.getError() != null) {
+			return KeyValue.of(LowCardinalityKeyNames.OUTCOME, "error");
+		}
+		AgentClientResponse response = context.getResponse();
+		if (response == null || response.agentResponse() == null) {
+			return KeyValue.of(LowCardinalityKeyNames.OUTCOME, KeyValue.NONE_VALUE);
+		}
+		return KeyValue.of(LowCardinalityKeyNames.OUTCOME, response.isSuccessful() ? "success" : "failure");
+	}
+
+}
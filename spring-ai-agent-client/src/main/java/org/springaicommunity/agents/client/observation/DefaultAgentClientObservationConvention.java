@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.observation;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springaicommunity.agents.client.AgentClientResponse;
+import org.springaicommunity.agents.client.observation.AgentClientObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.util.StringUtils;
+
+/**
+ * Default {@link AgentClientObservationConvention}.
+ *
+ * @author Mark Pollack
+ * @since 0.1.0
+ */
+public class DefaultAgentClientObservationConvention implements AgentClientObservationConvention {
+
+	/**
+	 * Name of the observation and of the resulting duration timer.
+	 */
+	public static final String DEFAULT_NAME = "agent.client.run";
+
+	@Override
+	public String getName() {
+		return DEFAULT_NAME;
+	}
+
+	@Override
+	public String getContextualName(AgentClientObservationContext context) {
+		return "agent client " + context.getProvider();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(AgentClientObservationContext context) {
+		return KeyValues.of(provider(context), model(context), outcome(context));
+	}
+
+	protected KeyValue provider(AgentClientObservationContext context) {
+		return KeyValue.of(LowCardinalityKeyNames.PROVIDER, context.getProvider());
+	}
+
+	protected KeyValue model(AgentClientObservationContext context) {
+		AgentClientResponse response = context.getResponse();
+		if (response != null && response.agentResponse() != null && response.getMetadata() != null
+				&& StringUtils.hasText(response.getMetadata().getModel())) {
+			return KeyValue.of(LowCardinalityKeyNames.MODEL, response.getMetadata().getModel());
+		}
+		if (context.getRequest().options() != null && StringUtils.hasText(context.getRequest().options().getModel())) {
+			return KeyValue.of(LowCardinalityKeyNames.MODEL, context.getRequest().options().getModel());
+		}
+		return KeyValue.of(LowCardinalityKeyNames.MODEL, KeyValue.NONE_VALUE);
+	}
+
+	protected KeyValue outcome(AgentClientObservationContext context) {
+		if (context.getError() != null) {
+			return KeyValue.of(LowCardinalityKeyNames.OUTCOME, "error");
+		}
+		AgentClientResponse response = context.getResponse();
+		if (response == null || response.agentResponse() == null) {
+			return KeyValue.of(LowCardinalityKeyNames.OUTCOME, KeyValue.NONE_VALUE);
+		}
+		return KeyValue.of(LowCardinalityKeyNames.OUTCOME, response.isSuccessful() ? "success" : "failure");
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.springaicommunity.agents.model.AgentGeneration;
+import org.springaicommunity.agents.model.AgentGenerationMetadata;
+import org.springaicommunity.agents.model.AgentModel;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for mapping agent output to entities with
+ * {@link AgentClient.AgentClientRequestSpec#entity(Class)}.
+ *
+ * @author Spring AI Community
+ */
+class AgentClientEntityTests {
+
+	record Review(String verdict, int score, List<String> risks) {
+	}
+
+	@Test
+	void passesSchemaToModelAndMapsFencedJson() {
+		AtomicReference<AgentTaskRequest> captured = new AtomicReference<>();
+		AgentModel model = request -> {
+			captured.set(request);
+			return response("SUCCESS", "I reviewed the change {see notes}.\n```json\n"
+					+ "{\"verdict\": \"approve\", \"score\": 8, \"risks\": [\"none\"]}\n```\nDone.");
+		};
+
+		Review review = AgentClient.create(model).goal("Review the pull request").entity(Review.class);
+
+		assertThat(review).isEqualTo(new Review("approve", 8, List.of("none")));
+		assertThat(captured.get().goal()).startsWith("Review the pull request").contains("JSON");
+		assertThat(captured.get().outputSchema()).containsKey("properties");
+	}
+
+	@Test
+	void mapsLastMatchingObjectInProse() {
+		AgentModel model = request -> response("SUCCESS",
+				"Checked {build} and the \"scripts\" in {\"name\": \"app\", \"version\": \"1.0.0\"}.\n"
+						+ "Draft: {\"verdict\": \"approve\", \"score\": 9, \"risks\": []}\n"
+						+ "Final: {\"verdict\": \"reject\", \"score\": 2, \"risks\": [\"flaky\"], \"unknown\": true} "
+						+ "trailing text");
+
+		Review review = AgentClient.create(model).goal("Review").entity(Review.class);
+
+		assertThat(review).isEqualTo(new Review("reject", 2, List.of("flaky")));
+	}
+
+	@Test
+	void ignoresJsonWithoutSchemaProperties() {
+		AgentModel model = request -> response("SUCCESS",
+				"The project has this package.json:\n{\"name\": \"app\", \"scripts\": {\"test\": \"jest\"}}");
+
+		assertThatThrownBy(() -> AgentClient.create(model).goal("Review").entity(Review.class))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining(Review.class.getName());
+	}
+
+	@Test
+	void failsWhenOutputHoldsNoJson() {
+		AgentModel model = request -> response("SUCCESS", "Looks good to me.");
+
+		assertThatThrownBy(() -> AgentClient.create(model).goal("Review").entity(Review.class))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining(Review.class.getName());
+	}
+
+	@Test
+	void failsWhenRunFails() {
+		AgentModel model = request -> response("ERROR", "CLI not found");
+
+		assertThatThrownBy(() -> AgentClient.create(model).goal("Review").entity(Review.class))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("CLI not found");
+	}
+
+	@Test
+	void runLeavesOutputSchemaUnset() {
+		MockAgentModel model = new MockAgentModel();
+
+		AgentClient.create(model).goal("Fix the bug").run();
+
+		assertThat(model.lastRequest.outputSchema()).isNull();
+		assertThat(model.lastRequest.goal()).isEqualTo("Fix the bug");
+	}
+
+	private static AgentResponse response(String finishReason, String text) {
+		AgentGenerationMetadata metadata = new AgentGenerationMetadata(finishReason, Map.of());
+		return new AgentResponse(List.of(new AgentGeneration(text, metadata)));
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client;
+
+import java.nio.file.Path;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.junit.jupiter.api.Test;
+
+import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisor;
+import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisorChain;
+import org.springaicommunity.agents.model.AgentModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link AgentClient} run and advisor observations.
+ *
+ * @author Mark Pollack
+ */
+class AgentClientObservationTests {
+
+	private final TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+
+	@Test
+	void runIsObservedWithProviderModelAndOutcome() {
+		AgentClient client = AgentClient.builder(new MockAgentModel(), this.observationRegistry, null).build();
+
+		client.goal("Fix the build").workingDirectory(Path.of(".")).run();
+
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+			.hasObservationWithNameEqualTo("agent.client.run")
+			.that()
+			.hasContextualNameEqualTo("agent client mock")
+			.hasLowCardinalityKeyValue("agent.provider", "mock")
+			.hasLowCardinalityKeyValue("agent.model", "mock-model")
+			.hasLowCardinalityKeyValue("agent.outcome", "success")
+			.hasBeenStarted()
+			.hasBeenStopped();
+	}
+
+	@Test
+	void eachAdvisorIsObserved() {
+		AgentClient client = AgentClient.builder(new MockAgentModel(), this.observationRegistry, null)
+			.defaultAdvisor(new PassThroughAdvisor())
+			.build();
+
+		client.goal("Fix the build").workingDirectory(Path.of(".")).run();
+
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+			.hasNumberOfObservationsWithNameEqualTo("agent.advisor", 2)
+			.hasAnObservationWithAKeyValue("agent.advisor.name", "PassThrough")
+			.hasAnObservationWithAKeyValue("agent.advisor.name",
+					"org.springaicommunity.agents.client.advisor.AgentModelCallAdvisor");
+	}
+
+	@Test
+	void mutatedClientKeepsObservationRegistry() {
+		AgentClient client = AgentClient.builder(new MockAgentModel(), this.observationRegistry, null)
+			.build()
+			.mutate()
+			.build();
+
+		client.goal("Fix the build").workingDirectory(Path.of(".")).run();
+
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+			.hasObservationWithNameEqualTo("agent.client.run");
+	}
+
+	@Test
+	void failedRunIsObservedAsError() {
+		AgentModel failingModel = request -> {
+			throw new IllegalStateException("CLI not found");
+		};
+		AgentClient client = AgentClient.builder(failingModel, this.observationRegistry, null).build();
+
+		assertThatThrownBy(() -> client.goal("Fix the build").workingDirectory(Path.of(".")).run())
+			.isInstanceOf(IllegalStateException.class);
+
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+			.hasObservationWithNameEqualTo("agent.client.run")
+			.that()
+			.hasLowCardinalityKeyValue("agent.provider", "custom")
+			.hasLowCardinalityKeyValue("agent.outcome", "error")
+			.hasError();
+	}
+
+	@Test
+	void providerNameIsDerivedFromModelType() {
+		assertThat(DefaultAgentClient.providerName(new MockAgentModel())).isEqualTo("mock");
+		assertThat(DefaultAgentClient.providerName(new AmazonQAgentModel())).isEqualTo("amazon-q");
+		assertThat(DefaultAgentClient.providerName(request -> null)).isEqualTo("custom");
+	}
+
+	private static class PassThroughAdvisor implements AgentCallAdvisor {
+
+		@Override
+		public AgentClientResponse adviseCall(AgentClientRequest request, AgentCallAdvisorChain chain) {
+			return chain.nextCall(request);
+		}
+
+		@Override
+		public String getName() {
+			return "PassThrough";
+		}
+
+		@Override
+		public int getOrder() {
+			return 0;
+		}
+
+	}
+
+	/**
+	 * Stand-in for a provider model, named like one.
+	 */
+	private static class AmazonQAgentModel extends MockAgentModel {
+
+	}
+
+}
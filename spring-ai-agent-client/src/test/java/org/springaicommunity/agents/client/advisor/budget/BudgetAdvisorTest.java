@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.advisor.budget;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springaicommunity.agents.client.AgentClientRequest;
+import org.springaicommunity.agents.client.AgentClientResponse;
+import org.springaicommunity.agents.client.Goal;
+import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisorChain;
+import org.springaicommunity.agents.model.AgentGeneration;
+import org.springaicommunity.agents.model.AgentGenerationMetadata;
+import org.springaicommunity.agents.model.AgentOptions;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentResponseMetadata;
+import org.springaicommunity.agents.model.AgentUsage;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link BudgetAdvisor} and {@link SpendLedger}.
+ *
+ * @author Spring AI Community
+ */
+class BudgetAdvisorTest {
+
+	@Test
+	@DisplayName("Builder requires a token or cost budget")
+	void testBuilderValidation() {
+		assertThatThrownBy(() -> BudgetAdvisor.builder().build()).isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("maxTokens or maxCostUsd must be set");
+	}
+
+	@Test
+	@DisplayName("Usage is recorded and exposed in the response context")
+	void testRecordsUsage() {
+		BudgetAdvisor advisor = BudgetAdvisor.builder().clientId("ci").maxTokens(10_000).build();
+		AgentCallAdvisorChain chain = chainReturning(new AgentUsage(100, 50, 10, 40, 0, new BigDecimal("0.25")));
+
+		AgentClientResponse response = advisor.adviseCall(request("acme"), chain);
+
+		assertThat(response.context()).containsEntry(BudgetAdvisor.TOKENS_KEY, 200L)
+			.containsEntry(BudgetAdvisor.COST_USD_KEY, new BigDecimal("0.25"));
+		SpendLedger.Totals totals = advisor.getTotals("acme");
+		assertThat(totals.runs()).isEqualTo(1);
+		assertThat(totals.inputTokens()).isEqualTo(150);
+		assertThat(totals.outputTokens()).isEqualTo(50);
+		assertThat(advisor.getLedger().getTotals()).containsOnlyKeys(new SpendLedger.Key("ci", "acme"));
+	}
+
+	@Test
+	@DisplayName("Runs are rejected once the token budget is exhausted")
+	void testRejectsWhenTokensExhausted() {
+		BudgetAdvisor advisor = BudgetAdvisor.builder().maxTokens(200).build();
+		AgentCallAdvisorChain chain = chainReturning(AgentUsage.of(150, 50));
+
+		advisor.adviseCall(request(null), chain);
+
+		assertThat(advisor.isExhausted(BudgetAdvisor.DEFAULT_TENANT)).isTrue();
+		assertThatThrownBy(() -> advisor.adviseCall(request(null), chain))
+			.isInstanceOf(BudgetExceededException.class)
+			.hasMessageContaining("tenant 'default'");
+		verify(chain, times(1)).nextCall(any());
+	}
+
+	@Test
+	@DisplayName("Cost budget applies per tenant")
+	void testCostBudgetPerTenant() {
+		BudgetAdvisor advisor = BudgetAdvisor.builder().maxCostUsd(new BigDecimal("1.00")).build();
+		AgentCallAdvisorChain chain = chainReturning(AgentUsage.of(10, 10).withCostUsd(new BigDecimal("1.00")));
+
+		advisor.adviseCall(request("acme"), chain);
+
+		assertThat(advisor.isExhausted("acme")).isTrue();
+		assertThat(advisor.isExhausted("globex")).isFalse();
+		assertThatThrownBy(() -> advisor.adviseCall(request("acme"), chain))
+			.isInstanceOf(BudgetExceededException.class);
+		advisor.adviseCall(request("globex"), chain);
+	}
+
+	@Test
+	@DisplayName("Totals start again in a new window")
+	void testWindowReset() {
+		MutableClock clock = new MutableClock(Instant.parse("2025-01-01T10:15:00Z"));
+		SpendLedger ledger = new SpendLedger(Duration.ofHours(1), clock);
+		BudgetAdvisor advisor = BudgetAdvisor.builder().ledger(ledger).maxTokens(100).build();
+		AgentCallAdvisorChain chain = chainReturning(AgentUsage.of(80, 20));
+
+		advisor.adviseCall(request(null), chain);
+		assertThat(advisor.isExhausted(BudgetAdvisor.DEFAULT_TENANT)).isTrue();
+		assertThat(advisor.getTotals(BudgetAdvisor.DEFAULT_TENANT).windowStart())
+			.isEqualTo(Instant.parse("2025-01-01T10:00:00Z"));
+
+		clock.instant = Instant.parse("2025-01-01T11:00:00Z");
+
+		assertThat(advisor.isExhausted(BudgetAdvisor.DEFAULT_TENANT)).isFalse();
+		assertThat(ledger.getTotals()).isEmpty();
+		advisor.adviseCall(request(null), chain);
+	}
+
+	@Test
+	@DisplayName("Streaming runs are rejected when the budget is already exhausted")
+	void testStreamRejectedWhenExhausted() {
+		BudgetAdvisor advisor = BudgetAdvisor.builder().maxTokens(100).build();
+		advisor.getLedger().record(new SpendLedger.Key("default", "acme"), AgentUsage.ofTotal(100));
+		List<AgentResponse> emitted = new ArrayList<>();
+
+		Flux<AgentResponse> stream = advisor.limit(Flux.just(response(AgentUsage.EMPTY)), "acme")
+			.doOnNext(emitted::add);
+
+		assertThatThrownBy(stream::blockLast).isInstanceOf(BudgetExceededException.class);
+		assertThat(emitted).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Streaming runs stop once the budget is exhausted")
+	void testStreamStopsWhenExhausted() {
+		BudgetAdvisor advisor = BudgetAdvisor.builder().maxTokens(100).build();
+		List<AgentResponse> emitted = new ArrayList<>();
+
+		Flux<AgentResponse> stream = advisor
+			.limit(Flux.just(response(AgentUsage.EMPTY), response(AgentUsage.ofTotal(100)), response(AgentUsage.EMPTY)),
+					"acme")
+			.doOnNext(emitted::add);
+
+		assertThatThrownBy(stream::blockLast).isInstanceOf(BudgetExceededException.class);
+		assertThat(emitted).hasSize(2);
+		assertThat(advisor.getTotals("acme").totalTokens()).isEqualTo(100);
+		assertThat(advisor.getTotals("acme").runs()).isEqualTo(1);
+	}
+
+	private static AgentClientRequest request(String tenant) {
+		Map<String, Object> context = new HashMap<>();
+		if (tenant != null) {
+			context.put(BudgetAdvisor.TENANT_KEY, tenant);
+		}
+		return new AgentClientRequest(new Goal("Test goal"), Path.of("."), mock(AgentOptions.class), context);
+	}
+
+	private static AgentResponse response(AgentUsage usage) {
+		AgentResponseMetadata metadata = AgentResponseMetadata.builder().model("test-model").usage(usage).build();
+		AgentGeneration generation = new AgentGeneration("done", new AgentGenerationMetadata("SUCCESS", Map.of()));
+		return new AgentResponse(List.of(generation), metadata);
+	}
+
+	private static AgentCallAdvisorChain chainReturning(AgentUsage usage) {
+		AgentCallAdvisorChain chain = mock(AgentCallAdvisorChain.class);
+		when(chain.nextCall(any())).thenAnswer(invocation -> new AgentClientResponse(response(usage)));
+		return chain;
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("UTC");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.client.advisor.ratelimit;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springaicommunity.agents.client.AgentClientRequest;
+import org.springaicommunity.agents.client.AgentClientResponse;
+import org.springaicommunity.agents.client.Goal;
+import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisorChain;
+import org.springaicommunity.agents.client.advisor.budget.BudgetAdvisor;
+import org.springaicommunity.agents.model.AgentGeneration;
+import org.springaicommunity.agents.model.AgentOptions;
+import org.springaicommunity.agents.model.AgentResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link RateLimitAdvisor} and {@link FairRateLimiter}.
+ *
+ * @author Spring AI Community
+ */
+class RateLimitAdvisorTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("Runs beyond the concurrency cap wait and then run")
+	void testConcurrencyCap() throws Exception {
+		RateLimitAdvisor advisor = RateLimitAdvisor.builder()
+			.provider("claude")
+			.defaultModelLimits(RateLimits.concurrency(2))
+			.build();
+		CountDownLatch finish = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AgentCallAdvisorChain chain = blockingChain(finish, running, maxRunning);
+
+		List<CompletableFuture<AgentClientResponse>> runs = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			runs.add(CompletableFuture.supplyAsync(() -> advisor.adviseCall(request("acme"), chain), this.executor));
+		}
+		awaitCondition(() -> advisor.getModelLimiters().containsKey("claude/default")
+				&& advisor.getModelLimiters().get("claude/default").getQueueDepth() == 2);
+		FairRateLimiter limiter = advisor.getModelLimiters().get("claude/default");
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+
+		finish.countDown();
+		for (CompletableFuture<AgentClientResponse> run : runs) {
+			assertThat(run.get(5, TimeUnit.SECONDS).context()).containsKey(RateLimitAdvisor.WAIT_KEY);
+		}
+		assertThat(maxRunning.get()).isEqualTo(2);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("Waiting callers are admitted in arrival order")
+	void testFifoOrder() throws Exception {
+		FairRateLimiter limiter = new FairRateLimiter(RateLimits.concurrency(1));
+		assertThat(limiter.tryAcquire(Duration.ZERO)).isTrue();
+
+		List<Integer> admitted = new ArrayList<>();
+		List<CompletableFuture<Void>> waiters = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			int id = i;
+			waiters.add(CompletableFuture.runAsync(() -> {
+				try {
+					if (limiter.tryAcquire(Duration.ofSeconds(5))) {
+						synchronized (admitted) {
+							admitted.add(id);
+						}
+						limiter.release();
+					}
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}, this.executor));
+			int depth = i + 1;
+			awaitCondition(() -> limiter.getQueueDepth() == depth);
+		}
+
+		limiter.release();
+		CompletableFuture.allOf(waiters.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+		assertThat(admitted).containsExactly(0, 1, 2);
+	}
+
+	@Test
+	@DisplayName("Runs not admitted within the queue time are rejected and recorded")
+	void testQueueTimeout() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		RateLimitAdvisor advisor = RateLimitAdvisor.builder()
+			.provider("codex")
+			.defaultModelLimits(RateLimits.concurrency(1))
+			.maxQueueTime(Duration.ofMillis(50))
+			.meterRegistry(meterRegistry)
+			.build();
+		CountDownLatch finish = new CountDownLatch(1);
+		AgentCallAdvisorChain chain = blockingChain(finish, new AtomicInteger(), new AtomicInteger());
+
+		CompletableFuture<AgentClientResponse> first = CompletableFuture
+			.supplyAsync(() -> advisor.adviseCall(request("acme"), chain), this.executor);
+		awaitCondition(() -> advisor.getModelLimiters().containsKey("codex/default")
+				&& advisor.getModelLimiters().get("codex/default").getInFlight() == 1);
+
+		assertThatThrownBy(() -> advisor.adviseCall(request("acme"), chain))
+			.isInstanceOfSatisfying(RateLimitExceededException.class, ex -> {
+				assertThat(ex.getScope()).isEqualTo(RateLimitAdvisor.MODEL_SCOPE);
+				assertThat(ex.getKey()).isEqualTo("codex/default");
+			});
+
+		finish.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		assertThat(meterRegistry.get(RateLimitMetrics.WAIT).tag("outcome", "rejected").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get(RateLimitMetrics.WAIT).tag("outcome", "admitted").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get(RateLimitMetrics.QUEUE_DEPTH).tag("key", "codex/default").gauge().value())
+			.isZero();
+	}
+
+	@Test
+	@DisplayName("Token bucket paces runs after the burst")
+	void testRateLimit() throws Exception {
+		FairRateLimiter limiter = new FairRateLimiter(RateLimits.rate(20, 1));
+
+		long start = System.nanoTime();
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire(Duration.ofSeconds(5))).isTrue();
+			limiter.release();
+		}
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(90));
+		assertThat(limiter.tryAcquire(Duration.ZERO)).isFalse();
+	}
+
+	@Test
+	@DisplayName("Tenant limits apply per tenant")
+	void testTenantLimits() throws Exception {
+		RateLimitAdvisor advisor = RateLimitAdvisor.builder()
+			.defaultTenantLimits(RateLimits.concurrency(1))
+			.maxQueueTime(Duration.ofMillis(50))
+			.build();
+		CountDownLatch finish = new CountDownLatch(1);
+		AgentCallAdvisorChain blocking = blockingChain(finish, new AtomicInteger(), new AtomicInteger());
+
+		CompletableFuture<AgentClientResponse> first = CompletableFuture
+			.supplyAsync(() -> advisor.adviseCall(request("acme"), blocking), this.executor);
+		awaitCondition(() -> advisor.getTenantLimiters().containsKey("acme")
+				&& advisor.getTenantLimiters().get("acme").getInFlight() == 1);
+
+		AgentCallAdvisorChain immediate = mock(AgentCallAdvisorChain.class);
+		when(immediate.nextCall(any())).thenAnswer(invocation -> response());
+		assertThat(advisor.adviseCall(request("globex"), immediate)).isNotNull();
+		assertThatThrownBy(() -> advisor.adviseCall(request("acme"), immediate))
+			.isInstanceOfSatisfying(RateLimitExceededException.class,
+					ex -> assertThat(ex.getScope()).isEqualTo(RateLimitAdvisor.TENANT_SCOPE));
+
+		finish.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		assertThat(advisor.getModelLimiters()).isEmpty();
+	}
+
+	private static AgentCallAdvisorChain blockingChain(CountDownLatch finish, AtomicInteger running,
+			AtomicInteger maxRunning) {
+		AgentCallAdvisorChain chain = mock(AgentCallAdvisorChain.class);
+		when(chain.nextCall(any())).thenAnswer(invocation -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				finish.await(5, TimeUnit.SECONDS);
+			}
+			finally {
+				running.decrementAndGet();
+			}
+			return response();
+		});
+		return chain;
+	}
+
+	private static AgentClientResponse response() {
+		return new AgentClientResponse(new AgentResponse(List.of(mock(AgentGeneration.class))));
+	}
+
+	private static AgentClientRequest request(String tenant) {
+		Map<String, Object> context = new HashMap<>();
+		context.put(BudgetAdvisor.TENANT_KEY, tenant);
+		return new AgentClientRequest(new Goal("Test goal"), Path.of("."), mock(AgentOptions.class), context);
+	}
+
+	private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("Condition not met within 5 seconds");
+			}
+			Thread.sleep(5);
+		}
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.claude;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springaicommunity.agents.fakecli.CliProtocol;
+import org.springaicommunity.agents.fakecli.FakeCliInstallation;
+import org.springaicommunity.agents.fakecli.FakeCliScenario;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+import org.springaicommunity.agents.model.observation.AgentModelObservationContext;
+import org.springaicommunity.claude.agent.sdk.ClaudeSyncClient;
+import org.springaicommunity.claude.agent.sdk.parsing.ParsedMessage;
+import org.springaicommunity.claude.agent.sdk.types.Message;
+
+/**
+ * JMH benchmark of {@link ClaudeAgentModel} response conversion: streamed messages to
+ * responses with {@code convertMessageToResponse} or to events with
+ * {@code convertMessageToEvents}, and a whole response collected with its metadata.
+ *
+ * <p>
+ * The messages are produced once, at setup, by the SDK parsing the stream-json output of
+ * the fake Claude CLI, so the benchmark works on the same message objects as a real run.
+ * </p>
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaudeResponseConversionBenchmark {
+
+	@Param({ "1", "64" })
+	public int chunks;
+
+	@Param({ "1024", "1048576" })
+	public int outputBytes;
+
+	private Path directory;
+
+	private ClaudeAgentModel model;
+
+	private AgentTaskRequest request;
+
+	private final List<ParsedMessage> parsedMessages = new ArrayList<>();
+
+	private final List<Message> messages = new ArrayList<>();
+
+	@Setup
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("claude-benchmark");
+		FakeCliInstallation claude = FakeCliInstallation.install(CliProtocol.CLAUDE, this.directory.resolve("cli"));
+		claude.scenario(FakeCliScenario.builder()
+			.responses("Done.")
+			.payloadBytes(this.outputBytes)
+			.chunks(this.chunks)
+			.build());
+		this.model = ClaudeAgentModel.builder()
+			.workingDirectory(this.directory)
+			.claudePath(claude.path().toString())
+			.build();
+		this.request = AgentTaskRequest.builder("Fix the bug", this.directory).build();
+		try (ClaudeSyncClient client = this.model.createClient(this.request)) {
+			client.connect(this.model.formatPrompt(this.request));
+			Iterator<ParsedMessage> response = client.receiveResponse();
+			while (response.hasNext()) {
+				ParsedMessage parsed = response.next();
+				this.parsedMessages.add(parsed);
+				if (parsed.isRegularMessage()) {
+					this.messages.add(parsed.asMessage());
+				}
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		try (var paths = Files.walk(this.directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach((path) -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Streaming path: every message converted on its own.
+	 */
+	@Benchmark
+	public void convertMessages(Blackhole blackhole) {
+		for (Message message : this.messages) {
+			blackhole.consume(this.model.convertMessageToResponse(message));
+		}
+	}
+
+	@Benchmark
+	public void convertMessagesToEvents(Blackhole blackhole) {
+		for (Message message : this.messages) {
+			this.model.convertMessageToEvents(message, blackhole::consume);
+		}
+	}
+
+	/**
+	 * Call path: the text of all messages joined and the metadata built from the result.
+	 */
+	@Benchmark
+	public AgentResponse collectResponse() {
+		return this.model.collectResponse(this.parsedMessages.iterator(), Instant.now(),
+				new AgentModelObservationContext(this.request, "claude"));
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.claude.annotation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springaicommunity.claude.agent.sdk.types.control.HookInput;
+import org.springaicommunity.claude.agent.sdk.types.control.HookOutput;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of hook dispatch cost by callback invocation strategy.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HookDispatchBenchmark {
+
+	private final HookInput input = new HookInput.PreToolUseInput("PreToolUse", "session", "/tmp/transcript", "/tmp",
+			"default", "Bash", "tool-use-1", Map.of("command", "ls"));
+
+	private final HookHandlers handlers = new HookHandlers();
+
+	private Method reflectiveMethod;
+
+	private HookMethodCallbacks.HookInvoker methodHandleInvoker;
+
+	private HookMethodCallbacks.HookInvoker lambdaInvoker;
+
+	@Setup
+	public void setUp() throws Exception {
+		this.reflectiveMethod = HookHandlers.class.getMethod("handle", HookInput.class);
+		Method privateMethod = HookHandlers.class.getDeclaredMethod("handlePrivately", HookInput.class);
+		this.methodHandleInvoker = HookMethodCallbacks.createInvoker(this.handlers, privateMethod, false);
+		this.lambdaInvoker = HookMethodCallbacks.createInvoker(this.handlers, this.reflectiveMethod, false);
+	}
+
+	@Benchmark
+	public Object invokeReflective() throws Exception {
+		return this.reflectiveMethod.invoke(this.handlers, this.input);
+	}
+
+	@Benchmark
+	public Object invokeMethodHandle() throws Throwable {
+		return this.methodHandleInvoker.invoke(this.input);
+	}
+
+	@Benchmark
+	public Object invokeLambdaMetafactory() throws Throwable {
+		return this.lambdaInvoker.invoke(this.input);
+	}
+
+	/**
+	 * Hook target with a public and a private handler.
+	 */
+	public static class HookHandlers {
+
+		public HookOutput handle(HookInput input) {
+			return HookOutput.allow();
+		}
+
+		private HookOutput handlePrivately(HookInput input) {
+			return HookOutput.allow();
+		}
+
+	}
+
+}
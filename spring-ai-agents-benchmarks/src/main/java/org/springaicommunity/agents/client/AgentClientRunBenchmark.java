@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.client;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisor;
+import org.springaicommunity.agents.client.advisor.api.AgentCallAdvisorChain;
+import org.springaicommunity.agents.model.AgentGeneration;
+import org.springaicommunity.agents.model.AgentModel;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.agents.model.AgentTaskRequest;
+
+/**
+ * JMH benchmark of the overhead {@link DefaultAgentClient#run} adds around the model
+ * call: request building, the advisor chain and the run observation. The model answers
+ * immediately, so everything measured beyond {@link #modelCall()} is client overhead.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AgentClientRunBenchmark {
+
+	@Param({ "0", "4", "16" })
+	public int advisorCount;
+
+	/**
+	 * Whether runs and advisors are observed by a registry with a handler, rather than
+	 * the no-op registry.
+	 */
+	@Param({ "false", "true" })
+	public boolean observed;
+
+	private final AgentResponse response = new AgentResponse(List.of(new AgentGeneration("Done.")));
+
+	private final AgentModel model = (request) -> this.response;
+
+	private final Path workingDirectory = Path.of(System.getProperty("java.io.tmpdir"));
+
+	private AgentClient client;
+
+	private AgentTaskRequest request;
+
+	@Setup
+	public void setUp() {
+		ObservationRegistry registry = ObservationRegistry.NOOP;
+		if (this.observed) {
+			registry = ObservationRegistry.create();
+			registry.observationConfig().observationHandler((context) -> true);
+		}
+		List<AgentCallAdvisor> advisors = new ArrayList<>();
+		for (int i = 0; i < this.advisorCount; i++) {
+			advisors.add(new PassThroughAdvisor("pass-through-" + i, i));
+		}
+		this.client = AgentClient.builder(this.model, registry, null).defaultAdvisors(advisors).build();
+		this.request = AgentTaskRequest.builder("Fix the bug", this.workingDirectory).build();
+	}
+
+	@Benchmark
+	public AgentClientResponse run() {
+		return this.client.goal("Fix the bug").workingDirectory(this.workingDirectory).run();
+	}
+
+	/**
+	 * Baseline: the model call without the client.
+	 */
+	@Benchmark
+	public AgentResponse modelCall() {
+		return this.model.call(this.request);
+	}
+
+	/**
+	 * Advisor that only delegates, to measure the cost of a chain link.
+	 */
+	private record PassThroughAdvisor(String name, int order) implements AgentCallAdvisor {
+
+		@Override
+		public AgentClientResponse adviseCall(AgentClientRequest request, AgentCallAdvisorChain chain) {
+			return chain.nextCall(request);
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public int getOrder() {
+			return this.order;
+		}
+
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.client.advisor.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of {@link GitRepoContextBuilder#generateVendirYml()} for growing numbers
+ * of repositories.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VendirYmlBenchmark {
+
+	@Param({ "1", "16", "128" })
+	public int repositoryCount;
+
+	private GitRepoContextBuilder builder;
+
+	@Setup
+	public void setUp() {
+		GitRepo[] repos = new GitRepo[this.repositoryCount];
+		for (int i = 0; i < repos.length; i++) {
+			GitRepo repo = GitRepo.from("https://github.com/spring-ai-community/repo-" + i + ".git")
+				.ref("v1." + i)
+				.depth(1)
+				.as("repo-" + i);
+			repos[i] = (i % 2 == 0) ? repo.subdirectory("src/main/java") : repo;
+		}
+		this.builder = GitRepoContextBuilder.repos(repos);
+	}
+
+	@Benchmark
+	public String generateVendirYml() {
+		return this.builder.generateVendirYml();
+	}
+
+}
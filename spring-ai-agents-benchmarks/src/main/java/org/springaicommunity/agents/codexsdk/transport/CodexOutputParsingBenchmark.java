@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.codexsdk.transport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springaicommunity.agents.codexsdk.types.ExecuteOptions;
+import org.springaicommunity.agents.codexsdk.types.ExecuteResult;
+import org.springaicommunity.agents.fakecli.CliProtocol;
+import org.springaicommunity.agents.fakecli.FakeCliInstallation;
+import org.springaicommunity.agents.fakecli.FakeCliScenario;
+
+/**
+ * JMH benchmark of Codex output handling: the parsing done by
+ * {@code CLITransport.executeCommand} on activity logs of growing size, and the whole
+ * command against the fake Codex CLI.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodexOutputParsingBenchmark {
+
+	private static final String SESSION_ID = "0199b2f0-e92a-76b3-88fa-a0fa925ad545";
+
+	@Param({ "1024", "1048576" })
+	public int outputBytes;
+
+	private String finalMessage;
+
+	private String activityLog;
+
+	private String singleStreamLog;
+
+	private Path directory;
+
+	private CLITransport transport;
+
+	private ExecuteOptions options;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.finalMessage = "Done.\n" + ("x".repeat(79) + "\n").repeat(Math.max(1, this.outputBytes / 80));
+		String header = "OpenAI Codex v0.46.0 (research preview)\n--------\nworkdir: /tmp\nmodel: gpt-5-codex\n"
+				+ "session id: " + SESSION_ID + "\n--------\nuser\nfix the bug\n\n";
+		this.activityLog = header + "codex\n" + this.finalMessage + "tokens used: 12,345\n";
+		this.singleStreamLog = header + "tokens used: 12,345\n" + this.finalMessage;
+
+		this.directory = Files.createTempDirectory("codex-benchmark");
+		FakeCliInstallation codex = FakeCliInstallation.install(CliProtocol.CODEX, this.directory.resolve("cli"));
+		codex.scenario(FakeCliScenario.builder()
+			.responses("Done.")
+			.payloadBytes(this.outputBytes)
+			.sessionId(SESSION_ID)
+			.build());
+		this.transport = new CLITransport(this.directory, codex.path().toString());
+		this.options = ExecuteOptions.builder().skipGitCheck(true).timeout(Duration.ofMinutes(1)).build();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		try (var paths = Files.walk(this.directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach((path) -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * The result parsing of a run whose final message arrived on stdout.
+	 */
+	@Benchmark
+	public ExecuteResult parseResult() {
+		return new ExecuteResult(this.finalMessage, this.activityLog, 0, Duration.ZERO,
+				CLITransport.extractModel(this.activityLog));
+	}
+
+	/**
+	 * The fallback for CLI versions that print the final message into the activity log,
+	 * after the last marker line.
+	 */
+	@Benchmark
+	public String extractFinalMessageFromActivityLog() {
+		return CLITransport.extractFinalMessage(this.singleStreamLog);
+	}
+
+	/**
+	 * A whole run against the fake CLI, dominated by process start-up.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 3)
+	@Measurement(iterations = 10)
+	public ExecuteResult executeWithFakeCli() {
+		return this.transport.execute("fix the bug", this.options);
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springaicommunity.agents.judge.agent;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springaicommunity.agents.client.AgentClient;
+import org.springaicommunity.agents.model.AgentGeneration;
+import org.springaicommunity.agents.model.AgentResponse;
+import org.springaicommunity.judge.context.ExecutionStatus;
+import org.springaicommunity.judge.context.JudgmentContext;
+import org.springaicommunity.judge.result.Judgment;
+
+/**
+ * JMH benchmark of {@link AgentJudge} verdict extraction: the PASS, SCORE and REASONING
+ * patterns run over the judging agent's output, which can be as large as the output it
+ * judged.
+ *
+ * @author Spring AI Community
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AgentJudgeExtractionBenchmark {
+
+	@Param({ "1024", "1048576" })
+	public int outputBytes;
+
+	/**
+	 * Whether the verdict follows the agent's notes, so the patterns scan the whole output
+	 * before matching, or precedes them.
+	 */
+	@Param({ "true", "false" })
+	public boolean verdictLast;
+
+	private AgentJudge judge;
+
+	private JudgmentContext context;
+
+	@Setup
+	public void setUp() {
+		String notes = "Reviewed the change line by line.\n".repeat(Math.max(1, this.outputBytes / 34));
+		String verdict = "PASS: true\nSCORE: 8.5\nREASONING: The change is complete and tested.\n";
+		String output = this.verdictLast ? notes + verdict : verdict + notes;
+		AgentClient client = AgentClient
+			.create((request) -> new AgentResponse(List.of(new AgentGeneration(output))));
+		this.judge = AgentJudge.builder().agentClient(client).criteria("The bug is fixed").build();
+		this.context = JudgmentContext.builder()
+			.goal("Fix the bug")
+			.workspace(Path.of(System.getProperty("java.io.tmpdir")))
+			.agentOutput(notes)
+			.executionTime(Duration.ofSeconds(1))
+			.startedAt(Instant.now())
+			.status(ExecutionStatus.SUCCESS)
+			.build();
+	}
+
+	@Benchmark
+	public Judgment judge() {
+		return this.judge.judge(this.context);
+	}
+
+}
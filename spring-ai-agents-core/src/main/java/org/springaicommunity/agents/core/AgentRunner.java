@@ -53,6 +53,22 @@ public interface AgentRunner {
 		return SetupContext.empty();
 	}
 
+	/**
+	 * Key identifying the result of {@link #setup(LauncherSpec)} for caching.
+	 *
+	 * <p>
+	 * Runners whose setup is a pure function of a few inputs and a source commit can
+	 * return a key so that a {@link SetupCache} restores the prepared workspace instead of
+	 * repeating the setup. The key should only include inputs that affect the setup
+	 * phase.
+	 * @param spec launcher specification
+	 * @return cache key, or null if setup must always run (default)
+	 * @throws Exception if the key cannot be computed (setup then runs uncached)
+	 */
+	default SetupCacheKey setupCacheKey(LauncherSpec spec) throws Exception {
+		return null;
+	}
+
 	/**
 	 * Execute phase: AI agent performs task (AUTONOMOUS EXECUTION).
 	 *
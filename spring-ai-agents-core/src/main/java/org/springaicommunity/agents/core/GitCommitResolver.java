@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves Git refs (branches, tags) to commit SHAs without cloning, using
+ * {@code git ls-remote}. Used to key setup caches on the exact commit a ref points to.
+ *
+ * @author Mark Pollack
+ * @since 1.1.0
+ */
+public final class GitCommitResolver {
+
+	private static final Logger log = LoggerFactory.getLogger(GitCommitResolver.class);
+
+	private static final Pattern FULL_SHA = Pattern.compile("^[0-9a-f]{40}$");
+
+	private static final long TIMEOUT_SECONDS = 30;
+
+	private GitCommitResolver() {
+		// Utility class - prevent instantiation
+	}
+
+	/**
+	 * Resolve a ref of a remote repository to its commit SHA.
+	 * @param gitUrl repository URL
+	 * @param gitRef branch, tag or full commit SHA
+	 * @return 40-character commit SHA
+	 * @throws IOException if {@code git ls-remote} fails or the ref does not exist
+	 */
+	public static String resolve(String gitUrl, String gitRef) throws IOException {
+		if (FULL_SHA.matcher(gitRef).matches()) {
+			return gitRef;
+		}
+
+		Process process = new ProcessBuilder("git", "ls-remote", gitUrl, gitRef, gitRef + "^{}")
+			.redirectErrorStream(true)
+			.start();
+		String output;
+		try (InputStream in = process.getInputStream()) {
+			output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+			if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				process.destroyForcibly();
+				throw new IOException("git ls-remote timed out for " + gitUrl);
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			process.destroyForcibly();
+			throw new IOException("Interrupted while resolving " + gitRef + " in " + gitUrl, e);
+		}
+
+		if (process.exitValue() != 0) {
+			throw new IOException("git ls-remote failed for " + gitUrl + ": " + output.trim());
+		}
+
+		// Prefer the peeled entry of an annotated tag, which points at the commit itself
+		String resolved = null;
+		for (String line : output.split("\n")) {
+			String[] parts = line.trim().split("\\s+");
+			if (parts.length != 2 || !FULL_SHA.matcher(parts[0]).matches()) {
+				continue;
+			}
+			if (parts[1].endsWith("^{}")) {
+				resolved = parts[0];
+				break;
+			}
+			if (resolved == null) {
+				resolved = parts[0];
+			}
+		}
+
+		if (resolved == null) {
+			throw new IOException("Ref not found: " + gitRef + " in " + gitUrl);
+		}
+		log.info("Resolved {}@{} to commit {}", gitUrl, gitRef, resolved);
+		return resolved;
+	}
+
+}
@@ -35,13 +35,28 @@ public class Launcher {
 
 	private final Map<String, AgentRunner> agents;
 
+	private final SetupCache setupCache;
+
 	/**
 	 * Constructor for dependency injection.
 	 * @param agents map of agent ID to runner implementations
 	 */
 	public Launcher(Map<String, AgentRunner> agents) {
+		this(agents, null);
+	}
+
+	/**
+	 * Constructor for dependency injection with a setup cache.
+	 * @param agents map of agent ID to runner implementations
+	 * @param setupCache cache for the setup phase, or null to always run setup
+	 */
+	public Launcher(Map<String, AgentRunner> agents, SetupCache setupCache) {
 		this.agents = agents != null ? agents : Map.of();
+		this.setupCache = setupCache;
 		log.info("Launcher initialized with {} agents: {}", this.agents.size(), this.agents.keySet());
+		if (setupCache != null) {
+			log.info("Setup cache enabled at {}", setupCache.getCacheRoot());
+		}
 	}
 
 	/**
@@ -49,6 +64,7 @@ public class Launcher {
 	 */
 	private Launcher() {
 		this.agents = Map.of();
+		this.setupCache = null;
 		log.warn("Launcher created with no agents - using static methods");
 	}
 
@@ -61,7 +77,7 @@ public class Launcher {
 		// Temporary static method for backward compatibility
 		// TODO: Remove when proper Spring DI is in place
 		Map<String, AgentRunner> tempAgents = createTempAgentRegistry(spec.agentSpec().id());
-		return new Launcher(tempAgents).executeInternal(spec);
+		return new Launcher(tempAgents, SetupCache.fromEnvironment()).executeInternal(spec);
 	}
 
 	/**
@@ -136,7 +152,7 @@ public class Launcher {
 
 			// Phase 1: Setup (deterministic)
 			log.info("=== SETUP PHASE ===");
-			SetupContext setup = executor.setup(spec);
+			SetupContext setup = (setupCache != null) ? setupCache.setup(executor, spec) : executor.setup(spec);
 
 			if (!setup.isSuccessful()) {
 				// FAIL FAST - don't continue to execute phase
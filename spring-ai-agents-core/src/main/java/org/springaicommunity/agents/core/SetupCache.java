@@ -0,0 +1,511 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * File-system cache around {@link AgentRunner#setup(LauncherSpec)}. The first launch for
+ * a {@link SetupCacheKey} runs the real setup and stores the resulting
+ * {@link SetupContext} metadata together with a snapshot of the prepared workspace.
+ * Later launches with the same key restore the snapshot into their own working directory
+ * and skip the setup phase entirely.
+ *
+ * <p>
+ * Runners opt in by returning a key from {@link AgentRunner#setupCacheKey(LauncherSpec)}.
+ * Failed setups are never cached. Metadata values must be strings, numbers, booleans,
+ * enums, paths, records of those, or lists and maps of those; contexts with other values
+ * are returned normally but not stored.
+ *
+ * <p>
+ * Layout: {@code <root>/<agentId>/<key digest>/context.yaml} and
+ * {@code <root>/<agentId>/<key digest>/workspace/}. Entries are published with an atomic
+ * rename, so concurrent launches never observe a half-written snapshot.
+ *
+ * @author Mark Pollack
+ * @since 1.1.0
+ */
+public class SetupCache {
+
+	private static final Logger log = LoggerFactory.getLogger(SetupCache.class);
+
+	/**
+	 * Environment variable naming the cache root directory. When unset, the launcher runs
+	 * without a setup cache.
+	 */
+	public static final String ENV_SETUP_CACHE = "SPRING_AI_SETUP_CACHE";
+
+	/**
+	 * Metadata key added to every context returned by this cache: {@code true} when the
+	 * context was restored from a snapshot, {@code false} when setup actually ran.
+	 */
+	public static final String CACHE_HIT_METADATA = "setup_cache_hit";
+
+	private static final String CONTEXT_FILE = "context.yaml";
+
+	private static final String WORKSPACE_DIR = "workspace";
+
+	private static final String TYPE_KEY = "@type";
+
+	private static final String VALUE_KEY = "@value";
+
+	/**
+	 * How a snapshot is materialized into a run's working directory.
+	 */
+	public enum RestoreMode {
+
+		/**
+		 * Full copy preserving timestamps, so incremental builds see the restored
+		 * outputs as up to date. Safe for any agent.
+		 */
+		COPY,
+
+		/**
+		 * Hard-link every regular file to the snapshot. Near-zero cost, but only safe
+		 * when the agent replaces files rather than rewriting them in place, since an
+		 * in-place write would also modify the snapshot.
+		 */
+		HARD_LINK
+
+	}
+
+	private final Path cacheRoot;
+
+	private final RestoreMode restoreMode;
+
+	/**
+	 * Create a cache rooted at the given directory using {@link RestoreMode#COPY}.
+	 * @param cacheRoot cache root directory (created on demand)
+	 */
+	public SetupCache(Path cacheRoot) {
+		this(cacheRoot, RestoreMode.COPY);
+	}
+
+	/**
+	 * Create a cache rooted at the given directory.
+	 * @param cacheRoot cache root directory (created on demand)
+	 * @param restoreMode how snapshots are restored into working directories
+	 */
+	public SetupCache(Path cacheRoot, RestoreMode restoreMode) {
+		if (cacheRoot == null) {
+			throw new IllegalArgumentException("cacheRoot must not be null");
+		}
+		this.cacheRoot = cacheRoot.toAbsolutePath().normalize();
+		this.restoreMode = restoreMode != null ? restoreMode : RestoreMode.COPY;
+	}
+
+	/**
+	 * Create a cache from the {@value #ENV_SETUP_CACHE} environment variable.
+	 * @return configured cache, or null if the variable is not set
+	 */
+	public static SetupCache fromEnvironment() {
+		String root = System.getenv(ENV_SETUP_CACHE);
+		if (root == null || root.isBlank()) {
+			return null;
+		}
+		return new SetupCache(Path.of(root));
+	}
+
+	/**
+	 * Get the cache root directory.
+	 * @return absolute cache root
+	 */
+	public Path getCacheRoot() {
+		return this.cacheRoot;
+	}
+
+	/**
+	 * Run the setup phase of the given runner, restoring a cached snapshot when one exists
+	 * for the runner's cache key.
+	 * @param runner agent runner
+	 * @param spec launcher specification
+	 * @return setup context, either restored or freshly computed
+	 * @throws Exception if the runner's setup throws
+	 */
+	public SetupContext setup(AgentRunner runner, LauncherSpec spec) throws Exception {
+		SetupCacheKey key;
+		try {
+			key = runner.setupCacheKey(spec);
+		}
+		catch (Exception e) {
+			log.warn("Could not compute setup cache key, running setup uncached: {}", e.getMessage());
+			key = null;
+		}
+		if (key == null) {
+			return runner.setup(spec);
+		}
+
+		Path entry = entryDirectory(key);
+		SetupContext restored = restore(entry, spec);
+		if (restored != null) {
+			log.info("Setup cache hit for {} at commit {}", key.agentId(), key.commitSha());
+			return restored;
+		}
+
+		log.info("Setup cache miss for {} at commit {}, running setup", key.agentId(), key.commitSha());
+		SetupContext context = runner.setup(spec);
+		if (context.isSuccessful()) {
+			store(key, entry, context, spec);
+		}
+		return withCacheHit(context, false);
+	}
+
+	/**
+	 * Remove the cached entry for a key, if present.
+	 * @param key setup cache key
+	 * @throws IOException if the entry cannot be deleted
+	 */
+	public void invalidate(SetupCacheKey key) throws IOException {
+		deleteRecursively(entryDirectory(key));
+	}
+
+	/**
+	 * Check whether an entry exists for a key.
+	 * @param key setup cache key
+	 * @return true if a snapshot is stored for the key
+	 */
+	public boolean contains(SetupCacheKey key) {
+		return Files.isRegularFile(entryDirectory(key).resolve(CONTEXT_FILE));
+	}
+
+	private Path entryDirectory(SetupCacheKey key) {
+		return this.cacheRoot.resolve(key.agentId()).resolve(key.digest());
+	}
+
+	private SetupContext restore(Path entry, LauncherSpec spec) {
+		Path contextFile = entry.resolve(CONTEXT_FILE);
+		if (!Files.isRegularFile(contextFile)) {
+			return null;
+		}
+
+		Path target = null;
+		try {
+			Map<String, Object> stored = readYaml(contextFile);
+			SetupContext.Builder builder = SetupContext.builder().successful(true);
+
+			Object workspace = stored.get("workspace");
+			if (workspace != null) {
+				Path candidate = spec.cwd().resolve(workspace.toString()).toAbsolutePath().normalize();
+				if (Files.exists(candidate)) {
+					log.warn("Cannot restore setup snapshot, workspace already exists: {}", candidate);
+					return null;
+				}
+				target = candidate;
+				long start = System.nanoTime();
+				copyTree(entry.resolve(WORKSPACE_DIR), target, this.restoreMode);
+				log.info("Restored workspace snapshot to {} in {} ms ({})", target,
+						(System.nanoTime() - start) / 1_000_000, this.restoreMode);
+				builder.workspace(target);
+			}
+
+			Object metadata = stored.get("metadata");
+			if (metadata instanceof Map<?, ?> map) {
+				for (Map.Entry<?, ?> e : map.entrySet()) {
+					builder.metadata(String.valueOf(e.getKey()), decode(e.getValue()));
+				}
+			}
+			builder.metadata(CACHE_HIT_METADATA, true);
+			return builder.build();
+		}
+		catch (Exception e) {
+			log.warn("Failed to restore setup snapshot from {}, running setup: {}", entry, e.getMessage());
+			if (target != null) {
+				try {
+					deleteRecursively(target);
+				}
+				catch (IOException cleanup) {
+					log.debug("Failed to remove partially restored workspace {}", target, cleanup);
+				}
+			}
+			return null;
+		}
+	}
+
+	private void store(SetupCacheKey key, Path entry, SetupContext context, LauncherSpec spec) {
+		Map<String, Object> stored = new LinkedHashMap<>();
+		stored.put("agentId", key.agentId());
+		stored.put("commitSha", key.commitSha());
+		stored.put("inputs", new LinkedHashMap<>(key.inputs()));
+
+		Path workspace = context.getWorkspace();
+		Path cwd = spec.cwd().toAbsolutePath().normalize();
+		if (workspace != null) {
+			Path absolute = workspace.toAbsolutePath().normalize();
+			if (!absolute.startsWith(cwd)) {
+				log.info("Workspace {} is outside {}, setup result not cached", absolute, cwd);
+				return;
+			}
+			stored.put("workspace", cwd.relativize(absolute).toString());
+		}
+
+		Map<String, Object> metadata = new LinkedHashMap<>();
+		try {
+			for (Map.Entry<String, Object> e : context.metadata().entrySet()) {
+				metadata.put(e.getKey(), encode(e.getValue()));
+			}
+		}
+		catch (IllegalArgumentException e) {
+			log.info("Setup metadata is not cacheable, setup result not cached: {}", e.getMessage());
+			return;
+		}
+		stored.put("metadata", metadata);
+
+		Path staging = entry.resolveSibling(entry.getFileName() + ".tmp-" + UUID.randomUUID());
+		try {
+			Files.createDirectories(staging);
+			if (workspace != null) {
+				copyTree(workspace, staging.resolve(WORKSPACE_DIR), RestoreMode.COPY);
+			}
+			writeYaml(staging.resolve(CONTEXT_FILE), stored);
+			Files.move(staging, entry, StandardCopyOption.ATOMIC_MOVE);
+			log.info("Stored setup snapshot for {} at commit {} in {}", key.agentId(), key.commitSha(), entry);
+		}
+		catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+			// A concurrent launch published the same entry first
+			log.debug("Setup snapshot already stored by another launch: {}", entry);
+		}
+		catch (Exception e) {
+			log.warn("Failed to store setup snapshot in {}: {}", entry, e.getMessage());
+		}
+		finally {
+			try {
+				deleteRecursively(staging);
+			}
+			catch (IOException e) {
+				log.debug("Failed to clean up staging directory {}", staging, e);
+			}
+		}
+	}
+
+	private static SetupContext withCacheHit(SetupContext context, boolean hit) {
+		SetupContext.Builder builder = SetupContext.builder().workspace(context.getWorkspace());
+		context.metadata().forEach(builder::metadata);
+		builder.metadata(CACHE_HIT_METADATA, hit);
+		if (context.isSuccessful()) {
+			builder.successful(true);
+		}
+		else {
+			builder.error(context.getError());
+		}
+		return builder.build();
+	}
+
+	// Metadata encoding: YAML-friendly values pass through, records, enums and paths are
+	// wrapped with their type so they can be reconstructed on restore.
+
+	private static Object encode(Object value) {
+		if (value == null || value instanceof String || value instanceof Boolean || value instanceof Integer
+				|| value instanceof Long || value instanceof Double) {
+			return value;
+		}
+		if (value instanceof Number number) {
+			return number.doubleValue();
+		}
+		if (value instanceof Path path) {
+			return typed(Path.class.getName(), path.toString());
+		}
+		if (value instanceof Enum<?> e) {
+			return typed(e.getDeclaringClass().getName(), e.name());
+		}
+		if (value instanceof Record record) {
+			Map<String, Object> components = new LinkedHashMap<>();
+			for (RecordComponent component : record.getClass().getRecordComponents()) {
+				try {
+					components.put(component.getName(), encode(component.getAccessor().invoke(record)));
+				}
+				catch (ReflectiveOperationException e) {
+					throw new IllegalArgumentException("Cannot read record component " + component.getName(), e);
+				}
+			}
+			return typed(record.getClass().getName(), components);
+		}
+		if (value instanceof List<?> list) {
+			List<Object> encoded = new ArrayList<>(list.size());
+			list.forEach(item -> encoded.add(encode(item)));
+			return encoded;
+		}
+		if (value instanceof Map<?, ?> map) {
+			Map<String, Object> encoded = new LinkedHashMap<>();
+			map.forEach((k, v) -> encoded.put(String.valueOf(k), encode(v)));
+			return encoded;
+		}
+		throw new IllegalArgumentException("Unsupported metadata type: " + value.getClass().getName());
+	}
+
+	private static Map<String, Object> typed(String type, Object value) {
+		Map<String, Object> wrapper = new LinkedHashMap<>();
+		wrapper.put(TYPE_KEY, type);
+		wrapper.put(VALUE_KEY, value);
+		return wrapper;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object decode(Object value) throws ReflectiveOperationException {
+		if (value instanceof List<?> list) {
+			List<Object> decoded = new ArrayList<>(list.size());
+			for (Object item : list) {
+				decoded.add(decode(item));
+			}
+			return decoded;
+		}
+		if (!(value instanceof Map<?, ?> map)) {
+			return value;
+		}
+		if (!map.containsKey(TYPE_KEY)) {
+			Map<String, Object> decoded = new LinkedHashMap<>();
+			for (Map.Entry<?, ?> e : map.entrySet()) {
+				decoded.put(String.valueOf(e.getKey()), decode(e.getValue()));
+			}
+			return decoded;
+		}
+
+		String typeName = String.valueOf(map.get(TYPE_KEY));
+		Object raw = map.get(VALUE_KEY);
+		if (Path.class.getName().equals(typeName)) {
+			return Path.of(String.valueOf(raw));
+		}
+
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		Class<?> type = Class.forName(typeName, false, loader != null ? loader : SetupCache.class.getClassLoader());
+		if (type.isEnum()) {
+			return Enum.valueOf((Class<Enum>) type, String.valueOf(raw));
+		}
+		if (type.isRecord() && raw instanceof Map<?, ?> components) {
+			RecordComponent[] recordComponents = type.getRecordComponents();
+			Class<?>[] parameterTypes = new Class<?>[recordComponents.length];
+			Object[] args = new Object[recordComponents.length];
+			for (int i = 0; i < recordComponents.length; i++) {
+				parameterTypes[i] = recordComponents[i].getType();
+				args[i] = coerce(decode(components.get(recordComponents[i].getName())), parameterTypes[i]);
+			}
+			Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+			constructor.setAccessible(true);
+			return constructor.newInstance(args);
+		}
+		throw new IllegalArgumentException("Cannot decode metadata of type " + typeName);
+	}
+
+	private static Object coerce(Object value, Class<?> type) {
+		if (!(value instanceof Number number)) {
+			return value;
+		}
+		if (type == int.class || type == Integer.class) {
+			return number.intValue();
+		}
+		if (type == long.class || type == Long.class) {
+			return number.longValue();
+		}
+		if (type == double.class || type == Double.class) {
+			return number.doubleValue();
+		}
+		if (type == float.class || type == Float.class) {
+			return number.floatValue();
+		}
+		return value;
+	}
+
+	private static Map<String, Object> readYaml(Path file) throws IOException {
+		try (InputStream in = Files.newInputStream(file)) {
+			LoaderOptions opts = new LoaderOptions();
+			opts.setAllowDuplicateKeys(false);
+			Object obj = new Yaml(opts).load(in);
+			if (!(obj instanceof Map<?, ?> map)) {
+				throw new IOException("YAML root must be a mapping: " + file);
+			}
+			Map<String, Object> result = new LinkedHashMap<>();
+			map.forEach((k, v) -> result.put(String.valueOf(k), v));
+			return result;
+		}
+	}
+
+	private static void writeYaml(Path file, Map<String, Object> data) throws IOException {
+		DumperOptions opts = new DumperOptions();
+		opts.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+		Files.writeString(file, new Yaml(opts).dump(data));
+	}
+
+	private static void copyTree(Path source, Path target, RestoreMode mode) throws IOException {
+		Files.walkFileTree(source, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Path destination = target.resolve(source.relativize(file).toString());
+				if (mode == RestoreMode.HARD_LINK && attrs.isRegularFile()) {
+					Files.createLink(destination, file);
+				}
+				else {
+					Files.copy(file, destination, StandardCopyOption.COPY_ATTRIBUTES, LinkOption.NOFOLLOW_LINKS);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+				if (exc != null) {
+					throw exc;
+				}
+				// Preserve directory timestamps after their contents have been written
+				Path destination = target.resolve(source.relativize(dir).toString());
+				Files.setLastModifiedTime(destination, Files.getLastModifiedTime(dir));
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	private static void deleteRecursively(Path directory) throws IOException {
+		if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(directory)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Identity of a cacheable setup phase. Two launches that produce equal keys are expected
+ * to produce the same prepared workspace and setup metadata, so the second launch can
+ * restore the first one's snapshot instead of repeating the setup work.
+ *
+ * <p>
+ * Only inputs that influence the setup phase belong in the key. Inputs that are consumed
+ * by the execute phase alone (provider, model, target thresholds) must be left out so
+ * that evaluating several providers against the same commit shares one setup.
+ *
+ * @param agentId agent identifier (matches {@link AgentSpec#id()})
+ * @param inputs setup-relevant input values, sorted by key
+ * @param commitSha resolved commit SHA of the source the setup operates on
+ * @author Mark Pollack
+ * @since 1.1.0
+ */
+public record SetupCacheKey(String agentId, Map<String, String> inputs, String commitSha) {
+
+	public SetupCacheKey {
+		Objects.requireNonNull(agentId, "agentId must not be null");
+		Objects.requireNonNull(commitSha, "commitSha must not be null");
+		inputs = inputs != null ? Collections.unmodifiableMap(new TreeMap<>(inputs)) : Map.of();
+	}
+
+	/**
+	 * Create a key for the given agent, inputs and commit.
+	 * @param agentId agent identifier
+	 * @param inputs setup-relevant input values
+	 * @param commitSha resolved commit SHA
+	 * @return setup cache key
+	 */
+	public static SetupCacheKey of(String agentId, Map<String, String> inputs, String commitSha) {
+		return new SetupCacheKey(agentId, inputs, commitSha);
+	}
+
+	/**
+	 * Stable hex digest of this key, suitable for use as a directory name.
+	 * @return SHA-256 hex digest of the key components
+	 */
+	public String digest() {
+		StringBuilder canonical = new StringBuilder();
+		canonical.append(this.agentId).append('\n').append(this.commitSha).append('\n');
+		this.inputs.forEach((key, value) -> canonical.append(key).append('=').append(value).append('\n'));
+		try {
+			MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+			byte[] hash = sha256.digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder(hash.length * 2);
+			for (byte b : hash) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+}
@@ -77,6 +77,14 @@ public class SetupContext {
 		return value != null ? (T) value : defaultValue;
 	}
 
+	/**
+	 * All metadata entries, used when persisting a context to a {@link SetupCache}.
+	 * @return unmodifiable metadata map
+	 */
+	Map<String, Object> metadata() {
+		return metadata;
+	}
+
 	/**
 	 * Check if setup phase completed successfully.
 	 * @return true if setup succeeded, false otherwise
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 Spring AI Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springaicommunity.agents.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SetupCache} snapshot and restore behavior.
+ *
+ * @author Mark Pollack
+ * @since 1.1.0
+ */
+class SetupCacheTest {
+
+	@TempDir
+	Path tempDir;
+
+	record Baseline(double lineCoverage, int linesCovered, String summary) {
+	}
+
+	@Test
+	void secondLaunchRestoresSnapshotWithoutRunningSetup() throws Exception {
+		CountingRunner runner = new CountingRunner("abc123");
+		SetupCache cache = new SetupCache(tempDir.resolve("cache"));
+
+		SetupContext first = cache.setup(runner, spec(tempDir.resolve("run1")));
+		SetupContext second = cache.setup(runner, spec(tempDir.resolve("run2")));
+
+		assertThat(runner.setupCalls.get()).isEqualTo(1);
+		assertThat(first.<Boolean>getMetadata(SetupCache.CACHE_HIT_METADATA)).isFalse();
+		assertThat(second.<Boolean>getMetadata(SetupCache.CACHE_HIT_METADATA)).isTrue();
+		assertThat(second.isSuccessful()).isTrue();
+		assertThat(second.getWorkspace()).isEqualTo(tempDir.resolve("run2/project").toAbsolutePath().normalize());
+		assertThat(Files.readString(second.getWorkspace().resolve("target/classes/App.class"))).isEqualTo("bytecode");
+		assertThat(second.<Baseline>getMetadata("baseline")).isEqualTo(new Baseline(42.5, 17, "baseline"));
+		assertThat(second.<Boolean>getMetadata("has_jacoco")).isTrue();
+	}
+
+	@Test
+	void differentCommitMissesCache() throws Exception {
+		SetupCache cache = new SetupCache(tempDir.resolve("cache"));
+
+		CountingRunner first = new CountingRunner("abc123");
+		cache.setup(first, spec(tempDir.resolve("run1")));
+
+		CountingRunner second = new CountingRunner("def456");
+		cache.setup(second, spec(tempDir.resolve("run2")));
+
+		assertThat(second.setupCalls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void failedSetupIsNotCached() throws Exception {
+		SetupCache cache = new SetupCache(tempDir.resolve("cache"));
+		AgentRunner failing = new CountingRunner("abc123") {
+			@Override
+			public SetupContext setup(LauncherSpec spec) {
+				setupCalls.incrementAndGet();
+				return SetupContext.builder().error("does not compile").build();
+			}
+		};
+
+		SetupContext result = cache.setup(failing, spec(tempDir.resolve("run1")));
+
+		assertThat(result.isSuccessful()).isFalse();
+		assertThat(result.getError()).isEqualTo("does not compile");
+		assertThat(cache.contains(failing.setupCacheKey(spec(tempDir.resolve("run1"))))).isFalse();
+	}
+
+	@Test
+	void runnerWithoutKeyAlwaysRunsSetup() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		AgentRunner uncached = new AgentRunner() {
+			@Override
+			public SetupContext setup(LauncherSpec spec) {
+				calls.incrementAndGet();
+				return SetupContext.empty();
+			}
+
+			@Override
+			public Result run(SetupContext setup, LauncherSpec spec) {
+				return Result.ok("done");
+			}
+		};
+		SetupCache cache = new SetupCache(tempDir.resolve("cache"));
+
+		cache.setup(uncached, spec(tempDir.resolve("run1")));
+		cache.setup(uncached, spec(tempDir.resolve("run2")));
+
+		assertThat(calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	void keyDigestIgnoresInputOrder() {
+		SetupCacheKey a = SetupCacheKey.of("coverage", Map.of("git_url", "u", "git_ref", "main"), "abc");
+		SetupCacheKey b = SetupCacheKey.of("coverage", Map.of("git_ref", "main", "git_url", "u"), "abc");
+
+		assertThat(a.digest()).isEqualTo(b.digest());
+		assertThat(a.digest()).isNotEqualTo(SetupCacheKey.of("coverage", Map.of(), "abc").digest());
+	}
+
+	private LauncherSpec spec(Path cwd) throws Exception {
+		Files.createDirectories(cwd);
+		AgentSpec agentSpec = new AgentSpec("coverage", "0.1", Map.of());
+		return new LauncherSpec(agentSpec, Map.of("git_url", "https://example.com/repo"), cwd, Map.of());
+	}
+
+	static class CountingRunner implements AgentRunner {
+
+		final AtomicInteger setupCalls = new AtomicInteger();
+
+		private final String commitSha;
+
+		CountingRunner(String commitSha) {
+			this.commitSha = commitSha;
+		}
+
+		@Override
+		public SetupCacheKey setupCacheKey(LauncherSpec spec) {
+			return SetupCacheKey.of(spec.agentSpec().id(), Map.of("git_url", "https://example.com/repo"),
+					this.commitSha);
+		}
+
+		@Override
+		public SetupContext setup(LauncherSpec spec) throws Exception {
+			this.setupCalls.incrementAndGet();
+			Path workspace = spec.cwd().resolve("project");
+			Files.createDirectories(workspace.resolve("target/classes"));
+			Files.writeString(workspace.resolve("target/classes/App.class"), "bytecode");
+			return SetupContext.builder()
+				.workspace(workspace)
+				.successful(true)
+				.metadata("baseline", new Baseline(42.5, 17, "baseline"))
+				.metadata("has_jacoco", true)
+				.build();
+		}
+
+		@Override
+		public Result run(SetupContext setup, LauncherSpec spec) {
+			return Result.ok("done");
+		}
+
+	}
+
+}